@@ -0,0 +1,114 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.bytes;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.io.InputOf;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of {@link org.cactoos.Bytes} implementations.
+ *
+ * @since 1.0
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BytesBenchmark {
+
+    /**
+     * Amount of bytes.
+     */
+    @Param({"16", "16384", "1048576"})
+    public int size;
+
+    /**
+     * Source bytes.
+     */
+    private byte[] source;
+
+    /**
+     * Source string.
+     */
+    private String text;
+
+    /**
+     * Prepare the bytes.
+     */
+    @Setup
+    public void setup() {
+        this.source = new byte[this.size];
+        for (int idx = 0; idx < this.size; ++idx) {
+            this.source[idx] = (byte) ('a' + idx % 26);
+        }
+        this.text = new String(this.source, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Read bytes of an input.
+     * @return The bytes
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public byte[] input() throws Exception {
+        return new BytesOf(new InputOf(this.source)).asBytes();
+    }
+
+    /**
+     * Read bytes of a string.
+     * @return The bytes
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public byte[] string() throws Exception {
+        return new BytesOf(this.text).asBytes();
+    }
+
+    /**
+     * Encode bytes to Base64.
+     * @return The bytes
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public byte[] base64() throws Exception {
+        return new BytesBase64(new BytesOf(this.source)).asBytes();
+    }
+
+    /**
+     * Calculate MD5 of an input.
+     * @return The digest
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public byte[] md5() throws Exception {
+        return new Md5DigestOf(new InputOf(this.source)).asBytes();
+    }
+
+    /**
+     * Calculate SHA-256 of an input.
+     * @return The digest
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public byte[] sha256() throws Exception {
+        return new Sha256DigestOf(new InputOf(this.source)).asBytes();
+    }
+}
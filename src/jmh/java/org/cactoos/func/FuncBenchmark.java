@@ -0,0 +1,118 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.Func;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of {@link Func} decorators.
+ *
+ * @since 1.0
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class FuncBenchmark {
+
+    /**
+     * Amount of distinct keys.
+     */
+    @Param({"16", "1024", "65536"})
+    public int keys;
+
+    /**
+     * Sticky func.
+     */
+    private Func<Integer, Integer> sticky;
+
+    /**
+     * Solid func.
+     */
+    private Func<Integer, Integer> solid;
+
+    /**
+     * Solid func with a small cache.
+     */
+    private Func<Integer, Integer> bounded;
+
+    /**
+     * Prepare funcs.
+     */
+    @Setup
+    public void setup() {
+        this.sticky = new StickyFunc<>(input -> input * 2);
+        this.solid = new SolidFunc<>(input -> input * 2);
+        this.bounded = new SolidFunc<>(input -> input * 2, this.keys / 2);
+    }
+
+    /**
+     * Apply a sticky func.
+     * @return The value
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public Integer sticky() throws Exception {
+        return this.sticky.apply(this.key());
+    }
+
+    /**
+     * Apply a solid func in one thread.
+     * @return The value
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public Integer solid() throws Exception {
+        return this.solid.apply(this.key());
+    }
+
+    /**
+     * Apply a solid func in many threads.
+     * @return The value
+     * @throws Exception If fails
+     */
+    @Benchmark
+    @Threads(4)
+    public Integer solidInThreads() throws Exception {
+        return this.solid.apply(this.key());
+    }
+
+    /**
+     * Apply a solid func, which evicts values, in many threads.
+     * @return The value
+     * @throws Exception If fails
+     */
+    @Benchmark
+    @Threads(4)
+    public Integer boundedInThreads() throws Exception {
+        return this.bounded.apply(this.key());
+    }
+
+    /**
+     * Next key to request.
+     * @return The key
+     */
+    private int key() {
+        return ThreadLocalRandom.current().nextInt(this.keys);
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.bytes.BytesOf;
+import org.cactoos.scalar.LengthOf;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of {@link org.cactoos.Input} and {@link org.cactoos.Output}
+ * implementations.
+ *
+ * @since 1.0
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class IoBenchmark {
+
+    /**
+     * Amount of bytes.
+     */
+    @Param({"1024", "1048576", "16777216"})
+    public int size;
+
+    /**
+     * Source bytes.
+     */
+    private byte[] source;
+
+    /**
+     * Source file.
+     */
+    private Path file;
+
+    /**
+     * Prepare the file.
+     * @throws IOException If fails
+     */
+    @Setup
+    public void setup() throws IOException {
+        this.source = new byte[this.size];
+        for (int idx = 0; idx < this.size; ++idx) {
+            this.source[idx] = (byte) idx;
+        }
+        this.file = Files.createTempFile("cactoos-bench", ".bin");
+        Files.write(this.file, this.source);
+    }
+
+    /**
+     * Delete the file.
+     * @throws IOException If fails
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.delete(this.file);
+    }
+
+    /**
+     * Read all bytes of a file.
+     * @return The bytes
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public byte[] readFile() throws Exception {
+        return new BytesOf(new InputOf(this.file)).asBytes();
+    }
+
+    /**
+     * Count bytes of a file.
+     * @return The length
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public long lengthOfFile() throws Exception {
+        return new LengthOf(new InputOf(this.file)).value();
+    }
+
+    /**
+     * Copy an input to an output.
+     * @return The length
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public long tee() throws Exception {
+        return new LengthOf(
+            new TeeInput(new InputOf(this.source), new DeadOutput())
+        ).value();
+    }
+
+    /**
+     * Read the tail of a file.
+     * @return The bytes
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public byte[] tailOfFile() throws Exception {
+        return new BytesOf(new TailOf(new InputOf(this.file), 128)).asBytes();
+    }
+
+    /**
+     * Read a sticky input twice.
+     * @return The bytes
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public byte[] sticky() throws Exception {
+        final Sticky input = new Sticky(new InputOf(this.source));
+        new BytesOf(input).asBytes();
+        return new BytesOf(input).asBytes();
+    }
+
+    /**
+     * Compress and decompress bytes.
+     * @return The length
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public long gzip() throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new LengthOf(
+            new TeeInput(
+                new InputOf(this.source),
+                new GzipOutput(new OutputTo(out))
+            )
+        ).value();
+        return new LengthOf(
+            new GzipInput(new InputOf(out.toByteArray()))
+        ).value();
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.list.ListOf;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of {@link Iterable} decorators.
+ *
+ * @since 1.0
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class IterableBenchmark {
+
+    /**
+     * Amount of items.
+     */
+    @Param({"16", "1024", "65536"})
+    public int size;
+
+    /**
+     * Source items.
+     */
+    private List<Integer> source;
+
+    /**
+     * Prepare items.
+     */
+    @Setup
+    public void setup() {
+        this.source = new ListOf<>(
+            new RangeOf<>(1, this.size, item -> item + 1)
+        );
+    }
+
+    /**
+     * Iterate the source without decorators, as a reference.
+     * @return Sum of items
+     */
+    @Benchmark
+    public long plain() {
+        return this.sum(this.source);
+    }
+
+    /**
+     * Iterate mapped items.
+     * @return Sum of items
+     */
+    @Benchmark
+    public long mapped() {
+        return this.sum(new Mapped<>(item -> item * 2, this.source));
+    }
+
+    /**
+     * Iterate filtered items.
+     * @return Sum of items
+     */
+    @Benchmark
+    public long filtered() {
+        return this.sum(new Filtered<>(item -> item % 2 == 0, this.source));
+    }
+
+    /**
+     * Iterate joined items.
+     * @return Sum of items
+     */
+    @Benchmark
+    public long joined() {
+        return this.sum(new Joined<Integer>(this.source, this.source));
+    }
+
+    /**
+     * Iterate nested decorators.
+     * @return Sum of items
+     */
+    @Benchmark
+    public long nested() {
+        return this.sum(
+            new Mapped<>(
+                item -> item + 1,
+                new Filtered<>(
+                    item -> item % 3 != 0,
+                    new Mapped<>(item -> item * 2, this.source)
+                )
+            )
+        );
+    }
+
+    /**
+     * Iterate sticky items twice.
+     * @return Sum of items
+     */
+    @Benchmark
+    public long sticky() {
+        final Iterable<Integer> items = new Sticky<>(
+            new Mapped<>(item -> item * 2, this.source)
+        );
+        return this.sum(items) + this.sum(items);
+    }
+
+    /**
+     * Sum up all items.
+     * @param items Items
+     * @return Sum
+     */
+    private long sum(final Iterable<Integer> items) {
+        long sum = 0L;
+        for (final Integer item : items) {
+            sum += item;
+        }
+        return sum;
+    }
+}
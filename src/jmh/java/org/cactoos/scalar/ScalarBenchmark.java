@@ -0,0 +1,142 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.scalar;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.Scalar;
+import org.cactoos.iterable.Mapped;
+import org.cactoos.iterable.RangeOf;
+import org.cactoos.list.ListOf;
+import org.cactoos.number.SumOf;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of {@link Scalar} decorators.
+ *
+ * @since 1.0
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ScalarBenchmark {
+
+    /**
+     * Amount of items.
+     */
+    @Param({"16", "1024", "65536"})
+    public int size;
+
+    /**
+     * Source items.
+     */
+    private List<Integer> source;
+
+    /**
+     * Sticky scalar, calculated already.
+     */
+    private Scalar<Integer> sticky;
+
+    /**
+     * Solid scalar, calculated already.
+     */
+    private Scalar<Integer> solid;
+
+    /**
+     * Prepare items.
+     * @throws Exception If fails
+     */
+    @Setup
+    public void setup() throws Exception {
+        this.source = new ListOf<>(
+            new RangeOf<>(1, this.size, item -> item + 1)
+        );
+        this.sticky = new Sticky<>(() -> this.size);
+        this.sticky.value();
+        this.solid = new Solid<>(() -> this.size);
+        this.solid.value();
+    }
+
+    /**
+     * Read a cached sticky value.
+     * @return The value
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public Integer stickyHit() throws Exception {
+        return this.sticky.value();
+    }
+
+    /**
+     * Read a cached solid value.
+     * @return The value
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public Integer solidHit() throws Exception {
+        return this.solid.value();
+    }
+
+    /**
+     * Fold items.
+     * @return Sum of items
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public Long folded() throws Exception {
+        return new Folded<>(
+            0L, (sum, item) -> sum + item, this.source
+        ).value();
+    }
+
+    /**
+     * Check all items.
+     * @return TRUE if all are positive
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public Boolean and() throws Exception {
+        return new And(item -> item > 0, this.source).value();
+    }
+
+    /**
+     * Check all items in threads.
+     * @return TRUE if all are positive
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public Boolean andInThreads() throws Exception {
+        return new AndInThreads(
+            new Mapped<Scalar<Boolean>>(
+                item -> () -> item > 0,
+                new ListOf<>(this.source.subList(0, Math.min(this.size, 64)))
+            )
+        ).value();
+    }
+
+    /**
+     * Sum up items.
+     * @return Sum of items
+     */
+    @Benchmark
+    public long sum() {
+        return new SumOf(this.source).longValue();
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.text;
+
+import java.util.Formatter;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.bytes.BytesOf;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of {@link org.cactoos.Text} decorators.
+ *
+ * @since 1.0
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TextBenchmark {
+
+    /**
+     * Length of the text.
+     */
+    @Param({"16", "1024", "65536"})
+    public int length;
+
+    /**
+     * Source string.
+     */
+    private String source;
+
+    /**
+     * Compiled template.
+     */
+    private Template template;
+
+    /**
+     * Prepare the string and the template.
+     */
+    @Setup
+    public void setup() {
+        this.source = " Hello, world! ".repeat(this.length / 15 + 1)
+            .substring(0, this.length);
+        this.template = new Template("%s: %d bytes");
+    }
+
+    /**
+     * Read a text made of a string.
+     * @return The string
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public String textOf() throws Exception {
+        return new TextOf(this.source).asString();
+    }
+
+    /**
+     * Read a text made of a string, encoded into bytes and decoded
+     * back, as {@link #textOf()} used to do it.
+     * @return The string
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public String textOfBytes() throws Exception {
+        return new TextOf(new BytesOf(this.source)).asString();
+    }
+
+    /**
+     * Join texts.
+     * @return The string
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public String joined() throws Exception {
+        return new Joined(",", this.source, this.source, this.source)
+            .asString();
+    }
+
+    /**
+     * Render a tree of texts into a single buffer.
+     * @return The string
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public String rendered() throws Exception {
+        return new Joined(
+            new TextOf("\n"),
+            new Concatenated(this.source, this.source),
+            new PaddedStart(new TextOf(this.source), this.length * 2, ' '),
+            new Repeated(this.source, 2)
+        ).asString();
+    }
+
+    /**
+     * Replace in a text.
+     * @return The string
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public String replaced() throws Exception {
+        return new Replaced(new TextOf(this.source), "world", "you")
+            .asString();
+    }
+
+    /**
+     * Format a text.
+     * @return The string
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public String formatted() throws Exception {
+        return new FormattedText("%s: %d bytes", this.source, this.length)
+            .asString();
+    }
+
+    /**
+     * Format a text with a template, compiled beforehand.
+     * @return The string
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public String templated() throws Exception {
+        return new FormattedText(this.template, this.source, this.length)
+            .asString();
+    }
+
+    /**
+     * Format a short log message, without a template.
+     * @return The string
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public String formattedMessage() throws Exception {
+        return new FormattedText(
+            "Read %d byte(s) from %s in %dms.",
+            this.length, this.source, 1L
+        ).asString();
+    }
+
+    /**
+     * Format a short log message right with a {@link Formatter}, which
+     * is the least {@link #formattedMessage()} may cost.
+     * @return The string
+     */
+    @Benchmark
+    public String formatterMessage() {
+        final String pattern = "Read %d byte(s) from %s in %dms.";
+        final StringBuilder out = new StringBuilder(pattern.length());
+        try (
+            Formatter fmt = new Formatter(
+                out, Locale.getDefault(Locale.Category.FORMAT)
+            )
+        ) {
+            fmt.format(pattern, this.length, this.source, 1L);
+        }
+        return out.toString();
+    }
+
+    /**
+     * Nest several decorators.
+     * @return The string
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public String nested() throws Exception {
+        return new Upper(
+            new Trimmed(
+                new Replaced(
+                    new Joined(" ", this.source, this.source),
+                    "world",
+                    "you"
+                )
+            )
+        ).asString();
+    }
+
+    /**
+     * Read a sticky text twice.
+     * @return The string
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public String sticky() throws Exception {
+        final Sticky text = new Sticky(new Upper(new TextOf(this.source)));
+        text.asString();
+        return text.asString();
+    }
+}
@@ -19,6 +19,8 @@ import java.util.List;
 import org.cactoos.Bytes;
 import org.cactoos.Input;
 import org.cactoos.Text;
+import org.cactoos.io.Buffers;
+import org.cactoos.io.FreshBuffers;
 import org.cactoos.io.InputOf;
 import org.cactoos.iterable.IterableOf;
 import org.cactoos.list.ListOf;
@@ -159,6 +161,63 @@ public final class BytesOf implements Bytes {
         this(new InputAsBytes(input, max));
     }
 
+    /**
+     * Constructs a {@link BytesOf} instance from an {@link Input}, reading
+     * it with buffers taken from a pool.
+     *
+     * <p>The buffer is given back to the pool after reading, so that
+     * reading many inputs doesn't allocate a new buffer every time.</p>
+     *
+     * <p>Example usage:</p>
+     *
+     * <pre>{@code
+     * Buffers<byte[]> pool = new StripedBuffers<>(16 << 10, byte[]::new);
+     * byte[] bytes = new BytesOf(input, pool).asBytes();
+     * }</pre>
+     *
+     * @param input The input source to read bytes from
+     * @param buffers The pool of buffers for reading bytes
+     */
+    public BytesOf(final Input input, final Buffers<byte[]> buffers) {
+        this(new InputAsBytes(input, buffers));
+    }
+
+    /**
+     * Constructs a {@link BytesOf} instance from an {@link Input}, which
+     * must not be longer than the cap.
+     *
+     * <p>A longer input is rejected with an {@link java.io.IOException},
+     * before reading it, when its length is known, as it's with files,
+     * or as soon as the cap is exceeded otherwise.</p>
+     *
+     * <p>Example usage:</p>
+     *
+     * <pre>{@code
+     * byte[] bytes = new BytesOf(new InputOf(socket), 16 << 10, 1L << 20).asBytes();
+     * }</pre>
+     *
+     * @param input The input source to read bytes from
+     * @param max The maximum buffer size for reading bytes
+     * @param cap The maximum number of bytes of the input
+     */
+    public BytesOf(final Input input, final int max, final long cap) {
+        this(input, new FreshBuffers<>(max, byte[]::new), cap);
+    }
+
+    /**
+     * Constructs a {@link BytesOf} instance from an {@link Input}, which
+     * must not be longer than the cap, reading it with buffers taken
+     * from a pool.
+     *
+     * @param input The input source to read bytes from
+     * @param buffers The pool of buffers for reading bytes
+     * @param cap The maximum number of bytes of the input
+     */
+    public BytesOf(final Input input, final Buffers<byte[]> buffers,
+        final long cap) {
+        this(new InputAsBytes(input, buffers, cap));
+    }
+
     /**
      * Constructs a {@link BytesOf} instance from a {@link Reader}.
      *
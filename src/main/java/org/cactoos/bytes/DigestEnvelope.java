@@ -6,14 +6,22 @@ package org.cactoos.bytes;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.FileChannel;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import org.cactoos.Bytes;
 import org.cactoos.Input;
+import org.cactoos.io.Buffers;
+import org.cactoos.io.ChannelInputStream;
+import org.cactoos.io.FreshBuffers;
 
 /**
  * Digest Envelope.
  *
+ * <p>The file of a {@link org.cactoos.io.ChannelInput} is mapped into
+ * memory and digested from there, instead of being copied into
+ * a buffer.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @since 0.29
@@ -21,15 +29,20 @@ import org.cactoos.Input;
  */
 public abstract class DigestEnvelope implements Bytes {
 
+    /**
+     * Maximum length of a mapped view of the file.
+     */
+    private static final long VIEW = 1L << 30;
+
     /**
      * The input.
      */
     private final Input source;
 
     /**
-     * The buffer size.
+     * Buffers for reading.
      */
-    private final int size;
+    private final Buffers<byte[]> buffers;
 
     /**
      * The algorithm.
@@ -55,9 +68,23 @@ public abstract class DigestEnvelope implements Bytes {
         final Input input,
         final int max,
         final String algrthm
+    ) {
+        this(input, new FreshBuffers<>(max, byte[]::new), algrthm);
+    }
+
+    /**
+     * Ctor.
+     * @param input The input
+     * @param bufs Buffers for reading
+     * @param algrthm The algorithm
+     */
+    public DigestEnvelope(
+        final Input input,
+        final Buffers<byte[]> bufs,
+        final String algrthm
     ) {
         this.source = input;
-        this.size = max;
+        this.buffers = bufs;
         this.algorithm = algrthm;
     }
 
@@ -65,13 +92,32 @@ public abstract class DigestEnvelope implements Bytes {
     public byte[] asBytes() throws Exception {
         try (InputStream stream = this.source.stream()) {
             final MessageDigest msg = MessageDigest.getInstance(this.algorithm);
-            final byte[] buf = new byte[this.size];
-            while (true) {
-                final int len = stream.read(buf);
-                if (len < 0) {
-                    break;
+            if (stream instanceof ChannelInputStream input
+                && input.channel() instanceof FileChannel channel) {
+                final long end = channel.size();
+                for (long pos = channel.position(); pos < end;
+                    pos += DigestEnvelope.VIEW) {
+                    msg.update(
+                        channel.map(
+                            FileChannel.MapMode.READ_ONLY,
+                            pos,
+                            Math.min(DigestEnvelope.VIEW, end - pos)
+                        )
+                    );
+                }
+            } else {
+                final byte[] buf = this.buffers.take();
+                try {
+                    while (true) {
+                        final int len = stream.read(buf);
+                        if (len < 0) {
+                            break;
+                        }
+                        msg.update(buf, 0, len);
+                    }
+                } finally {
+                    this.buffers.give(buf);
                 }
-                msg.update(buf, 0, len);
             }
             return msg.digest();
         } catch (final NoSuchAlgorithmException ex) {
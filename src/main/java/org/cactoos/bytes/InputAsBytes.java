@@ -5,32 +5,58 @@
 package org.cactoos.bytes;
 
 import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
 import org.cactoos.Bytes;
 import org.cactoos.Input;
-import org.cactoos.io.OutputTo;
-import org.cactoos.io.TeeInput;
+import org.cactoos.io.Buffers;
+import org.cactoos.io.ChannelInputStream;
+import org.cactoos.io.FreshBuffers;
+import org.cactoos.text.FormattedText;
 
 /**
  * Input as Byte Array.
  *
  * <p>This class is for internal use only. Use {@link BytesOf} instead.</p>
  *
+ * <p>When the stream knows how many bytes are left, as streams of files
+ * and channels do, the array is allocated once, of that size, and filled
+ * right from the stream. Otherwise the estimate of
+ * {@link InputStream#available()} is used as the initial size, which is
+ * exact for byte arrays and resources in jars, and the stream is read
+ * through a buffer only after that, if there is more.</p>
+ *
+ * <p>With a cap, an input, which is longer, is rejected with
+ * an {@link IOException} as soon as that is known, before reading it, if
+ * possible, so that untrusted streams can't exhaust the memory.</p>
+ *
  * <p>There is no thread-safety guarantee.</p>
  *
  * @since 0.1
  */
 public final class InputAsBytes implements Bytes {
 
+    /**
+     * The largest array, which may be allocated.
+     */
+    private static final int LARGEST = Integer.MAX_VALUE - 8;
+
     /**
      * The input.
      */
     private final Input source;
 
     /**
-     * The buffer size.
+     * Buffers for reading.
      */
-    private final int size;
+    private final Buffers<byte[]> buffers;
+
+    /**
+     * Max number of bytes of the input.
+     */
+    private final long cap;
 
     /**
      * Ctor.
@@ -46,25 +72,122 @@ public final class InputAsBytes implements Bytes {
      * @param max Max length of the buffer for reading
      */
     InputAsBytes(final Input input, final int max) {
+        this(input, new FreshBuffers<>(max, byte[]::new));
+    }
+
+    /**
+     * Ctor.
+     * @param input The input
+     * @param bufs Buffers for reading
+     */
+    InputAsBytes(final Input input, final Buffers<byte[]> bufs) {
+        this(input, bufs, Long.MAX_VALUE);
+    }
+
+    /**
+     * Ctor.
+     * @param input The input
+     * @param bufs Buffers for reading
+     * @param limit Max number of bytes of the input
+     */
+    InputAsBytes(final Input input, final Buffers<byte[]> bufs,
+        final long limit) {
         this.source = input;
-        this.size = max;
+        this.buffers = bufs;
+        this.cap = limit;
     }
 
     @Override
     public byte[] asBytes() throws Exception {
-        try (
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            InputStream stream = new TeeInput(
-                this.source,
-                new OutputTo(baos)
-            ).stream()
-        ) {
-            while (true) {
-                if (stream.read(new byte[this.size]) < 0) {
-                    break;
+        try (InputStream stream = this.source.stream()) {
+            final long known = this.length(stream);
+            if (known > this.cap) {
+                this.reject();
+            }
+            final byte[] bytes;
+            if (stream instanceof ChannelInputStream) {
+                bytes = stream.readAllBytes();
+            } else {
+                long hint = known;
+                if (hint < 0L) {
+                    hint = stream.available();
+                }
+                final byte[] head = new byte[
+                    (int) Math.min(hint, Math.min(this.cap, InputAsBytes.LARGEST))
+                ];
+                final int filled = stream.readNBytes(head, 0, head.length);
+                if (filled < head.length) {
+                    bytes = Arrays.copyOf(head, filled);
+                } else {
+                    final int next = stream.read();
+                    if (next < 0) {
+                        bytes = head;
+                    } else {
+                        bytes = this.rest(stream, head, next);
+                    }
                 }
             }
-            return baos.toByteArray();
+            return bytes;
+        }
+    }
+
+    /**
+     * Number of bytes left in the stream, if it knows it.
+     * @param stream The stream
+     * @return Number of bytes, or -1 if it's not known
+     * @throws IOException If fails
+     */
+    private long length(final InputStream stream) throws IOException {
+        long length = -1L;
+        if (stream instanceof ChannelInputStream input) {
+            length = input.channel().size() - input.channel().position();
+        } else if (stream instanceof FileInputStream file) {
+            length = file.getChannel().size() - file.getChannel().position();
         }
+        return length;
+    }
+
+    /**
+     * Read the rest of the stream, after the bytes read already.
+     * @param stream The stream
+     * @param head The bytes read already
+     * @param next The byte read after them
+     * @return All the bytes
+     * @throws Exception If fails
+     */
+    private byte[] rest(final InputStream stream, final byte[] head,
+        final int next) throws Exception {
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream(
+            (int) Math.min(head.length * 2L + 1L, InputAsBytes.LARGEST)
+        );
+        baos.write(head);
+        baos.write(next);
+        final byte[] buf = this.buffers.take();
+        try {
+            for (int len = stream.read(buf); len >= 0; len = stream.read(buf)) {
+                if (baos.size() + (long) len > this.cap) {
+                    this.reject();
+                }
+                baos.write(buf, 0, len);
+            }
+        } finally {
+            this.buffers.give(buf);
+        }
+        if (baos.size() > this.cap) {
+            this.reject();
+        }
+        return baos.toByteArray();
+    }
+
+    /**
+     * Reject the input, which is longer than the cap.
+     * @throws Exception Always
+     */
+    private void reject() throws Exception {
+        throw new IOException(
+            new FormattedText(
+                "The input is longer than %d bytes", this.cap
+            ).asString()
+        );
     }
 }
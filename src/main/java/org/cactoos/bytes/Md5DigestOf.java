@@ -5,6 +5,7 @@
 package org.cactoos.bytes;
 
 import org.cactoos.Input;
+import org.cactoos.io.Buffers;
 
 /**
  * MD5 checksum calculation of {@link Input}.
@@ -31,4 +32,13 @@ public final class Md5DigestOf extends DigestEnvelope {
     public Md5DigestOf(final Input input, final int max) {
         super(input, max, "MD5");
     }
+
+    /**
+     * Ctor.
+     * @param input The input
+     * @param buffers Buffers for reading
+     */
+    public Md5DigestOf(final Input input, final Buffers<byte[]> buffers) {
+        super(input, buffers, "MD5");
+    }
 }
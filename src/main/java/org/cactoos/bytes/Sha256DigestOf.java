@@ -5,6 +5,7 @@
 package org.cactoos.bytes;
 
 import org.cactoos.Input;
+import org.cactoos.io.Buffers;
 
 /**
  * SHA-256 checksum calculation of {@link Input}.
@@ -31,4 +32,13 @@ public final class Sha256DigestOf extends DigestEnvelope {
     public Sha256DigestOf(final Input input, final int max) {
         super(input, max, "SHA-256");
     }
+
+    /**
+     * Ctor.
+     * @param input The input
+     * @param buffers Buffers for reading
+     */
+    public Sha256DigestOf(final Input input, final Buffers<byte[]> buffers) {
+        super(input, buffers, "SHA-256");
+    }
 }
@@ -0,0 +1,44 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+/**
+ * Eviction policy of a bounded cache.
+ *
+ * <p>The policy only tracks keys, values are stored by the cache
+ * itself, see {@link StickyFunc} and {@link SolidFunc}. Every
+ * operation is expected to take constant time.</p>
+ *
+ * <p>There is no thread-safety guarantee, the cache is responsible
+ * for guarding the policy.</p>
+ *
+ * @param <K> Type of key
+ * @see LruEviction
+ * @see LfuEviction
+ * @see TinyLfuEviction
+ * @since 1.0
+ */
+public interface Eviction<K> {
+
+    /**
+     * Register a hit of a key which is already in the cache.
+     * @param key The key
+     */
+    void touch(K key);
+
+    /**
+     * Register a key which has just been added to the cache.
+     * @param key The key
+     * @return Keys that must be removed from the cache, possibly
+     *  including the added key itself
+     */
+    Iterable<K> add(K key);
+
+    /**
+     * Forget a key which has been removed from the cache.
+     * @param key The key
+     */
+    void remove(K key);
+}
@@ -0,0 +1,60 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import org.cactoos.Func;
+import org.cactoos.Scalar;
+import org.cactoos.scalar.Expiring;
+
+/**
+ * Func that is thread-safe and sticky, with values that expire.
+ *
+ * <p>Every value is cached as {@link Expiring} does: it is
+ * calculated again by the first request that comes after the given
+ * time-to-live. Expired values stay in the cache until they are
+ * requested or evicted, see {@link SolidFunc}.</p>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @param <X> Type of input
+ * @param <Y> Type of output
+ * @since 1.0
+ */
+public final class ExpiringFunc<X, Y> implements Func<X, Y> {
+
+    /**
+     * Expiring values per input.
+     */
+    private final Func<X, Scalar<Y>> func;
+
+    /**
+     * Ctor.
+     * @param fnc Original function
+     * @param ttl Time-to-live of values
+     */
+    public ExpiringFunc(final Func<X, Y> fnc, final Duration ttl) {
+        this(fnc, ttl, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Original function
+     * @param ttl Time-to-live of values
+     * @param max Max caching buffer length
+     */
+    public ExpiringFunc(final Func<X, Y> fnc, final Duration ttl,
+        final int max) {
+        this.func = new SolidFunc<>(
+            input -> new Expiring<>(() -> fnc.apply(input), ttl),
+            max
+        );
+    }
+
+    @Override
+    public Y apply(final X input) throws Exception {
+        return this.func.apply(input).value();
+    }
+}
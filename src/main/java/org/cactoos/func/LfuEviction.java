@@ -0,0 +1,132 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Least frequently used {@link Eviction}.
+ *
+ * <p>Keys are grouped into buckets by the amount of hits they got,
+ * the oldest key of the least used bucket is evicted first. Both hits
+ * and evictions take constant time, while an explicit
+ * {@link #remove(Object)} of the last least used key takes time
+ * proportional to the amount of distinct hit counts.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <K> Type of key
+ * @since 1.0
+ */
+public final class LfuEviction<K> implements Eviction<K> {
+
+    /**
+     * Amount of hits per key.
+     */
+    private final Map<K, Integer> hits;
+
+    /**
+     * Keys per amount of hits, in insertion order.
+     */
+    private final Map<Integer, Set<K>> buckets;
+
+    /**
+     * Maximum amount of keys.
+     */
+    private final int max;
+
+    /**
+     * The smallest amount of hits among all keys.
+     */
+    private int least;
+
+    /**
+     * Ctor.
+     * @param max Maximum amount of keys
+     */
+    public LfuEviction(final int max) {
+        this.hits = new HashMap<>(0);
+        this.buckets = new HashMap<>(0);
+        this.max = max;
+    }
+
+    @Override
+    public void touch(final K key) {
+        final Integer count = this.hits.get(key);
+        if (count != null) {
+            this.detach(key, count);
+            this.attach(key, count + 1);
+        }
+    }
+
+    @Override
+    public Iterable<K> add(final K key) {
+        final Iterable<K> evicted;
+        if (this.hits.containsKey(key)) {
+            this.touch(key);
+            evicted = Collections.emptyList();
+        } else if (this.max <= 0) {
+            evicted = Collections.singleton(key);
+        } else {
+            if (this.hits.size() >= this.max) {
+                final Iterator<K> oldest =
+                    this.buckets.get(this.least).iterator();
+                final K victim = oldest.next();
+                this.remove(victim);
+                evicted = Collections.singleton(victim);
+            } else {
+                evicted = Collections.emptyList();
+            }
+            this.attach(key, 1);
+            this.least = 1;
+        }
+        return evicted;
+    }
+
+    @Override
+    public void remove(final K key) {
+        final Integer count = this.hits.remove(key);
+        if (count != null) {
+            this.detach(key, count);
+            if (!this.buckets.containsKey(this.least)) {
+                this.least = this.buckets.keySet().stream()
+                    .mapToInt(Integer::intValue)
+                    .min()
+                    .orElse(0);
+            }
+        }
+    }
+
+    /**
+     * Put the key into the bucket.
+     * @param key The key
+     * @param count Amount of hits
+     */
+    private void attach(final K key, final int count) {
+        this.hits.put(key, count);
+        this.buckets.computeIfAbsent(count, c -> new LinkedHashSet<>()).add(key);
+    }
+
+    /**
+     * Take the key out of the bucket.
+     * @param key The key
+     * @param count Amount of hits
+     */
+    private void detach(final K key, final int count) {
+        final Set<K> bucket = this.buckets.get(count);
+        bucket.remove(key);
+        if (bucket.isEmpty()) {
+            this.buckets.remove(count);
+            if (this.least == count) {
+                this.least = count + 1;
+            }
+        }
+    }
+}
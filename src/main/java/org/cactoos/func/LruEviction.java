@@ -0,0 +1,67 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Least recently used {@link Eviction}.
+ *
+ * <p>Keys are kept in access order, the one that was not used for
+ * the longest time is evicted first.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <K> Type of key
+ * @since 1.0
+ */
+public final class LruEviction<K> implements Eviction<K> {
+
+    /**
+     * Keys in access order.
+     */
+    private final Map<K, Boolean> keys;
+
+    /**
+     * Maximum amount of keys.
+     */
+    private final int max;
+
+    /**
+     * Ctor.
+     * @param max Maximum amount of keys
+     */
+    public LruEviction(final int max) {
+        this.keys = new LinkedHashMap<>(16, 0.75f, true);
+        this.max = max;
+    }
+
+    @Override
+    public void touch(final K key) {
+        this.keys.get(key);
+    }
+
+    @Override
+    public Iterable<K> add(final K key) {
+        this.keys.put(key, true);
+        final Iterable<K> evicted;
+        if (this.keys.size() > this.max) {
+            final Iterator<K> eldest = this.keys.keySet().iterator();
+            evicted = Collections.singleton(eldest.next());
+            eldest.remove();
+        } else {
+            evicted = Collections.emptyList();
+        }
+        return evicted;
+    }
+
+    @Override
+    public void remove(final K key) {
+        this.keys.remove(key);
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import org.cactoos.Func;
+import org.cactoos.Scalar;
+import org.cactoos.scalar.Refreshing;
+
+/**
+ * Func that is thread-safe and sticky, with values refreshed ahead
+ * in the background.
+ *
+ * <p>Every value is cached as {@link Refreshing} does: when it gets
+ * older than the refresh period, it is calculated again in the given
+ * {@link ExecutorService}, while the old value is still returned.
+ * See {@link SolidFunc} for eviction.</p>
+ *
+ * <p>The executor is not shut down by this object.</p>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @param <X> Type of input
+ * @param <Y> Type of output
+ * @since 1.0
+ */
+public final class RefreshingFunc<X, Y> implements Func<X, Y> {
+
+    /**
+     * Refreshing values per input.
+     */
+    private final Func<X, Scalar<Y>> func;
+
+    /**
+     * Ctor.
+     * @param fnc Original function
+     * @param refresh Age of a value to start refreshing it at
+     * @param executor Executor of background calculations
+     */
+    public RefreshingFunc(final Func<X, Y> fnc, final Duration refresh,
+        final ExecutorService executor) {
+        this(fnc, refresh, Duration.ofNanos(Long.MAX_VALUE), executor);
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Original function
+     * @param refresh Age of a value to start refreshing it at
+     * @param ttl Age of a value to stop serving it at
+     * @param executor Executor of background calculations
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public RefreshingFunc(final Func<X, Y> fnc, final Duration refresh,
+        final Duration ttl, final ExecutorService executor) {
+        this(fnc, refresh, ttl, executor, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Original function
+     * @param refresh Age of a value to start refreshing it at
+     * @param ttl Age of a value to stop serving it at
+     * @param executor Executor of background calculations
+     * @param max Max caching buffer length
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public RefreshingFunc(final Func<X, Y> fnc, final Duration refresh,
+        final Duration ttl, final ExecutorService executor, final int max) {
+        this.func = new SolidFunc<>(
+            input -> new Refreshing<>(
+                () -> fnc.apply(input), refresh, ttl, executor
+            ),
+            max
+        );
+    }
+
+    @Override
+    public Y apply(final X input) throws Exception {
+        return this.func.apply(input).value();
+    }
+}
@@ -4,11 +4,16 @@
  */
 package org.cactoos.func;
 
+import java.util.Map;
 import org.cactoos.BiFunc;
+import org.cactoos.Func;
+import org.cactoos.map.MapEntry;
 
 /**
  * BiFunc that is thread-safe and sticky.
  *
+ * <p>See {@link SolidFunc} for the details of caching.</p>
+ *
  * <p>Objects of this class are thread safe.</p>
  *
  * @param <X> Type of first input
@@ -33,6 +38,32 @@ public final class SolidBiFunc<X, Y, Z> extends BiFuncEnvelope<X, Y, Z> {
      * @since 0.26
      */
     public SolidBiFunc(final BiFunc<X, Y, Z> fnc, final int max) {
-        super(new SyncBiFunc<>(new StickyBiFunc<>(fnc, max)));
+        this(fnc, max, LruEviction::new);
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Func original
+     * @param max Max buffer length
+     * @param policy Eviction policy of the given size
+     * @since 1.0
+     */
+    public SolidBiFunc(final BiFunc<X, Y, Z> fnc, final int max,
+        final Func<Integer, Eviction<Map.Entry<X, Y>>> policy) {
+        this(
+            new SolidFunc<>(
+                entry -> fnc.apply(entry.getKey(), entry.getValue()),
+                max,
+                policy
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param func Solid func of both arguments
+     */
+    private SolidBiFunc(final Func<Map.Entry<X, Y>, Z> func) {
+        super((first, second) -> func.apply(new MapEntry<>(first, second)));
     }
 }
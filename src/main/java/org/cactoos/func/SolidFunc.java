@@ -4,11 +4,25 @@
  */
 package org.cactoos.func;
 
+import java.util.List;
+import java.util.Objects;
 import org.cactoos.Func;
+import org.cactoos.iterable.Mapped;
+import org.cactoos.iterable.RangeOf;
+import org.cactoos.list.ListOf;
 
 /**
  * Func that is thread-safe and sticky.
  *
+ * <p>The cache is split into stripes by the hash code of the input,
+ * each one guarded by its own lock, which is held only to find
+ * the value, but not to calculate it. The value of every input is
+ * calculated only once, even if it is requested by many threads at
+ * the same time, while other inputs are served in parallel. Small
+ * caches are not split, to keep the limit exact. When a stripe
+ * is full, the {@link Eviction} policy decides which values to drop,
+ * it's {@link LruEviction} by default.</p>
+ *
  * <p>Objects of this class are thread safe.</p>
  *
  * @param <X> Type of input
@@ -17,11 +31,21 @@ import org.cactoos.Func;
  */
 public final class SolidFunc<X, Y> implements Func<X, Y> {
 
+    /**
+     * Maximum amount of stripes, also the minimum size of a stripe.
+     */
+    private static final int STRIPES = 16;
+
     /**
      * Original func.
      */
     private final Func<X, Y> func;
 
+    /**
+     * Stripes.
+     */
+    private final List<Stripe<X, Y>> stripes;
+
     /**
      * Ctor.
      * @param fnc Original function
@@ -37,11 +61,53 @@ public final class SolidFunc<X, Y> implements Func<X, Y> {
      * @since 0.26
      */
     public SolidFunc(final Func<X, Y> fnc, final int max) {
-        this.func = new SyncFunc<>(new StickyFunc<>(fnc, max));
+        this(fnc, max, LruEviction::new);
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Original function
+     * @param max Max caching buffer length
+     * @param policy Eviction policy of the given size
+     * @since 1.0
+     */
+    public SolidFunc(final Func<X, Y> fnc, final int max,
+        final Func<Integer, Eviction<X>> policy) {
+        this(
+            fnc, max, policy,
+            Math.max(1, Math.min(SolidFunc.STRIPES, max / SolidFunc.STRIPES))
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Original function
+     * @param max Max caching buffer length
+     * @param policy Eviction policy of the given size
+     * @param count Amount of stripes
+     * @since 1.0
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public SolidFunc(final Func<X, Y> fnc, final int max,
+        final Func<Integer, Eviction<X>> policy, final int count) {
+        this.func = fnc;
+        this.stripes = new ListOf<>(
+            new Mapped<>(
+                idx -> new Stripe<>(
+                    policy.apply(
+                        max / count + (idx < max % count ? 1 : 0)
+                    )
+                ),
+                new RangeOf<>(0, count - 1, idx -> idx + 1)
+            )
+        );
     }
 
     @Override
     public Y apply(final X input) throws Exception {
-        return this.func.apply(input);
+        final int hash = Objects.hashCode(input);
+        return this.stripes.get(
+            Math.floorMod(hash ^ (hash >>> 16), this.stripes.size())
+        ).value(input, this.func);
     }
 }
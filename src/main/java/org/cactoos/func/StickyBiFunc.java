@@ -4,9 +4,9 @@
  */
 package org.cactoos.func;
 
-import java.util.LinkedHashMap;
 import java.util.Map;
 import org.cactoos.BiFunc;
+import org.cactoos.Func;
 import org.cactoos.map.MapEntry;
 import org.cactoos.scalar.Sticky;
 
@@ -15,10 +15,10 @@ import org.cactoos.scalar.Sticky;
  * and doesn't recalculate again.
  *
  * <p>Pay attention that this class is not thread-safe. It is highly
- * recommended to always decorate it with {@link SyncBiFunc}.</p>
+ * recommended to use {@link SolidBiFunc} for concurrent access.</p>
  *
  * <p>This {@link BiFunc} decorator technically is an in-memory
- * cache.</p>
+ * cache, see {@link StickyFunc}.</p>
  *
  * <p>There is no thread-safety guarantee.</p>
  *
@@ -31,19 +31,9 @@ import org.cactoos.scalar.Sticky;
 public final class StickyBiFunc<X, Y, Z> implements BiFunc<X, Y, Z> {
 
     /**
-     * Original func.
+     * Sticky func of both arguments.
      */
-    private final BiFunc<X, Y, Z> func;
-
-    /**
-     * Cache.
-     */
-    private final Map<Map.Entry<X, Y>, Z> cache;
-
-    /**
-     * Maximum cache size.
-     */
-    private final int size;
+    private final Func<Map.Entry<X, Y>, Z> func;
 
     /**
      * Ctor.
@@ -60,20 +50,27 @@ public final class StickyBiFunc<X, Y, Z> implements BiFunc<X, Y, Z> {
      * @since 0.26
      */
     public StickyBiFunc(final BiFunc<X, Y, Z> fnc, final int max) {
-        this.func = fnc;
-        this.cache = new LinkedHashMap<>(0);
-        this.size = max;
+        this(fnc, max, LruEviction::new);
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Func original
+     * @param max Maximum buffer size
+     * @param policy Eviction policy of the given size
+     * @since 1.0
+     */
+    public StickyBiFunc(final BiFunc<X, Y, Z> fnc, final int max,
+        final Func<Integer, Eviction<Map.Entry<X, Y>>> policy) {
+        this.func = new StickyFunc<>(
+            entry -> fnc.apply(entry.getKey(), entry.getValue()),
+            max,
+            policy
+        );
     }
 
     @Override
     public Z apply(final X first, final Y second) throws Exception {
-        final Map.Entry<X, Y> key = new MapEntry<>(first, second);
-        while (this.cache.size() > this.size) {
-            this.cache.remove(this.cache.keySet().iterator().next());
-        }
-        if (!this.cache.containsKey(key)) {
-            this.cache.put(key, this.func.apply(first, second));
-        }
-        return this.cache.get(key);
+        return this.func.apply(new MapEntry<>(first, second));
     }
 }
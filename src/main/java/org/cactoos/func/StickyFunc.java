@@ -4,7 +4,8 @@
  */
 package org.cactoos.func;
 
-import org.cactoos.BiFunc;
+import java.util.HashMap;
+import java.util.Map;
 import org.cactoos.Func;
 import org.cactoos.scalar.Sticky;
 
@@ -13,10 +14,11 @@ import org.cactoos.scalar.Sticky;
  * recalculate again.
  *
  * <p>This {@link Func} decorator technically is an in-memory
- * cache.</p>
+ * cache. When the cache is full, the {@link Eviction} policy decides
+ * which values to drop, it's {@link LruEviction} by default.</p>
  *
  * <p>Pay attention that this class is not thread-safe. It is highly
- * recommended to always decorate it with {@link SyncFunc}.</p>
+ * recommended to use {@link SolidFunc} for concurrent access.</p>
  *
  * <p>There is no thread-safety guarantee.
  *
@@ -28,9 +30,19 @@ import org.cactoos.scalar.Sticky;
 public final class StickyFunc<X, Y> implements Func<X, Y> {
 
     /**
-     * Sticky bi-func.
+     * Original func.
      */
-    private final BiFunc<X, Boolean, Y> func;
+    private final Func<X, Y> func;
+
+    /**
+     * Cache.
+     */
+    private final Map<X, Y> cache;
+
+    /**
+     * Eviction policy.
+     */
+    private final Eviction<X> eviction;
 
     /**
      * Ctor.
@@ -47,14 +59,46 @@ public final class StickyFunc<X, Y> implements Func<X, Y> {
      * @since 0.26
      */
     public StickyFunc(final Func<X, Y> fnc, final int max) {
-        this.func = new StickyBiFunc<>(
-            (first, second) -> fnc.apply(first),
-            max
-        );
+        this(fnc, max, LruEviction::new);
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Func original
+     * @param max Maximum cache size
+     * @param policy Eviction policy of the given size
+     * @since 1.0
+     */
+    public StickyFunc(final Func<X, Y> fnc, final int max,
+        final Func<Integer, Eviction<X>> policy) {
+        this(fnc, new UncheckedFunc<>(policy).apply(max));
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Func original
+     * @param evict Eviction policy
+     * @since 1.0
+     */
+    public StickyFunc(final Func<X, Y> fnc, final Eviction<X> evict) {
+        this.func = fnc;
+        this.cache = new HashMap<>(0);
+        this.eviction = evict;
     }
 
     @Override
     public Y apply(final X input) throws Exception {
-        return this.func.apply(input, true);
+        final Y result;
+        if (this.cache.containsKey(input)) {
+            this.eviction.touch(input);
+            result = this.cache.get(input);
+        } else {
+            result = this.func.apply(input);
+            this.cache.put(input, result);
+            for (final X old : this.eviction.add(input)) {
+                this.cache.remove(old);
+            }
+        }
+        return result;
     }
 }
@@ -0,0 +1,104 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import org.cactoos.Func;
+
+/**
+ * One stripe of a concurrent cache.
+ *
+ * <p>This class is for internal use only. Use {@link SolidFunc}
+ * instead.</p>
+ *
+ * <p>The lock of the stripe is held only to find or register
+ * the entry, values are calculated outside of it. Every value is
+ * calculated only once, concurrent requests of the same key wait
+ * for the first one, while requests of other keys proceed.</p>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @param <K> Type of key
+ * @param <V> Type of value
+ * @since 1.0
+ */
+@SuppressWarnings("PMD.AvoidSynchronizedStatement")
+final class Stripe<K, V> {
+
+    /**
+     * Cached values, calculated or in progress.
+     */
+    private final Map<K, FutureTask<V>> cache;
+
+    /**
+     * Eviction policy.
+     */
+    private final Eviction<K> eviction;
+
+    /**
+     * Ctor.
+     * @param eviction Eviction policy
+     */
+    Stripe(final Eviction<K> eviction) {
+        this.cache = new HashMap<>(0);
+        this.eviction = eviction;
+    }
+
+    /**
+     * Get the value of the key, calculating it if necessary.
+     * @param key The key
+     * @param func Function to calculate the value
+     * @return The value
+     * @throws Exception If fails
+     */
+    V value(final K key, final Func<? super K, ? extends V> func)
+        throws Exception {
+        FutureTask<V> task;
+        final boolean fresh;
+        synchronized (this.cache) {
+            task = this.cache.get(key);
+            fresh = task == null;
+            if (fresh) {
+                task = new FutureTask<>(() -> func.apply(key));
+                this.cache.put(key, task);
+                for (final K old : this.eviction.add(key)) {
+                    this.cache.remove(old);
+                }
+            } else {
+                this.eviction.touch(key);
+            }
+        }
+        if (fresh) {
+            task.run();
+        }
+        try {
+            return task.get();
+        } catch (final ExecutionException ex) {
+            this.forget(key, task);
+            final Throwable cause = ex.getCause();
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw (Exception) cause;
+        }
+    }
+
+    /**
+     * Remove the failed calculation, so that it will be repeated.
+     * @param key The key
+     * @param task The calculation
+     */
+    private void forget(final K key, final FutureTask<V> task) {
+        synchronized (this.cache) {
+            if (this.cache.get(key) == task) {
+                this.cache.remove(key);
+                this.eviction.remove(key);
+            }
+        }
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Window TinyLFU {@link Eviction}.
+ *
+ * <p>New keys get into a small LRU window first. A key leaving
+ * the window competes with the eldest key of the main segmented LRU
+ * area, and the one that was requested more often stays. Frequencies
+ * are estimated by a count-min sketch of four-bit counters, which are
+ * halved periodically, so that the history ages.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <K> Type of key
+ * @since 1.0
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+public final class TinyLfuEviction<K> implements Eviction<K> {
+
+    /**
+     * Hash seeds of the sketch rows.
+     */
+    private static final int[] SEEDS = {
+        0x97cb3127, 0xb492b66f, 0x9ae16a3b, 0x85ebca6b,
+    };
+
+    /**
+     * Maximum width of a sketch row.
+     */
+    private static final int WIDTH = 1 << 14;
+
+    /**
+     * Maximum value of a sketch counter.
+     */
+    private static final int CEILING = 15;
+
+    /**
+     * Admission window, in access order.
+     */
+    private final Map<K, Boolean> window;
+
+    /**
+     * Probation part of the main area, in access order.
+     */
+    private final Map<K, Boolean> probation;
+
+    /**
+     * Protected part of the main area, in access order.
+     */
+    private final Map<K, Boolean> protect;
+
+    /**
+     * Frequency sketch, row by row.
+     */
+    private final int[] sketch;
+
+    /**
+     * Maximum amount of keys.
+     */
+    private final int max;
+
+    /**
+     * Maximum amount of keys in the window.
+     */
+    private final int edge;
+
+    /**
+     * Maximum amount of keys in the protected part.
+     */
+    private final int shield;
+
+    /**
+     * Amount of recorded requests since the last aging.
+     */
+    private int samples;
+
+    /**
+     * Ctor.
+     * @param max Maximum amount of keys
+     */
+    public TinyLfuEviction(final int max) {
+        this.window = new LinkedHashMap<>(16, 0.75f, true);
+        this.probation = new LinkedHashMap<>(16, 0.75f, true);
+        this.protect = new LinkedHashMap<>(16, 0.75f, true);
+        this.sketch = new int[TinyLfuEviction.SEEDS.length * Integer.highestOneBit(
+            Math.max(16, Math.min(TinyLfuEviction.WIDTH, max)) - 1
+        ) * 2];
+        this.max = max;
+        this.edge = Math.max(0, max) - (int) (Math.max(0, max) * 99L / 100L);
+        this.shield = (int) (Math.max(0, max) * 99L / 100L * 4L / 5L);
+    }
+
+    @Override
+    public void touch(final K key) {
+        this.record(key);
+        if (this.window.containsKey(key)) {
+            this.window.get(key);
+        } else if (this.probation.remove(key) != null) {
+            this.protect.put(key, true);
+            if (this.protect.size() > this.shield) {
+                this.probation.put(this.eldest(this.protect), true);
+            }
+        } else {
+            this.protect.get(key);
+        }
+    }
+
+    @Override
+    public Iterable<K> add(final K key) {
+        final Iterable<K> evicted;
+        if (this.max <= 0) {
+            evicted = Collections.singleton(key);
+        } else {
+            this.record(key);
+            this.window.put(key, true);
+            if (this.window.size() > this.edge) {
+                evicted = this.admit(this.eldest(this.window));
+            } else {
+                evicted = Collections.emptyList();
+            }
+        }
+        return evicted;
+    }
+
+    @Override
+    public void remove(final K key) {
+        this.window.remove(key);
+        this.probation.remove(key);
+        this.protect.remove(key);
+    }
+
+    /**
+     * Move a key, pushed out of the window, to the main area.
+     * @param candidate The key
+     * @return Evicted keys
+     */
+    private Iterable<K> admit(final K candidate) {
+        final Iterable<K> evicted;
+        if (this.probation.size() + this.protect.size() + this.window.size()
+            < this.max) {
+            this.probation.put(candidate, true);
+            evicted = Collections.emptyList();
+        } else if (this.probation.isEmpty() && this.protect.isEmpty()) {
+            evicted = Collections.singleton(candidate);
+        } else {
+            final Map<K, Boolean> area;
+            if (this.probation.isEmpty()) {
+                area = this.protect;
+            } else {
+                area = this.probation;
+            }
+            final K victim = area.keySet().iterator().next();
+            if (this.frequency(candidate) > this.frequency(victim)) {
+                area.remove(victim);
+                this.probation.put(candidate, true);
+                evicted = Collections.singleton(victim);
+            } else {
+                evicted = Collections.singleton(candidate);
+            }
+        }
+        return evicted;
+    }
+
+    /**
+     * Record one more request of the key in the sketch.
+     * @param key The key
+     */
+    private void record(final K key) {
+        final int width = this.sketch.length / TinyLfuEviction.SEEDS.length;
+        for (int row = 0; row < TinyLfuEviction.SEEDS.length; ++row) {
+            final int idx = row * width + this.index(key, row);
+            if (this.sketch[idx] < TinyLfuEviction.CEILING) {
+                this.sketch[idx] += 1;
+            }
+        }
+        this.samples += 1;
+        if (this.samples >= width * 10) {
+            for (int idx = 0; idx < this.sketch.length; ++idx) {
+                this.sketch[idx] >>>= 1;
+            }
+            this.samples /= 2;
+        }
+    }
+
+    /**
+     * Estimated amount of requests of the key.
+     * @param key The key
+     * @return Frequency
+     */
+    private int frequency(final K key) {
+        final int width = this.sketch.length / TinyLfuEviction.SEEDS.length;
+        int freq = TinyLfuEviction.CEILING;
+        for (int row = 0; row < TinyLfuEviction.SEEDS.length; ++row) {
+            freq = Math.min(freq, this.sketch[row * width + this.index(key, row)]);
+        }
+        return freq;
+    }
+
+    /**
+     * Position of the key in a sketch row.
+     * @param key The key
+     * @param row The row
+     * @return Position
+     */
+    private int index(final K key, final int row) {
+        int hash = (Objects.hashCode(key) + TinyLfuEviction.SEEDS[row])
+            * TinyLfuEviction.SEEDS[row];
+        hash ^= hash >>> 16;
+        return hash & (this.sketch.length / TinyLfuEviction.SEEDS.length - 1);
+    }
+
+    /**
+     * Remove the eldest key of the area.
+     * @param area The area
+     * @return The key removed
+     */
+    private K eldest(final Map<K, Boolean> area) {
+        final Iterator<K> keys = area.keySet().iterator();
+        final K key = keys.next();
+        keys.remove();
+        return key;
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+import java.io.OutputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import org.cactoos.Output;
+import org.cactoos.Scalar;
+import org.cactoos.scalar.ThreadPerTask;
+
+/**
+ * Output, which is written by a separate thread, through a bounded
+ * buffer of chunks.
+ *
+ * <p>The writer only copies the bytes into the buffer, so that a slow
+ * target, for example a network connection, doesn't slow down other
+ * targets of {@link FanOut}. When the buffer is full, the
+ * {@link Backpressure} decides what to do: wait, drop the bytes or fail.
+ * The stream waits for the thread to write everything, when it's
+ * closed:</p>
+ *
+ * <pre>{@code
+ * new LengthOf(
+ *     new TeeInput(
+ *         upload,
+ *         new FanOut(
+ *             new OutputTo(file),
+ *             new AsyncOutput(new OutputTo(socket), 64, new Backpressure.Fail())
+ *         )
+ *     )
+ * ).value();
+ * }</pre>
+ *
+ * <p>By default a new thread is started for every stream, it's virtual
+ * on Java 21 and later. A shared service may be provided instead, it
+ * won't be shut down.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+public final class AsyncOutput implements Output {
+
+    /**
+     * The target.
+     */
+    private final Output origin;
+
+    /**
+     * Maximum number of chunks in the buffer.
+     */
+    private final int capacity;
+
+    /**
+     * What to do, when the buffer is full.
+     */
+    private final Backpressure policy;
+
+    /**
+     * The service, which runs the thread.
+     */
+    private final Scalar<ExecutorService> service;
+
+    /**
+     * Shut the service down when the stream is closed.
+     */
+    private final boolean shut;
+
+    /**
+     * Ctor.
+     * @param output The target
+     */
+    public AsyncOutput(final Output output) {
+        this(output, 64);
+    }
+
+    /**
+     * Ctor.
+     * @param output The target
+     * @param max Maximum number of chunks in the buffer
+     */
+    public AsyncOutput(final Output output, final int max) {
+        this(output, max, new Backpressure.Block());
+    }
+
+    /**
+     * Ctor.
+     * @param output The target
+     * @param max Maximum number of chunks in the buffer
+     * @param bkp What to do, when the buffer is full
+     */
+    public AsyncOutput(final Output output, final int max,
+        final Backpressure bkp) {
+        this(output, max, bkp, new ThreadPerTask(), true);
+    }
+
+    /**
+     * Ctor.
+     * @param output The target
+     * @param max Maximum number of chunks in the buffer
+     * @param bkp What to do, when the buffer is full
+     * @param svc The service, which runs the thread
+     */
+    public AsyncOutput(final Output output, final int max,
+        final Backpressure bkp, final ExecutorService svc) {
+        this(output, max, bkp, () -> svc, false);
+    }
+
+    /**
+     * Ctor.
+     * @param output The target
+     * @param max Maximum number of chunks in the buffer
+     * @param bkp What to do, when the buffer is full
+     * @param svc The service, which runs the thread
+     * @param sht Shut the service down when the stream is closed
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private AsyncOutput(final Output output, final int max,
+        final Backpressure bkp, final Scalar<ExecutorService> svc,
+        final boolean sht) {
+        this.origin = output;
+        this.capacity = max;
+        this.policy = bkp;
+        this.service = svc;
+        this.shut = sht;
+    }
+
+    @Override
+    public OutputStream stream() throws Exception {
+        final OutputStream target = this.origin.stream();
+        final ExecutorService svc = this.service.value();
+        final AsyncOutputStream stream = new AsyncOutputStream(
+            new ArrayBlockingQueue<>(this.capacity), this.policy
+        );
+        stream.start(target, svc);
+        if (this.shut) {
+            svc.shutdown();
+        }
+        return stream;
+    }
+}
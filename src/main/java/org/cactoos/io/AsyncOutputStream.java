@@ -0,0 +1,200 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Output stream, which puts chunks of bytes into a buffer, while
+ * a separate thread writes them to the target.
+ *
+ * <p>If the target fails, the thread keeps taking chunks from the buffer,
+ * so that the writer is never blocked forever, and the next write fails.
+ * If the thread stops before the end, it empties the buffer, so that
+ * a waiting writer is released, and the next write fails too.
+ * {@link #flush()} doesn't wait for the target, while {@link #close()}
+ * does, unless the thread is already gone.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @see AsyncOutput
+ * @since 1.0
+ */
+final class AsyncOutputStream extends OutputStream {
+
+    /**
+     * The buffer.
+     */
+    private final BlockingQueue<byte[]> buffer;
+
+    /**
+     * What to do, when the buffer is full.
+     */
+    private final Backpressure policy;
+
+    /**
+     * Marker of the end of the stream.
+     */
+    private final byte[] end;
+
+    /**
+     * Marker of a flush.
+     */
+    private final byte[] mark;
+
+    /**
+     * Failure of the target.
+     */
+    private final AtomicReference<Throwable> failure;
+
+    /**
+     * The thread, which writes to the target.
+     */
+    private Future<?> worker;
+
+    /**
+     * The stream is closed.
+     */
+    private boolean closed;
+
+    /**
+     * Ctor.
+     * @param queue The buffer
+     * @param bkp What to do, when the buffer is full
+     */
+    AsyncOutputStream(final BlockingQueue<byte[]> queue,
+        final Backpressure bkp) {
+        super();
+        this.buffer = queue;
+        this.policy = bkp;
+        this.end = new byte[0];
+        this.mark = new byte[0];
+        this.failure = new AtomicReference<>();
+    }
+
+    /**
+     * Start writing to the target.
+     * @param target The target, which is closed at the end
+     * @param service The service, which runs the thread
+     */
+    public void start(final OutputStream target,
+        final ExecutorService service) {
+        this.worker = service.submit(
+            () -> {
+                try {
+                    this.drain(target);
+                    // @checkstyle IllegalCatchCheck (1 line)
+                } catch (final Throwable ex) {
+                    this.failure.compareAndSet(null, ex);
+                    this.buffer.clear();
+                    throw ex;
+                }
+                return null;
+            }
+        );
+    }
+
+    @Override
+    public void write(final int data) throws IOException {
+        this.write(new byte[] {(byte) data}, 0, 1);
+    }
+
+    @Override
+    public void write(final byte[] buf, final int offset, final int len)
+        throws IOException {
+        this.check();
+        if (len > 0) {
+            this.policy.put(
+                this.buffer, Arrays.copyOfRange(buf, offset, offset + len)
+            );
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        this.check();
+        this.put(this.mark);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!this.closed) {
+            this.closed = true;
+            this.put(this.end);
+            try {
+                this.worker.get();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException(ex.getMessage());
+            } catch (final ExecutionException ex) {
+                throw new IOException(ex.getCause());
+            }
+            this.check();
+        }
+    }
+
+    /**
+     * Fail if the target failed.
+     * @throws IOException If it failed
+     */
+    private void check() throws IOException {
+        final Throwable error = this.failure.get();
+        if (error != null) {
+            throw new IOException("The target failed", error);
+        }
+    }
+
+    /**
+     * Put a marker into the buffer, unless the thread is gone.
+     * @param marker The marker
+     * @throws IOException If interrupted
+     */
+    private void put(final byte[] marker) throws IOException {
+        try {
+            boolean done = false;
+            while (!done && !this.worker.isDone()) {
+                done = this.buffer.offer(marker, 100L, TimeUnit.MILLISECONDS);
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(ex.getMessage());
+        }
+    }
+
+    /**
+     * Write chunks from the buffer to the target, until the end.
+     * @param target The target
+     * @throws Exception If fails
+     */
+    private void drain(final OutputStream target) throws Exception {
+        try (OutputStream out = target) {
+            byte[] chunk = this.buffer.take();
+            while (chunk != this.end) {
+                if (this.failure.get() == null) {
+                    try {
+                        if (chunk == this.mark) {
+                            out.flush();
+                        } else {
+                            out.write(chunk);
+                        }
+                        // @checkstyle IllegalCatchCheck (1 line)
+                    } catch (final Throwable ex) {
+                        this.failure.set(ex);
+                    }
+                }
+                chunk = this.buffer.take();
+            }
+        }
+    }
+}
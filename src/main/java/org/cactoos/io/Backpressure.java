@@ -0,0 +1,87 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * What to do with bytes for a slow target of {@link AsyncOutput},
+ * when its buffer is full.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+public interface Backpressure {
+
+    /**
+     * Put the chunk of bytes into the buffer.
+     * @param buffer The buffer
+     * @param chunk The chunk
+     * @throws IOException If the chunk can't be put
+     */
+    void put(BlockingQueue<byte[]> buffer, byte[] chunk) throws IOException;
+
+    /**
+     * Wait until the target catches up, so that the writer is as slow
+     * as the target.
+     *
+     * <p>There is no thread-safety guarantee.
+     *
+     * @since 1.0
+     */
+    final class Block implements Backpressure {
+
+        @Override
+        public void put(final BlockingQueue<byte[]> buffer, final byte[] chunk)
+            throws IOException {
+            try {
+                buffer.put(chunk);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException(ex.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Drop the chunk, so that the target misses some bytes, for example
+     * when it's a live preview, which may lag behind.
+     *
+     * <p>There is no thread-safety guarantee.
+     *
+     * @since 1.0
+     */
+    final class Drop implements Backpressure {
+
+        @Override
+        public void put(final BlockingQueue<byte[]> buffer, final byte[] chunk) {
+            buffer.offer(chunk);
+        }
+    }
+
+    /**
+     * Fail the write, so that a target, which can't keep up, breaks
+     * the whole copying.
+     *
+     * <p>There is no thread-safety guarantee.
+     *
+     * @since 1.0
+     */
+    final class Fail implements Backpressure {
+
+        @Override
+        public void put(final BlockingQueue<byte[]> buffer, final byte[] chunk)
+            throws IOException {
+            if (!buffer.offer(chunk)) {
+                throw new IOException(
+                    "The target is too slow, its buffer is full"
+                );
+            }
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Putting of an item into a bounded queue, which a
+ * {@link ForkJoinPool} may wait for.
+ *
+ * <p>While the queue is full, the pool may start another worker, so
+ * that the waiting task doesn't starve the others. The putting gives up,
+ * when it's cancelled, so that a task, whose items nobody takes anymore,
+ * doesn't wait forever.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <T> Type of items
+ * @since 1.0
+ */
+final class BlockingPut<T> implements ForkJoinPool.ManagedBlocker {
+
+    /**
+     * The queue.
+     */
+    private final BlockingQueue<? super T> queue;
+
+    /**
+     * The item.
+     */
+    private final T item;
+
+    /**
+     * The putting is cancelled.
+     */
+    private final AtomicBoolean cancelled;
+
+    /**
+     * The item is in the queue.
+     */
+    private boolean done;
+
+    /**
+     * Ctor.
+     * @param target The queue
+     * @param value The item
+     * @param cancel The putting is cancelled
+     */
+    BlockingPut(final BlockingQueue<? super T> target, final T value,
+        final AtomicBoolean cancel) {
+        this.queue = target;
+        this.item = value;
+        this.cancelled = cancel;
+    }
+
+    @Override
+    public boolean block() throws InterruptedException {
+        while (!this.done && !this.cancelled.get()) {
+            this.done = this.queue.offer(this.item, 100L, TimeUnit.MILLISECONDS);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean isReleasable() {
+        if (!this.done && !this.cancelled.get()) {
+            this.done = this.queue.offer(this.item);
+        }
+        return this.done || this.cancelled.get();
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics of {@link Buffers}: how many buffers were taken from the pool,
+ * how many had to be allocated and how many given back were dropped,
+ * because the pool was full.
+ *
+ * <p>A low {@link #ratio()} means the pool is too small for the number
+ * of threads using it, while many drops mean it can't keep all the
+ * buffers given back:</p>
+ *
+ * <pre>{@code
+ * final BufferMetrics metrics = new BufferMetrics();
+ * final Buffers<byte[]> pool = new StripedBuffers<>(
+ *     16 << 10, byte[]::new, 8, 2, metrics
+ * );
+ * new BytesOf(input, pool).asBytes();
+ * report(metrics.ratio(), metrics.drops());
+ * }</pre>
+ *
+ * <p>This class is thread-safe.
+ *
+ * @since 1.0
+ */
+public final class BufferMetrics {
+
+    /**
+     * Buffers taken from the pool.
+     */
+    private final LongAdder hit;
+
+    /**
+     * Buffers allocated, because the pool was empty.
+     */
+    private final LongAdder miss;
+
+    /**
+     * Buffers dropped, because the pool was full.
+     */
+    private final LongAdder drop;
+
+    /**
+     * Ctor.
+     */
+    public BufferMetrics() {
+        this.hit = new LongAdder();
+        this.miss = new LongAdder();
+        this.drop = new LongAdder();
+    }
+
+    /**
+     * Record a buffer taken from the pool.
+     */
+    public void hit() {
+        this.hit.increment();
+    }
+
+    /**
+     * Record a buffer allocated, because the pool was empty.
+     */
+    public void miss() {
+        this.miss.increment();
+    }
+
+    /**
+     * Record a buffer dropped, because the pool was full.
+     */
+    public void drop() {
+        this.drop.increment();
+    }
+
+    /**
+     * Number of buffers taken from the pool.
+     * @return Hits
+     */
+    public long hits() {
+        return this.hit.sum();
+    }
+
+    /**
+     * Number of buffers allocated, because the pool was empty.
+     * @return Misses
+     */
+    public long misses() {
+        return this.miss.sum();
+    }
+
+    /**
+     * Number of buffers dropped, because the pool was full.
+     * @return Drops
+     */
+    public long drops() {
+        return this.drop.sum();
+    }
+
+    /**
+     * Share of buffers taken from the pool, out of all buffers requested.
+     * @return Hit ratio, from 0 to 1, zero if nothing was requested
+     */
+    public double ratio() {
+        final long hits = this.hits();
+        final long total = hits + this.misses();
+        double ratio = 0.0;
+        if (total > 0L) {
+            ratio = (double) hits / total;
+        }
+        return ratio;
+    }
+}
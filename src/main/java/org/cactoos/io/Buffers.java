@@ -0,0 +1,44 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+/**
+ * Pool of buffers of the same size, which are taken for an operation
+ * and given back when it's over, instead of being allocated every time.
+ *
+ * <p>Buffers may be arrays, like {@code byte[]}, or NIO buffers, including
+ * direct ones, which are the most expensive to allocate:</p>
+ *
+ * <pre>{@code
+ * final Buffers<byte[]> heap = new ThreadLocalBuffers<>(16 << 10, byte[]::new);
+ * final Buffers<ByteBuffer> direct = new StripedBuffers<>(
+ *     64 << 10, ByteBuffer::allocateDirect
+ * );
+ * }</pre>
+ *
+ * <p>A buffer comes out of the pool with whatever was left in it,
+ * so it's up to the user to clear it. A buffer must be given back only
+ * to the pool it was taken from and must not be used after that.</p>
+ *
+ * @param <T> Type of buffers
+ * @see FreshBuffers
+ * @see ThreadLocalBuffers
+ * @see StripedBuffers
+ * @since 1.0
+ */
+public interface Buffers<T> {
+
+    /**
+     * Take a buffer from the pool, or allocate a new one.
+     * @return The buffer
+     */
+    T take();
+
+    /**
+     * Give the buffer back to the pool, or drop it, if the pool is full.
+     * @param buffer The buffer
+     */
+    void give(T buffer);
+}
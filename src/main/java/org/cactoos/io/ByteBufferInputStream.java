@@ -0,0 +1,72 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * {@link InputStream} of the bytes of a {@link ByteBuffer}, from its
+ * position to its limit.
+ *
+ * <p>The buffer may be direct or mapped from a file. Reading moves
+ * the position of the buffer, so every stream needs a buffer of its own,
+ * for example a {@link ByteBuffer#duplicate()}.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+final class ByteBufferInputStream extends InputStream {
+
+    /**
+     * The buffer.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * Ctor.
+     * @param buf The buffer
+     */
+    ByteBufferInputStream(final ByteBuffer buf) {
+        super();
+        this.buffer = buf;
+    }
+
+    @Override
+    public int read() {
+        int data = -1;
+        if (this.buffer.hasRemaining()) {
+            data = this.buffer.get() & 0xFF;
+        }
+        return data;
+    }
+
+    @Override
+    public int read(final byte[] buf, final int offset, final int len) {
+        int read = -1;
+        if (len == 0) {
+            read = 0;
+        } else if (this.buffer.hasRemaining()) {
+            read = Math.min(len, this.buffer.remaining());
+            this.buffer.get(buf, offset, read);
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(final long num) {
+        final int skipped = (int) Math.max(
+            0L, Math.min(num, this.buffer.remaining())
+        );
+        this.buffer.position(this.buffer.position() + skipped);
+        return skipped;
+    }
+
+    @Override
+    public int available() {
+        return this.buffer.remaining();
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.cactoos.Input;
+import org.cactoos.Scalar;
+
+/**
+ * {@link Input} of a file or a {@link SeekableByteChannel}, read through
+ * the channel.
+ *
+ * <p>It works just like {@link InputOf} made of a file, but its stream
+ * is a {@link ChannelInputStream}, which is recognized by
+ * {@link org.cactoos.scalar.LengthOf}, {@link org.cactoos.bytes.BytesOf},
+ * {@link org.cactoos.bytes.DigestEnvelope}, {@link TeeInput},
+ * {@link TailOf}, {@link HeadOf} and {@link TailOfLines}. They
+ * take the size of the file, seek in it, read it at once, map it into
+ * memory or transfer it to a {@link ChannelOutput}, instead of copying it
+ * through buffers on the heap:</p>
+ *
+ * <pre>{@code
+ * final byte[] hash = new Sha256DigestOf(new ChannelInput(path)).asBytes();
+ * }</pre>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @see ChannelOutput
+ * @since 1.0
+ */
+public final class ChannelInput implements Input {
+
+    /**
+     * The channel.
+     */
+    private final Scalar<? extends SeekableByteChannel> channel;
+
+    /**
+     * Ctor.
+     * @param file The file
+     */
+    public ChannelInput(final File file) {
+        this(file.toPath());
+    }
+
+    /**
+     * Ctor.
+     * @param file The file
+     */
+    public ChannelInput(final Path file) {
+        this(() -> FileChannel.open(file, StandardOpenOption.READ));
+    }
+
+    /**
+     * Ctor.
+     *
+     * <p>The channel is closed together with the stream, so that
+     * it may be read only once.</p>
+     *
+     * @param chnl The channel
+     */
+    public ChannelInput(final SeekableByteChannel chnl) {
+        this(() -> chnl);
+    }
+
+    /**
+     * Ctor.
+     * @param chnl The channel
+     */
+    private ChannelInput(final Scalar<? extends SeekableByteChannel> chnl) {
+        this.channel = chnl;
+    }
+
+    @Override
+    public InputStream stream() throws Exception {
+        return new ChannelInputStream(this.channel.value());
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
+
+/**
+ * {@link InputStream} of a {@link SeekableByteChannel}.
+ *
+ * <p>Consumers, which know about this class, may work with the
+ * {@link #channel()} directly, for example by seeking to the end of it,
+ * mapping it into memory or transferring its content to another channel,
+ * when it's a {@link FileChannel}. This is what
+ * {@link #transferTo(OutputStream)} does, when the output is
+ * a {@link ChannelOutputStream}.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @see ChannelInput
+ * @since 1.0
+ */
+public final class ChannelInputStream extends InputStream {
+
+    /**
+     * The channel.
+     */
+    private final SeekableByteChannel chnl;
+
+    /**
+     * Buffer for a single byte.
+     */
+    private final ByteBuffer single;
+
+    /**
+     * Ctor.
+     * @param channel The channel, which will be closed with this stream
+     */
+    public ChannelInputStream(final SeekableByteChannel channel) {
+        super();
+        this.chnl = channel;
+        this.single = ByteBuffer.allocate(1);
+    }
+
+    /**
+     * The channel, which is read by this stream.
+     * @return The channel
+     */
+    public SeekableByteChannel channel() {
+        return this.chnl;
+    }
+
+    @Override
+    public int read() throws IOException {
+        this.single.clear();
+        int data = -1;
+        if (this.chnl.read(this.single) > 0) {
+            data = this.single.get(0) & 0xFF;
+        }
+        return data;
+    }
+
+    @Override
+    public int read(final byte[] buf, final int offset, final int len)
+        throws IOException {
+        final int read;
+        if (len == 0) {
+            read = 0;
+        } else {
+            read = this.chnl.read(ByteBuffer.wrap(buf, offset, len));
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(final long num) throws IOException {
+        final long pos = this.chnl.position();
+        final long skipped = Math.max(
+            0L, Math.min(num, this.chnl.size() - pos)
+        );
+        this.chnl.position(pos + skipped);
+        return skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return (int) Math.min(
+            Integer.MAX_VALUE,
+            Math.max(0L, this.chnl.size() - this.chnl.position())
+        );
+    }
+
+    @Override
+    public byte[] readAllBytes() throws IOException {
+        final long left = this.chnl.size() - this.chnl.position();
+        final byte[] all;
+        if (left < Integer.MAX_VALUE - 8) {
+            final ByteBuffer buf = ByteBuffer.allocate((int) Math.max(0L, left));
+            int read = 0;
+            while (buf.hasRemaining() && read >= 0) {
+                read = this.chnl.read(buf);
+            }
+            if (buf.hasRemaining()) {
+                all = new byte[buf.position()];
+                buf.flip().get(all);
+            } else {
+                all = buf.array();
+            }
+        } else {
+            all = super.readAllBytes();
+        }
+        return all;
+    }
+
+    @Override
+    public long transferTo(final OutputStream out) throws IOException {
+        final long transferred;
+        if (this.chnl instanceof FileChannel file
+            && out instanceof ChannelOutputStream target) {
+            final long start = file.position();
+            final long end = file.size();
+            long pos = start;
+            long done = 1L;
+            while (pos < end && done > 0L) {
+                done = file.transferTo(pos, end - pos, target.channel());
+                pos += done;
+            }
+            file.position(pos);
+            transferred = pos - start;
+        } else {
+            transferred = super.transferTo(out);
+        }
+        return transferred;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.chnl.close();
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+import java.io.File;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.cactoos.Output;
+
+/**
+ * {@link Output} to a file, written through a {@link FileChannel}.
+ *
+ * <p>It works just like {@link OutputTo} made of a file, but its stream
+ * is a {@link ChannelOutputStream}. When {@link TeeInput} copies
+ * a {@link ChannelInput} into it, the content is transferred by
+ * {@link FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)},
+ * without copying it into the heap.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @see ChannelInput
+ * @since 1.0
+ */
+public final class ChannelOutput implements Output {
+
+    /**
+     * The file.
+     */
+    private final Path path;
+
+    /**
+     * Open options.
+     */
+    private final OpenOption[] options;
+
+    /**
+     * Ctor.
+     * @param file The file
+     */
+    public ChannelOutput(final File file) {
+        this(file.toPath());
+    }
+
+    /**
+     * Ctor.
+     * @param file The file, which will be created or truncated
+     */
+    public ChannelOutput(final Path file) {
+        this(
+            file,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param file The file
+     * @param opts Open options, in addition to
+     *  {@link StandardOpenOption#WRITE}
+     */
+    @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+    public ChannelOutput(final Path file, final OpenOption... opts) {
+        this.path = file;
+        this.options = opts;
+    }
+
+    @Override
+    public OutputStream stream() throws Exception {
+        final Path parent = this.path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        final OpenOption[] opts = new OpenOption[this.options.length + 1];
+        System.arraycopy(this.options, 0, opts, 0, this.options.length);
+        opts[this.options.length] = StandardOpenOption.WRITE;
+        return new ChannelOutputStream(FileChannel.open(this.path, opts));
+    }
+}
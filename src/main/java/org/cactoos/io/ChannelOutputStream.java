@@ -0,0 +1,76 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * {@link OutputStream} to a {@link FileChannel}.
+ *
+ * <p>Consumers, which know about this class, may write to the
+ * {@link #channel()} directly, for example by transferring content
+ * of another channel into it.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @see ChannelOutput
+ * @since 1.0
+ */
+public final class ChannelOutputStream extends OutputStream {
+
+    /**
+     * The channel.
+     */
+    private final FileChannel chnl;
+
+    /**
+     * Buffer for a single byte.
+     */
+    private final ByteBuffer single;
+
+    /**
+     * Ctor.
+     * @param channel The channel, which will be closed with this stream
+     */
+    public ChannelOutputStream(final FileChannel channel) {
+        super();
+        this.chnl = channel;
+        this.single = ByteBuffer.allocate(1);
+    }
+
+    /**
+     * The channel, which is written by this stream.
+     * @return The channel
+     */
+    public FileChannel channel() {
+        return this.chnl;
+    }
+
+    @Override
+    public void write(final int data) throws IOException {
+        this.single.clear();
+        this.single.put(0, (byte) data);
+        while (this.single.hasRemaining()) {
+            this.chnl.write(this.single);
+        }
+    }
+
+    @Override
+    public void write(final byte[] buf, final int offset, final int len)
+        throws IOException {
+        final ByteBuffer src = ByteBuffer.wrap(buf, offset, len);
+        while (src.hasRemaining()) {
+            this.chnl.write(src);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.chnl.close();
+    }
+}
@@ -4,36 +4,41 @@
  */
 package org.cactoos.io;
 
+import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.Iterator;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
-import org.cactoos.Scalar;
-import org.cactoos.scalar.Unchecked;
+import java.util.Map;
+import org.cactoos.iterator.Mapped;
 
 /**
  * Files and folders in a directory.
  *
+ * <p>The tree is walked lazily, while it's iterated, see
+ * {@link DirectoryEntries} for filters, maximum depth, parallel
+ * walking and attributes of files. When folders are walked in parallel,
+ * an iteration, which is stopped early, must be finished by
+ * {@link #close()}.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @since 0.21
  */
-public final class Directory implements Iterable<Path> {
+public final class Directory implements Iterable<Path>, Closeable {
 
     /**
-     * Path of the directory.
+     * Files and folders with their attributes.
      */
-    private final Scalar<Path> dir;
+    private final DirectoryEntries entries;
 
     /**
      * Ctor.
      * @param file File as a path to directory
      */
     public Directory(final File file) {
-        this(file::toPath);
+        this(file.toPath());
     }
 
     /**
@@ -41,23 +46,42 @@ public final class Directory implements Iterable<Path> {
      * @param path Path of the dir
      */
     public Directory(final Path path) {
-        this(() -> path);
+        this(new DirectoryEntries(path));
+    }
+
+    /**
+     * Ctor.
+     * @param path Path of the dir
+     * @param depth Maximum depth
+     */
+    public Directory(final Path path, final int depth) {
+        this(new DirectoryEntries(path, depth));
+    }
+
+    /**
+     * Ctor.
+     * @param path Path of the dir
+     * @param glob Glob of files and folders, relative to the dir
+     */
+    public Directory(final Path path, final String glob) {
+        this(new DirectoryEntries(path, glob));
     }
 
     /**
      * Ctor.
-     * @param source Path of the directory, deferred
+     * @param files Files and folders with their attributes
      */
-    private Directory(final Scalar<Path> source) {
-        this.dir = source;
+    public Directory(final DirectoryEntries files) {
+        this.entries = files;
     }
 
     @Override
     public Iterator<Path> iterator() {
-        try (Stream<Path> files = Files.walk(new Unchecked<>(this.dir).value())) {
-            return files.collect(Collectors.toList()).iterator();
-        } catch (final IOException ex) {
-            throw new IllegalStateException(ex);
-        }
+        return new Mapped<>(Map.Entry::getKey, this.entries.iterator());
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.entries.close();
     }
 }
@@ -0,0 +1,168 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import org.cactoos.BiFunc;
+import org.cactoos.Func;
+import org.cactoos.func.UncheckedFunc;
+import org.cactoos.list.ListOf;
+
+/**
+ * Files and folders in a directory, with their attributes.
+ *
+ * <p>The tree is walked while it's iterated, so it's never kept
+ * in memory, and every file is read only once, so that consumers don't
+ * need to read the attributes again. The first predicate decides which
+ * files and folders to return, the second one decides which folders to
+ * walk into, so whole subtrees are pruned without being listed. Both of
+ * them see the directory itself too, just like the maximum depth, which
+ * is zero for the directory:</p>
+ *
+ * <pre>{@code
+ * for (final Map.Entry<Path, BasicFileAttributes> jar : new DirectoryEntries(
+ *     store, Integer.MAX_VALUE,
+ *     (path, attrs) -> attrs.isRegularFile() && path.toString().endsWith(".jar"),
+ *     (path, attrs) -> !path.endsWith(".git")
+ * )) {
+ *     total += jar.getValue().size();
+ * }
+ * }</pre>
+ *
+ * <p>When a {@link ForkJoinPool} is provided, every folder is listed by
+ * a separate task, in parallel, while the files wait to be iterated in
+ * a queue. Their order is not defined then, except that a folder comes
+ * before its content. The walk goes on in the background, until all
+ * the files are taken, so an iteration, which is stopped early, must be
+ * finished by {@link #close()}:</p>
+ *
+ * <pre>{@code
+ * try (DirectoryEntries entries = new DirectoryEntries(pool, path, ...)) {
+ *     first = entries.iterator().next();
+ * }
+ * }</pre>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @see Directory
+ * @since 1.0
+ */
+public final class DirectoryEntries
+    implements Iterable<Map.Entry<Path, BasicFileAttributes>>, Closeable {
+
+    /**
+     * The walk, which gets the iterators, which are open.
+     */
+    private final Func<Collection<Closeable>, Iterator<Map.Entry<Path, BasicFileAttributes>>> walk;
+
+    /**
+     * Iterators, which are open.
+     */
+    private final Collection<Closeable> open;
+
+    /**
+     * Ctor.
+     * @param path The directory
+     */
+    public DirectoryEntries(final Path path) {
+        this(path, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Ctor.
+     * @param path The directory
+     * @param depth Maximum depth
+     */
+    public DirectoryEntries(final Path path, final int depth) {
+        this(path, depth, (file, attrs) -> true, (file, attrs) -> true);
+    }
+
+    /**
+     * Ctor.
+     * @param path The directory
+     * @param glob Glob of files and folders to return, relative to
+     *  the directory, for example {@code **.jar}
+     */
+    public DirectoryEntries(final Path path, final String glob) {
+        this(path, path.getFileSystem().getPathMatcher("glob:".concat(glob)));
+    }
+
+    /**
+     * Ctor.
+     * @param path The directory
+     * @param depth Maximum depth
+     * @param accept Which files and folders to return
+     * @param descend Which folders to walk into
+     */
+    public DirectoryEntries(final Path path, final int depth,
+        final BiFunc<Path, BasicFileAttributes, Boolean> accept,
+        final BiFunc<Path, BasicFileAttributes, Boolean> descend) {
+        this(opn -> new DirectoryIterator(path, depth, accept, descend));
+    }
+
+    /**
+     * Ctor.
+     * @param pool The pool, which lists folders in parallel
+     * @param path The directory
+     * @param depth Maximum depth
+     * @param accept Which files and folders to return
+     * @param descend Which folders to walk into
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public DirectoryEntries(final ForkJoinPool pool, final Path path,
+        final int depth, final BiFunc<Path, BasicFileAttributes, Boolean> accept,
+        final BiFunc<Path, BasicFileAttributes, Boolean> descend) {
+        this(
+            opn -> new ForkedDirectoryIterator(
+                pool, path, depth, accept, descend, opn
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param path The directory
+     * @param matcher Matcher of files and folders to return, relative to
+     *  the directory
+     */
+    private DirectoryEntries(final Path path, final PathMatcher matcher) {
+        this(
+            path, Integer.MAX_VALUE,
+            (file, attrs) -> matcher.matches(path.relativize(file)),
+            (file, attrs) -> true
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param iter The walk, which gets the iterators, which are open
+     */
+    private DirectoryEntries(
+        final Func<Collection<Closeable>, Iterator<Map.Entry<Path, BasicFileAttributes>>> iter) {
+        this.walk = iter;
+        this.open = ConcurrentHashMap.newKeySet();
+    }
+
+    @Override
+    public Iterator<Map.Entry<Path, BasicFileAttributes>> iterator() {
+        return new UncheckedFunc<>(this.walk).apply(this.open);
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (final Closeable iter : new ListOf<>(this.open)) {
+            iter.close();
+        }
+    }
+}
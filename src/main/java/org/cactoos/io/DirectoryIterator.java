@@ -0,0 +1,149 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import org.cactoos.BiFunc;
+import org.cactoos.func.UncheckedBiFunc;
+import org.cactoos.map.MapEntry;
+
+/**
+ * Iterator of files and folders in a directory, which walks the tree
+ * depth-first while it's iterated.
+ *
+ * <p>Only the listings of the directories on the way from the root to
+ * the current folder are kept. Every listing is read entirely and its
+ * {@link DirectoryStream} is closed right away, so an iteration, which
+ * is stopped early, leaves nothing open.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @see DirectoryEntries
+ * @since 1.0
+ */
+final class DirectoryIterator
+    implements Iterator<Map.Entry<Path, BasicFileAttributes>> {
+
+    /**
+     * The root.
+     */
+    private final Path root;
+
+    /**
+     * Maximum depth.
+     */
+    private final int depth;
+
+    /**
+     * Which files and folders to return.
+     */
+    private final UncheckedBiFunc<Path, BasicFileAttributes, Boolean> accept;
+
+    /**
+     * Which folders to walk into.
+     */
+    private final UncheckedBiFunc<Path, BasicFileAttributes, Boolean> descend;
+
+    /**
+     * Iterators of the listed directories, the current one is the first.
+     */
+    private final Deque<Iterator<Path>> iterators;
+
+    /**
+     * The entry, which is found, but not returned yet.
+     */
+    private Map.Entry<Path, BasicFileAttributes> pending;
+
+    /**
+     * The root is visited.
+     */
+    private boolean started;
+
+    /**
+     * Ctor.
+     * @param path The root
+     * @param max Maximum depth
+     * @param acc Which files and folders to return
+     * @param dsc Which folders to walk into
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    DirectoryIterator(final Path path, final int max,
+        final BiFunc<Path, BasicFileAttributes, Boolean> acc,
+        final BiFunc<Path, BasicFileAttributes, Boolean> dsc) {
+        this.root = path;
+        this.depth = max;
+        this.accept = new UncheckedBiFunc<>(acc);
+        this.descend = new UncheckedBiFunc<>(dsc);
+        this.iterators = new ArrayDeque<>(0);
+    }
+
+    @Override
+    public boolean hasNext() {
+        try {
+            if (!this.started) {
+                this.started = true;
+                this.visit(this.root);
+            }
+            while (this.pending == null && !this.iterators.isEmpty()) {
+                final Iterator<Path> current = this.iterators.peekFirst();
+                if (current.hasNext()) {
+                    this.visit(current.next());
+                } else {
+                    this.iterators.removeFirst();
+                }
+            }
+        } catch (final IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+        return this.pending != null;
+    }
+
+    @Override
+    public Map.Entry<Path, BasicFileAttributes> next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException(
+                "There are no more files in the directory"
+            );
+        }
+        final Map.Entry<Path, BasicFileAttributes> entry = this.pending;
+        this.pending = null;
+        return entry;
+    }
+
+    /**
+     * Visit the file or folder: remember it, if it's accepted, and
+     * list it, if it has to be walked into.
+     * @param path The file or folder
+     * @throws IOException If fails
+     */
+    private void visit(final Path path) throws IOException {
+        final BasicFileAttributes attrs = Files.readAttributes(
+            path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS
+        );
+        if (attrs.isDirectory() && this.iterators.size() < this.depth
+            && this.descend.apply(path, attrs)) {
+            final List<Path> listing = new ArrayList<>(0);
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(path)) {
+                stream.forEach(listing::add);
+            }
+            this.iterators.addFirst(listing.iterator());
+        }
+        if (this.accept.apply(path, attrs)) {
+            this.pending = new MapEntry<>(path, attrs);
+        }
+    }
+}
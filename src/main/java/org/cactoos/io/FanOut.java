@@ -0,0 +1,76 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import org.cactoos.Output;
+import org.cactoos.iterable.IterableOf;
+
+/**
+ * Output, which writes the same bytes to many outputs.
+ *
+ * <p>Every write goes to all the targets one after another, so a slow
+ * target should be wrapped into {@link AsyncOutput}, to not slow down the
+ * others. When it's the target of a {@link TeeInput} of a
+ * {@link ChannelInput}, the targets, which are {@link ChannelOutput}s,
+ * get the file through {@link java.nio.channels.FileChannel#transferTo},
+ * before the rest of them are written:</p>
+ *
+ * <pre>{@code
+ * new LengthOf(
+ *     new TeeInput(
+ *         new ChannelInput(upload),
+ *         new FanOut(
+ *             new ChannelOutput(copy),
+ *             new AsyncOutput(new OutputTo(socket))
+ *         )
+ *     )
+ * ).value();
+ * }</pre>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @see TeeOutput
+ * @since 1.0
+ */
+public final class FanOut implements Output {
+
+    /**
+     * The targets.
+     */
+    private final Iterable<? extends Output> targets;
+
+    /**
+     * Ctor.
+     * @param outputs The targets
+     */
+    public FanOut(final Output... outputs) {
+        this(new IterableOf<>(outputs));
+    }
+
+    /**
+     * Ctor.
+     * @param outputs The targets
+     */
+    public FanOut(final Iterable<? extends Output> outputs) {
+        this.targets = outputs;
+    }
+
+    @Override
+    public OutputStream stream() throws Exception {
+        final List<OutputStream> streams = new ArrayList<>(0);
+        try {
+            for (final Output target : this.targets) {
+                streams.add(target.stream());
+            }
+        } catch (final Exception ex) {
+            new FanOutStream(streams).close();
+            throw ex;
+        }
+        return new FanOutStream(streams);
+    }
+}
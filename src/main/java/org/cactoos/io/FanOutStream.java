@@ -0,0 +1,125 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.SeekableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Output stream, which writes the same bytes to many streams.
+ *
+ * <p>Flushing and closing reach all the streams, even if some of them
+ * fail, then the first failure is thrown, with the others suppressed.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @see FanOut
+ * @since 1.0
+ */
+final class FanOutStream extends OutputStream {
+
+    /**
+     * The streams.
+     */
+    private final List<OutputStream> targets;
+
+    /**
+     * Ctor.
+     * @param streams The streams
+     */
+    FanOutStream(final List<OutputStream> streams) {
+        super();
+        this.targets = streams;
+    }
+
+    @Override
+    public void write(final int data) throws IOException {
+        for (final OutputStream target : this.targets) {
+            target.write(data);
+        }
+    }
+
+    @Override
+    public void write(final byte[] buf, final int offset, final int len)
+        throws IOException {
+        for (final OutputStream target : this.targets) {
+            target.write(buf, offset, len);
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        IOException failure = null;
+        for (final OutputStream target : this.targets) {
+            try {
+                target.flush();
+            } catch (final IOException ex) {
+                failure = this.merged(failure, ex);
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        IOException failure = null;
+        for (final OutputStream target : this.targets) {
+            try {
+                target.close();
+            } catch (final IOException ex) {
+                failure = this.merged(failure, ex);
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Transfer the input to the streams, which are channels, and close
+     * them, leaving the input where it was.
+     * @param input The input
+     * @return Stream of the rest of the targets
+     * @throws IOException If fails
+     */
+    public FanOutStream transferred(final ChannelInputStream input)
+        throws IOException {
+        final SeekableByteChannel channel = input.channel();
+        final long start = channel.position();
+        final List<OutputStream> rest = new ArrayList<>(this.targets.size());
+        for (final OutputStream target : this.targets) {
+            if (target instanceof ChannelOutputStream) {
+                try (target) {
+                    input.transferTo(target);
+                }
+                channel.position(start);
+            } else {
+                rest.add(target);
+            }
+        }
+        return new FanOutStream(rest);
+    }
+
+    /**
+     * Add the failure to the previous one.
+     * @param first The previous failure or NULL
+     * @param next The failure
+     * @return The first failure
+     */
+    private IOException merged(final IOException first,
+        final IOException next) {
+        IOException result = next;
+        if (first != null) {
+            first.addSuppressed(next);
+            result = first;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.cactoos.func.UncheckedBiFunc;
+import org.cactoos.map.MapEntry;
+
+/**
+ * Fork/join action, which lists a directory into a queue and forks
+ * itself for every folder in it.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @see ForkedDirectoryIterator
+ * @since 1.0
+ */
+@SuppressWarnings("serial")
+final class ForkedDirectory extends RecursiveAction {
+
+    /**
+     * The directory.
+     */
+    private final transient Path dir;
+
+    /**
+     * Depth of the directory.
+     */
+    private final int level;
+
+    /**
+     * Maximum depth.
+     */
+    private final int depth;
+
+    /**
+     * Which files and folders to return.
+     */
+    private final transient UncheckedBiFunc<Path, BasicFileAttributes, Boolean> accept;
+
+    /**
+     * Which folders to walk into.
+     */
+    private final transient UncheckedBiFunc<Path, BasicFileAttributes, Boolean> descend;
+
+    /**
+     * Where to put files and folders.
+     */
+    private final transient BlockingQueue<Map.Entry<Path, BasicFileAttributes>> queue;
+
+    /**
+     * The walk is cancelled.
+     */
+    private final transient AtomicBoolean cancelled;
+
+    /**
+     * Ctor.
+     * @param path The directory
+     * @param lvl Depth of the directory
+     * @param max Maximum depth
+     * @param acc Which files and folders to return
+     * @param dsc Which folders to walk into
+     * @param target Where to put files and folders
+     * @param cancel The walk is cancelled
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    ForkedDirectory(final Path path, final int lvl, final int max,
+        final UncheckedBiFunc<Path, BasicFileAttributes, Boolean> acc,
+        final UncheckedBiFunc<Path, BasicFileAttributes, Boolean> dsc,
+        final BlockingQueue<Map.Entry<Path, BasicFileAttributes>> target,
+        final AtomicBoolean cancel) {
+        super();
+        this.dir = path;
+        this.level = lvl;
+        this.depth = max;
+        this.accept = acc;
+        this.descend = dsc;
+        this.queue = target;
+        this.cancelled = cancel;
+    }
+
+    @Override
+    protected void compute() {
+        final List<ForkedDirectory> forks = new ArrayList<>(0);
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(this.dir)) {
+            final Iterator<Path> paths = stream.iterator();
+            while (!this.cancelled.get() && paths.hasNext()) {
+                final Path path = paths.next();
+                final BasicFileAttributes attrs = Files.readAttributes(
+                    path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS
+                );
+                if (this.accept.apply(path, attrs)) {
+                    ForkJoinPool.managedBlock(
+                        new BlockingPut<>(
+                            this.queue, new MapEntry<>(path, attrs), this.cancelled
+                        )
+                    );
+                }
+                if (attrs.isDirectory() && this.level + 1 < this.depth
+                    && this.descend.apply(path, attrs)) {
+                    forks.add(
+                        new ForkedDirectory(
+                            path, this.level + 1, this.depth,
+                            this.accept, this.descend, this.queue,
+                            this.cancelled
+                        )
+                    );
+                }
+            }
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+        ForkedDirectory.invokeAll(forks);
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.cactoos.BiFunc;
+import org.cactoos.func.UncheckedBiFunc;
+import org.cactoos.map.MapEntry;
+
+/**
+ * Iterator of files and folders in a directory, which are listed
+ * by {@link ForkedDirectory} actions in parallel, a folder per action.
+ *
+ * <p>The actions put files and folders into a queue, where they wait
+ * until they're taken, so the iteration starts right away, while
+ * the tree is still being walked. The queue is bounded, so the actions
+ * wait, while it's full, and the tree never piles up in memory, even if
+ * the files are taken slowly. The order is not defined, except that
+ * a folder comes before its content.</p>
+ *
+ * <p>When the iteration is stopped early, {@link #close()} cancels the
+ * walk, so the actions stop listing folders. The iterator is among the
+ * open ones of its owner, from the first call till the end of the walk,
+ * so that the owner may close it.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @see DirectoryEntries
+ * @since 1.0
+ */
+final class ForkedDirectoryIterator
+    implements Iterator<Map.Entry<Path, BasicFileAttributes>>, Closeable {
+
+    /**
+     * Number of files and folders, which may wait in the queue.
+     */
+    private static final int CAPACITY = 1024;
+
+    /**
+     * The pool.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * The root.
+     */
+    private final Path root;
+
+    /**
+     * Maximum depth.
+     */
+    private final int depth;
+
+    /**
+     * Which files and folders to return.
+     */
+    private final UncheckedBiFunc<Path, BasicFileAttributes, Boolean> accept;
+
+    /**
+     * Which folders to walk into.
+     */
+    private final UncheckedBiFunc<Path, BasicFileAttributes, Boolean> descend;
+
+    /**
+     * Files and folders, which are found.
+     */
+    private final BlockingQueue<Map.Entry<Path, BasicFileAttributes>> queue;
+
+    /**
+     * The walk is cancelled.
+     */
+    private final AtomicBoolean cancelled;
+
+    /**
+     * Open iterators of the owner.
+     */
+    private final Collection<Closeable> open;
+
+    /**
+     * Marker of the end of the walk.
+     */
+    private final Map.Entry<Path, BasicFileAttributes> end;
+
+    /**
+     * The walk.
+     */
+    private Future<?> walk;
+
+    /**
+     * The entry, which is taken, but not returned yet.
+     */
+    private Map.Entry<Path, BasicFileAttributes> pending;
+
+    /**
+     * The walk is over.
+     */
+    private boolean over;
+
+    /**
+     * Ctor.
+     * @param svc The pool
+     * @param path The root
+     * @param max Maximum depth
+     * @param acc Which files and folders to return
+     * @param dsc Which folders to walk into
+     * @param opn Open iterators of the owner
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    ForkedDirectoryIterator(final ForkJoinPool svc, final Path path,
+        final int max, final BiFunc<Path, BasicFileAttributes, Boolean> acc,
+        final BiFunc<Path, BasicFileAttributes, Boolean> dsc,
+        final Collection<Closeable> opn) {
+        this.pool = svc;
+        this.root = path;
+        this.depth = max;
+        this.accept = new UncheckedBiFunc<>(acc);
+        this.descend = new UncheckedBiFunc<>(dsc);
+        this.queue = new ArrayBlockingQueue<>(ForkedDirectoryIterator.CAPACITY);
+        this.cancelled = new AtomicBoolean();
+        this.open = opn;
+        this.end = new MapEntry<>(path, null);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (this.walk == null && !this.over) {
+            this.start();
+        }
+        if (this.pending == null && !this.over) {
+            try {
+                this.pending = this.queue.take();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(ex);
+            }
+            if (this.pending == this.end) {
+                this.pending = null;
+                this.over = true;
+                this.finish();
+            }
+        }
+        return this.pending != null;
+    }
+
+    @Override
+    public Map.Entry<Path, BasicFileAttributes> next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException(
+                "There are no more files in the directory"
+            );
+        }
+        final Map.Entry<Path, BasicFileAttributes> entry = this.pending;
+        this.pending = null;
+        return entry;
+    }
+
+    @Override
+    public void close() {
+        this.cancelled.set(true);
+        this.over = true;
+        this.pending = null;
+        this.queue.clear();
+        this.open.remove(this);
+    }
+
+    /**
+     * Visit the root and start walking it.
+     */
+    private void start() {
+        final BasicFileAttributes attrs;
+        try {
+            attrs = Files.readAttributes(
+                this.root, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS
+            );
+        } catch (final IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+        if (this.accept.apply(this.root, attrs)) {
+            this.queue.add(new MapEntry<>(this.root, attrs));
+        }
+        final boolean deep = attrs.isDirectory() && this.depth > 0
+            && this.descend.apply(this.root, attrs);
+        this.open.add(this);
+        this.walk = this.pool.submit(
+            () -> {
+                try {
+                    if (deep) {
+                        new ForkedDirectory(
+                            this.root, 0, this.depth,
+                            this.accept, this.descend, this.queue,
+                            this.cancelled
+                        ).invoke();
+                    }
+                } finally {
+                    ForkJoinPool.managedBlock(
+                        new BlockingPut<>(this.queue, this.end, this.cancelled)
+                    );
+                }
+                return null;
+            }
+        );
+    }
+
+    /**
+     * Fail, if the walk failed.
+     */
+    private void finish() {
+        this.open.remove(this);
+        try {
+            this.walk.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        } catch (final ExecutionException ex) {
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+import java.util.function.IntFunction;
+
+/**
+ * Buffers, which are allocated every time and never kept.
+ *
+ * <p>This is what classes use when no other {@link Buffers} are given.</p>
+ *
+ * <p>This class is thread-safe.
+ *
+ * @param <T> Type of buffers
+ * @since 1.0
+ */
+public final class FreshBuffers<T> implements Buffers<T> {
+
+    /**
+     * Size of buffers.
+     */
+    private final int size;
+
+    /**
+     * Allocation of a buffer of the size.
+     */
+    private final IntFunction<? extends T> allocate;
+
+    /**
+     * Metrics.
+     */
+    private final BufferMetrics metrics;
+
+    /**
+     * Ctor.
+     * @param max Size of buffers
+     * @param alloc Allocation of a buffer of the size
+     */
+    public FreshBuffers(final int max, final IntFunction<? extends T> alloc) {
+        this(max, alloc, new BufferMetrics());
+    }
+
+    /**
+     * Ctor.
+     * @param max Size of buffers
+     * @param alloc Allocation of a buffer of the size
+     * @param mtrcs Metrics
+     */
+    public FreshBuffers(final int max, final IntFunction<? extends T> alloc,
+        final BufferMetrics mtrcs) {
+        this.size = max;
+        this.allocate = alloc;
+        this.metrics = mtrcs;
+    }
+
+    @Override
+    public T take() {
+        this.metrics.miss();
+        return this.allocate.apply(this.size);
+    }
+
+    @Override
+    public void give(final T buffer) {
+        this.metrics.drop();
+    }
+}
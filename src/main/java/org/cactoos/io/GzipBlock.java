@@ -0,0 +1,121 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+import java.io.ByteArrayOutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import org.cactoos.Scalar;
+
+/**
+ * Block of bytes, compressed into a standalone GZIP member.
+ *
+ * <p>The header of the member has an extra field {@code CB} with the
+ * length of the whole member, so that a reader may jump over it without
+ * inflating it, just like BGZF does. Other readers ignore the field, and
+ * a sequence of such members is a standard multi-member GZIP stream.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @see GzipBlocksOutputStream
+ * @see GzipBlocksInputStream
+ * @since 1.0
+ */
+final class GzipBlock implements Scalar<byte[]> {
+
+    /**
+     * Length of the header, including the extra field.
+     */
+    static final int HEADER = 20;
+
+    /**
+     * Position of the member length in the header.
+     */
+    static final int LENGTH = 16;
+
+    /**
+     * The bytes.
+     */
+    private final byte[] data;
+
+    /**
+     * Number of bytes to compress.
+     */
+    private final int size;
+
+    /**
+     * Compression level.
+     */
+    private final int level;
+
+    /**
+     * Ctor.
+     * @param bytes The bytes
+     * @param len Number of bytes to compress
+     */
+    GzipBlock(final byte[] bytes, final int len) {
+        this(bytes, len, Deflater.DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * Ctor.
+     * @param bytes The bytes
+     * @param len Number of bytes to compress
+     * @param lvl Compression level, as {@link Deflater} sees it
+     */
+    @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+    GzipBlock(final byte[] bytes, final int len, final int lvl) {
+        this.data = bytes;
+        this.size = len;
+        this.level = lvl;
+    }
+
+    @Override
+    public byte[] value() {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(
+            this.size / 2 + GzipBlock.HEADER
+        );
+        out.write(
+            new byte[] {
+                0x1f, (byte) 0x8b, Deflater.DEFLATED, 0x04, 0, 0, 0, 0, 0,
+                (byte) 0xff, 8, 0, 'C', 'B', 4, 0, 0, 0, 0, 0,
+            },
+            0,
+            GzipBlock.HEADER
+        );
+        final Deflater deflater = new Deflater(this.level, true);
+        try {
+            deflater.setInput(this.data, 0, this.size);
+            deflater.finish();
+            final byte[] buf = new byte[16 << 10];
+            while (!deflater.finished()) {
+                out.write(buf, 0, deflater.deflate(buf));
+            }
+        } finally {
+            deflater.end();
+        }
+        final CRC32 crc = new CRC32();
+        crc.update(this.data, 0, this.size);
+        this.write(out, crc.getValue());
+        this.write(out, this.size);
+        final byte[] member = out.toByteArray();
+        final int length = member.length;
+        for (int idx = 0; idx < Integer.BYTES; ++idx) {
+            member[GzipBlock.LENGTH + idx] = (byte) (length >>> idx * Byte.SIZE);
+        }
+        return member;
+    }
+
+    /**
+     * Write four little-endian bytes.
+     * @param out Where to write
+     * @param value The value
+     */
+    private void write(final ByteArrayOutputStream out, final long value) {
+        for (int idx = 0; idx < Integer.BYTES; ++idx) {
+            out.write((int) (value >>> idx * Byte.SIZE));
+        }
+    }
+}
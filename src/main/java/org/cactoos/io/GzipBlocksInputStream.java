@@ -0,0 +1,249 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.SeekableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Input stream of a GZIP file in a channel, which jumps over
+ * the members made by {@link GzipBlock}, when skipping.
+ *
+ * <p>Before the first read the headers of all the members are read, to
+ * build an index of their positions and uncompressed sizes, without
+ * inflating anything. Then {@link #skip(long)} opens the member with
+ * the target position right away and inflates only the beginning of it.
+ * When any member has no length in its header, the file is read just
+ * like {@link GZIPInputStream} does it.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+final class GzipBlocksInputStream extends InputStream {
+
+    /**
+     * The compressed stream.
+     */
+    private final ChannelInputStream source;
+
+    /**
+     * The buffer size.
+     */
+    private final int size;
+
+    /**
+     * Members: position, compressed length, uncompressed position
+     * and uncompressed length.
+     */
+    private final List<long[]> index;
+
+    /**
+     * Buffer for a single byte.
+     */
+    private final byte[] single;
+
+    /**
+     * The member being read.
+     */
+    private InputStream member;
+
+    /**
+     * Number of the next member.
+     */
+    private int next;
+
+    /**
+     * Uncompressed position.
+     */
+    private long pos;
+
+    /**
+     * The index is built.
+     */
+    private boolean ready;
+
+    /**
+     * Ctor.
+     * @param input The compressed stream
+     * @param max The buffer size
+     */
+    GzipBlocksInputStream(final ChannelInputStream input, final int max) {
+        super();
+        this.source = input;
+        this.size = max;
+        this.index = new ArrayList<>(0);
+        this.single = new byte[1];
+        this.member = new DeadInputStream();
+    }
+
+    /**
+     * Uncompressed length of the file.
+     * @return Length, or -1 if the file has no index
+     * @throws IOException If fails
+     */
+    public long length() throws IOException {
+        this.prepare();
+        long length = -1L;
+        if (!this.index.isEmpty()) {
+            final long[] last = this.index.get(this.index.size() - 1);
+            length = last[2] + last[3];
+        }
+        return length;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int data = -1;
+        if (this.read(this.single, 0, 1) > 0) {
+            data = this.single[0] & 0xFF;
+        }
+        return data;
+    }
+
+    @Override
+    public int read(final byte[] buf, final int offset, final int len)
+        throws IOException {
+        this.prepare();
+        int read = this.member.read(buf, offset, len);
+        while (read < 0 && this.next < this.index.size()) {
+            this.open(this.next);
+            read = this.member.read(buf, offset, len);
+        }
+        if (read > 0) {
+            this.pos += read;
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(final long num) throws IOException {
+        this.prepare();
+        final long skipped;
+        if (this.index.isEmpty()) {
+            skipped = this.member.skip(num);
+        } else {
+            final long before = this.pos;
+            final long target = Math.min(before + num, this.length());
+            int found = Math.max(0, this.next - 1);
+            while (found < this.index.size() - 1
+                && this.index.get(found + 1)[2] <= target) {
+                found += 1;
+            }
+            if (found >= this.next) {
+                this.open(found);
+                this.pos = this.index.get(found)[2];
+            }
+            while (this.pos < target) {
+                final long done = this.member.skip(target - this.pos);
+                if (done <= 0L) {
+                    break;
+                }
+                this.pos += done;
+            }
+            skipped = this.pos - before;
+        }
+        return skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return this.member.available();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.member.close();
+        this.source.close();
+    }
+
+    /**
+     * Build the index, if it's not built yet.
+     * @throws IOException If fails
+     */
+    private void prepare() throws IOException {
+        if (!this.ready) {
+            this.ready = true;
+            final SeekableByteChannel channel = this.source.channel();
+            final long start = channel.position();
+            final long end = channel.size();
+            final ByteBuffer header = ByteBuffer.allocate(GzipBlock.HEADER)
+                .order(ByteOrder.LITTLE_ENDIAN);
+            final ByteBuffer trailer = ByteBuffer.allocate(Integer.BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN);
+            long offset = start;
+            long uncompressed = 0L;
+            boolean indexed = offset < end;
+            while (indexed && offset < end) {
+                header.clear();
+                this.fill(channel, offset, header);
+                final long length = Integer.toUnsignedLong(
+                    header.getInt(GzipBlock.LENGTH)
+                );
+                indexed = !header.hasRemaining()
+                    && header.getShort(0) == (short) 0x8b1f
+                    && (header.get(3) & 0x04) != 0
+                    && header.get(12) == 'C' && header.get(13) == 'B'
+                    && length > GzipBlock.HEADER
+                    && offset + length <= end;
+                if (indexed) {
+                    trailer.clear();
+                    this.fill(channel, offset + length - Integer.BYTES, trailer);
+                    final long usize = Integer.toUnsignedLong(trailer.getInt(0));
+                    this.index.add(new long[] {offset, length, uncompressed, usize});
+                    uncompressed += usize;
+                    offset += length;
+                }
+            }
+            channel.position(start);
+            if (!indexed) {
+                this.index.clear();
+                this.member = new GZIPInputStream(
+                    new CloseShieldInputStream(this.source), this.size
+                );
+            }
+        }
+    }
+
+    /**
+     * Read bytes of the channel at the position into the buffer.
+     * @param channel The channel
+     * @param offset The position
+     * @param buf The buffer
+     * @throws IOException If fails
+     */
+    private void fill(final SeekableByteChannel channel, final long offset,
+        final ByteBuffer buf) throws IOException {
+        channel.position(offset);
+        int read = 0;
+        while (buf.hasRemaining() && read >= 0) {
+            read = channel.read(buf);
+        }
+    }
+
+    /**
+     * Start reading the member.
+     * @param num Number of the member
+     * @throws IOException If fails
+     */
+    private void open(final int num) throws IOException {
+        final long[] entry = this.index.get(num);
+        this.member.close();
+        this.source.channel().position(entry[0]);
+        this.member = new GZIPInputStream(
+            new HeadInputStream(
+                new CloseShieldInputStream(this.source), (int) entry[1]
+            ),
+            this.size
+        );
+        this.next = num + 1;
+    }
+}
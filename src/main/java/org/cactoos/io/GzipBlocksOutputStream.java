@@ -0,0 +1,192 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.zip.Deflater;
+
+/**
+ * Output stream, which compresses blocks of bytes into GZIP members
+ * in parallel.
+ *
+ * <p>Every full block is compressed by the pool into a {@link GzipBlock},
+ * while the next one is being filled, and the members are written to the
+ * origin in order. No more than two blocks per processor are kept in
+ * memory. An empty stream still gets one empty member, to stay a valid
+ * GZIP file.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+final class GzipBlocksOutputStream extends OutputStream {
+
+    /**
+     * The origin.
+     */
+    private final OutputStream origin;
+
+    /**
+     * The pool.
+     */
+    private final ExecutorService pool;
+
+    /**
+     * Size of a block.
+     */
+    private final int size;
+
+    /**
+     * Compression level.
+     */
+    private final int level;
+
+    /**
+     * Maximum number of blocks being compressed.
+     */
+    private final int ahead;
+
+    /**
+     * Blocks being compressed, in order.
+     */
+    private final Deque<Future<byte[]>> pending;
+
+    /**
+     * The block being filled.
+     */
+    private byte[] block;
+
+    /**
+     * Number of bytes in the block.
+     */
+    private int filled;
+
+    /**
+     * Number of blocks submitted.
+     */
+    private long blocks;
+
+    /**
+     * Ctor.
+     * @param output The origin
+     * @param service The pool
+     * @param max Size of a block
+     */
+    GzipBlocksOutputStream(final OutputStream output,
+        final ExecutorService service, final int max) {
+        this(output, service, max, Deflater.DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * Ctor.
+     * @param output The origin
+     * @param service The pool
+     * @param max Size of a block
+     * @param lvl Compression level, as {@link Deflater} sees it
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    GzipBlocksOutputStream(final OutputStream output,
+        final ExecutorService service, final int max, final int lvl) {
+        super();
+        this.origin = output;
+        this.pool = service;
+        this.size = max;
+        this.level = lvl;
+        this.ahead = Runtime.getRuntime().availableProcessors() * 2;
+        this.pending = new ArrayDeque<>(this.ahead + 1);
+        this.block = new byte[max];
+    }
+
+    @Override
+    public void write(final int data) throws IOException {
+        if (this.filled == this.size) {
+            this.submit();
+        }
+        this.block[this.filled] = (byte) data;
+        this.filled += 1;
+    }
+
+    @Override
+    public void write(final byte[] buf, final int offset, final int len)
+        throws IOException {
+        int pos = offset;
+        final int end = offset + len;
+        while (pos < end) {
+            if (this.filled == this.size) {
+                this.submit();
+            }
+            final int chunk = Math.min(end - pos, this.size - this.filled);
+            System.arraycopy(buf, pos, this.block, this.filled, chunk);
+            this.filled += chunk;
+            pos += chunk;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (this.filled > 0) {
+            this.submit();
+        }
+        this.drain(0);
+        this.origin.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (this.filled > 0 || this.blocks == 0L) {
+            this.submit();
+        }
+        try {
+            this.drain(0);
+        } finally {
+            for (final Future<byte[]> future : this.pending) {
+                future.cancel(true);
+            }
+            this.origin.close();
+        }
+    }
+
+    /**
+     * Send the block to compression and start a new one.
+     * @throws IOException If fails
+     */
+    private void submit() throws IOException {
+        final GzipBlock member = new GzipBlock(
+            this.block, this.filled, this.level
+        );
+        this.pending.addLast(this.pool.submit(member::value));
+        this.blocks += 1L;
+        this.block = new byte[this.size];
+        this.filled = 0;
+        this.drain(this.ahead);
+    }
+
+    /**
+     * Write compressed blocks to the origin, until only a few of them
+     * are left.
+     * @param left How many blocks may be left
+     * @throws IOException If fails
+     */
+    private void drain(final int left) throws IOException {
+        while (this.pending.size() > left) {
+            try {
+                this.origin.write(this.pending.peekFirst().get());
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException(ex.getMessage());
+            } catch (final ExecutionException ex) {
+                throw new IOException(ex.getCause());
+            }
+            this.pending.removeFirst();
+        }
+    }
+}
@@ -11,6 +11,17 @@ import org.cactoos.Input;
 
 /**
  * Input that reads compressed data from the GZIP file format.
+ *
+ * <p>When the input is a {@link ChannelInput}, the blocks written by
+ * {@link GzipOutput} with a pool are indexed before reading, so that
+ * {@link HeadOf}, {@link TailOf} and {@link java.io.InputStream#skip(long)}
+ * jump right to the block they need, instead of inflating the file from
+ * the start:</p>
+ *
+ * <pre>{@code
+ * final Input last = new TailOf(new GzipInput(new ChannelInput(gz)), 1024);
+ * }</pre>
+ *
  * @since 0.29
  */
 public final class GzipInput implements Input {
@@ -45,9 +56,13 @@ public final class GzipInput implements Input {
 
     @Override
     public InputStream stream() throws Exception {
-        return new GZIPInputStream(
-            this.origin.stream(),
-            this.size
-        );
+        final InputStream stream = this.origin.stream();
+        final InputStream gzip;
+        if (stream instanceof ChannelInputStream channel) {
+            gzip = new GzipBlocksInputStream(channel, this.size);
+        } else {
+            gzip = new GZIPInputStream(stream, this.size);
+        }
+        return gzip;
     }
 }
@@ -6,11 +6,30 @@
 package org.cactoos.io;
 
 import java.io.OutputStream;
+import java.util.concurrent.ExecutorService;
+import java.util.zip.Deflater;
 import java.util.zip.GZIPOutputStream;
+import org.cactoos.Func;
 import org.cactoos.Output;
 
 /**
  * Output that writes compressed data in the GZIP file format.
+ *
+ * <p>When it's made with an {@link ExecutorService}, the data is split
+ * into blocks, which are compressed in parallel into members of
+ * a multi-member GZIP file, just like {@code pigz} does it. Any GZIP
+ * reader can read such a file, while {@link GzipInput} can also skip
+ * the blocks without inflating them:</p>
+ *
+ * <pre>{@code
+ * final ExecutorService pool = Executors.newFixedThreadPool(8);
+ * new LengthOf(
+ *     new TeeInput(new ChannelInput(data), new GzipOutput(new OutputTo(gz), pool))
+ * ).value();
+ * }</pre>
+ *
+ * <p>The pool is not shut down by this class.</p>
+ *
  * @since 0.29
  */
 public final class GzipOutput implements Output {
@@ -21,9 +40,9 @@ public final class GzipOutput implements Output {
     private final Output origin;
 
     /**
-     * The buffer size.
+     * The compressing decorator of a stream.
      */
-    private final int size;
+    private final Func<OutputStream, OutputStream> gzip;
 
     /**
      * Ctor.
@@ -39,15 +58,59 @@ public final class GzipOutput implements Output {
      * @param max Max length of the buffer
      */
     public GzipOutput(final Output output, final int max) {
+        this(output, stream -> new GZIPOutputStream(stream, max));
+    }
+
+    /**
+     * Ctor.
+     * @param output The output
+     * @param pool The pool, which compresses blocks
+     */
+    public GzipOutput(final Output output, final ExecutorService pool) {
+        this(output, pool, 128 << 10);
+    }
+
+    /**
+     * Ctor.
+     * @param output The output
+     * @param pool The pool, which compresses blocks
+     * @param block Size of a block
+     */
+    public GzipOutput(final Output output, final ExecutorService pool,
+        final int block) {
+        this(output, pool, block, Deflater.DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * Ctor.
+     * @param output The output
+     * @param pool The pool, which compresses blocks
+     * @param block Size of a block
+     * @param level Compression level, from {@link Deflater#BEST_SPEED}
+     *  to {@link Deflater#BEST_COMPRESSION}
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public GzipOutput(final Output output, final ExecutorService pool,
+        final int block, final int level) {
+        this(
+            output,
+            stream -> new GzipBlocksOutputStream(stream, pool, block, level)
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param output The output
+     * @param func The compressing decorator of a stream
+     */
+    private GzipOutput(final Output output,
+        final Func<OutputStream, OutputStream> func) {
         this.origin = output;
-        this.size = max;
+        this.gzip = func;
     }
 
     @Override
     public OutputStream stream() throws Exception {
-        return new GZIPOutputStream(
-            this.origin.stream(),
-            this.size
-        );
+        return this.gzip.apply(this.origin.stream());
     }
 }
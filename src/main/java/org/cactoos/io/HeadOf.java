@@ -4,11 +4,23 @@
  */
 package org.cactoos.io;
 
+import java.io.IOException;
 import java.io.InputStream;
 import org.cactoos.Input;
 
 /**
- * Input that only shows the first N bytes of the original input.
+ * Input that only shows the first N bytes of the original input,
+ * optionally after skipping some bytes.
+ *
+ * <p>The bytes are skipped with {@link InputStream#skip(long)}, so
+ * a {@link ChannelInputStream}, for example of a {@link ChannelInput},
+ * is positioned right at the offset, without reading anything before
+ * it:</p>
+ *
+ * <pre>{@code
+ * final Input page = new HeadOf(new ChannelInput(path), 1L << 30, 4096);
+ * }</pre>
+ *
  * @since 0.31
  */
 public final class HeadOf implements Input {
@@ -18,6 +30,11 @@ public final class HeadOf implements Input {
      */
     private final Input origin;
 
+    /**
+     * Number of bytes to skip.
+     */
+    private final long offset;
+
     /**
      * Limit of bytes that can be read from the beginning.
      */
@@ -29,12 +46,40 @@ public final class HeadOf implements Input {
      * @param len Limit of bytes that can be read from the beginning
      */
     public HeadOf(final Input orig, final int len) {
+        this(orig, 0L, len);
+    }
+
+    /**
+     * Ctor.
+     * @param orig The original input
+     * @param skip Number of bytes to skip
+     * @param len Limit of bytes that can be read after them
+     */
+    public HeadOf(final Input orig, final long skip, final int len) {
         this.origin = orig;
+        this.offset = skip;
         this.length = len;
     }
 
     @Override
     public InputStream stream() throws Exception {
-        return new HeadInputStream(this.origin.stream(), this.length);
+        final InputStream stream = this.origin.stream();
+        try {
+            long left = this.offset;
+            while (left > 0L) {
+                long skipped = stream.skip(left);
+                if (skipped <= 0L) {
+                    if (stream.read() < 0) {
+                        break;
+                    }
+                    skipped = 1L;
+                }
+                left -= skipped;
+            }
+        } catch (final IOException | RuntimeException ex) {
+            stream.close();
+            throw ex;
+        }
+        return new HeadInputStream(stream, this.length);
     }
 }
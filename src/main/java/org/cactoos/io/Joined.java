@@ -5,14 +5,16 @@
 package org.cactoos.io;
 
 import java.io.InputStream;
-import java.io.SequenceInputStream;
 import org.cactoos.Input;
 import org.cactoos.iterable.IterableOf;
-import org.cactoos.iterable.Mapped;
-import org.cactoos.scalar.Reduced;
 
 /**
  * Concatenation of several inputs.
+ *
+ * <p>The inputs are opened one by one, while the stream is read,
+ * and every one of them is closed as soon as it's over.</p>
+ *
+ * @see JoinedInputStream
  * @since 0.36
  */
 public final class Joined implements Input {
@@ -45,13 +47,7 @@ public final class Joined implements Input {
     }
 
     @Override
-    public InputStream stream() throws Exception {
-        return new Reduced<InputStream>(
-            SequenceInputStream::new,
-            new Mapped<>(
-                input -> input::stream,
-                this.inputs
-            )
-        ).value();
+    public InputStream stream() {
+        return new JoinedInputStream(this.inputs.iterator());
     }
 }
@@ -0,0 +1,159 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Iterator;
+import org.cactoos.Input;
+import org.cactoos.scalar.IoChecked;
+
+/**
+ * {@link InputStream} of several inputs, one after another.
+ *
+ * <p>Unlike a chain of {@link java.io.SequenceInputStream}s, this stream
+ * keeps the parts flat, so that it's equally fast and safe for thousands
+ * of them. Every part is opened only when the previous one is over and
+ * closed right away, so no more than one of them is open at a time.
+ * A bulk read returns what the current part gives, just like
+ * {@link java.io.SequenceInputStream} does it, and goes on to the next
+ * part only when the current one is over. After {@link #close()}
+ * the parts left are not opened.</p>
+ *
+ * <p>Consumers, which know about this class, may {@link #exhaust(byte[])}
+ * it to find its length, without reading the parts which are
+ * {@link ChannelInputStream}s.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @see Joined
+ * @since 1.0
+ */
+public final class JoinedInputStream extends InputStream {
+
+    /**
+     * Parts not opened yet.
+     */
+    private final Iterator<? extends Input> parts;
+
+    /**
+     * The part being read.
+     */
+    private InputStream current;
+
+    /**
+     * The stream is closed.
+     */
+    private boolean closed;
+
+    /**
+     * Ctor.
+     * @param inputs The parts
+     */
+    public JoinedInputStream(final Iterator<? extends Input> inputs) {
+        super();
+        this.parts = inputs;
+        this.current = new DeadInputStream();
+    }
+
+    @Override
+    public int read() throws IOException {
+        int data = this.current.read();
+        while (data < 0 && this.advance()) {
+            data = this.current.read();
+        }
+        return data;
+    }
+
+    @Override
+    public int read(final byte[] buf, final int offset, final int len)
+        throws IOException {
+        int read = 0;
+        if (len > 0) {
+            read = this.current.read(buf, offset, len);
+            while (read < 0 && this.advance()) {
+                read = this.current.read(buf, offset, len);
+            }
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(final long num) throws IOException {
+        long left = num;
+        boolean more = true;
+        while (left > 0L && more) {
+            final long done = this.current.skip(left);
+            if (done > 0L) {
+                left -= done;
+            } else if (this.current.read() >= 0) {
+                left -= 1L;
+            } else {
+                more = this.advance();
+            }
+        }
+        return Math.max(0L, num - left);
+    }
+
+    @Override
+    public long transferTo(final OutputStream out) throws IOException {
+        long total = 0L;
+        do {
+            total += this.current.transferTo(out);
+        } while (this.advance());
+        return total;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return this.current.available();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.current.close();
+        this.current = new DeadInputStream();
+        this.closed = true;
+    }
+
+    /**
+     * Go to the end of the stream and count the bytes left. Parts, which
+     * are {@link ChannelInputStream}s, are positioned at their ends
+     * without reading, while others are read into the buffer.
+     * @param buf The buffer for reading
+     * @return Number of bytes left
+     * @throws IOException If fails
+     */
+    public long exhaust(final byte[] buf) throws IOException {
+        long total = 0L;
+        do {
+            if (this.current instanceof ChannelInputStream channel) {
+                total += channel.skip(Long.MAX_VALUE);
+            } else {
+                for (int len = this.current.read(buf); len >= 0;
+                    len = this.current.read(buf)) {
+                    total += len;
+                }
+            }
+        } while (this.advance());
+        return total;
+    }
+
+    /**
+     * Close the current part and open the next one.
+     * @return TRUE if there is the next part
+     * @throws IOException If fails to open it
+     */
+    private boolean advance() throws IOException {
+        this.current.close();
+        this.current = new DeadInputStream();
+        final boolean more = !this.closed && this.parts.hasNext();
+        if (more) {
+            this.current = new IoChecked<>(this.parts.next()::stream).value();
+        }
+        return more;
+    }
+}
@@ -34,13 +34,18 @@ public final class LoggingInput implements Input {
      */
     private final Scalar<Logger> logger;
 
+    /**
+     * Metrics of reads of all the streams.
+     */
+    private final StreamMetrics metrics;
+
     /**
      * Ctor.
      * @param input Data input
      * @param src The name of source data
      */
     public LoggingInput(final Input input, final String src) {
-        this(input, src, () -> Logger.getLogger(src));
+        this(input, src, () -> Logger.getLogger(src), new StreamMetrics());
     }
 
     /**
@@ -54,7 +59,23 @@ public final class LoggingInput implements Input {
         final String src,
         final Logger lgr
     ) {
-        this(input, src, () -> lgr);
+        this(input, src, lgr, new StreamMetrics());
+    }
+
+    /**
+     * Ctor.
+     * @param input Data input
+     * @param src The name of source data
+     * @param lgr Message logger
+     * @param mtrcs Metrics of reads of all the streams
+     */
+    public LoggingInput(
+        final Input input,
+        final String src,
+        final Logger lgr,
+        final StreamMetrics mtrcs
+    ) {
+        this(input, src, () -> lgr, mtrcs);
     }
 
     /**
@@ -62,15 +83,18 @@ public final class LoggingInput implements Input {
      * @param input Data input
      * @param src The name of source data
      * @param lgr Message logger, deferred
+     * @param mtrcs Metrics of reads of all the streams
      */
     private LoggingInput(
         final Input input,
         final String src,
-        final Scalar<Logger> lgr
+        final Scalar<Logger> lgr,
+        final StreamMetrics mtrcs
     ) {
         this.origin = input;
         this.source = src;
         this.logger = lgr;
+        this.metrics = mtrcs;
     }
 
     @Override
@@ -78,7 +102,8 @@ public final class LoggingInput implements Input {
         return new LoggingInputStream(
             this.origin.stream(),
             this.source,
-            new Unchecked<>(this.logger).value()
+            new Unchecked<>(this.logger).value(),
+            this.metrics
         );
     }
 }
@@ -6,25 +6,85 @@ package org.cactoos.io;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.time.Duration;
-import java.time.Instant;
-import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import org.cactoos.scalar.Sticky;
-import org.cactoos.scalar.Unchecked;
 import org.cactoos.text.FormattedText;
+import org.cactoos.text.Template;
 import org.cactoos.text.UncheckedText;
 
 /**
  * Logged input stream.
  *
+ * <p>Every read is timed with {@link System#nanoTime()} and recorded
+ * into {@link StreamMetrics}, which may be shared by many streams and
+ * published periodically. Every operation is logged at the
+ * {@link Level#FINE} level, while totals and other events are logged
+ * at the {@link Level#INFO} level. Messages are formatted only when the
+ * logger is enabled for their level. When it's not, a read doesn't box its
+ * numbers nor allocate anything else for the log.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @since 0.29
  */
 public final class LoggingInputStream extends InputStream {
 
+    /**
+     * Message about bytes read.
+     */
+    private static final Template READ = new Template(
+        "Read %d byte(s) from %s in %dms."
+    );
+
+    /**
+     * Message about bytes skipped.
+     */
+    private static final Template SKIPPED = new Template(
+        "Skipped %d byte(s) from %s."
+    );
+
+    /**
+     * Message about bytes available.
+     */
+    private static final Template AVAILABLE = new Template(
+        "There is(are) %d byte(s) available from %s."
+    );
+
+    /**
+     * Message about the stream closed.
+     */
+    private static final Template CLOSED = new Template(
+        "Closed input stream from %s."
+    );
+
+    /**
+     * Message about the position marked.
+     */
+    private static final Template MARKED = new Template(
+        "Marked position %d from %s."
+    );
+
+    /**
+     * Message about the stream reset.
+     */
+    private static final Template RESET = new Template(
+        "Reset input stream from %s."
+    );
+
+    /**
+     * Message about mark and reset supported.
+     */
+    private static final Template SUPPORTED = new Template(
+        "Mark and reset are supported from %s"
+    );
+
+    /**
+     * Message about mark and reset not supported.
+     */
+    private static final Template UNSUPPORTED = new Template(
+        "Mark and reset NOT supported from %s"
+    );
+
     /**
      * The input stream.
      */
@@ -36,24 +96,24 @@ public final class LoggingInputStream extends InputStream {
     private final String source;
 
     /**
-     * The logger, deferred.
+     * The logger.
      */
-    private final Unchecked<Logger> logger;
+    private final Logger logger;
 
     /**
-     * The bytes read.
+     * Metrics of reads.
      */
-    private final AtomicLong bytes;
+    private final StreamMetrics metrics;
 
     /**
-     * The time took to read.
+     * The bytes read.
      */
-    private final AtomicLong time;
+    private long bytes;
 
     /**
-     * Logger level.
+     * The time took to read, in nanoseconds.
      */
-    private final Unchecked<Level> level;
+    private long time;
 
     /**
      * Ctor.
@@ -61,7 +121,7 @@ public final class LoggingInputStream extends InputStream {
      * @param src The name of source data
      */
     public LoggingInputStream(final InputStream input, final String src) {
-        this(input, src, () -> Logger.getLogger(src));
+        this(input, src, Logger.getLogger(src), new StreamMetrics());
     }
 
     /**
@@ -75,53 +135,39 @@ public final class LoggingInputStream extends InputStream {
         final String src,
         final Logger lgr
     ) {
-        this(input, src, () -> lgr);
+        this(input, src, lgr, new StreamMetrics());
     }
 
     /**
      * Ctor.
      * @param input Source of data
      * @param src The name of source data
-     * @param lgr The message logger, deferred
+     * @param lgr The message logger
+     * @param mtrcs Metrics of reads
      */
-    private LoggingInputStream(
+    public LoggingInputStream(
         final InputStream input,
         final String src,
-        final org.cactoos.Scalar<Logger> lgr
+        final Logger lgr,
+        final StreamMetrics mtrcs
     ) {
         super();
         this.origin = input;
         this.source = src;
-        this.logger = new Unchecked<>(new Sticky<>(lgr));
-        this.level = new Unchecked<>(
-            new Sticky<>(
-                () -> {
-                    Level lvl = this.logger.value().getLevel();
-                    if (lvl == null) {
-                        Logger parent = this.logger.value();
-                        while (lvl == null) {
-                            parent = parent.getParent();
-                            lvl = parent.getLevel();
-                        }
-                    }
-                    return lvl;
-                }
-            )
-        );
-        this.bytes = new AtomicLong();
-        this.time = new AtomicLong();
+        this.logger = lgr;
+        this.metrics = mtrcs;
     }
 
     @Override
     public int read() throws IOException {
-        final byte[] buf = new byte[1];
-        final int size;
-        if (this.read(buf) == -1) {
-            size = -1;
-        } else {
-            size = Byte.toUnsignedInt(buf[0]);
+        final long start = System.nanoTime();
+        final int data = this.origin.read();
+        int size = -1;
+        if (data >= 0) {
+            size = 1;
         }
-        return size;
+        this.logged(size, start);
+        return data;
     }
 
     @Override
@@ -132,44 +178,15 @@ public final class LoggingInputStream extends InputStream {
     @Override
     public int read(final byte[] buf, final int offset, final int len)
         throws IOException {
-        final Instant start = Instant.now();
-        final int byts = this.origin.read(buf, offset, len);
-        if (byts > 0) {
-            this.bytes.getAndAdd((long) byts);
-            this.time.getAndAdd(Duration.between(start, Instant.now()).toMillis());
-        }
-        final UncheckedText msg = new UncheckedText(
-            new FormattedText(
-                "Read %d byte(s) from %s in %dms.",
-                this.bytes.get(),
-                this.source,
-                this.time.get()
-            )
-        );
-        if (byts > 0) {
-            if (!this.level.value().equals(Level.INFO)) {
-                this.logger.value().log(this.level.value(), msg.asString());
-            }
-        } else {
-            if (this.level.value().equals(Level.INFO)) {
-                this.logger.value().info(msg.asString());
-            }
-        }
-        return byts;
+        final long start = System.nanoTime();
+        return this.logged(this.origin.read(buf, offset, len), start);
     }
 
     @Override
     public long skip(final long num) throws IOException {
         final long skipped = this.origin.skip(num);
-        this.logger.value().log(
-            this.level.value(),
-            new UncheckedText(
-                new FormattedText(
-                    "Skipped %d byte(s) from %s.",
-                    skipped,
-                    this.source
-                )
-            ).asString()
+        this.log(
+            Level.INFO, LoggingInputStream.SKIPPED, skipped, this.source
         );
         return skipped;
     }
@@ -177,15 +194,8 @@ public final class LoggingInputStream extends InputStream {
     @Override
     public int available() throws IOException {
         final int avail = this.origin.available();
-        this.logger.value().log(
-            this.level.value(),
-            new UncheckedText(
-                new FormattedText(
-                    "There is(are) %d byte(s) available from %s.",
-                    avail,
-                    this.source
-                )
-            ).asString()
+        this.log(
+            Level.INFO, LoggingInputStream.AVAILABLE, avail, this.source
         );
         return avail;
     }
@@ -193,64 +203,78 @@ public final class LoggingInputStream extends InputStream {
     @Override
     public void close() throws IOException {
         this.origin.close();
-        this.logger.value().log(
-            this.level.value(),
-            new UncheckedText(
-                new FormattedText(
-                    "Closed input stream from %s.",
-                    this.source
-                )
-            ).asString()
-        );
+        this.log(Level.INFO, LoggingInputStream.CLOSED, this.source);
     }
 
     @Override
     public void mark(final int limit) {
         this.origin.mark(limit);
-        this.logger.value().log(
-            this.level.value(),
-            new UncheckedText(
-                new FormattedText(
-                    "Marked position %d from %s.",
-                    limit,
-                    this.source
-                )
-            ).asString()
-        );
+        this.log(Level.INFO, LoggingInputStream.MARKED, limit, this.source);
     }
 
     @Override
     public void reset() throws IOException {
         this.origin.reset();
-        this.logger.value().log(
-            this.level.value(),
-            new UncheckedText(
-                new FormattedText(
-                    "Reset input stream from %s.",
-                    this.source
-                )
-            ).asString()
-        );
+        this.log(Level.INFO, LoggingInputStream.RESET, this.source);
     }
 
     @Override
     public boolean markSupported() {
         final boolean supported = this.origin.markSupported();
-        final String msg;
         if (supported) {
-            msg = "Mark and reset are supported from %s";
+            this.log(Level.INFO, LoggingInputStream.SUPPORTED, this.source);
         } else {
-            msg = "Mark and reset NOT supported from %s";
+            this.log(Level.INFO, LoggingInputStream.UNSUPPORTED, this.source);
         }
-        this.logger.value().log(
-            this.level.value(),
-            new UncheckedText(
-                new FormattedText(
-                    msg,
-                    this.source
-                )
-            ).asString()
-        );
         return supported;
     }
+
+    /**
+     * Record and log the read.
+     *
+     * <p>Every read is logged at the {@link Level#FINE} level, while
+     * the end of the stream is logged at the {@link Level#INFO} level.</p>
+     *
+     * @param byts Number of bytes read, or -1 at the end of the stream
+     * @param start When the read started, in nanoseconds
+     * @return Number of bytes read
+     */
+    private int logged(final int byts, final long start) {
+        final long nanos = System.nanoTime() - start;
+        this.metrics.record(Math.max(0, byts), nanos);
+        if (byts > 0) {
+            this.bytes += byts;
+            this.time += nanos;
+        }
+        final Level lvl;
+        if (byts > 0) {
+            lvl = Level.FINE;
+        } else {
+            lvl = Level.INFO;
+        }
+        if (this.logger.isLoggable(lvl)) {
+            this.log(
+                lvl, LoggingInputStream.READ,
+                this.bytes, this.source, this.time / 1_000_000L
+            );
+        }
+        return byts;
+    }
+
+    /**
+     * Log the message at the level, if the logger is enabled for it.
+     * The message is not formatted otherwise.
+     * @param lvl The level
+     * @param format Format of the message
+     * @param args Arguments of the message
+     */
+    private void log(final Level lvl, final Template format,
+        final Object... args) {
+        if (this.logger.isLoggable(lvl)) {
+            this.logger.log(
+                lvl,
+                new UncheckedText(new FormattedText(format, args)).asString()
+            );
+        }
+    }
 }
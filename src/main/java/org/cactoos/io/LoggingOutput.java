@@ -34,13 +34,18 @@ public final class LoggingOutput implements Output {
      */
     private final Scalar<Logger> logger;
 
+    /**
+     * Metrics of writes of all the streams.
+     */
+    private final StreamMetrics metrics;
+
     /**
      * Ctor.
      * @param output Data output
      * @param dst The name of destination data
      */
     public LoggingOutput(final Output output, final String dst) {
-        this(output, dst, () -> Logger.getLogger(dst));
+        this(output, dst, () -> Logger.getLogger(dst), new StreamMetrics());
     }
 
     /**
@@ -54,7 +59,23 @@ public final class LoggingOutput implements Output {
         final String dst,
         final Logger lgr
     ) {
-        this(output, dst, () -> lgr);
+        this(output, dst, lgr, new StreamMetrics());
+    }
+
+    /**
+     * Ctor.
+     * @param output Data output
+     * @param dst The name of destination data
+     * @param lgr Message logger
+     * @param mtrcs Metrics of writes of all the streams
+     */
+    public LoggingOutput(
+        final Output output,
+        final String dst,
+        final Logger lgr,
+        final StreamMetrics mtrcs
+    ) {
+        this(output, dst, () -> lgr, mtrcs);
     }
 
     /**
@@ -62,15 +83,18 @@ public final class LoggingOutput implements Output {
      * @param output Data output
      * @param dst The name of destination data
      * @param lgr Message logger, deferred
+     * @param mtrcs Metrics of writes of all the streams
      */
     private LoggingOutput(
         final Output output,
         final String dst,
-        final Scalar<Logger> lgr
+        final Scalar<Logger> lgr,
+        final StreamMetrics mtrcs
     ) {
         this.origin = output;
         this.destination = dst;
         this.logger = lgr;
+        this.metrics = mtrcs;
     }
 
     @Override
@@ -78,7 +102,8 @@ public final class LoggingOutput implements Output {
         return new LoggingOutputStream(
             this.origin.stream(),
             this.destination,
-            new Unchecked<>(this.logger).value()
+            new Unchecked<>(this.logger).value(),
+            this.metrics
         );
     }
 }
@@ -6,26 +6,50 @@ package org.cactoos.io;
 
 import java.io.IOException;
 import java.io.OutputStream;
-import java.time.Duration;
-import java.time.Instant;
-import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import org.cactoos.Scalar;
-import org.cactoos.scalar.Sticky;
-import org.cactoos.scalar.Unchecked;
 import org.cactoos.text.FormattedText;
+import org.cactoos.text.Template;
 import org.cactoos.text.UncheckedText;
 
 /**
  * Logged output stream.
  *
+ * <p>Every write is timed with {@link System#nanoTime()} and recorded
+ * into {@link StreamMetrics}, which may be shared by many streams and
+ * published periodically. Every operation is logged at the
+ * {@link Level#FINE} level, while totals and other events are logged
+ * at the {@link Level#INFO} level. Messages are formatted only when the
+ * logger is enabled for their level. When it's not, a write doesn't box
+ * its numbers nor allocate anything else for the log.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @since 0.29
  */
 public final class LoggingOutputStream extends OutputStream {
 
+    /**
+     * Message about bytes written.
+     */
+    private static final Template WRITTEN = new Template(
+        "Written %d byte(s) to %s in %dms."
+    );
+
+    /**
+     * Message about the stream closed.
+     */
+    private static final Template CLOSED = new Template(
+        "Closed output stream from %s."
+    );
+
+    /**
+     * Message about the stream flushed.
+     */
+    private static final Template FLUSHED = new Template(
+        "Flushed output stream from %s."
+    );
+
     /**
      * The output stream.
      */
@@ -37,19 +61,24 @@ public final class LoggingOutputStream extends OutputStream {
     private final String destination;
 
     /**
-     * The logger, deferred.
+     * The logger.
+     */
+    private final Logger logger;
+
+    /**
+     * Metrics of writes.
      */
-    private final Unchecked<Logger> logger;
+    private final StreamMetrics metrics;
 
     /**
-     * The bytes read.
+     * The bytes written.
      */
-    private final AtomicLong bytes;
+    private long bytes;
 
     /**
-     * The time took to read.
+     * The time took to write, in nanoseconds.
      */
-    private final AtomicLong time;
+    private long time;
 
     /**
      * Ctor.
@@ -57,7 +86,7 @@ public final class LoggingOutputStream extends OutputStream {
      * @param dst The name of source data
      */
     public LoggingOutputStream(final OutputStream output, final String dst) {
-        this(output, dst, () -> Logger.getLogger(dst));
+        this(output, dst, Logger.getLogger(dst), new StreamMetrics());
     }
 
     /**
@@ -71,31 +100,34 @@ public final class LoggingOutputStream extends OutputStream {
         final String dst,
         final Logger lgr
     ) {
-        this(output, dst, () -> lgr);
+        this(output, dst, lgr, new StreamMetrics());
     }
 
     /**
      * Ctor.
      * @param output Destination of data
      * @param dst The name of source data
-     * @param lgr Message logger, deferred
+     * @param lgr Message logger
+     * @param mtrcs Metrics of writes
      */
-    private LoggingOutputStream(
+    public LoggingOutputStream(
         final OutputStream output,
         final String dst,
-        final Scalar<Logger> lgr
+        final Logger lgr,
+        final StreamMetrics mtrcs
     ) {
         super();
         this.origin = output;
         this.destination = dst;
-        this.logger = new Unchecked<>(new Sticky<>(lgr));
-        this.bytes = new AtomicLong();
-        this.time = new AtomicLong();
+        this.logger = lgr;
+        this.metrics = mtrcs;
     }
 
     @Override
     public void write(final int data) throws IOException {
-        this.write(new byte[]{(byte) data}, 0, 1);
+        final long start = System.nanoTime();
+        this.origin.write(data);
+        this.logged(1, start);
     }
 
     @Override
@@ -106,79 +138,71 @@ public final class LoggingOutputStream extends OutputStream {
     @Override
     public void write(final byte[] buf, final int offset,
         final int len) throws IOException {
-        final Instant start = Instant.now();
+        final long start = System.nanoTime();
         this.origin.write(buf, offset, len);
-        this.bytes.getAndAdd((long) len);
-        this.time.getAndAdd(Duration.between(start, Instant.now()).toMillis());
-        final Level level = this.logger.value().getLevel();
-        if (!level.equals(Level.INFO)) {
-            this.logger.value().log(
-                level,
-                new UncheckedText(
-                    new FormattedText(
-                        "Written %d byte(s) to %s in %dms.",
-                        this.bytes.get(),
-                        this.destination,
-                        this.time.get()
-                    )
-                ).asString()
-            );
-        }
+        this.logged(len, start);
     }
 
     @Override
     public void close() throws IOException {
         this.origin.close();
-        final Level level = this.logger.value().getLevel();
-        if (level.equals(Level.INFO)) {
-            this.logger.value().log(
-                level,
-                new UncheckedText(
-                    new FormattedText(
-                        "Written %d byte(s) to %s in %dms.",
-                        this.bytes.get(),
-                        this.destination,
-                        this.time.get()
-                    )
-                ).asString()
-            );
-        }
-        this.logger.value().log(
-            level,
-            new UncheckedText(
-                new FormattedText(
-                    "Closed output stream from %s.",
-                    this.destination
-                )
-            ).asString()
+        this.log(
+            Level.INFO,
+            LoggingOutputStream.WRITTEN,
+            this.bytes, this.destination, this.time / 1_000_000L
         );
+        this.log(Level.INFO, LoggingOutputStream.CLOSED, this.destination);
     }
 
     @Override
     public void flush() throws IOException {
         this.origin.flush();
-        final Level level = this.logger.value().getLevel();
-        if (level.equals(Level.INFO)) {
-            this.logger.value().log(
-                level,
-                new UncheckedText(
-                    new FormattedText(
-                        "Written %d byte(s) to %s in %dms.",
-                        this.bytes.get(),
-                        this.destination,
-                        this.time.get()
-                    )
-                ).asString()
+        this.log(
+            Level.INFO,
+            LoggingOutputStream.WRITTEN,
+            this.bytes, this.destination, this.time / 1_000_000L
+        );
+        this.log(Level.INFO, LoggingOutputStream.FLUSHED, this.destination);
+    }
+
+    /**
+     * Record and log the write.
+     *
+     * <p>Every write is logged at the {@link Level#FINE} level, while
+     * the totals are logged at the {@link Level#INFO} level, when the
+     * stream is flushed or closed.</p>
+     *
+     * @param len Number of bytes written
+     * @param start When the write started, in nanoseconds
+     */
+    private void logged(final int len, final long start) {
+        final long nanos = System.nanoTime() - start;
+        this.metrics.record(len, nanos);
+        this.bytes += len;
+        this.time += nanos;
+        if (this.logger.isLoggable(Level.FINE)) {
+            this.log(
+                Level.FINE,
+                LoggingOutputStream.WRITTEN,
+                this.bytes, this.destination, this.time / 1_000_000L
+            );
+        }
+    }
+
+    /**
+     * Log the message at the level, if the logger is enabled for it.
+     * The message is not formatted otherwise.
+     * @param lvl The level
+     * @param format Format of the message
+     * @param args Arguments of the message
+     */
+    private void log(final Level lvl, final Template format,
+        final Object... args) {
+        if (this.logger.isLoggable(lvl)) {
+            this.logger.log(
+                lvl,
+                new UncheckedText(new FormattedText(format, args)).asString()
             );
         }
-        this.logger.value().log(
-            level,
-            new UncheckedText(
-                new FormattedText(
-                    "Flushed output stream from %s.",
-                    this.destination
-                )
-            ).asString()
-        );
     }
 }
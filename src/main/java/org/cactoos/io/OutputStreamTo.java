@@ -8,6 +8,8 @@ import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetDecoder;
 import java.nio.charset.StandardCharsets;
@@ -111,6 +113,22 @@ public final class OutputStreamTo extends OutputStream {
         this(new OutputTo(wtr, ddr, size));
     }
 
+    /**
+     * Ctor.
+     *
+     * <p>The buffers are taken at the first write and given back
+     * when the stream is closed. The buffers of chars must have arrays.</p>
+     * @param wtr Writer
+     * @param ddr Charset decoder
+     * @param ibufs Buffers for bytes
+     * @param obufs Buffers for chars
+     * @since 1.0
+     */
+    public OutputStreamTo(final Writer wtr, final CharsetDecoder ddr,
+        final Buffers<ByteBuffer> ibufs, final Buffers<CharBuffer> obufs) {
+        this(new OutputTo(wtr, ddr, ibufs, obufs));
+    }
+
     /**
      * Ctor.
      * @param output The input
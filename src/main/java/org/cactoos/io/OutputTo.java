@@ -8,6 +8,8 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.OutputStream;
 import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetDecoder;
 import java.nio.file.Path;
@@ -146,6 +148,18 @@ public final class OutputTo implements Output {
         this(new WriterAsOutputStream(wtr, ddr, size));
     }
 
+    /**
+     * Ctor.
+     * @param wtr Writer
+     * @param ddr Charset decoder
+     * @param ibufs Buffers for bytes
+     * @param obufs Buffers for chars
+     */
+    OutputTo(final Writer wtr, final CharsetDecoder ddr,
+        final Buffers<ByteBuffer> ibufs, final Buffers<CharBuffer> obufs) {
+        this(new WriterAsOutputStream(wtr, ddr, ibufs, obufs));
+    }
+
     /**
      * Ctor.
      * @param stream The stream
@@ -4,13 +4,23 @@
  */
 package org.cactoos.io;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.cactoos.Input;
 import org.cactoos.Scalar;
+import org.cactoos.iterator.Mapped;
 import org.cactoos.scalar.IoChecked;
-import org.cactoos.scalar.LengthOf;
 
 /**
  * Input that reads only once.
@@ -18,37 +28,186 @@ import org.cactoos.scalar.LengthOf;
  * <p>Pay attention that this class is not thread-safe. It is highly
  * recommended to always decorate it with {@link SyncInput}.</p>
  *
+ * <p>By default the input is kept in memory, no matter how big it is,
+ * and there is nothing to close. With a threshold, an input, which is
+ * longer, is spilled into
+ * a {@link TempFile}, without keeping all of it in memory, and every
+ * {@link #stream()} reads a memory-mapped view of the file. The file is
+ * deleted by {@link #close()}, after which {@link #stream()} fails.
+ * The disk space is freed only when the views are unmapped, that is
+ * when the streams, which are still open, are garbage collected, since
+ * Java doesn't unmap files explicitly:</p>
+ *
+ * <pre>{@code
+ * try (Sticky sticky = new Sticky(new InputOf(url), 16 << 20)) {
+ *     final byte[] digest = new Sha256DigestOf(sticky).asBytes();
+ *     new LengthOf(new TeeInput(sticky, new OutputTo(path))).value();
+ * }
+ * }</pre>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @since 0.6
  */
-public final class Sticky implements Input {
+public final class Sticky implements Input, Closeable {
+
+    /**
+     * Maximum length of a mapped view of the file.
+     */
+    private static final long VIEW = 1L << 30;
+
+    /**
+     * Maximum length of an array, which is the maximum threshold.
+     */
+    private static final int MAX = Integer.MAX_VALUE - 8;
 
     /**
      * The cache.
      */
-    private final Scalar<byte[]> cache;
+    private final Scalar<List<ByteBuffer>> cache;
+
+    /**
+     * The file to spill the input into.
+     */
+    private final TempFile spill;
+
+    /**
+     * The input is spilled into the file.
+     */
+    private final AtomicBoolean spilled;
+
+    /**
+     * Mapped views of the file, which are dropped when it's deleted.
+     */
+    private final List<ByteBuffer> views;
 
     /**
      * Ctor.
      * @param input The input
      */
     public Sticky(final Input input) {
+        this(input, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Ctor.
+     *
+     * <p>A threshold, which is longer than an array may be, means no
+     * threshold: the input is kept in memory and never spilled.</p>
+     * @param input The input
+     * @param threshold Max number of bytes to keep in memory
+     * @since 1.0
+     */
+    public Sticky(final Input input, final int threshold) {
+        this(input, threshold, new TempFile("cactoos", ".sticky"));
+    }
+
+    /**
+     * Ctor.
+     * @param input The input
+     * @param threshold Max number of bytes to keep in memory
+     * @param file The file to spill a longer input into
+     * @since 1.0
+     */
+    public Sticky(final Input input, final int threshold, final TempFile file) {
+        this.spill = file;
+        this.spilled = new AtomicBoolean();
+        this.views = new ArrayList<>(1);
         this.cache = new org.cactoos.scalar.Sticky<>(
             () -> {
-                final ByteArrayOutputStream baos = new ByteArrayOutputStream();
-                new LengthOf(
-                    new TeeInput(input, new OutputTo(baos))
-                ).value();
-                return baos.toByteArray();
+                if (threshold < 0) {
+                    throw new IllegalArgumentException(
+                        String.format(
+                            "The threshold must not be negative, but it's %d",
+                            threshold
+                        )
+                    );
+                }
+                try (InputStream stream = input.stream()) {
+                    final List<ByteBuffer> buffers;
+                    final byte[] head;
+                    if (threshold > Sticky.MAX) {
+                        head = stream.readAllBytes();
+                    } else {
+                        head = stream.readNBytes(threshold + 1);
+                    }
+                    if (head.length > threshold) {
+                        this.spilled.set(true);
+                        buffers = this.mapped(
+                            head, stream, this.spill.value()
+                        );
+                    } else {
+                        buffers = Collections.singletonList(
+                            ByteBuffer.wrap(head)
+                        );
+                    }
+                    return buffers;
+                }
             }
         );
     }
 
     @Override
     public InputStream stream() throws Exception {
-        return new ByteArrayInputStream(
-            new IoChecked<>(this.cache).value()
-        );
+        final List<ByteBuffer> buffers = new IoChecked<>(this.cache).value();
+        if (buffers.isEmpty()) {
+            throw new IOException(
+                "The input was spilled into a file, which is deleted already"
+            );
+        }
+        final InputStream stream;
+        if (buffers.size() == 1) {
+            stream = new ByteBufferInputStream(buffers.get(0).duplicate());
+        } else {
+            stream = new JoinedInputStream(
+                new Mapped<>(
+                    view -> () -> new ByteBufferInputStream(view.duplicate()),
+                    buffers.iterator()
+                )
+            );
+        }
+        return stream;
+    }
+
+    /**
+     * Deletes the file and drops its views, if the input was spilled
+     * into it.
+     * @checkstyle NoJavadocForOverriddenMethodsCheck (5 lines)
+     */
+    @Override
+    public void close() throws IOException {
+        if (this.spilled.compareAndSet(true, false)) {
+            this.views.clear();
+            this.spill.close();
+        }
+    }
+
+    /**
+     * Write the input into the file and map it into memory.
+     * @param head The beginning of the input, which is read already
+     * @param rest The rest of the input
+     * @param path The file
+     * @return Mapped views of the file
+     * @throws IOException If fails
+     */
+    private List<ByteBuffer> mapped(final byte[] head, final InputStream rest,
+        final Path path) throws IOException {
+        try (OutputStream out = Files.newOutputStream(path)) {
+            out.write(head);
+            rest.transferTo(out);
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            for (long pos = 0L; pos < size; pos += Sticky.VIEW) {
+                this.views.add(
+                    channel.map(
+                        FileChannel.MapMode.READ_ONLY,
+                        pos,
+                        Math.min(Sticky.VIEW, size - pos)
+                    )
+                );
+            }
+        }
+        return this.views;
     }
 }
@@ -0,0 +1,185 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Metrics of reads or writes of streams: number of bytes, number of
+ * operations, time spent in them and a histogram of their latencies.
+ *
+ * <p>Every operation is recorded into {@link LongAdder}s without
+ * allocating anything, so the metrics may be shared by many streams,
+ * for example of {@link LoggingInput} and {@link LoggingOutput}, and
+ * updated from many threads. The latencies are counted in buckets of
+ * powers of two nanoseconds, so percentiles are accurate within a factor
+ * of two. A periodic reporter takes a {@link #snapshot()}, so that all
+ * the numbers it publishes come from the same copy. The counters are
+ * copied one by one, so an operation recorded meanwhile may be counted
+ * in some of them only:</p>
+ *
+ * <pre>{@code
+ * final StreamMetrics metrics = new StreamMetrics();
+ * new LengthOf(new LoggingInput(input, "file", logger, metrics)).value();
+ * final StreamMetrics snapshot = metrics.snapshot();
+ * report(snapshot.throughput(), snapshot.latency(0.5), snapshot.latency(0.99));
+ * }</pre>
+ *
+ * <p>This class is thread-safe.
+ *
+ * @since 1.0
+ */
+public final class StreamMetrics {
+
+    /**
+     * Index of the number of bytes.
+     */
+    private static final int BYTES = 0;
+
+    /**
+     * Index of the number of operations.
+     */
+    private static final int OPERATIONS = 1;
+
+    /**
+     * Index of the total time in nanoseconds.
+     */
+    private static final int NANOS = 2;
+
+    /**
+     * Index of the first bucket of latencies, for zero nanoseconds.
+     * Bucket {@code FIRST + N} counts latencies less than {@code 2^N}
+     * and not less than {@code 2^(N-1)} nanoseconds.
+     */
+    private static final int FIRST = 3;
+
+    /**
+     * The counters: bytes, operations, nanoseconds and buckets.
+     */
+    private final LongAdder[] counters;
+
+    /**
+     * Ctor.
+     */
+    public StreamMetrics() {
+        this(
+            Stream.generate(LongAdder::new)
+                .limit(StreamMetrics.FIRST + Long.SIZE + 1L)
+                .toArray(LongAdder[]::new)
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param cntrs The counters
+     */
+    private StreamMetrics(final LongAdder[] cntrs) {
+        this.counters = cntrs;
+    }
+
+    /**
+     * Record an operation.
+     * @param bytes Number of bytes read or written
+     * @param nanos Time it took, in nanoseconds
+     */
+    public void record(final long bytes, final long nanos) {
+        final long time = Math.max(0L, nanos);
+        this.counters[StreamMetrics.BYTES].add(bytes);
+        this.counters[StreamMetrics.OPERATIONS].increment();
+        this.counters[StreamMetrics.NANOS].add(time);
+        this.counters[
+            StreamMetrics.FIRST + Long.SIZE - Long.numberOfLeadingZeros(time)
+        ].increment();
+    }
+
+    /**
+     * Number of bytes read or written.
+     * @return Bytes
+     */
+    public long bytes() {
+        return this.counters[StreamMetrics.BYTES].sum();
+    }
+
+    /**
+     * Number of operations.
+     * @return Operations
+     */
+    public long operations() {
+        return this.counters[StreamMetrics.OPERATIONS].sum();
+    }
+
+    /**
+     * Time spent in operations.
+     * @return Nanoseconds
+     */
+    public long nanos() {
+        return this.counters[StreamMetrics.NANOS].sum();
+    }
+
+    /**
+     * Number of bytes read or written per second of time spent
+     * in operations.
+     * @return Bytes per second, zero if nothing was recorded
+     */
+    public double throughput() {
+        final long time = this.nanos();
+        double speed = 0.0;
+        if (time > 0L) {
+            speed = this.bytes() * 1.0e9 / time;
+        }
+        return speed;
+    }
+
+    /**
+     * Latency, which is not exceeded by the given share of operations,
+     * for example 0.5 for the median or 0.99 for the 99th percentile.
+     * @param share Share of operations, from 0 to 1
+     * @return Upper bound of the latency, in nanoseconds, zero if nothing
+     *  was recorded
+     */
+    public long latency(final double share) {
+        long total = 0L;
+        for (int idx = StreamMetrics.FIRST; idx < this.counters.length; ++idx) {
+            total += this.counters[idx].sum();
+        }
+        long bound = 0L;
+        if (total > 0L) {
+            final long rank = Math.max(1L, (long) Math.ceil(share * total));
+            long seen = 0L;
+            int bucket = StreamMetrics.FIRST;
+            while (bucket < this.counters.length && seen < rank) {
+                seen += this.counters[bucket].sum();
+                bucket += 1;
+            }
+            final int power = bucket - StreamMetrics.FIRST - 1;
+            if (power >= Long.SIZE - 1) {
+                bound = Long.MAX_VALUE;
+            } else {
+                bound = (1L << power) - 1L;
+            }
+        }
+        return bound;
+    }
+
+    /**
+     * Copy of the current metrics, which later operations don't change.
+     * @return Snapshot
+     */
+    public StreamMetrics snapshot() {
+        return new StreamMetrics(
+            Arrays.stream(this.counters)
+                .map(
+                    counter -> {
+                        final LongAdder copy = new LongAdder();
+                        copy.add(counter.sum());
+                        return copy;
+                    }
+                )
+                .toArray(LongAdder[]::new)
+        );
+    }
+}
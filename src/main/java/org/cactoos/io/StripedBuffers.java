@@ -0,0 +1,131 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntFunction;
+
+/**
+ * Buffers, which keep a bounded number of buffers in stripes.
+ *
+ * <p>Every thread takes and gives back buffers in its own stripe,
+ * picked by the hash of the thread, so that threads rarely contend for
+ * the same slots. Neither taking nor giving back ever blocks: when
+ * the stripe is empty a new buffer is allocated and when it's full
+ * the buffer is dropped. The pool never keeps more than
+ * {@code stripes * depth} buffers, no matter how many threads use it,
+ * so it fits virtual threads too.</p>
+ *
+ * <p>This class is thread-safe.
+ *
+ * @param <T> Type of buffers
+ * @since 1.0
+ */
+public final class StripedBuffers<T> implements Buffers<T> {
+
+    /**
+     * Slots of all stripes, one after another.
+     */
+    private final AtomicReferenceArray<T> slots;
+
+    /**
+     * Number of slots in a stripe.
+     */
+    private final int depth;
+
+    /**
+     * Size of buffers.
+     */
+    private final int size;
+
+    /**
+     * Allocation of a buffer of the size.
+     */
+    private final IntFunction<? extends T> allocate;
+
+    /**
+     * Metrics.
+     */
+    private final BufferMetrics metrics;
+
+    /**
+     * Ctor.
+     *
+     * <p>There are as many stripes as processors, of two buffers each.</p>
+     * @param max Size of buffers
+     * @param alloc Allocation of a buffer of the size
+     */
+    public StripedBuffers(final int max, final IntFunction<? extends T> alloc) {
+        this(max, alloc, Runtime.getRuntime().availableProcessors(), 2);
+    }
+
+    /**
+     * Ctor.
+     * @param max Size of buffers
+     * @param alloc Allocation of a buffer of the size
+     * @param stripes Number of stripes
+     * @param slts Number of buffers in a stripe
+     */
+    public StripedBuffers(final int max, final IntFunction<? extends T> alloc,
+        final int stripes, final int slts) {
+        this(max, alloc, stripes, slts, new BufferMetrics());
+    }
+
+    /**
+     * Ctor.
+     * @param max Size of buffers
+     * @param alloc Allocation of a buffer of the size
+     * @param stripes Number of stripes
+     * @param slts Number of buffers in a stripe
+     * @param mtrcs Metrics
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public StripedBuffers(final int max, final IntFunction<? extends T> alloc,
+        final int stripes, final int slts, final BufferMetrics mtrcs) {
+        this.slots = new AtomicReferenceArray<>(stripes * slts);
+        this.depth = slts;
+        this.size = max;
+        this.allocate = alloc;
+        this.metrics = mtrcs;
+    }
+
+    @Override
+    public T take() {
+        final int start = this.stripe();
+        T buffer = null;
+        for (int idx = start; idx < start + this.depth && buffer == null; ++idx) {
+            buffer = this.slots.getAndSet(idx, null);
+        }
+        if (buffer == null) {
+            this.metrics.miss();
+            buffer = this.allocate.apply(this.size);
+        } else {
+            this.metrics.hit();
+        }
+        return buffer;
+    }
+
+    @Override
+    public void give(final T buffer) {
+        final int start = this.stripe();
+        boolean kept = false;
+        for (int idx = start; idx < start + this.depth && !kept; ++idx) {
+            kept = this.slots.compareAndSet(idx, null, buffer);
+        }
+        if (!kept) {
+            this.metrics.drop();
+        }
+    }
+
+    /**
+     * First slot of the stripe of the current thread.
+     * @return Index of the slot
+     */
+    private int stripe() {
+        final int hash = System.identityHashCode(Thread.currentThread());
+        final int stripes = this.slots.length() / this.depth;
+        return Math.floorMod(hash ^ hash >>> 16, stripes) * this.depth;
+    }
+}
@@ -6,6 +6,7 @@ package org.cactoos.io;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.nio.channels.SeekableByteChannel;
 import org.cactoos.Input;
 import org.cactoos.number.MinOf;
 import org.cactoos.text.FormattedText;
@@ -13,6 +14,12 @@ import org.cactoos.text.FormattedText;
 /**
  * Input showing only last N bytes of the stream.
  *
+ * <p>When the stream is a {@link ChannelInputStream}, for example
+ * of a {@link ChannelInput}, the channel is positioned right at
+ * the last N bytes, without reading anything before them. The same way,
+ * a {@link GzipInput} of a {@link ChannelInput} inflates only the last
+ * blocks. Any other stream is read through to the end.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @since 0.30
@@ -30,9 +37,10 @@ public final class TailOf implements Input {
     private final int count;
 
     /**
-     * Maximum number of bytes to read at once.
+     * Buffers for reading, which are as long as the maximum number
+     * of bytes to read at once.
      */
-    private final int max;
+    private final Buffers<byte[]> buffers;
 
     /**
      * Constructor.
@@ -50,32 +58,70 @@ public final class TailOf implements Input {
      * @param maximum Maximum number of bytes to read at once
      */
     public TailOf(final Input data, final int bytes, final int maximum) {
+        this(data, bytes, new FreshBuffers<>(maximum, byte[]::new));
+    }
+
+    /**
+     * Constructor.
+     * @param data Input to decorate
+     * @param bytes Number of last bytes to show from input
+     * @param bufs Buffers for reading, not shorter than the number of bytes
+     */
+    public TailOf(final Input data, final int bytes,
+        final Buffers<byte[]> bufs) {
         this.input = data;
         this.count = bytes;
-        this.max = maximum;
+        this.buffers = bufs;
     }
 
     @Override
     public InputStream stream() throws Exception {
-        if (this.max < this.count) {
-            throw new IllegalArgumentException(
-                new FormattedText(
-                    "Can't tail %d bytes if buffer is set to %d",
-                    this.count, this.max
-                ).asString()
+        final InputStream origin = this.input.stream();
+        final InputStream tail;
+        if (origin instanceof ChannelInputStream seekable) {
+            final SeekableByteChannel channel = seekable.channel();
+            channel.position(
+                Math.max(channel.position(), channel.size() - this.count)
             );
+            tail = seekable;
+        } else if (origin instanceof GzipBlocksInputStream blocks
+            && blocks.length() >= 0L) {
+            blocks.skip(Math.max(0L, blocks.length() - this.count));
+            tail = blocks;
+        } else {
+            tail = this.tail(origin);
         }
-        final byte[] buffer = new byte[this.max];
+        return tail;
+    }
+
+    /**
+     * Read the stream to the end, keeping only the last bytes.
+     * @param origin The stream, which is closed at the end
+     * @return Stream of the last bytes
+     * @throws Exception If fails
+     */
+    private InputStream tail(final InputStream origin) throws Exception {
+        final byte[] buffer = this.buffers.take();
         final byte[] response = new byte[this.count];
         int num = 0;
-        try (InputStream strm = this.input.stream()) {
+        try (InputStream strm = origin) {
+            if (buffer.length < this.count) {
+                throw new IllegalArgumentException(
+                    new FormattedText(
+                        "Can't tail %d bytes if buffer is set to %d",
+                        this.count, buffer.length
+                    ).asString()
+                );
+            }
             for (int read = strm.read(buffer); read > 0; read = strm.read(buffer)) {
-                if (read < this.max && read < this.count) {
+                if (read < buffer.length && read < this.count) {
                     num = this.copyPartial(buffer, response, num, read);
                 } else {
                     num = this.copy(buffer, response, read);
                 }
             }
+        } finally {
+            this.buffers.give(buffer);
         }
         return new ByteArrayInputStream(response, 0, num);
     }
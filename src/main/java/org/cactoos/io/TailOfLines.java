@@ -0,0 +1,174 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import org.cactoos.Input;
+
+/**
+ * Input showing only last N lines of the stream.
+ *
+ * <p>Lines are separated by {@code \n}, which stays at the end of
+ * every line, the last one may have no separator. When the stream is
+ * a {@link ChannelInputStream}, for example of a {@link ChannelInput},
+ * the channel is scanned backwards from its end, block by block, until
+ * N lines are found, and then positioned at the first of them. Any other
+ * stream is read through to the end:</p>
+ *
+ * <pre>{@code
+ * final String last = new TextOf(
+ *     new TailOfLines(new ChannelInput(Paths.get("app.log")), 100)
+ * ).asString();
+ * }</pre>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @see TailOf
+ * @since 1.0
+ */
+public final class TailOfLines implements Input {
+
+    /**
+     * Input to decorate.
+     */
+    private final Input input;
+
+    /**
+     * Number of last lines to show.
+     */
+    private final int count;
+
+    /**
+     * Number of bytes to read at once.
+     */
+    private final int block;
+
+    /**
+     * Ctor.
+     * @param data Input to decorate
+     * @param lines Number of last lines to show
+     */
+    public TailOfLines(final Input data, final int lines) {
+        this(data, lines, 8192);
+    }
+
+    /**
+     * Ctor.
+     * @param data Input to decorate
+     * @param lines Number of last lines to show
+     * @param size Number of bytes to read at once
+     */
+    public TailOfLines(final Input data, final int lines, final int size) {
+        this.input = data;
+        this.count = lines;
+        this.block = size;
+    }
+
+    @Override
+    public InputStream stream() throws Exception {
+        final InputStream origin = this.input.stream();
+        final InputStream tail;
+        if (origin instanceof ChannelInputStream seekable) {
+            final SeekableByteChannel channel = seekable.channel();
+            channel.position(this.start(channel));
+            tail = seekable;
+        } else {
+            tail = this.tail(origin);
+        }
+        return tail;
+    }
+
+    /**
+     * Find the position of the first of the last lines in the channel.
+     * @param channel The channel
+     * @return Position
+     * @throws IOException If fails
+     */
+    private long start(final SeekableByteChannel channel) throws IOException {
+        final long first = channel.position();
+        final long size = channel.size();
+        final ByteBuffer buf = ByteBuffer.allocate(this.block);
+        long start = size;
+        long pos = size;
+        int found = 0;
+        while (pos > first && found < this.count) {
+            final int len = (int) Math.min(this.block, pos - first);
+            pos -= len;
+            buf.clear().limit(len);
+            channel.position(pos);
+            int read = 0;
+            while (buf.hasRemaining() && read >= 0) {
+                read = channel.read(buf);
+            }
+            int idx = buf.position();
+            while (idx > 0 && found < this.count) {
+                idx -= 1;
+                if (buf.get(idx) == '\n' && pos + idx != size - 1L) {
+                    found += 1;
+                    start = pos + idx + 1L;
+                }
+            }
+        }
+        if (found < this.count) {
+            start = first;
+        }
+        return start;
+    }
+
+    /**
+     * Read the stream to the end, keeping only the last lines.
+     * @param origin The stream, which is closed at the end
+     * @return Stream of the last lines
+     * @throws IOException If fails
+     */
+    private InputStream tail(final InputStream origin) throws IOException {
+        final Deque<byte[]> lines = new ArrayDeque<>(this.count + 1);
+        final ByteArrayOutputStream line = new ByteArrayOutputStream();
+        final byte[] buf = new byte[this.block];
+        try (InputStream strm = origin) {
+            for (int read = strm.read(buf); read >= 0; read = strm.read(buf)) {
+                int from = 0;
+                for (int idx = 0; idx < read; ++idx) {
+                    if (buf[idx] == '\n') {
+                        line.write(buf, from, idx + 1 - from);
+                        from = idx + 1;
+                        this.keep(lines, line);
+                    }
+                }
+                line.write(buf, from, read - from);
+            }
+        }
+        if (line.size() > 0) {
+            this.keep(lines, line);
+        }
+        final ByteArrayOutputStream result = new ByteArrayOutputStream();
+        for (final byte[] bytes : lines) {
+            result.write(bytes);
+        }
+        return new ByteArrayInputStream(result.toByteArray());
+    }
+
+    /**
+     * Move the line into the last lines, forgetting the oldest one,
+     * if there are too many of them.
+     * @param lines The last lines
+     * @param line The line, which is reset
+     */
+    private void keep(final Deque<byte[]> lines,
+        final ByteArrayOutputStream line) {
+        lines.addLast(line.toByteArray());
+        line.reset();
+        if (lines.size() > this.count) {
+            lines.removeFirst();
+        }
+    }
+}
@@ -5,7 +5,9 @@
 package org.cactoos.io;
 
 import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Reader;
 import java.io.Writer;
 import java.net.URI;
@@ -20,6 +22,15 @@ import org.cactoos.Text;
 /**
  * Input to Output copying pipe.
  *
+ * <p>When the input is a {@link ChannelInput} and the output is
+ * a {@link ChannelOutput}, the entire content is transferred from one
+ * file to another by the operating system as soon as the stream is
+ * opened, and the stream reads the input file then. The same is done
+ * for every {@link ChannelOutput} of a {@link FanOut}, while its other
+ * targets get the bytes as the stream is read. Because of that, such
+ * a file is copied entirely even if only a part of the stream is read,
+ * for example through {@link HeadOf}, or none of it.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @since 0.1
@@ -845,8 +856,36 @@ public final class TeeInput implements Input {
 
     @Override
     public InputStream stream() throws Exception {
-        return new TeeInputStream(
-            this.source.stream(), this.target.stream()
-        );
+        final InputStream input = this.source.stream();
+        final OutputStream output = this.target.stream();
+        final InputStream stream;
+        if (input instanceof ChannelInputStream channel
+            && output instanceof ChannelOutputStream) {
+            try {
+                final long start = channel.channel().position();
+                try (output) {
+                    channel.transferTo(output);
+                }
+                channel.channel().position(start);
+            } catch (final IOException | RuntimeException ex) {
+                channel.close();
+                throw ex;
+            }
+            stream = channel;
+        } else if (input instanceof ChannelInputStream channel
+            && output instanceof FanOutStream fanout) {
+            try {
+                stream = new TeeInputStream(
+                    channel, fanout.transferred(channel)
+                );
+            } catch (final IOException | RuntimeException ex) {
+                channel.close();
+                fanout.close();
+                throw ex;
+            }
+        } else {
+            stream = new TeeInputStream(input, output);
+        }
+        return stream;
     }
 }
@@ -0,0 +1,90 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+import java.util.function.IntFunction;
+
+/**
+ * Buffers, which keep one buffer for every thread.
+ *
+ * <p>Taking and giving back never contends with other threads, but
+ * the pool keeps as many buffers as there are threads that ever used it,
+ * until they die. It fits a fixed pool of platform threads best.
+ * A thread, which takes a second buffer before giving back the first,
+ * gets a new one.</p>
+ *
+ * <p>This class is thread-safe.
+ *
+ * @param <T> Type of buffers
+ * @since 1.0
+ */
+public final class ThreadLocalBuffers<T> implements Buffers<T> {
+
+    /**
+     * Buffer of the current thread, if it's not taken.
+     */
+    private final ThreadLocal<T> slot;
+
+    /**
+     * Size of buffers.
+     */
+    private final int size;
+
+    /**
+     * Allocation of a buffer of the size.
+     */
+    private final IntFunction<? extends T> allocate;
+
+    /**
+     * Metrics.
+     */
+    private final BufferMetrics metrics;
+
+    /**
+     * Ctor.
+     * @param max Size of buffers
+     * @param alloc Allocation of a buffer of the size
+     */
+    public ThreadLocalBuffers(final int max,
+        final IntFunction<? extends T> alloc) {
+        this(max, alloc, new BufferMetrics());
+    }
+
+    /**
+     * Ctor.
+     * @param max Size of buffers
+     * @param alloc Allocation of a buffer of the size
+     * @param mtrcs Metrics
+     */
+    public ThreadLocalBuffers(final int max,
+        final IntFunction<? extends T> alloc, final BufferMetrics mtrcs) {
+        this.slot = new ThreadLocal<>();
+        this.size = max;
+        this.allocate = alloc;
+        this.metrics = mtrcs;
+    }
+
+    @Override
+    public T take() {
+        T buffer = this.slot.get();
+        if (buffer == null) {
+            this.metrics.miss();
+            buffer = this.allocate.apply(this.size);
+        } else {
+            this.metrics.hit();
+            this.slot.set(null);
+        }
+        return buffer;
+    }
+
+    @Override
+    public void give(final T buffer) {
+        if (this.slot.get() == null) {
+            this.slot.set(buffer);
+        } else {
+            this.metrics.drop();
+        }
+    }
+}
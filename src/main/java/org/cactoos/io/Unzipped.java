@@ -0,0 +1,85 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.ZipInputStream;
+import org.cactoos.Input;
+import org.cactoos.list.ListOf;
+
+/**
+ * Files of a zip archive, with their names, unzipped lazily.
+ *
+ * <p>The archive is read while it's iterated, one file after another,
+ * so that none of them is kept in memory. Because of that, every
+ * {@link Input} may be read only until the iteration moves to the next
+ * one, just like entries of {@link ZipInputStream}. Directories are
+ * skipped. Names come from the archive as they are, so they must be
+ * checked before they are used as paths.</p>
+ *
+ * <p>Every iteration reads the archive again. The archive is closed when
+ * the last file is found, so an iteration, which is stopped early, must
+ * be finished by {@link #close()}, which closes the archives of all
+ * the iterations, which are not over yet:</p>
+ *
+ * <pre>{@code
+ * try (Unzipped files = new Unzipped(new InputOf(archive))) {
+ *     for (final Map.Entry<String, Input> file : files) {
+ *         if (file.getKey().endsWith(".txt")) {
+ *             new LengthOf(
+ *                 new TeeInput(
+ *                     file.getValue(),
+ *                     new OutputTo(target.resolve(file.getKey()))
+ *                 )
+ *             ).value();
+ *         }
+ *     }
+ * }
+ * }</pre>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @see Zip
+ * @since 1.0
+ */
+public final class Unzipped
+    implements Iterable<Map.Entry<String, Input>>, Closeable {
+
+    /**
+     * The archive.
+     */
+    private final Input archive;
+
+    /**
+     * Iterators, which are open.
+     */
+    private final Collection<Closeable> open;
+
+    /**
+     * Ctor.
+     * @param zip The archive
+     */
+    public Unzipped(final Input zip) {
+        this.archive = zip;
+        this.open = ConcurrentHashMap.newKeySet();
+    }
+
+    @Override
+    public Iterator<Map.Entry<String, Input>> iterator() {
+        return new UnzippedIterator(this.archive, this.open);
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (final Closeable iter : new ListOf<>(this.open)) {
+            iter.close();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import org.cactoos.Input;
+import org.cactoos.map.MapEntry;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Iterator of files in a zip archive, with their names.
+ *
+ * <p>The archive is opened on the first call and closed as soon as it's
+ * over, or when the iterator is closed. While the archive is open, the
+ * iterator is among the open ones of its owner, so that the owner may
+ * close it.</p>
+ *
+ * <p>This class is for internal use only. Use {@link Unzipped}
+ * instead.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+final class UnzippedIterator
+    implements Iterator<Map.Entry<String, Input>>, Closeable {
+
+    /**
+     * The archive.
+     */
+    private final Input archive;
+
+    /**
+     * Open iterators of the owner.
+     */
+    private final Collection<Closeable> open;
+
+    /**
+     * The stream of the archive, or NULL if it's not opened yet.
+     */
+    private ZipInputStream zip;
+
+    /**
+     * The name of the file, which is not returned yet, or NULL.
+     */
+    private String ahead;
+
+    /**
+     * There are no more files.
+     */
+    private boolean over;
+
+    /**
+     * Ctor.
+     * @param src The archive
+     * @param opn Open iterators of the owner
+     */
+    UnzippedIterator(final Input src, final Collection<Closeable> opn) {
+        this.archive = src;
+        this.open = opn;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (this.ahead == null && !this.over) {
+            this.ahead = new Unchecked<>(this::fetch).value();
+        }
+        return this.ahead != null;
+    }
+
+    @Override
+    public Map.Entry<String, Input> next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException(
+                "There are no more files in the archive"
+            );
+        }
+        final ZipInputStream stream = this.zip;
+        final Map.Entry<String, Input> file = new MapEntry<>(
+            this.ahead, () -> new CloseShieldInputStream(stream)
+        );
+        this.ahead = null;
+        return file;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.open.remove(this);
+        if (!this.over) {
+            this.over = true;
+            this.ahead = null;
+            if (this.zip != null) {
+                this.zip.close();
+            }
+        }
+    }
+
+    /**
+     * Move to the next file, skipping directories.
+     * @return Name of the file, or NULL if there are no more of them
+     * @throws Exception If fails
+     */
+    private String fetch() throws Exception {
+        if (this.zip == null) {
+            this.zip = new ZipInputStream(this.archive.stream());
+            this.open.add(this);
+        }
+        ZipEntry entry = this.zip.getNextEntry();
+        while (entry != null && entry.isDirectory()) {
+            entry = this.zip.getNextEntry();
+        }
+        String name = null;
+        if (entry == null) {
+            this.close();
+        } else {
+            name = entry.getName();
+        }
+        return name;
+    }
+}
@@ -14,13 +14,25 @@ import java.nio.charset.CharsetDecoder;
 import java.nio.charset.CoderResult;
 import java.nio.charset.CodingErrorAction;
 import java.nio.charset.StandardCharsets;
+import java.util.Set;
 import org.cactoos.Scalar;
 import org.cactoos.scalar.Sticky;
 import org.cactoos.scalar.Unchecked;
+import org.cactoos.set.SetOf;
 
 /**
  * Writer as {@link OutputStream}.
  *
+ * <p>Bytes are decoded into a buffer of chars, which goes to the writer
+ * only when it's full, or when the stream is flushed or closed, so that
+ * the writer is not flushed after every chunk. When the charset is
+ * UTF-8, US-ASCII or ISO-8859-1, ASCII bytes are copied into the buffer
+ * right away, without the decoder.</p>
+ *
+ * <p>A sequence of bytes, which is not complete yet, waits for the next
+ * write, even when the stream is flushed. When the stream is closed,
+ * such a sequence is malformed input and fails.</p>
+ *
  * <p>This class is for internal use only. Use {@link OutputStreamTo}
  * instead.</p>
  *
@@ -31,14 +43,23 @@ import org.cactoos.scalar.Unchecked;
 final class WriterAsOutputStream extends OutputStream {
 
     /**
-     * Incoming data, deferred.
+     * Charsets, which decode ASCII bytes into the same chars.
+     */
+    private static final Set<Charset> ASCII = new SetOf<>(
+        StandardCharsets.US_ASCII,
+        StandardCharsets.UTF_8,
+        StandardCharsets.ISO_8859_1
+    );
+
+    /**
+     * Buffers for incoming data.
      */
-    private final Unchecked<ByteBuffer> input;
+    private final Buffers<ByteBuffer> inputs;
 
     /**
-     * Output ready to be flushed, deferred.
+     * Buffers for output ready to be flushed.
      */
-    private final Unchecked<CharBuffer> output;
+    private final Buffers<CharBuffer> outputs;
 
     /**
      * The writer.
@@ -50,6 +71,26 @@ final class WriterAsOutputStream extends OutputStream {
      */
     private final Unchecked<CharsetDecoder> decoder;
 
+    /**
+     * The charset keeps ASCII bytes as they are, deferred.
+     */
+    private final Unchecked<Boolean> ascii;
+
+    /**
+     * Buffer for a single byte.
+     */
+    private final byte[] single;
+
+    /**
+     * Incoming data, taken at the first write.
+     */
+    private ByteBuffer input;
+
+    /**
+     * Output ready to be flushed, taken at the first write.
+     */
+    private CharBuffer output;
+
     /**
      * Ctor.
      * @param wtr Writer
@@ -132,6 +173,22 @@ final class WriterAsOutputStream extends OutputStream {
         this(wtr, (Scalar<CharsetDecoder>) () -> ddr, size);
     }
 
+    /**
+     * Ctor.
+     *
+     * <p>The buffers are taken at the first write and given back
+     * when the stream is closed. Buffers of incoming data may be direct,
+     * while buffers of output must have arrays.</p>
+     * @param wtr Writer
+     * @param ddr Charset decoder
+     * @param ibufs Buffers for incoming data
+     * @param obufs Buffers for output
+     */
+    WriterAsOutputStream(final Writer wtr, final CharsetDecoder ddr,
+        final Buffers<ByteBuffer> ibufs, final Buffers<CharBuffer> obufs) {
+        this(wtr, (Scalar<CharsetDecoder>) () -> ddr, ibufs, obufs);
+    }
+
     /**
      * Ctor.
      * @param wtr Reader
@@ -140,16 +197,42 @@ final class WriterAsOutputStream extends OutputStream {
      */
     private WriterAsOutputStream(final Writer wtr,
         final Scalar<CharsetDecoder> ddr, final int size) {
+        this(
+            wtr, ddr,
+            new FreshBuffers<>(size, ByteBuffer::allocate),
+            new FreshBuffers<>(size, CharBuffer::allocate)
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param wtr Reader
+     * @param ddr Charset decoder, deferred
+     * @param ibufs Buffers for incoming data
+     * @param obufs Buffers for output
+     */
+    private WriterAsOutputStream(final Writer wtr,
+        final Scalar<CharsetDecoder> ddr, final Buffers<ByteBuffer> ibufs,
+        final Buffers<CharBuffer> obufs) {
         super();
         this.writer = wtr;
         this.decoder = new Unchecked<>(new Sticky<>(ddr));
-        this.input = new Unchecked<>(new Sticky<>(() -> ByteBuffer.allocate(size)));
-        this.output = new Unchecked<>(new Sticky<>(() -> CharBuffer.allocate(size)));
+        this.ascii = new Unchecked<>(
+            new Sticky<>(
+                () -> WriterAsOutputStream.ASCII.contains(
+                    this.decoder.value().charset()
+                )
+            )
+        );
+        this.single = new byte[1];
+        this.inputs = ibufs;
+        this.outputs = obufs;
     }
 
     @Override
     public void write(final int data) throws IOException {
-        this.write(new byte[] {(byte) data}, 0, 1);
+        this.single[0] = (byte) data;
+        this.write(this.single, 0, 1);
     }
 
     @Override
@@ -160,44 +243,151 @@ final class WriterAsOutputStream extends OutputStream {
     @Override
     public void write(final byte[] buffer, final int offset,
         final int length) throws IOException {
+        this.prepare();
         int left = length;
         int start = offset;
         while (left > 0) {
-            final int taken = this.next(buffer, start, left);
+            final int taken;
+            if (this.input.position() == 0 && buffer[start] >= 0
+                && this.ascii.value()) {
+                taken = this.copy(buffer, start, left);
+            } else {
+                taken = this.next(buffer, start, left);
+            }
             start += taken;
             left -= taken;
         }
     }
 
+    @Override
+    public void flush() throws IOException {
+        if (this.output != null) {
+            this.drain();
+        }
+        this.writer.flush();
+    }
+
     @Override
     public void close() throws IOException {
-        this.writer.close();
+        try {
+            if (this.output != null) {
+                try {
+                    this.finish();
+                    this.drain();
+                } finally {
+                    this.inputs.give(this.input);
+                    this.outputs.give(this.output);
+                    this.input = null;
+                    this.output = null;
+                }
+            }
+        } finally {
+            this.writer.close();
+        }
+    }
+
+    /**
+     * Take the buffers and reset the decoder, if it's not done yet.
+     *
+     * <p>The decoder may be shared by streams, which are made one after
+     * another, while the previous one left it flushed.</p>
+     */
+    private void prepare() {
+        if (this.input == null) {
+            this.decoder.value().reset();
+            this.input = this.inputs.take();
+            this.input.clear();
+            this.output = this.outputs.take();
+            this.output.clear();
+        }
     }
 
+    /**
+     * Copy ASCII bytes right into the output, without decoding.
+     * @param buffer The bytes
+     * @param offset Position of the first byte, which is ASCII
+     * @param length Number of bytes
+     * @return Number of bytes copied
+     * @throws IOException If fails
+     */
+    private int copy(final byte[] buffer, final int offset,
+        final int length) throws IOException {
+        if (!this.output.hasRemaining()) {
+            this.drain();
+        }
+        final char[] chars = this.output.array();
+        final int base = this.output.arrayOffset() + this.output.position();
+        final int max = Math.min(length, this.output.remaining());
+        int idx = 0;
+        while (idx < max && buffer[offset + idx] >= 0) {
+            chars[base + idx] = (char) buffer[offset + idx];
+            idx += 1;
+        }
+        this.output.position(this.output.position() + idx);
+        return idx;
+    }
+
+    /**
+     * Decode bytes into the output.
+     * @param buffer The bytes
+     * @param offset Position of the first byte
+     * @param length Number of bytes
+     * @return Number of bytes taken
+     * @throws IOException If fails
+     */
     private int next(final byte[] buffer, final int offset,
         final int length) throws IOException {
-        final ByteBuffer ibuf = this.input.value();
-        final CharBuffer obuf = this.output.value();
+        final ByteBuffer ibuf = this.input;
         final int max = Math.min(length, ibuf.remaining());
         ibuf.put(buffer, offset, max);
         ibuf.flip();
         while (true) {
             final CoderResult result = this.decoder.value().decode(
-                ibuf, obuf, false
+                ibuf, this.output, false
             );
             if (result.isError()) {
                 result.throwException();
             }
-            this.writer.write(
-                obuf.array(), 0, obuf.position()
-            );
-            this.writer.flush();
-            obuf.rewind();
             if (result.isUnderflow()) {
                 break;
             }
+            this.drain();
         }
         ibuf.compact();
         return max;
     }
+
+    /**
+     * Decode the bytes left, as the end of the input, and flush
+     * the decoder.
+     * @throws IOException If the bytes left are malformed
+     */
+    private void finish() throws IOException {
+        final ByteBuffer ibuf = this.input;
+        final CharsetDecoder dec = this.decoder.value();
+        ibuf.flip();
+        while (true) {
+            final CoderResult result = dec.decode(ibuf, this.output, true);
+            if (result.isError()) {
+                result.throwException();
+            }
+            if (result.isUnderflow()) {
+                break;
+            }
+            this.drain();
+        }
+        while (dec.flush(this.output).isOverflow()) {
+            this.drain();
+        }
+    }
+
+    /**
+     * Write the decoded chars to the writer, without flushing it.
+     * @throws IOException If fails
+     */
+    private void drain() throws IOException {
+        final CharBuffer obuf = this.output;
+        this.writer.write(obuf.array(), obuf.arrayOffset(), obuf.position());
+        obuf.clear();
+    }
 }
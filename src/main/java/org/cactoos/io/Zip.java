@@ -5,24 +5,33 @@
 
 package org.cactoos.io;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.File;
-import java.io.FileInputStream;
 import java.io.InputStream;
 import java.nio.file.Path;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipOutputStream;
+import java.util.zip.Deflater;
+import org.cactoos.Func;
 import org.cactoos.Input;
-import org.cactoos.bytes.BytesOf;
 
 /**
  * Zip files and directory.
- * <br>
- * <br>There is no thread-safety guarantee.
+ *
+ * <p>The archive is compressed while its stream is read, so that
+ * neither the archive nor any of the files is kept in memory.
+ * The compression level and the files, which are stored without
+ * compression, may be specified:</p>
+ *
+ * <pre>{@code
+ * new Zip(
+ *     new Directory(new File("/var/log")),
+ *     Deflater.BEST_SPEED,
+ *     path -> path.toString().endsWith(".gz")
+ * );
+ * }</pre>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @see Unzipped
  * @since 0.29
  */
-@SuppressWarnings("PMD.AvoidFileStream")
 public final class Zip implements Input {
 
     /**
@@ -30,6 +39,16 @@ public final class Zip implements Input {
      */
     private final Iterable<? extends Path> origin;
 
+    /**
+     * Compression level.
+     */
+    private final int level;
+
+    /**
+     * Which files are stored without compression.
+     */
+    private final Func<? super Path, Boolean> stored;
+
     /**
      * Ctor.
      * Usage examples:
@@ -42,26 +61,35 @@ public final class Zip implements Input {
      * @param origin Origin {@link Path} list (e. g. a {@link Directory})
      */
     public Zip(final Iterable<? extends Path> origin) {
+        this(origin, Deflater.DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * Ctor.
+     * @param origin Origin {@link Path} list (e. g. a {@link Directory})
+     * @param level Compression level, from 0 to 9
+     * @since 1.0
+     */
+    public Zip(final Iterable<? extends Path> origin, final int level) {
+        this(origin, level, path -> false);
+    }
+
+    /**
+     * Ctor.
+     * @param origin Origin {@link Path} list (e. g. a {@link Directory})
+     * @param level Compression level, from 0 to 9
+     * @param stored Which files are stored without compression
+     * @since 1.0
+     */
+    public Zip(final Iterable<? extends Path> origin, final int level,
+        final Func<? super Path, Boolean> stored) {
         this.origin = origin;
+        this.level = level;
+        this.stored = stored;
     }
 
     @Override
     public InputStream stream() throws Exception {
-        final ByteArrayOutputStream out = new ByteArrayOutputStream();
-        try (ZipOutputStream zip = new ZipOutputStream(out)) {
-            for (final Path path : this.origin) {
-                final File file = path.toFile();
-                zip.putNextEntry(new ZipEntry(file.getPath()));
-                if (file.isFile()) {
-                    try (
-                        FileInputStream input = new FileInputStream(file)
-                    ) {
-                        zip.write(new BytesOf(new InputOf(input)).asBytes());
-                    }
-                }
-                zip.closeEntry();
-            }
-        }
-        return new ByteArrayInputStream(out.toByteArray());
+        return new ZippedStream(this.origin.iterator(), this.level, this.stored);
     }
 }
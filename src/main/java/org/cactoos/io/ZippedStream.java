@@ -0,0 +1,208 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.cactoos.Func;
+import org.cactoos.func.UncheckedFunc;
+
+/**
+ * Zip archive of files, compressed while it's read.
+ *
+ * <p>Every read compresses just enough of the current file to return
+ * something, so neither the archive nor a file is kept in memory.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+@SuppressWarnings("PMD.AvoidFileStream")
+final class ZippedStream extends InputStream {
+
+    /**
+     * Files to zip.
+     */
+    private final Iterator<? extends Path> paths;
+
+    /**
+     * Which files are stored without compression.
+     */
+    private final UncheckedFunc<? super Path, Boolean> stored;
+
+    /**
+     * Compressed bytes, not read yet.
+     */
+    private final ByteArrayOutputStream sink;
+
+    /**
+     * The archive, which writes into the sink.
+     */
+    private final ZipOutputStream zip;
+
+    /**
+     * Compression level.
+     */
+    private final int level;
+
+    /**
+     * Buffer for reading files.
+     */
+    private final byte[] chunk;
+
+    /**
+     * Buffer for a single byte.
+     */
+    private final byte[] single;
+
+    /**
+     * The file being zipped now.
+     */
+    private InputStream entry;
+
+    /**
+     * Compressed bytes, being read.
+     */
+    private byte[] pending;
+
+    /**
+     * Position in the pending bytes.
+     */
+    private int pos;
+
+    /**
+     * The archive is complete.
+     */
+    private boolean done;
+
+    /**
+     * Ctor.
+     * @param files Files to zip
+     * @param lvl Compression level
+     * @param store Which files are stored without compression
+     */
+    ZippedStream(final Iterator<? extends Path> files, final int lvl,
+        final Func<? super Path, Boolean> store) {
+        super();
+        this.paths = files;
+        this.stored = new UncheckedFunc<>(store);
+        this.sink = new ByteArrayOutputStream();
+        this.zip = new ZipOutputStream(this.sink);
+        this.level = lvl;
+        this.chunk = new byte[16 << 10];
+        this.single = new byte[1];
+        this.entry = new DeadInputStream();
+        this.pending = new byte[0];
+    }
+
+    @Override
+    public int read() throws IOException {
+        int data = -1;
+        if (this.read(this.single, 0, 1) > 0) {
+            data = this.single[0] & 0xFF;
+        }
+        return data;
+    }
+
+    @Override
+    public int read(final byte[] buf, final int offset, final int len)
+        throws IOException {
+        while (this.pos >= this.pending.length && !this.done) {
+            this.produce();
+        }
+        int read = -1;
+        if (len == 0) {
+            read = 0;
+        } else if (this.pos < this.pending.length) {
+            read = Math.min(len, this.pending.length - this.pos);
+            System.arraycopy(this.pending, this.pos, buf, offset, read);
+            this.pos += read;
+        }
+        return read;
+    }
+
+    @Override
+    public int available() {
+        return this.pending.length - this.pos;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.entry.close();
+        this.zip.close();
+        this.done = true;
+    }
+
+    /**
+     * Compress the next chunk of the archive.
+     * @throws IOException If fails
+     */
+    private void produce() throws IOException {
+        final int len = this.entry.read(this.chunk);
+        if (len >= 0) {
+            this.zip.write(this.chunk, 0, len);
+        } else {
+            this.entry.close();
+            this.entry = new DeadInputStream();
+            if (this.paths.hasNext()) {
+                this.next(this.paths.next());
+            } else {
+                this.zip.close();
+                this.done = true;
+            }
+        }
+        this.pending = this.sink.toByteArray();
+        this.sink.reset();
+        this.pos = 0;
+    }
+
+    /**
+     * Start the next entry.
+     * @param path The file
+     * @throws IOException If fails
+     */
+    private void next(final Path path) throws IOException {
+        final File file = path.toFile();
+        final ZipEntry item;
+        if (file.isDirectory()) {
+            item = new ZipEntry(file.getPath().concat("/"));
+        } else {
+            item = new ZipEntry(file.getPath());
+        }
+        if (this.stored.apply(path)) {
+            final CRC32 crc = new CRC32();
+            long size = 0L;
+            if (file.isFile()) {
+                try (InputStream input = new FileInputStream(file)) {
+                    int len = input.read(this.chunk);
+                    while (len >= 0) {
+                        crc.update(this.chunk, 0, len);
+                        size += len;
+                        len = input.read(this.chunk);
+                    }
+                }
+            }
+            item.setMethod(ZipEntry.STORED);
+            item.setSize(size);
+            item.setCompressedSize(size);
+            item.setCrc(crc.getValue());
+        }
+        this.zip.setLevel(this.level);
+        this.zip.putNextEntry(item);
+        if (file.isFile()) {
+            this.entry = new FileInputStream(file);
+        } else {
+            this.zip.closeEntry();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+import java.util.PrimitiveIterator;
+
+/**
+ * Iterable of {@code double}s, which can be iterated without boxing.
+ *
+ * <p>It is still an {@link Iterable} of {@link Double}s, so any other
+ * iterable can decorate it, but then every item gets boxed. Use
+ * {@link MappedDoubles}, {@link FilteredDoubles} and
+ * {@link org.cactoos.scalar.FoldedDoubles} to keep them unboxed.</p>
+ *
+ * @see DoublesOf
+ * @since 1.0
+ */
+public interface Doubles extends Iterable<Double> {
+
+    @Override
+    PrimitiveIterator.OfDouble iterator();
+}
@@ -0,0 +1,42 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+import java.util.PrimitiveIterator;
+import org.cactoos.iterator.IteratorOfDoubles;
+
+/**
+ * {@link Doubles} of an array.
+ *
+ * <pre>{@code
+ * final Doubles items = new DoublesOf(1, 2, 3);
+ * }</pre>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @see IterableOfDoubles
+ * @since 1.0
+ */
+public final class DoublesOf implements Doubles {
+
+    /**
+     * The values.
+     */
+    private final double[] values;
+
+    /**
+     * Ctor.
+     * @param values The values
+     */
+    @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+    public DoublesOf(final double... values) {
+        this.values = values;
+    }
+
+    @Override
+    public PrimitiveIterator.OfDouble iterator() {
+        return new IteratorOfDoubles(this.values);
+    }
+}
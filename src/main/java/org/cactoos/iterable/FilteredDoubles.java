@@ -0,0 +1,50 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+import java.util.PrimitiveIterator;
+import java.util.function.DoublePredicate;
+
+/**
+ * Filtered {@link Doubles}, which doesn't box items.
+ *
+ * <pre>{@code
+ * final Doubles positive = new FilteredDoubles(x -> x > 0, new DoublesOf(-1, 0, 1));
+ * }</pre>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @see Filtered
+ * @since 1.0
+ */
+public final class FilteredDoubles implements Doubles {
+
+    /**
+     * Predicate.
+     */
+    private final DoublePredicate func;
+
+    /**
+     * Source.
+     */
+    private final Doubles origin;
+
+    /**
+     * Ctor.
+     * @param func Predicate
+     * @param origin Source
+     */
+    public FilteredDoubles(final DoublePredicate func, final Doubles origin) {
+        this.func = func;
+        this.origin = origin;
+    }
+
+    @Override
+    public PrimitiveIterator.OfDouble iterator() {
+        return new org.cactoos.iterator.FilteredDoubles(
+            this.func, this.origin.iterator()
+        );
+    }
+}
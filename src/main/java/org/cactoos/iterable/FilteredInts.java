@@ -0,0 +1,50 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+import java.util.PrimitiveIterator;
+import java.util.function.IntPredicate;
+
+/**
+ * Filtered {@link Ints}, which doesn't box items.
+ *
+ * <pre>{@code
+ * final Ints positive = new FilteredInts(x -> x > 0, new IntsOf(-1, 0, 1));
+ * }</pre>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @see Filtered
+ * @since 1.0
+ */
+public final class FilteredInts implements Ints {
+
+    /**
+     * Predicate.
+     */
+    private final IntPredicate func;
+
+    /**
+     * Source.
+     */
+    private final Ints origin;
+
+    /**
+     * Ctor.
+     * @param func Predicate
+     * @param origin Source
+     */
+    public FilteredInts(final IntPredicate func, final Ints origin) {
+        this.func = func;
+        this.origin = origin;
+    }
+
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new org.cactoos.iterator.FilteredInts(
+            this.func, this.origin.iterator()
+        );
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+import java.util.PrimitiveIterator;
+import java.util.function.LongPredicate;
+
+/**
+ * Filtered {@link Longs}, which doesn't box items.
+ *
+ * <pre>{@code
+ * final Longs positive = new FilteredLongs(x -> x > 0, new LongsOf(-1, 0, 1));
+ * }</pre>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @see Filtered
+ * @since 1.0
+ */
+public final class FilteredLongs implements Longs {
+
+    /**
+     * Predicate.
+     */
+    private final LongPredicate func;
+
+    /**
+     * Source.
+     */
+    private final Longs origin;
+
+    /**
+     * Ctor.
+     * @param func Predicate
+     * @param origin Source
+     */
+    public FilteredLongs(final LongPredicate func, final Longs origin) {
+        this.func = func;
+        this.origin = origin;
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong iterator() {
+        return new org.cactoos.iterator.FilteredLongs(
+            this.func, this.origin.iterator()
+        );
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Spliterator;
+import java.util.concurrent.RecursiveAction;
+import org.cactoos.func.UncheckedFunc;
+
+/**
+ * Fork/join action, which maps items of a sized {@link Spliterator}
+ * into a list, at the same positions.
+ *
+ * <p>The spliterator is split until its parts are not bigger
+ * than the grain, then every part is mapped sequentially.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <X> Type of source item
+ * @param <Y> Type of target item
+ * @since 1.0
+ */
+@SuppressWarnings("serial")
+final class ForkedMapping<X, Y> extends RecursiveAction {
+
+    /**
+     * Source items.
+     */
+    private final transient Spliterator<X> items;
+
+    /**
+     * Position of the first item in the target.
+     */
+    private final int offset;
+
+    /**
+     * Target.
+     */
+    private final transient List<Y> target;
+
+    /**
+     * Function.
+     */
+    private final transient UncheckedFunc<X, Y> func;
+
+    /**
+     * Maximum number of items mapped sequentially.
+     */
+    private final long grain;
+
+    /**
+     * Ctor.
+     * @param src Source items
+     * @param pos Position of the first item in the target
+     * @param dest Target
+     * @param fnc Function
+     * @param max Maximum number of items mapped sequentially
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    ForkedMapping(final Spliterator<X> src, final int pos,
+        final List<Y> dest, final UncheckedFunc<X, Y> fnc, final long max) {
+        super();
+        this.items = src;
+        this.offset = pos;
+        this.target = dest;
+        this.func = fnc;
+        this.grain = max;
+    }
+
+    @Override
+    protected void compute() {
+        Spliterator<X> prefix = null;
+        if (this.items.estimateSize() > this.grain) {
+            prefix = this.items.trySplit();
+        }
+        if (prefix == null) {
+            final ListIterator<Y> dest = this.target.listIterator(this.offset);
+            this.items.forEachRemaining(
+                item -> {
+                    dest.next();
+                    dest.set(this.func.apply(item));
+                }
+            );
+        } else {
+            final int size = (int) prefix.getExactSizeIfKnown();
+            ForkedMapping.invokeAll(
+                new ForkedMapping<>(
+                    prefix, this.offset, this.target, this.func, this.grain
+                ),
+                new ForkedMapping<>(
+                    this.items, this.offset + size,
+                    this.target, this.func, this.grain
+                )
+            );
+        }
+    }
+}
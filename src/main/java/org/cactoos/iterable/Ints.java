@@ -0,0 +1,24 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+import java.util.PrimitiveIterator;
+
+/**
+ * Iterable of {@code int}s, which can be iterated without boxing.
+ *
+ * <p>It is still an {@link Iterable} of {@link Integer}s, so any other
+ * iterable can decorate it, but then every item gets boxed. Use
+ * {@link MappedInts}, {@link FilteredInts} and
+ * {@link org.cactoos.scalar.FoldedInts} to keep them unboxed.</p>
+ *
+ * @see IntsOf
+ * @since 1.0
+ */
+public interface Ints extends Iterable<Integer> {
+
+    @Override
+    PrimitiveIterator.OfInt iterator();
+}
@@ -0,0 +1,42 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+import java.util.PrimitiveIterator;
+import org.cactoos.iterator.IteratorOfInts;
+
+/**
+ * {@link Ints} of an array.
+ *
+ * <pre>{@code
+ * final Ints items = new IntsOf(1, 2, 3);
+ * }</pre>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @see IterableOfInts
+ * @since 1.0
+ */
+public final class IntsOf implements Ints {
+
+    /**
+     * The values.
+     */
+    private final int[] values;
+
+    /**
+     * Ctor.
+     * @param values The values
+     */
+    @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+    public IntsOf(final int... values) {
+        this.values = values;
+    }
+
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new IteratorOfInts(this.values);
+    }
+}
@@ -8,6 +8,10 @@ import org.cactoos.iterator.IteratorOfDoubles;
 
 /**
  * Iterable of double values.
+ *
+ * <p>Every item is boxed, use {@link DoublesOf} to avoid that.</p>
+ *
+ * @see DoublesOf
  * @since 1.0
  */
 public final class IterableOfDoubles extends IterableEnvelope<Double> {
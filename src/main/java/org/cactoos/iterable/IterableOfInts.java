@@ -8,6 +8,10 @@ import org.cactoos.iterator.IteratorOfInts;
 
 /**
  * Iterable of integer values.
+ *
+ * <p>Every item is boxed, use {@link IntsOf} to avoid that.</p>
+ *
+ * @see IntsOf
  * @since 1.0
  */
 public final class IterableOfInts extends IterableEnvelope<Integer> {
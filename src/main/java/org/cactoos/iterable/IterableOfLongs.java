@@ -8,6 +8,10 @@ import org.cactoos.iterator.IteratorOfLongs;
 
 /**
  * Iterable of long values.
+ *
+ * <p>Every item is boxed, use {@link LongsOf} to avoid that.</p>
+ *
+ * @see LongsOf
  * @since 1.0
  */
 public final class IterableOfLongs extends IterableEnvelope<Long> {
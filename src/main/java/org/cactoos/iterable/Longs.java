@@ -0,0 +1,24 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+import java.util.PrimitiveIterator;
+
+/**
+ * Iterable of {@code long}s, which can be iterated without boxing.
+ *
+ * <p>It is still an {@link Iterable} of {@link Long}s, so any other
+ * iterable can decorate it, but then every item gets boxed. Use
+ * {@link MappedLongs}, {@link FilteredLongs} and
+ * {@link org.cactoos.scalar.FoldedLongs} to keep them unboxed.</p>
+ *
+ * @see LongsOf
+ * @since 1.0
+ */
+public interface Longs extends Iterable<Long> {
+
+    @Override
+    PrimitiveIterator.OfLong iterator();
+}
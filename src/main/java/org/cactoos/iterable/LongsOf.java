@@ -0,0 +1,42 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+import java.util.PrimitiveIterator;
+import org.cactoos.iterator.IteratorOfLongs;
+
+/**
+ * {@link Longs} of an array.
+ *
+ * <pre>{@code
+ * final Longs items = new LongsOf(1, 2, 3);
+ * }</pre>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @see IterableOfLongs
+ * @since 1.0
+ */
+public final class LongsOf implements Longs {
+
+    /**
+     * The values.
+     */
+    private final long[] values;
+
+    /**
+     * Ctor.
+     * @param values The values
+     */
+    @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+    public LongsOf(final long... values) {
+        this.values = values;
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong iterator() {
+        return new IteratorOfLongs(this.values);
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+import java.util.PrimitiveIterator;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Mapped {@link Doubles}, which doesn't box items.
+ *
+ * <pre>{@code
+ * final Doubles squares = new MappedDoubles(x -> x * x, new DoublesOf(1, 2, 3));
+ * }</pre>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @see Mapped
+ * @since 1.0
+ */
+public final class MappedDoubles implements Doubles {
+
+    /**
+     * Function.
+     */
+    private final DoubleUnaryOperator func;
+
+    /**
+     * Source.
+     */
+    private final Doubles origin;
+
+    /**
+     * Ctor.
+     * @param func Func
+     * @param origin Source
+     */
+    public MappedDoubles(final DoubleUnaryOperator func, final Doubles origin) {
+        this.func = func;
+        this.origin = origin;
+    }
+
+    @Override
+    public PrimitiveIterator.OfDouble iterator() {
+        return new org.cactoos.iterator.MappedDoubles(
+            this.func, this.origin.iterator()
+        );
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+import java.util.PrimitiveIterator;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Mapped {@link Ints}, which doesn't box items.
+ *
+ * <pre>{@code
+ * final Ints squares = new MappedInts(x -> x * x, new IntsOf(1, 2, 3));
+ * }</pre>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @see Mapped
+ * @since 1.0
+ */
+public final class MappedInts implements Ints {
+
+    /**
+     * Function.
+     */
+    private final IntUnaryOperator func;
+
+    /**
+     * Source.
+     */
+    private final Ints origin;
+
+    /**
+     * Ctor.
+     * @param func Func
+     * @param origin Source
+     */
+    public MappedInts(final IntUnaryOperator func, final Ints origin) {
+        this.func = func;
+        this.origin = origin;
+    }
+
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new org.cactoos.iterator.MappedInts(
+            this.func, this.origin.iterator()
+        );
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+import java.util.PrimitiveIterator;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Mapped {@link Longs}, which doesn't box items.
+ *
+ * <pre>{@code
+ * final Longs squares = new MappedLongs(x -> x * x, new LongsOf(1, 2, 3));
+ * }</pre>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @see Mapped
+ * @since 1.0
+ */
+public final class MappedLongs implements Longs {
+
+    /**
+     * Function.
+     */
+    private final LongUnaryOperator func;
+
+    /**
+     * Source.
+     */
+    private final Longs origin;
+
+    /**
+     * Ctor.
+     * @param func Func
+     * @param origin Source
+     */
+    public MappedLongs(final LongUnaryOperator func, final Longs origin) {
+        this.func = func;
+        this.origin = origin;
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong iterator() {
+        return new org.cactoos.iterator.MappedLongs(
+            this.func, this.origin.iterator()
+        );
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.cactoos.Func;
+import org.cactoos.func.UncheckedFunc;
+
+/**
+ * Filtered iterable, which checks items in parallel.
+ *
+ * <p>Every time it's iterated, the source is copied into a list, which
+ * is split by its {@link java.util.Spliterator} into parts, checked by
+ * the predicate in the {@link ForkJoinPool}. The order of items is
+ * preserved. It makes sense for CPU-bound predicates over big sources,
+ * otherwise {@link Filtered} is faster. The predicate must be
+ * thread-safe.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <X> Type of item
+ * @see Filtered
+ * @since 1.0
+ */
+public final class ParallelFiltered<X> extends IterableEnvelope<X> {
+
+    /**
+     * Ctor.
+     * @param fnc Predicate
+     * @param src Source items
+     */
+    @SafeVarargs
+    public ParallelFiltered(final Func<? super X, Boolean> fnc, final X... src) {
+        this(fnc, new IterableOf<>(src));
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Predicate
+     * @param src Source iterable
+     */
+    public ParallelFiltered(
+        final Func<? super X, Boolean> fnc, final Iterable<? extends X> src
+    ) {
+        this(ForkJoinPool.commonPool(), fnc, src);
+    }
+
+    /**
+     * Ctor.
+     * @param pool The pool to check items in
+     * @param fnc Predicate
+     * @param src Source iterable
+     */
+    public ParallelFiltered(
+        final ForkJoinPool pool,
+        final Func<? super X, Boolean> fnc,
+        final Iterable<? extends X> src
+    ) {
+        super(
+            new IterableOf<>(
+                () -> {
+                    final List<X> items = new ArrayList<>(0);
+                    src.forEach(items::add);
+                    final List<Boolean> matches = new ArrayList<>(
+                        Collections.nCopies(items.size(), false)
+                    );
+                    pool.invoke(
+                        new ForkedMapping<>(
+                            items.spliterator(),
+                            0,
+                            matches,
+                            new UncheckedFunc<X, Boolean>(fnc::apply),
+                            Math.max(
+                                1L,
+                                items.size() / (pool.getParallelism() * 4L)
+                            )
+                        )
+                    );
+                    final List<X> target = new ArrayList<>(items.size());
+                    final Iterator<Boolean> match = matches.iterator();
+                    for (final X item : items) {
+                        if (match.next()) {
+                            target.add(item);
+                        }
+                    }
+                    return target.iterator();
+                }
+            )
+        );
+    }
+}
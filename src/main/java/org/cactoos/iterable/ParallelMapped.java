@@ -0,0 +1,98 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.cactoos.Func;
+import org.cactoos.func.UncheckedFunc;
+
+/**
+ * Mapped iterable, which maps items in parallel.
+ *
+ * <p>Every time it's iterated, the source is copied into a list, which
+ * is split by its {@link java.util.Spliterator} into parts, mapped
+ * in the {@link ForkJoinPool}. The order of items is preserved.
+ * It makes sense for CPU-bound functions over big sources, otherwise
+ * {@link Mapped} is faster. The function must be thread-safe.</p>
+ *
+ * <pre>{@code
+ * final Iterable<String> hashes = new ParallelMapped<>(
+ *     file -> new HexOf(new Sha256DigestOf(new InputOf(file))).asString(),
+ *     files
+ * );
+ * }</pre>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <Y> Type of target item
+ * @see Mapped
+ * @since 1.0
+ */
+public final class ParallelMapped<Y> extends IterableEnvelope<Y> {
+
+    /**
+     * Ctor.
+     * @param fnc Func
+     * @param src Source items
+     * @param <X> Type of source item
+     */
+    @SafeVarargs
+    public <X> ParallelMapped(final Func<? super X, ? extends Y> fnc, final X... src) {
+        this(fnc, new IterableOf<>(src));
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Func
+     * @param src Source iterable
+     * @param <X> Type of source item
+     */
+    public <X> ParallelMapped(
+        final Func<? super X, ? extends Y> fnc, final Iterable<? extends X> src
+    ) {
+        this(ForkJoinPool.commonPool(), fnc, src);
+    }
+
+    /**
+     * Ctor.
+     * @param pool The pool to map items in
+     * @param fnc Func
+     * @param src Source iterable
+     * @param <X> Type of source item
+     */
+    public <X> ParallelMapped(
+        final ForkJoinPool pool,
+        final Func<? super X, ? extends Y> fnc,
+        final Iterable<? extends X> src
+    ) {
+        super(
+            new IterableOf<>(
+                () -> {
+                    final List<X> items = new ArrayList<>(0);
+                    src.forEach(items::add);
+                    final List<Y> target = new ArrayList<>(
+                        Collections.nCopies(items.size(), null)
+                    );
+                    pool.invoke(
+                        new ForkedMapping<>(
+                            items.spliterator(),
+                            0,
+                            target,
+                            new UncheckedFunc<X, Y>(fnc::apply),
+                            Math.max(
+                                1L,
+                                items.size() / (pool.getParallelism() * 4L)
+                            )
+                        )
+                    );
+                    return target.iterator();
+                }
+            )
+        );
+    }
+}
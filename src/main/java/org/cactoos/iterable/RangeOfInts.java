@@ -0,0 +1,66 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+import java.util.PrimitiveIterator;
+
+/**
+ * Range of {@code int}s, from the minimum to the maximum inclusive,
+ * which doesn't box them.
+ *
+ * <pre>{@code
+ * final Ints even = new RangeOfInts(0, 100, 2);
+ * }</pre>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @see RangeOf
+ * @since 1.0
+ */
+public final class RangeOfInts implements Ints {
+
+    /**
+     * Minimum value.
+     */
+    private final int min;
+
+    /**
+     * Maximum value.
+     */
+    private final int max;
+
+    /**
+     * Step.
+     */
+    private final int step;
+
+    /**
+     * Ctor.
+     * @param min Minimum value
+     * @param max Maximum value
+     */
+    public RangeOfInts(final int min, final int max) {
+        this(min, max, 1);
+    }
+
+    /**
+     * Ctor.
+     * @param min Minimum value
+     * @param max Maximum value
+     * @param step Step, positive
+     */
+    public RangeOfInts(final int min, final int max, final int step) {
+        this.min = min;
+        this.max = max;
+        this.step = step;
+    }
+
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new org.cactoos.iterator.RangeOfInts(
+            this.min, this.max, this.step
+        );
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+import java.util.PrimitiveIterator;
+
+/**
+ * Range of {@code long}s, from the minimum to the maximum inclusive,
+ * which doesn't box them.
+ *
+ * <pre>{@code
+ * final Longs even = new RangeOfLongs(0, 100, 2);
+ * }</pre>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @see RangeOf
+ * @since 1.0
+ */
+public final class RangeOfLongs implements Longs {
+
+    /**
+     * Minimum value.
+     */
+    private final long min;
+
+    /**
+     * Maximum value.
+     */
+    private final long max;
+
+    /**
+     * Step.
+     */
+    private final long step;
+
+    /**
+     * Ctor.
+     * @param min Minimum value
+     * @param max Maximum value
+     */
+    public RangeOfLongs(final long min, final long max) {
+        this(min, max, 1);
+    }
+
+    /**
+     * Ctor.
+     * @param min Minimum value
+     * @param max Maximum value
+     * @param step Step, positive
+     */
+    public RangeOfLongs(final long min, final long max, final long step) {
+        this.min = min;
+        this.max = max;
+        this.step = step;
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong iterator() {
+        return new org.cactoos.iterator.RangeOfLongs(
+            this.min, this.max, this.step
+        );
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterator;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.DoublePredicate;
+
+/**
+ * Filtered iterator of {@code double}s, which doesn't box them.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @see Filtered
+ * @since 1.0
+ */
+public final class FilteredDoubles implements PrimitiveIterator.OfDouble {
+
+    /**
+     * Predicate.
+     */
+    private final DoublePredicate func;
+
+    /**
+     * Iterator.
+     */
+    private final PrimitiveIterator.OfDouble iterator;
+
+    /**
+     * The item found by {@link #hasNext()}, but not returned yet.
+     */
+    private double found;
+
+    /**
+     * Whether there is an item found, but not returned yet.
+     */
+    private boolean ready;
+
+    /**
+     * Ctor.
+     * @param func Predicate
+     * @param iterator Source iterator
+     */
+    public FilteredDoubles(final DoublePredicate func,
+        final PrimitiveIterator.OfDouble iterator) {
+        this.func = func;
+        this.iterator = iterator;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!this.ready && this.iterator.hasNext()) {
+            final double item = this.iterator.nextDouble();
+            if (this.func.test(item)) {
+                this.found = item;
+                this.ready = true;
+            }
+        }
+        return this.ready;
+    }
+
+    @Override
+    public double nextDouble() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException(
+                "No more elements that fit the condition"
+            );
+        }
+        this.ready = false;
+        return this.found;
+    }
+}
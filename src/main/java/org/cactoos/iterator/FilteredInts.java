@@ -0,0 +1,74 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterator;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.IntPredicate;
+
+/**
+ * Filtered iterator of {@code int}s, which doesn't box them.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @see Filtered
+ * @since 1.0
+ */
+public final class FilteredInts implements PrimitiveIterator.OfInt {
+
+    /**
+     * Predicate.
+     */
+    private final IntPredicate func;
+
+    /**
+     * Iterator.
+     */
+    private final PrimitiveIterator.OfInt iterator;
+
+    /**
+     * The item found by {@link #hasNext()}, but not returned yet.
+     */
+    private int found;
+
+    /**
+     * Whether there is an item found, but not returned yet.
+     */
+    private boolean ready;
+
+    /**
+     * Ctor.
+     * @param func Predicate
+     * @param iterator Source iterator
+     */
+    public FilteredInts(final IntPredicate func,
+        final PrimitiveIterator.OfInt iterator) {
+        this.func = func;
+        this.iterator = iterator;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!this.ready && this.iterator.hasNext()) {
+            final int item = this.iterator.nextInt();
+            if (this.func.test(item)) {
+                this.found = item;
+                this.ready = true;
+            }
+        }
+        return this.ready;
+    }
+
+    @Override
+    public int nextInt() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException(
+                "No more elements that fit the condition"
+            );
+        }
+        this.ready = false;
+        return this.found;
+    }
+}
@@ -6,7 +6,7 @@ package org.cactoos.iterator;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.PrimitiveIterator;
 
 /**
  * Iterator that returns a set of double values.
@@ -15,7 +15,7 @@ import java.util.concurrent.atomic.AtomicInteger;
  *
  * @since 0.34
  */
-public final class IteratorOfDoubles implements Iterator<Double> {
+public final class IteratorOfDoubles implements PrimitiveIterator.OfDouble {
 
     /**
      * The list of items to iterate.
@@ -25,7 +25,7 @@ public final class IteratorOfDoubles implements Iterator<Double> {
     /**
      * Current position.
      */
-    private final AtomicInteger position;
+    private int position;
 
     /**
      * Ctor.
@@ -34,21 +34,22 @@ public final class IteratorOfDoubles implements Iterator<Double> {
     @SuppressWarnings("PMD.ArrayIsStoredDirectly")
     public IteratorOfDoubles(final double... items) {
         this.items = items;
-        this.position = new AtomicInteger(0);
     }
 
     @Override
     public boolean hasNext() {
-        return this.position.intValue() < this.items.length;
+        return this.position < this.items.length;
     }
 
     @Override
-    public Double next() {
+    public double nextDouble() {
         if (!this.hasNext()) {
             throw new NoSuchElementException(
                 "The iterator doesn't have any more items"
             );
         }
-        return this.items[this.position.getAndIncrement()];
+        final double item = this.items[this.position];
+        this.position += 1;
+        return item;
     }
 }
@@ -6,16 +6,17 @@ package org.cactoos.iterator;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.PrimitiveIterator;
 
 /**
- * {@link Iterator} that returns the {@code int}s as {@link Integer}s.
+ * {@link Iterator} of {@code int}s, which doesn't box them, unless
+ * they are requested as {@link Integer}s by {@link #next()}.
  *
  * <p>There is no thread-safety guarantee.</p>
  *
  * @since 0.32
  */
-public final class IteratorOfInts implements Iterator<Integer> {
+public final class IteratorOfInts implements PrimitiveIterator.OfInt {
 
     /**
      * The list of items to iterate.
@@ -25,7 +26,7 @@ public final class IteratorOfInts implements Iterator<Integer> {
     /**
      * Current position.
      */
-    private final AtomicInteger position;
+    private int position;
 
     /**
      * Ctor.
@@ -34,21 +35,22 @@ public final class IteratorOfInts implements Iterator<Integer> {
     @SuppressWarnings("PMD.ArrayIsStoredDirectly")
     public IteratorOfInts(final int... items) {
         this.items = items;
-        this.position = new AtomicInteger(0);
     }
 
     @Override
     public boolean hasNext() {
-        return this.position.intValue() < this.items.length;
+        return this.position < this.items.length;
     }
 
     @Override
-    public Integer next() {
+    public int nextInt() {
         if (!this.hasNext()) {
             throw new NoSuchElementException(
                 "The iterator doesn't have any more items"
             );
         }
-        return this.items[this.position.getAndIncrement()];
+        final int item = this.items[this.position];
+        this.position += 1;
+        return item;
     }
 }
@@ -6,16 +6,17 @@ package org.cactoos.iterator;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.PrimitiveIterator;
 
 /**
- * {@link Iterator} that returns the {@code long}s as {@link Long}s.
+ * {@link Iterator} of {@code long}s, which doesn't box them, unless
+ * they are requested as {@link Long}s by {@link #next()}.
  *
  * <p>There is no thread-safety guarantee.</p>
  *
  * @since 0.34
  */
-public final class IteratorOfLongs implements Iterator<Long> {
+public final class IteratorOfLongs implements PrimitiveIterator.OfLong {
 
     /**
      * The list of items to iterate.
@@ -25,7 +26,7 @@ public final class IteratorOfLongs implements Iterator<Long> {
     /**
      * Current position.
      */
-    private final AtomicInteger position;
+    private int position;
 
     /**
      * Ctor.
@@ -34,21 +35,22 @@ public final class IteratorOfLongs implements Iterator<Long> {
     @SuppressWarnings("PMD.ArrayIsStoredDirectly")
     public IteratorOfLongs(final long... items) {
         this.items = items;
-        this.position = new AtomicInteger(0);
     }
 
     @Override
     public boolean hasNext() {
-        return this.position.intValue() < this.items.length;
+        return this.position < this.items.length;
     }
 
     @Override
-    public Long next() {
+    public long nextLong() {
         if (!this.hasNext()) {
             throw new NoSuchElementException(
                 "The iterator doesn't have any more items"
             );
         }
-        return this.items[this.position.getAndIncrement()];
+        final long item = this.items[this.position];
+        this.position += 1;
+        return item;
     }
 }
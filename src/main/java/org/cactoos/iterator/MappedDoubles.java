@@ -0,0 +1,50 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterator;
+
+import java.util.PrimitiveIterator;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Mapped iterator of {@code double}s, which doesn't box them.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @see Mapped
+ * @since 1.0
+ */
+public final class MappedDoubles implements PrimitiveIterator.OfDouble {
+
+    /**
+     * Function.
+     */
+    private final DoubleUnaryOperator func;
+
+    /**
+     * Iterator.
+     */
+    private final PrimitiveIterator.OfDouble iterator;
+
+    /**
+     * Ctor.
+     * @param func Func
+     * @param iterator Source iterator
+     */
+    public MappedDoubles(final DoubleUnaryOperator func,
+        final PrimitiveIterator.OfDouble iterator) {
+        this.func = func;
+        this.iterator = iterator;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.iterator.hasNext();
+    }
+
+    @Override
+    public double nextDouble() {
+        return this.func.applyAsDouble(this.iterator.nextDouble());
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterator;
+
+import java.util.PrimitiveIterator;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Mapped iterator of {@code int}s, which doesn't box them.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @see Mapped
+ * @since 1.0
+ */
+public final class MappedInts implements PrimitiveIterator.OfInt {
+
+    /**
+     * Function.
+     */
+    private final IntUnaryOperator func;
+
+    /**
+     * Iterator.
+     */
+    private final PrimitiveIterator.OfInt iterator;
+
+    /**
+     * Ctor.
+     * @param func Func
+     * @param iterator Source iterator
+     */
+    public MappedInts(final IntUnaryOperator func,
+        final PrimitiveIterator.OfInt iterator) {
+        this.func = func;
+        this.iterator = iterator;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.iterator.hasNext();
+    }
+
+    @Override
+    public int nextInt() {
+        return this.func.applyAsInt(this.iterator.nextInt());
+    }
+}
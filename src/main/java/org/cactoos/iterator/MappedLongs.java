@@ -0,0 +1,50 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterator;
+
+import java.util.PrimitiveIterator;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Mapped iterator of {@code long}s, which doesn't box them.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @see Mapped
+ * @since 1.0
+ */
+public final class MappedLongs implements PrimitiveIterator.OfLong {
+
+    /**
+     * Function.
+     */
+    private final LongUnaryOperator func;
+
+    /**
+     * Iterator.
+     */
+    private final PrimitiveIterator.OfLong iterator;
+
+    /**
+     * Ctor.
+     * @param func Func
+     * @param iterator Source iterator
+     */
+    public MappedLongs(final LongUnaryOperator func,
+        final PrimitiveIterator.OfLong iterator) {
+        this.func = func;
+        this.iterator = iterator;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.iterator.hasNext();
+    }
+
+    @Override
+    public long nextLong() {
+        return this.func.applyAsLong(this.iterator.nextLong());
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterator;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Range of {@code int}s, from the minimum to the maximum inclusive,
+ * which doesn't box them.
+ *
+ * <p>The step must be positive, otherwise the iteration fails with
+ * {@link IllegalArgumentException}. The iteration stops correctly even
+ * if the maximum is {@link Integer#MAX_VALUE}.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @see RangeOf
+ * @since 1.0
+ */
+public final class RangeOfInts implements PrimitiveIterator.OfInt {
+
+    /**
+     * Maximum value.
+     */
+    private final int max;
+
+    /**
+     * Step.
+     */
+    private final int step;
+
+    /**
+     * Next value.
+     */
+    private int current;
+
+    /**
+     * Whether the range is over.
+     */
+    private boolean over;
+
+    /**
+     * Ctor.
+     * @param min Minimum value
+     * @param max Maximum value
+     * @param step Step, positive
+     */
+    public RangeOfInts(final int min, final int max, final int step) {
+        this.current = min;
+        this.max = max;
+        this.step = step;
+        this.over = min > max;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (this.step <= 0) {
+            throw new IllegalArgumentException(
+                String.format("The step must be positive, but it's %d", this.step)
+            );
+        }
+        return !this.over;
+    }
+
+    @Override
+    public int nextInt() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException(
+                "The iterator doesn't have any more items"
+            );
+        }
+        final int value = this.current;
+        if ((long) this.max - this.current < this.step) {
+            this.over = true;
+        } else {
+            this.current += this.step;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterator;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Range of {@code long}s, from the minimum to the maximum inclusive,
+ * which doesn't box them.
+ *
+ * <p>The step must be positive, otherwise the iteration fails with
+ * {@link IllegalArgumentException}. The iteration stops correctly even
+ * if the maximum is {@link Long#MAX_VALUE}.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @see RangeOf
+ * @since 1.0
+ */
+public final class RangeOfLongs implements PrimitiveIterator.OfLong {
+
+    /**
+     * Maximum value.
+     */
+    private final long max;
+
+    /**
+     * Step.
+     */
+    private final long step;
+
+    /**
+     * Next value.
+     */
+    private long current;
+
+    /**
+     * Whether the range is over.
+     */
+    private boolean over;
+
+    /**
+     * Ctor.
+     * @param min Minimum value
+     * @param max Maximum value
+     * @param step Step, positive
+     */
+    public RangeOfLongs(final long min, final long max, final long step) {
+        this.current = min;
+        this.max = max;
+        this.step = step;
+        this.over = min > max;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (this.step <= 0) {
+            throw new IllegalArgumentException(
+                String.format("The step must be positive, but it's %d", this.step)
+            );
+        }
+        return !this.over;
+    }
+
+    @Override
+    public long nextLong() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException(
+                "The iterator doesn't have any more items"
+            );
+        }
+        final long value = this.current;
+        if (Long.compareUnsigned(this.max - this.current, this.step) < 0) {
+            this.over = true;
+        } else {
+            this.current += this.step;
+        }
+        return value;
+    }
+}
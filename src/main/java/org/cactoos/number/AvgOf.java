@@ -21,6 +21,10 @@ import org.cactoos.scalar.Ternary;
  * int avg = new AvgOf(numbers).intValue();
  * </pre>
  *
+ * <p>Integral numbers are summed as {@code long}s and floating point
+ * ones with compensation, {@link BigDecimal} is used only on overflow
+ * or for other kinds of numbers.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @since 1.0.0
@@ -51,15 +55,11 @@ public final class AvgOf extends NumberEnvelope {
                     new ScalarOf<>(src::iterator),
                     (Iterator<? extends Number> it) -> it.hasNext(),
                     it -> {
-                        BigDecimal total = BigDecimal.ZERO;
-                        long qty = 0L;
-                        for (final Number value : new IterableOf<>(it)) {
-                            qty += 1L;
-                            total = total.add(
-                                new BigDecimal(value.toString())
-                            );
+                        final Summation sum = new Summation();
+                        while (it.hasNext()) {
+                            sum.add(it.next());
                         }
-                        return total.divide(BigDecimal.valueOf(qty));
+                        return sum.mean();
                     },
                     it -> BigDecimal.ZERO
                 )
@@ -0,0 +1,137 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.number;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.IntBinaryOperator;
+import java.util.function.LongBinaryOperator;
+
+/**
+ * The number, which is selected among others, like the greatest
+ * or the least one.
+ *
+ * <p>Every primitive value is reduced in a single pass over the items,
+ * without boxing.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+@SuppressWarnings("serial")
+@SuppressFBWarnings({"SE_NO_SERIALVERSIONID", "SE_BAD_FIELD"})
+final class Extremum extends Number {
+
+    /**
+     * The numbers.
+     */
+    private final Iterable<? extends Number> items;
+
+    /**
+     * Selection of longs.
+     */
+    private final LongBinaryOperator longs;
+
+    /**
+     * Selection of ints.
+     */
+    private final IntBinaryOperator ints;
+
+    /**
+     * Selection of floats and doubles.
+     */
+    private final DoubleBinaryOperator doubles;
+
+    /**
+     * Ctor.
+     * @param src The numbers
+     * @param lng Selection of longs
+     * @param intg Selection of ints
+     * @param dbl Selection of floats and doubles
+     */
+    Extremum(final Iterable<? extends Number> src,
+        final LongBinaryOperator lng, final IntBinaryOperator intg,
+        final DoubleBinaryOperator dbl) {
+        super();
+        this.items = src;
+        this.longs = lng;
+        this.ints = intg;
+        this.doubles = dbl;
+    }
+
+    @Override
+    public int intValue() {
+        final Iterator<? extends Number> iter = this.iterator();
+        int acc = iter.next().intValue();
+        while (iter.hasNext()) {
+            acc = this.ints.applyAsInt(acc, iter.next().intValue());
+        }
+        return acc;
+    }
+
+    @Override
+    public long longValue() {
+        final Iterator<? extends Number> iter = this.iterator();
+        long acc = iter.next().longValue();
+        while (iter.hasNext()) {
+            acc = this.longs.applyAsLong(acc, iter.next().longValue());
+        }
+        return acc;
+    }
+
+    @Override
+    public float floatValue() {
+        final Iterator<? extends Number> iter = this.iterator();
+        double acc = iter.next().floatValue();
+        while (iter.hasNext()) {
+            acc = this.doubles.applyAsDouble(acc, iter.next().floatValue());
+        }
+        return (float) acc;
+    }
+
+    @Override
+    public double doubleValue() {
+        final Iterator<? extends Number> iter = this.iterator();
+        double acc = iter.next().doubleValue();
+        while (iter.hasNext()) {
+            acc = this.doubles.applyAsDouble(acc, iter.next().doubleValue());
+        }
+        return acc;
+    }
+
+    @Override
+    public String toString() {
+        return Double.toString(this.doubleValue());
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return obj instanceof Number number && Double.compare(
+            this.doubleValue(),
+            number.doubleValue()
+        ) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Double.hashCode(this.doubleValue());
+    }
+
+    /**
+     * Iterator over the numbers, which is not empty.
+     * @return Iterator
+     */
+    private Iterator<? extends Number> iterator() {
+        final Iterator<? extends Number> iter = this.items.iterator();
+        if (!iter.hasNext()) {
+            throw new NoSuchElementException(
+                "Can't find first element in an empty iterable"
+            );
+        }
+        return iter;
+    }
+}
@@ -5,8 +5,6 @@
 package org.cactoos.number;
 
 import org.cactoos.iterable.IterableOf;
-import org.cactoos.iterable.Mapped;
-import org.cactoos.scalar.Reduced;
 
 /**
  * Find the greater among items.
@@ -43,25 +41,6 @@ public final class MaxOf extends NumberEnvelope {
      * @param src The iterable
      */
     public MaxOf(final Iterable<? extends Number> src) {
-        super(
-            new NumberOfScalars(
-                new Reduced<>(
-                    Math::max,
-                    new Mapped<>((Number n) -> n::longValue, src)
-                ),
-                new Reduced<>(
-                    Math::max,
-                    new Mapped<>((Number n) -> n::intValue, src)
-                ),
-                new Reduced<>(
-                    Math::max,
-                    new Mapped<>((Number n) -> n::floatValue, src)
-                ),
-                new Reduced<>(
-                    Math::max,
-                    new Mapped<>((Number n) -> n::doubleValue, src)
-                )
-            )
-        );
+        super(new Extremum(src, Math::max, Math::max, Math::max));
     }
 }
@@ -5,8 +5,6 @@
 package org.cactoos.number;
 
 import org.cactoos.iterable.IterableOf;
-import org.cactoos.iterable.Mapped;
-import org.cactoos.scalar.Reduced;
 
 /**
  * Find the smaller among items.
@@ -43,25 +41,6 @@ public final class MinOf extends NumberEnvelope {
      * @param src The iterable
      */
     public MinOf(final Iterable<? extends Number> src) {
-        super(
-            new NumberOfScalars(
-                new Reduced<>(
-                    Math::min,
-                    new Mapped<>((Number n) -> n::longValue, src)
-                ),
-                new Reduced<>(
-                    Math::min,
-                    new Mapped<>((Number n) -> n::intValue, src)
-                ),
-                new Reduced<>(
-                    Math::min,
-                    new Mapped<>((Number n) -> n::floatValue, src)
-                ),
-                new Reduced<>(
-                    Math::min,
-                    new Mapped<>((Number n) -> n::doubleValue, src)
-                )
-            )
-        );
+        super(new Extremum(src, Math::min, Math::min, Math::min));
     }
 }
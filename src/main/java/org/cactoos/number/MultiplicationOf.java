@@ -4,12 +4,10 @@
  */
 package org.cactoos.number;
 
-import java.math.BigDecimal;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import org.cactoos.iterable.IterableOf;
 import org.cactoos.iterable.Joined;
-import org.cactoos.iterable.Mapped;
-import org.cactoos.scalar.Constant;
-import org.cactoos.scalar.Reduced;
 
 /**
  * Multiplication result of numbers.
@@ -22,6 +20,10 @@ import org.cactoos.scalar.Reduced;
  * double multiplication = new MultiplicationOf(2.3, 3.4, 4.0).doubleValue();
  * </pre>
  *
+ * <p>Integral numbers are multiplied as {@code long}s and floating point
+ * ones as {@code double}s, {@link java.math.BigDecimal} is used only
+ * on overflow or for other kinds of numbers.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @since 1.0.0
@@ -49,13 +51,19 @@ public final class MultiplicationOf extends NumberEnvelope {
     public MultiplicationOf(final Iterable<? extends Number> src) {
         super(
             new NumberOfScalars(
-                new Reduced<BigDecimal>(
-                    BigDecimal::multiply,
-                    new Mapped<>(
-                        n -> new Constant<>(new BigDecimal(n.toString())),
-                        src
-                    )
-                )
+                () -> {
+                    final Iterator<? extends Number> items = src.iterator();
+                    if (!items.hasNext()) {
+                        throw new NoSuchElementException(
+                            "Can't find first element in an empty iterable"
+                        );
+                    }
+                    final Product product = new Product();
+                    while (items.hasNext()) {
+                        product.multiply(items.next());
+                    }
+                    return product.value();
+                }
             )
         );
     }
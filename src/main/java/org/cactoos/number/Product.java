@@ -0,0 +1,168 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.number;
+
+import java.math.BigDecimal;
+
+/**
+ * Running product of numbers, which uses {@link BigDecimal} only when
+ * it can't be avoided.
+ *
+ * <p>Integral numbers are multiplied as {@code long}s, until the product
+ * overflows. As soon as a {@link Double} or a {@link Float} is met, the
+ * product becomes a {@code double}, until it goes out of range. Other
+ * numbers, overflows and non-finite doubles turn the product into
+ * a {@link BigDecimal}.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+final class Product {
+
+    /**
+     * Nothing was multiplied yet.
+     */
+    private static final int EMPTY = 0;
+
+    /**
+     * The product is a {@code long}.
+     */
+    private static final int INTEGRAL = 1;
+
+    /**
+     * The product is a {@code double}.
+     */
+    private static final int FLOATING = 2;
+
+    /**
+     * The product is a {@link BigDecimal}.
+     */
+    private static final int DECIMAL = 3;
+
+    /**
+     * Current kind of the product.
+     */
+    private int kind;
+
+    /**
+     * Integral product.
+     */
+    private long exact;
+
+    /**
+     * Floating point product.
+     */
+    private double approx;
+
+    /**
+     * Decimal product.
+     */
+    private BigDecimal decimal;
+
+    /**
+     * Ctor.
+     */
+    Product() {
+        this.kind = Product.EMPTY;
+        this.exact = 1L;
+        this.approx = 1.0d;
+        this.decimal = BigDecimal.ONE;
+    }
+
+    /**
+     * Multiply by a number.
+     * @param value The number
+     * @return This
+     */
+    Product multiply(final Number value) {
+        if (value instanceof Integer || value instanceof Long
+            || value instanceof Short || value instanceof Byte) {
+            this.multiply(value.longValue());
+        } else if (value instanceof Double || value instanceof Float) {
+            this.multiply(value.doubleValue());
+        } else {
+            this.widen();
+            this.decimal = this.decimal.multiply(
+                new BigDecimal(value.toString())
+            );
+        }
+        return this;
+    }
+
+    /**
+     * Multiply by an integral number.
+     * @param value The number
+     * @return This
+     */
+    Product multiply(final long value) {
+        if (this.kind == Product.FLOATING) {
+            this.multiply((double) value);
+        } else if (this.kind == Product.DECIMAL) {
+            this.decimal = this.decimal.multiply(BigDecimal.valueOf(value));
+        } else {
+            final long low = this.exact * value;
+            if (Math.multiplyHigh(this.exact, value) == low >> 63) {
+                this.kind = Product.INTEGRAL;
+                this.exact = low;
+            } else {
+                this.widen();
+                this.decimal = this.decimal.multiply(BigDecimal.valueOf(value));
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Multiply by a floating point number.
+     * @param value The number
+     * @return This
+     */
+    Product multiply(final double value) {
+        if (this.kind == Product.INTEGRAL) {
+            this.kind = Product.FLOATING;
+            this.approx = this.exact;
+        }
+        final double next = this.approx * value;
+        if (this.kind == Product.DECIMAL || !Double.isFinite(next)) {
+            this.widen();
+            this.decimal = this.decimal.multiply(
+                new BigDecimal(Double.toString(value))
+            );
+        } else {
+            this.kind = Product.FLOATING;
+            this.approx = next;
+        }
+        return this;
+    }
+
+    /**
+     * The product.
+     * @return A {@link Long}, a {@link Double} or a {@link BigDecimal}
+     */
+    Number value() {
+        final Number product;
+        if (this.kind == Product.DECIMAL) {
+            product = this.decimal;
+        } else if (this.kind == Product.FLOATING) {
+            product = this.approx;
+        } else {
+            product = this.exact;
+        }
+        return product;
+    }
+
+    /**
+     * Turn the product into {@link BigDecimal}, if it's not yet.
+     */
+    private void widen() {
+        if (this.kind == Product.INTEGRAL) {
+            this.decimal = BigDecimal.valueOf(this.exact);
+        } else if (this.kind == Product.FLOATING) {
+            this.decimal = BigDecimal.valueOf(this.approx);
+        }
+        this.kind = Product.DECIMAL;
+    }
+}
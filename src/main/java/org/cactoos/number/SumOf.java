@@ -4,9 +4,11 @@
  */
 package org.cactoos.number;
 
-import java.math.BigDecimal;
+import java.util.PrimitiveIterator;
+import org.cactoos.iterable.Doubles;
+import org.cactoos.iterable.Ints;
 import org.cactoos.iterable.IterableOf;
-import org.cactoos.scalar.Folded;
+import org.cactoos.iterable.Longs;
 
 /**
  * Sums of an iterable of numbers.
@@ -17,8 +19,15 @@ import org.cactoos.scalar.Folded;
  * int sum = new SumOf(1, 2, 3, 4).intValue();
  * long sum = new SumOf(1L, 2L, 3L).longValue();
  * int sum = new SumOf(numbers).intValue();
+ * long sum = new SumOf(new IntsOf(1, 2, 3)).longValue();
  * </pre>
  *
+ * <p>When all numbers are integral, they are summed as {@code long}s,
+ * falling back to {@link java.math.BigDecimal} only on overflow. When all
+ * of them are {@link Double}s or {@link Float}s, the sum is compensated,
+ * by Kahan-Babuska algorithm. Sums of {@link Ints}, {@link Longs} and
+ * {@link Doubles} don't box their items at all.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @since 1.0.0
@@ -46,11 +55,73 @@ public final class SumOf extends NumberEnvelope {
     public SumOf(final Iterable<? extends Number> src) {
         super(
             new NumberOfScalars(
-                new Folded<>(
-                    BigDecimal.ZERO,
-                    (sum, value) -> sum.add(new BigDecimal(value.toString())),
-                    src
-                )
+                () -> {
+                    final Summation sum = new Summation();
+                    for (final Number value : src) {
+                        sum.add(value);
+                    }
+                    return sum.sum();
+                }
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param src Integers
+     * @since 1.0
+     */
+    public SumOf(final Ints src) {
+        super(
+            new NumberOfScalars(
+                () -> {
+                    final PrimitiveIterator.OfInt items = src.iterator();
+                    final Summation sum = new Summation();
+                    while (items.hasNext()) {
+                        sum.add(items.nextInt());
+                    }
+                    return sum.sum();
+                }
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param src Longs
+     * @since 1.0
+     */
+    public SumOf(final Longs src) {
+        super(
+            new NumberOfScalars(
+                () -> {
+                    final PrimitiveIterator.OfLong items = src.iterator();
+                    final Summation sum = new Summation();
+                    while (items.hasNext()) {
+                        sum.add(items.nextLong());
+                    }
+                    return sum.sum();
+                }
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param src Doubles
+     * @since 1.0
+     */
+    public SumOf(final Doubles src) {
+        super(
+            new NumberOfScalars(
+                () -> {
+                    final PrimitiveIterator.OfDouble items = src.iterator();
+                    final Summation sum = new Summation();
+                    while (items.hasNext()) {
+                        sum.add(items.nextDouble());
+                    }
+                    return sum.sum();
+                }
             )
         );
     }
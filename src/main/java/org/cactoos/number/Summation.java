@@ -0,0 +1,209 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.number;
+
+import java.math.BigDecimal;
+
+/**
+ * Running sum of numbers, which uses {@link BigDecimal} only when
+ * it can't be avoided.
+ *
+ * <p>Integral numbers are added to a {@code long}, until it overflows.
+ * As soon as a {@link Double} or a {@link Float} is added, the sum
+ * becomes a {@code double} with Kahan-Babuska compensation, until it
+ * goes out of range. Other numbers, overflows and non-finite doubles
+ * turn the sum into a {@link BigDecimal}, which is what it always was
+ * before.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+final class Summation {
+
+    /**
+     * Nothing was added yet.
+     */
+    private static final int EMPTY = 0;
+
+    /**
+     * The sum is a {@code long}.
+     */
+    private static final int INTEGRAL = 1;
+
+    /**
+     * The sum is a compensated {@code double}.
+     */
+    private static final int FLOATING = 2;
+
+    /**
+     * The sum is a {@link BigDecimal}.
+     */
+    private static final int DECIMAL = 3;
+
+    /**
+     * Current kind of the sum.
+     */
+    private int kind;
+
+    /**
+     * Integral sum.
+     */
+    private long exact;
+
+    /**
+     * Floating point sum.
+     */
+    private double approx;
+
+    /**
+     * Compensation of the floating point sum.
+     */
+    private double compensation;
+
+    /**
+     * Decimal sum.
+     */
+    private BigDecimal decimal;
+
+    /**
+     * How many numbers were added.
+     */
+    private long qty;
+
+    /**
+     * Ctor.
+     */
+    Summation() {
+        this.kind = Summation.EMPTY;
+        this.decimal = BigDecimal.ZERO;
+    }
+
+    /**
+     * Add a number.
+     * @param value The number
+     * @return This
+     */
+    Summation add(final Number value) {
+        if (value instanceof Integer || value instanceof Long
+            || value instanceof Short || value instanceof Byte) {
+            this.add(value.longValue());
+        } else if (value instanceof Double || value instanceof Float) {
+            this.add(value.doubleValue());
+        } else {
+            this.qty += 1L;
+            this.widen();
+            this.decimal = this.decimal.add(new BigDecimal(value.toString()));
+        }
+        return this;
+    }
+
+    /**
+     * Add an integral number.
+     * @param value The number
+     * @return This
+     */
+    Summation add(final long value) {
+        if (this.kind == Summation.FLOATING) {
+            this.add((double) value);
+        } else {
+            this.qty += 1L;
+            final long next = this.exact + value;
+            if (this.kind == Summation.DECIMAL) {
+                this.decimal = this.decimal.add(BigDecimal.valueOf(value));
+            } else if (((this.exact ^ next) & (value ^ next)) < 0L) {
+                this.widen();
+                this.decimal = this.decimal.add(BigDecimal.valueOf(value));
+            } else {
+                this.kind = Summation.INTEGRAL;
+                this.exact = next;
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Add a floating point number.
+     * @param value The number
+     * @return This
+     */
+    Summation add(final double value) {
+        this.qty += 1L;
+        if (this.kind == Summation.INTEGRAL) {
+            this.kind = Summation.FLOATING;
+            this.approx = this.exact;
+        }
+        final double next = this.approx + value;
+        if (this.kind == Summation.DECIMAL || !Double.isFinite(next)) {
+            this.widen();
+            this.decimal = this.decimal.add(
+                new BigDecimal(Double.toString(value))
+            );
+        } else {
+            this.kind = Summation.FLOATING;
+            if (Math.abs(this.approx) >= Math.abs(value)) {
+                this.compensation += this.approx - next + value;
+            } else {
+                this.compensation += value - next + this.approx;
+            }
+            this.approx = next;
+        }
+        return this;
+    }
+
+    /**
+     * The sum.
+     * @return A {@link Long}, a {@link Double} or a {@link BigDecimal}
+     */
+    Number sum() {
+        final Number sum;
+        if (this.kind == Summation.DECIMAL) {
+            sum = this.decimal;
+        } else if (this.kind == Summation.FLOATING) {
+            sum = this.approx + this.compensation;
+        } else {
+            sum = this.exact;
+        }
+        return sum;
+    }
+
+    /**
+     * The arithmetic mean of all numbers added.
+     * @return The mean, zero if nothing was added
+     */
+    Number mean() {
+        final Number mean;
+        final long count = this.qty;
+        if (count == 0L) {
+            mean = 0L;
+        } else if (this.kind == Summation.DECIMAL) {
+            mean = this.decimal.divide(BigDecimal.valueOf(count));
+        } else if (this.kind == Summation.FLOATING) {
+            mean = (this.approx + this.compensation) / count;
+        } else {
+            final long total = this.exact;
+            mean = new NumberOfScalars(
+                () -> total / count,
+                () -> (int) (total / count),
+                () -> (float) ((double) total / count),
+                () -> (double) total / count
+            );
+        }
+        return mean;
+    }
+
+    /**
+     * Turn the sum into {@link BigDecimal}, if it's not yet.
+     */
+    private void widen() {
+        if (this.kind == Summation.INTEGRAL) {
+            this.decimal = BigDecimal.valueOf(this.exact);
+        } else if (this.kind == Summation.FLOATING) {
+            this.decimal = BigDecimal.valueOf(this.approx)
+                .add(BigDecimal.valueOf(this.compensation));
+        }
+        this.kind = Summation.DECIMAL;
+    }
+}
@@ -4,9 +4,13 @@
  */
 package org.cactoos.proc;
 
+import java.util.concurrent.ExecutorService;
+import org.cactoos.Func;
 import org.cactoos.Proc;
-import org.cactoos.func.FuncOf;
+import org.cactoos.Scalar;
+import org.cactoos.iterable.Mapped;
 import org.cactoos.scalar.AndInThreads;
+import org.cactoos.scalar.ScalarOf;
 
 /**
  * Executes a {@link Proc} in a new Thread for each element of an
@@ -25,6 +29,10 @@ import org.cactoos.scalar.AndInThreads;
  * // Order of printing can be random.
  * }
  *
+ * <p>By default every element gets its own thread, which is virtual on
+ * Java 21 and later. A shared {@link ExecutorService} and a limit of
+ * elements processed at the same time may be provided.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @param <X> The type to iterate over
@@ -37,18 +45,76 @@ public final class ForEachInThreads<X> implements Proc<Iterable<X>> {
      */
     private final Proc<X> proc;
 
+    /**
+     * Conjunction of tasks, which runs them.
+     */
+    private final Func<Iterable<? extends Scalar<Boolean>>, Scalar<Boolean>> conjunction;
+
     /**
      * Ctor.
      * @param proc The proc to execute
      */
     public ForEachInThreads(final Proc<X> proc) {
+        this(Integer.MAX_VALUE, proc);
+    }
+
+    /**
+     * Ctor.
+     * @param max Maximum number of elements processed at the same time
+     * @param proc The proc to execute
+     * @since 1.0
+     */
+    public ForEachInThreads(final int max, final Proc<X> proc) {
+        this(tasks -> new AndInThreads(max, tasks), proc);
+    }
+
+    /**
+     * Ctor.
+     * @param svc The service to execute the proc in, it won't be shut down
+     * @param proc The proc to execute
+     * @since 1.0
+     */
+    public ForEachInThreads(final ExecutorService svc, final Proc<X> proc) {
+        this(svc, Integer.MAX_VALUE, proc);
+    }
+
+    /**
+     * Ctor.
+     * @param svc The service to execute the proc in, it won't be shut down
+     * @param max Maximum number of elements processed at the same time
+     * @param proc The proc to execute
+     * @since 1.0
+     */
+    public ForEachInThreads(final ExecutorService svc, final int max,
+        final Proc<X> proc) {
+        this(tasks -> new AndInThreads(svc, max, tasks), proc);
+    }
+
+    /**
+     * Ctor.
+     * @param conj Conjunction of tasks, which runs them
+     * @param proc The proc to execute
+     */
+    private ForEachInThreads(
+        final Func<Iterable<? extends Scalar<Boolean>>, Scalar<Boolean>> conj,
+        final Proc<X> proc
+    ) {
+        this.conjunction = conj;
         this.proc = proc;
     }
 
     @Override
     public void exec(final Iterable<X> input) throws Exception {
-        new AndInThreads(
-            new FuncOf<>(this.proc, true), input
+        this.conjunction.apply(
+            new Mapped<>(
+                item -> new ScalarOf<>(
+                    () -> {
+                        this.proc.exec(item);
+                        return true;
+                    }
+                ),
+                input
+            )
         ).value();
     }
 }
@@ -6,8 +6,10 @@ package org.cactoos.scalar;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import org.cactoos.Func;
@@ -23,6 +25,18 @@ import org.cactoos.text.FormattedText;
  *
  * <p>The usage is same as for {@link And}</p>
  *
+ * <p>Unless an {@link ExecutorService} is provided, a new one is
+ * created by {@link ThreadPerTask} for every call of {@link #value()}
+ * and shut down afterwards, its threads are virtual on Java 21 and later.
+ * A shared service may be provided instead, it won't be shut down.
+ * The concurrency limit, if specified, makes {@link #value()} wait
+ * before submitting more tasks than that to the service.</p>
+ *
+ * <p>Results are checked in the order the tasks complete. As soon as
+ * one of them is {@code false} or fails, the rest of the tasks are
+ * cancelled (interrupted, if already running) and not submitted at all,
+ * if they are beyond the limit.</p>
+ *
  * <p>This class implements {@link Scalar}, which throws a checked
  * {@link Exception}. This may not be convenient in many cases. To make
  * it more convenient and get rid of the checked exception you can
@@ -38,7 +52,8 @@ import org.cactoos.text.FormattedText;
 public final class AndInThreads implements Scalar<Boolean> {
 
     /**
-     * The service, deferred.
+     * The service, deferred, a new one is made by every call, if it's
+     * going to be shut down.
      */
     private final Unchecked<ExecutorService> service;
 
@@ -52,6 +67,11 @@ public final class AndInThreads implements Scalar<Boolean> {
      */
     private final boolean shut;
 
+    /**
+     * Maximum number of tasks submitted at the same time.
+     */
+    private final int limit;
+
     /**
      * Ctor.
      * @param func Func to map
@@ -93,7 +113,18 @@ public final class AndInThreads implements Scalar<Boolean> {
      * @param src The iterable
      */
     public AndInThreads(final Iterable<? extends Scalar<Boolean>> src) {
-        this((Scalar<ExecutorService>) Executors::newCachedThreadPool, src, true);
+        this(Integer.MAX_VALUE, src);
+    }
+
+    /**
+     * Ctor.
+     * @param max Maximum number of tasks submitted at the same time
+     * @param src The iterable
+     * @since 1.0
+     */
+    public AndInThreads(final int max,
+        final Iterable<? extends Scalar<Boolean>> src) {
+        this(new ThreadPerTask(), src, true, max);
     }
 
     /**
@@ -182,7 +213,19 @@ public final class AndInThreads implements Scalar<Boolean> {
      */
     public AndInThreads(final ExecutorService svc,
         final Iterable<? extends Scalar<Boolean>> src) {
-        this((Scalar<ExecutorService>) () -> svc, src, false);
+        this(svc, Integer.MAX_VALUE, src);
+    }
+
+    /**
+     * Ctor.
+     * @param svc Executable service to run thread in
+     * @param max Maximum number of tasks submitted at the same time
+     * @param src The iterable
+     * @since 1.0
+     */
+    public AndInThreads(final ExecutorService svc, final int max,
+        final Iterable<? extends Scalar<Boolean>> src) {
+        this(() -> svc, src, false, max);
     }
 
     /**
@@ -190,28 +233,55 @@ public final class AndInThreads implements Scalar<Boolean> {
      * @param svc Executable service, deferred
      * @param src The iterable
      * @param sht Shut it down
+     * @param max Maximum number of tasks submitted at the same time
+     * @checkstyle ParameterNumberCheck (5 lines)
      */
     private AndInThreads(final Scalar<ExecutorService> svc,
-        final Iterable<? extends Scalar<Boolean>> src, final boolean sht) {
-        this.service = new Unchecked<>(new Sticky<>(svc));
+        final Iterable<? extends Scalar<Boolean>> src, final boolean sht,
+        final int max) {
+        this.service = new Unchecked<>(svc);
         this.iterable = src;
         this.shut = sht;
+        this.limit = max;
     }
 
     @Override
     public Boolean value() throws Exception {
+        if (this.limit < 1) {
+            throw new IllegalArgumentException(
+                new FormattedText(
+                    "The limit must be positive, %d given", this.limit
+                ).asString()
+            );
+        }
+        final ExecutorService svc = this.service.value();
+        final CompletionService<Boolean> completion =
+            new ExecutorCompletionService<>(svc);
         final Collection<Future<Boolean>> futures = new ArrayList<>(0);
-        for (final Scalar<Boolean> item : this.iterable) {
-            futures.add(this.service.value().submit(item::value));
+        final Iterator<? extends Scalar<Boolean>> items = this.iterable.iterator();
+        boolean result = true;
+        int pending = 0;
+        try {
+            while (result && (pending > 0 || items.hasNext())) {
+                if (pending < this.limit && items.hasNext()) {
+                    futures.add(completion.submit(items.next()::value));
+                    pending += 1;
+                } else {
+                    result = completion.take().get();
+                    pending -= 1;
+                }
+            }
+        } finally {
+            for (final Future<Boolean> future : futures) {
+                future.cancel(true);
+            }
+            if (this.shut) {
+                svc.shutdown();
+            }
         }
-        final boolean result = new And(
-            Future::get,
-            futures
-        ).value();
         if (this.shut) {
-            this.service.value().shutdown();
             try {
-                if (!this.service.value().awaitTermination(1L, TimeUnit.MINUTES)) {
+                if (!svc.awaitTermination(1L, TimeUnit.MINUTES)) {
                     throw new IllegalStateException(
                         new FormattedText(
                             "Can't terminate the service, result=%b",
@@ -0,0 +1,94 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.scalar;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import org.cactoos.Scalar;
+import org.cactoos.map.MapEntry;
+
+/**
+ * Cached and synchronized version of a Scalar, which expires.
+ *
+ * <p>The value is calculated once and served from the cache until
+ * the given time-to-live passes since it was calculated. The first
+ * request after that calculates it again, while concurrent requests
+ * wait for the new value.</p>
+ *
+ * <pre>{@code
+ * final Scalar<Properties> config = new Expiring<>(
+ *     new PropertiesOf(new ResourceOf("app.properties")),
+ *     Duration.ofMinutes(5L)
+ * );
+ * }</pre>
+ *
+ * <p>Objects of this class are thread safe.
+ *
+ * @param <T> Type of result
+ * @see Solid
+ * @see Refreshing
+ * @since 1.0
+ */
+@SuppressWarnings("PMD.AvoidSynchronizedStatement")
+public final class Expiring<T> implements Scalar<T> {
+
+    /**
+     * Origin.
+     */
+    private final Scalar<? extends T> origin;
+
+    /**
+     * Time-to-live, in nanoseconds.
+     */
+    private final long ttl;
+
+    /**
+     * The value and the moment it was calculated at.
+     */
+    private final AtomicReference<Map.Entry<Long, T>> cache;
+
+    /**
+     * Sync lock.
+     */
+    private final Object lock;
+
+    /**
+     * Ctor.
+     * @param origin The Scalar to cache
+     * @param ttl Time-to-live of the value
+     */
+    public Expiring(final Scalar<? extends T> origin, final Duration ttl) {
+        this.origin = origin;
+        this.ttl = ttl.toNanos();
+        this.cache = new AtomicReference<>();
+        this.lock = new Object();
+    }
+
+    @Override
+    public T value() throws Exception {
+        Map.Entry<Long, T> entry = this.cache.get();
+        if (this.expired(entry)) {
+            synchronized (this.lock) {
+                entry = this.cache.get();
+                if (this.expired(entry)) {
+                    final T value = this.origin.value();
+                    entry = new MapEntry<>(System.nanoTime(), value);
+                    this.cache.set(entry);
+                }
+            }
+        }
+        return entry.getValue();
+    }
+
+    /**
+     * Whether the entry has to be calculated again.
+     * @param entry The entry, or NULL if it was never calculated
+     * @return TRUE if expired
+     */
+    private boolean expired(final Map.Entry<Long, T> entry) {
+        return entry == null || System.nanoTime() - entry.getKey() >= this.ttl;
+    }
+}
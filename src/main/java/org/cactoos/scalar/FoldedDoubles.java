@@ -0,0 +1,65 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.scalar;
+
+import java.util.PrimitiveIterator;
+import java.util.function.DoubleBinaryOperator;
+import org.cactoos.Scalar;
+import org.cactoos.iterable.Doubles;
+
+/**
+ * Folds {@link Doubles} without boxing items, only the result is boxed.
+ *
+ * <pre>{@code
+ * final double product = new FoldedDoubles(
+ *     1, (acc, item) -> acc * item, new DoublesOf(1, 2, 3)
+ * ).value();
+ * }</pre>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @see Folded
+ * @since 1.0
+ */
+public final class FoldedDoubles implements Scalar<Double> {
+
+    /**
+     * Initial value.
+     */
+    private final double input;
+
+    /**
+     * Function.
+     */
+    private final DoubleBinaryOperator func;
+
+    /**
+     * Items.
+     */
+    private final Doubles items;
+
+    /**
+     * Ctor.
+     * @param input Initial value
+     * @param func Function of the accumulated value and the next item
+     * @param items Items
+     */
+    public FoldedDoubles(final double input, final DoubleBinaryOperator func,
+        final Doubles items) {
+        this.input = input;
+        this.func = func;
+        this.items = items;
+    }
+
+    @Override
+    public Double value() {
+        double acc = this.input;
+        final PrimitiveIterator.OfDouble iterator = this.items.iterator();
+        while (iterator.hasNext()) {
+            acc = this.func.applyAsDouble(acc, iterator.nextDouble());
+        }
+        return acc;
+    }
+}
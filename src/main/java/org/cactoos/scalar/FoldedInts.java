@@ -0,0 +1,65 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.scalar;
+
+import java.util.PrimitiveIterator;
+import java.util.function.IntBinaryOperator;
+import org.cactoos.Scalar;
+import org.cactoos.iterable.Ints;
+
+/**
+ * Folds {@link Ints} without boxing items, only the result is boxed.
+ *
+ * <pre>{@code
+ * final int product = new FoldedInts(
+ *     1, (acc, item) -> acc * item, new IntsOf(1, 2, 3)
+ * ).value();
+ * }</pre>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @see Folded
+ * @since 1.0
+ */
+public final class FoldedInts implements Scalar<Integer> {
+
+    /**
+     * Initial value.
+     */
+    private final int input;
+
+    /**
+     * Function.
+     */
+    private final IntBinaryOperator func;
+
+    /**
+     * Items.
+     */
+    private final Ints items;
+
+    /**
+     * Ctor.
+     * @param input Initial value
+     * @param func Function of the accumulated value and the next item
+     * @param items Items
+     */
+    public FoldedInts(final int input, final IntBinaryOperator func,
+        final Ints items) {
+        this.input = input;
+        this.func = func;
+        this.items = items;
+    }
+
+    @Override
+    public Integer value() {
+        int acc = this.input;
+        final PrimitiveIterator.OfInt iterator = this.items.iterator();
+        while (iterator.hasNext()) {
+            acc = this.func.applyAsInt(acc, iterator.nextInt());
+        }
+        return acc;
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.scalar;
+
+import java.util.PrimitiveIterator;
+import java.util.function.LongBinaryOperator;
+import org.cactoos.Scalar;
+import org.cactoos.iterable.Longs;
+
+/**
+ * Folds {@link Longs} without boxing items, only the result is boxed.
+ *
+ * <pre>{@code
+ * final long product = new FoldedLongs(
+ *     1, (acc, item) -> acc * item, new LongsOf(1, 2, 3)
+ * ).value();
+ * }</pre>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @see Folded
+ * @since 1.0
+ */
+public final class FoldedLongs implements Scalar<Long> {
+
+    /**
+     * Initial value.
+     */
+    private final long input;
+
+    /**
+     * Function.
+     */
+    private final LongBinaryOperator func;
+
+    /**
+     * Items.
+     */
+    private final Longs items;
+
+    /**
+     * Ctor.
+     * @param input Initial value
+     * @param func Function of the accumulated value and the next item
+     * @param items Items
+     */
+    public FoldedLongs(final long input, final LongBinaryOperator func,
+        final Longs items) {
+        this.input = input;
+        this.func = func;
+        this.items = items;
+    }
+
+    @Override
+    public Long value() {
+        long acc = this.input;
+        final PrimitiveIterator.OfLong iterator = this.items.iterator();
+        while (iterator.hasNext()) {
+            acc = this.func.applyAsLong(acc, iterator.nextLong());
+        }
+        return acc;
+    }
+}
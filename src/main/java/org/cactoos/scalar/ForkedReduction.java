@@ -0,0 +1,83 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.scalar;
+
+import java.util.Spliterator;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicReference;
+import org.cactoos.func.UncheckedBiFunc;
+
+/**
+ * Fork/join task, which reduces items of a non-empty
+ * {@link Spliterator}, preserving their order.
+ *
+ * <p>The spliterator is split until its parts are not bigger
+ * than the grain, then every part is reduced sequentially and results
+ * of the parts are reduced in their order.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <T> Type of item
+ * @since 1.0
+ */
+@SuppressWarnings("serial")
+final class ForkedReduction<T> extends RecursiveTask<T> {
+
+    /**
+     * Items.
+     */
+    private final transient Spliterator<T> items;
+
+    /**
+     * Reducing function.
+     */
+    private final transient UncheckedBiFunc<T, T, T> func;
+
+    /**
+     * Maximum number of items reduced sequentially.
+     */
+    private final long grain;
+
+    /**
+     * Ctor.
+     * @param src Items
+     * @param fnc Reducing function
+     * @param max Maximum number of items reduced sequentially
+     */
+    ForkedReduction(final Spliterator<T> src,
+        final UncheckedBiFunc<T, T, T> fnc, final long max) {
+        super();
+        this.items = src;
+        this.func = fnc;
+        this.grain = max;
+    }
+
+    @Override
+    protected T compute() {
+        Spliterator<T> prefix = null;
+        if (this.items.estimateSize() > this.grain) {
+            prefix = this.items.trySplit();
+        }
+        final T result;
+        if (prefix == null) {
+            final AtomicReference<T> acc = new AtomicReference<>();
+            this.items.tryAdvance(acc::set);
+            this.items.forEachRemaining(
+                item -> acc.set(this.func.apply(acc.get(), item))
+            );
+            result = acc.get();
+        } else {
+            final ForkedReduction<T> first = new ForkedReduction<>(
+                prefix, this.func, this.grain
+            );
+            first.fork();
+            final T second = new ForkedReduction<>(
+                this.items, this.func, this.grain
+            ).compute();
+            result = this.func.apply(first.join(), second);
+        }
+        return result;
+    }
+}
@@ -10,10 +10,18 @@ import java.util.Iterator;
 import org.cactoos.Input;
 import org.cactoos.Scalar;
 import org.cactoos.Text;
+import org.cactoos.io.Buffers;
+import org.cactoos.io.ChannelInputStream;
+import org.cactoos.io.FreshBuffers;
+import org.cactoos.io.JoinedInputStream;
 
 /**
  * Length.
  *
+ * <p>The length of a {@link org.cactoos.io.ChannelInput} is the size of
+ * its file, which is not read at all. The same way, parts of
+ * a {@link org.cactoos.io.Joined}, which are channels, are not read.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @since 0.1
@@ -59,17 +67,38 @@ public final class LengthOf extends ScalarEnvelope<Long> {
      * @param max Buffer size
      */
     public LengthOf(final Input input, final int max) {
+        this(input, new FreshBuffers<>(max, byte[]::new));
+    }
+
+    /**
+     * Ctor.
+     * @param input The input
+     * @param buffers Buffers for reading
+     */
+    public LengthOf(final Input input, final Buffers<byte[]> buffers) {
         this(() -> {
-            if (max == 0) {
-                throw new IllegalArgumentException(
-                    "Cannot use a buffer limited to zero size"
-                );
-            }
             try (InputStream stream = input.stream()) {
-                final byte[] buf = new byte[max];
                 long length = 0L;
-                for (int len = stream.read(buf); len >= 0; len = stream.read(buf)) {
-                    length += len;
+                if (stream instanceof ChannelInputStream channel) {
+                    length = channel.channel().size() - channel.channel().position();
+                } else {
+                    final byte[] buf = buffers.take();
+                    try {
+                        if (buf.length == 0) {
+                            throw new IllegalArgumentException(
+                                "Cannot use a buffer limited to zero size"
+                            );
+                        }
+                        if (stream instanceof JoinedInputStream joined) {
+                            length = joined.exhaust(buf);
+                        } else {
+                            for (int len = stream.read(buf); len >= 0; len = stream.read(buf)) {
+                                length += len;
+                            }
+                        }
+                    } finally {
+                        buffers.give(buf);
+                    }
                 }
                 return length;
             }
@@ -0,0 +1,116 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.scalar;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import org.cactoos.BiFunc;
+import org.cactoos.Scalar;
+import org.cactoos.func.UncheckedBiFunc;
+import org.cactoos.iterable.IterableOf;
+
+/**
+ * Reduction of items in parallel.
+ *
+ * <p>The items are copied into a list, which is split by its
+ * {@link java.util.Spliterator} into parts, reduced in the
+ * {@link ForkJoinPool}. Then results of the parts are reduced,
+ * in their order. Because of that, the function must be associative
+ * and thread-safe, like {@code Math::max} or {@code Long::sum}:</p>
+ *
+ * <pre>{@code
+ * final long total = new ParallelReduced<>(
+ *     Long::sum,
+ *     new ParallelMapped<>(this::weigh, items)
+ * ).value();
+ * }</pre>
+ *
+ * <p>It makes sense for CPU-bound functions over big sources,
+ * otherwise {@link Reduced} is faster.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <T> Type of item
+ * @see Reduced
+ * @since 1.0
+ */
+public final class ParallelReduced<T> implements Scalar<T> {
+
+    /**
+     * The pool.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Items.
+     */
+    private final Iterable<? extends T> items;
+
+    /**
+     * Reducing function.
+     */
+    private final BiFunc<? super T, ? super T, ? extends T> function;
+
+    /**
+     * Ctor.
+     * @param reduce Associative reducing function
+     * @param values Values to reduce
+     */
+    @SafeVarargs
+    public ParallelReduced(
+        final BiFunc<? super T, ? super T, ? extends T> reduce,
+        final T... values
+    ) {
+        this(reduce, new IterableOf<>(values));
+    }
+
+    /**
+     * Ctor.
+     * @param reduce Associative reducing function
+     * @param values Values to reduce
+     */
+    public ParallelReduced(
+        final BiFunc<? super T, ? super T, ? extends T> reduce,
+        final Iterable<? extends T> values
+    ) {
+        this(ForkJoinPool.commonPool(), reduce, values);
+    }
+
+    /**
+     * Ctor.
+     * @param pool The pool to reduce in
+     * @param reduce Associative reducing function
+     * @param values Values to reduce
+     */
+    public ParallelReduced(
+        final ForkJoinPool pool,
+        final BiFunc<? super T, ? super T, ? extends T> reduce,
+        final Iterable<? extends T> values
+    ) {
+        this.pool = pool;
+        this.function = reduce;
+        this.items = values;
+    }
+
+    @Override
+    public T value() {
+        final List<T> list = new ArrayList<>(0);
+        this.items.forEach(list::add);
+        if (list.isEmpty()) {
+            throw new NoSuchElementException(
+                "Can't find first element in an empty iterable"
+            );
+        }
+        return this.pool.invoke(
+            new ForkedReduction<>(
+                list.spliterator(),
+                new UncheckedBiFunc<T, T, T>(this.function::apply),
+                Math.max(1L, list.size() / (this.pool.getParallelism() * 4L))
+            )
+        );
+    }
+}
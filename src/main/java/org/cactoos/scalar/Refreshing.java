@@ -0,0 +1,169 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.scalar;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.cactoos.Scalar;
+import org.cactoos.map.MapEntry;
+
+/**
+ * Cached and synchronized version of a Scalar, which is refreshed
+ * ahead in the background.
+ *
+ * <p>The first request calculates the value. When the value gets older
+ * than the refresh period, the next request starts a new calculation
+ * in the given {@link ExecutorService} and returns the old value
+ * immediately, as well as all other requests, until the new value
+ * replaces it. If the background calculation fails, or the executor
+ * rejects it, the old value is kept and the calculation is repeated
+ * by the next request.</p>
+ *
+ * <p>The value may also have a time-to-live: when it gets older than
+ * that, for example because there were no requests for a long time,
+ * it is calculated again in the requesting thread, as {@link Expiring}
+ * does.</p>
+ *
+ * <pre>{@code
+ * final Scalar<Rates> rates = new Refreshing<>(
+ *     () -> exchange.rates(),
+ *     Duration.ofMinutes(1L),
+ *     executor
+ * );
+ * }</pre>
+ *
+ * <p>The executor is not shut down by this object.</p>
+ *
+ * <p>Objects of this class are thread safe.
+ *
+ * @param <T> Type of result
+ * @see Expiring
+ * @since 1.0
+ */
+@SuppressWarnings("PMD.AvoidSynchronizedStatement")
+public final class Refreshing<T> implements Scalar<T> {
+
+    /**
+     * Origin.
+     */
+    private final Scalar<? extends T> origin;
+
+    /**
+     * Refresh period, in nanoseconds.
+     */
+    private final long refresh;
+
+    /**
+     * Time-to-live, in nanoseconds.
+     */
+    private final long ttl;
+
+    /**
+     * Executor of background calculations.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * The value and the moment it was calculated at.
+     */
+    private final AtomicReference<Map.Entry<Long, T>> cache;
+
+    /**
+     * Whether a background calculation is running.
+     */
+    private final AtomicBoolean running;
+
+    /**
+     * Sync lock.
+     */
+    private final Object lock;
+
+    /**
+     * Ctor.
+     * @param origin The Scalar to cache
+     * @param refresh Age of the value to start refreshing it at
+     * @param executor Executor of background calculations
+     */
+    public Refreshing(final Scalar<? extends T> origin,
+        final Duration refresh, final ExecutorService executor) {
+        this(origin, refresh, Duration.ofNanos(Long.MAX_VALUE), executor);
+    }
+
+    /**
+     * Ctor.
+     * @param origin The Scalar to cache
+     * @param refresh Age of the value to start refreshing it at
+     * @param ttl Age of the value to stop serving it at
+     * @param executor Executor of background calculations
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public Refreshing(final Scalar<? extends T> origin,
+        final Duration refresh, final Duration ttl,
+        final ExecutorService executor) {
+        this.origin = origin;
+        this.refresh = refresh.toNanos();
+        this.ttl = ttl.toNanos();
+        this.executor = executor;
+        this.cache = new AtomicReference<>();
+        this.running = new AtomicBoolean();
+        this.lock = new Object();
+    }
+
+    @Override
+    @SuppressWarnings("FutureReturnValueIgnored")
+    public T value() throws Exception {
+        Map.Entry<Long, T> entry = this.cache.get();
+        if (entry == null || this.older(entry, this.ttl)) {
+            synchronized (this.lock) {
+                entry = this.cache.get();
+                if (entry == null || this.older(entry, this.ttl)) {
+                    entry = this.calculated();
+                }
+            }
+        } else if (this.older(entry, this.refresh)
+            && this.running.compareAndSet(false, true)) {
+            try {
+                this.executor.submit(
+                    () -> {
+                        try {
+                            return this.calculated();
+                        } finally {
+                            this.running.set(false);
+                        }
+                    }
+                );
+            } catch (final RejectedExecutionException ex) {
+                this.running.set(false);
+            }
+        }
+        return entry.getValue();
+    }
+
+    /**
+     * Calculate the value and put it into the cache.
+     * @return The entry
+     * @throws Exception If fails
+     */
+    private Map.Entry<Long, T> calculated() throws Exception {
+        final T value = this.origin.value();
+        final Map.Entry<Long, T> entry = new MapEntry<>(System.nanoTime(), value);
+        this.cache.set(entry);
+        return entry;
+    }
+
+    /**
+     * Whether the entry is older than the given age.
+     * @param entry The entry
+     * @param age The age, in nanoseconds
+     * @return TRUE if older
+     */
+    private boolean older(final Map.Entry<Long, T> entry, final long age) {
+        return System.nanoTime() - entry.getKey() >= age;
+    }
+}
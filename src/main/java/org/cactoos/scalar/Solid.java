@@ -14,6 +14,7 @@ import org.cactoos.Scalar;
  * @param <T> Type of result
  * @see Sticky
  * @see Synced
+ * @see Expiring
  * @since 0.24
  */
 @SuppressWarnings("PMD.AvoidSynchronizedStatement")
@@ -4,7 +4,7 @@
  */
 package org.cactoos.scalar;
 
-import org.cactoos.Func;
+import java.util.concurrent.atomic.AtomicReference;
 import org.cactoos.Scalar;
 import org.cactoos.func.StickyFunc;
 
@@ -12,7 +12,11 @@ import org.cactoos.func.StickyFunc;
  * Cached version of a Scalar.
  *
  * <p>This {@link Scalar} decorator technically is an in-memory
- * cache.</p>
+ * cache of a single value, so reading it, once it's calculated, costs
+ * about as much as reading a field: nothing is allocated and nothing is
+ * hashed. The value is published with release and read with acquire
+ * semantics, so a thread, which sees it, sees it fully constructed.
+ * Still, two threads may calculate it at the same time.</p>
  *
  * <p>Pay attention that this class is not thread-safe. It is highly
  * recommended to always decorate it with {@link Synced}.</p>
@@ -41,22 +45,37 @@ import org.cactoos.func.StickyFunc;
 public final class Sticky<T> implements Scalar<T> {
 
     /**
-     * Func.
+     * Marker of the value, which is not calculated yet.
      */
-    private final Func<Boolean, ? extends T> func;
+    private static final Object EMPTY = new Object();
+
+    /**
+     * The scalar to cache.
+     */
+    private final Scalar<? extends T> origin;
+
+    /**
+     * The value, or {@link #EMPTY}.
+     */
+    private final AtomicReference<Object> cache;
 
     /**
      * Ctor.
      * @param scalar The Scalar to cache
      */
     public Sticky(final Scalar<? extends T> scalar) {
-        this.func = new StickyFunc<>(
-            input -> scalar.value()
-        );
+        this.origin = scalar;
+        this.cache = new AtomicReference<>(Sticky.EMPTY);
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public T value() throws Exception {
-        return this.func.apply(true);
+        Object cached = this.cache.getAcquire();
+        if (cached == Sticky.EMPTY) {
+            cached = this.origin.value();
+            this.cache.setRelease(cached);
+        }
+        return (T) cached;
     }
 }
@@ -0,0 +1,73 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.scalar;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.cactoos.Scalar;
+
+/**
+ * New {@link ExecutorService}, which starts a thread for every task.
+ *
+ * <p>On Java 21 and later the threads are virtual, so that thousands
+ * of blocking tasks don't exhaust the platform threads. On earlier
+ * versions {@link Executors#newCachedThreadPool()} is used instead.
+ * The version is checked at runtime, so the same binary works
+ * everywhere. On Java 19 and 20, where virtual threads are a preview
+ * feature, they are used only if the preview is enabled:</p>
+ *
+ * <pre>{@code
+ * final ExecutorService service = new ThreadPerTask().value();
+ * }</pre>
+ *
+ * <p>The caller is responsible for shutting the service down.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @see AndInThreads
+ * @since 1.0
+ */
+public final class ThreadPerTask implements Scalar<ExecutorService> {
+
+    @Override
+    public ExecutorService value() {
+        ExecutorService service = this.virtuals();
+        if (service == null) {
+            service = Executors.newCachedThreadPool();
+        }
+        return service;
+    }
+
+    /**
+     * Whether threads are virtual.
+     * @return TRUE if this JVM supports virtual threads
+     */
+    public boolean virtual() {
+        final ExecutorService service = this.virtuals();
+        if (service != null) {
+            service.shutdown();
+        }
+        return service != null;
+    }
+
+    /**
+     * New executor of virtual threads.
+     * @return The executor, or NULL if this JVM can't start virtual threads
+     */
+    private ExecutorService virtuals() {
+        ExecutorService service;
+        try {
+            final Method factory = Executors.class.getMethod(
+                "newVirtualThreadPerTaskExecutor"
+            );
+            service = (ExecutorService) factory.invoke(null);
+        } catch (final ReflectiveOperationException
+            | UnsupportedOperationException ex) {
+            service = null;
+        }
+        return service;
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.text;
+
+import java.math.BigInteger;
+import java.util.Formattable;
+import java.util.Locale;
+import org.cactoos.Func;
+
+/**
+ * Part of a {@link Template}, which is a format specifier of one
+ * argument.
+ *
+ * <p>The specifier is {@code %s}, {@code %d} or {@code %x} without
+ * flags, width and precision, and it's printed right away, the same way
+ * as {@link java.util.Formatter} does it. An argument of a type the fast
+ * path doesn't know, or a missing one, is formatted by
+ * a {@link java.util.Formatter}.</p>
+ *
+ * <p>This class is for internal use only.</p>
+ *
+ * <p>This class is thread-safe.
+ *
+ * @since 1.0
+ */
+final class ArgumentPart implements FormatPart {
+
+    /**
+     * The specifier.
+     */
+    private final String spec;
+
+    /**
+     * Position of the argument.
+     */
+    private final int index;
+
+    /**
+     * Does the locale print digits as {@code 0-9}?
+     */
+    private final Func<Locale, Boolean> latin;
+
+    /**
+     * Ctor.
+     * @param spc The specifier
+     * @param idx Position of the argument
+     * @param ltn Does the locale print digits as {@code 0-9}?
+     */
+    ArgumentPart(final String spc, final int idx,
+        final Func<Locale, Boolean> ltn) {
+        this.spec = spc;
+        this.index = idx;
+        this.latin = ltn;
+    }
+
+    @Override
+    public void render(final Appendable out, final Locale locale,
+        final Object... args) throws Exception {
+        String fast = null;
+        if (this.index < args.length) {
+            fast = this.printed(args[this.index], locale);
+        }
+        if (fast != null) {
+            out.append(fast);
+        } else if (this.index < args.length) {
+            new FormatterPart(this.spec).render(out, locale, args[this.index]);
+        } else {
+            new FormatterPart(this.spec).render(out, locale);
+        }
+    }
+
+    /**
+     * Print the argument without a {@link java.util.Formatter}.
+     * @param arg The argument
+     * @param locale The locale
+     * @return The text, or NULL if it can't be printed so
+     * @throws Exception If fails
+     */
+    private String printed(final Object arg, final Locale locale)
+        throws Exception {
+        String text = null;
+        if ("%s".equals(this.spec) && !(arg instanceof Formattable)) {
+            text = String.valueOf(arg);
+        } else if ("%d".equals(this.spec) && arg == null) {
+            text = "null";
+        } else if ("%d".equals(this.spec) && this.integral(arg)
+            && this.latin.apply(locale)) {
+            text = arg.toString();
+        } else if ("%x".equals(this.spec)) {
+            text = this.hex(arg);
+        }
+        return text;
+    }
+
+    /**
+     * Is it an integral number, which {@code %d} prints?
+     * @param arg The argument
+     * @return TRUE if it is
+     */
+    private boolean integral(final Object arg) {
+        return arg instanceof Integer || arg instanceof Long
+            || arg instanceof Short || arg instanceof Byte
+            || arg instanceof BigInteger;
+    }
+
+    /**
+     * Print the argument as {@code %x} does.
+     * @param arg The argument
+     * @return The text, or NULL if it's not an integral number
+     */
+    private String hex(final Object arg) {
+        final String text;
+        if (arg == null) {
+            text = "null";
+        } else if (arg instanceof Integer num) {
+            text = Integer.toHexString(num);
+        } else if (arg instanceof Long num) {
+            text = Long.toHexString(num);
+        } else if (arg instanceof Short num) {
+            text = Integer.toHexString(Short.toUnsignedInt(num));
+        } else if (arg instanceof Byte num) {
+            text = Integer.toHexString(Byte.toUnsignedInt(num));
+        } else if (arg instanceof BigInteger num) {
+            text = num.toString(16);
+        } else {
+            text = null;
+        }
+        return text;
+    }
+}
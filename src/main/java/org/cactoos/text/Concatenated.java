@@ -7,6 +7,7 @@ package org.cactoos.text;
 import org.cactoos.Text;
 import org.cactoos.iterable.IterableOf;
 import org.cactoos.iterable.Mapped;
+import org.cactoos.list.ListOf;
 
 /**
  * Concatenate a Text.
@@ -22,7 +23,7 @@ public final class Concatenated extends TextEnvelope {
      * @param txts Texts to be concatenated
      */
     public Concatenated(final Text... txts) {
-        this(new IterableOf<>(txts));
+        this(new ListOf<>(txts));
     }
 
     /**
@@ -31,9 +32,11 @@ public final class Concatenated extends TextEnvelope {
      */
     public Concatenated(final CharSequence... strs) {
         this(
-            new Mapped<>(
-                TextOf::new,
-                new IterableOf<>(strs)
+            new ListOf<Text>(
+                new Mapped<>(
+                    TextOf::new,
+                    new IterableOf<>(strs)
+                )
             )
         );
     }
@@ -0,0 +1,26 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.text;
+
+import java.util.Locale;
+
+/**
+ * Part of a compiled {@link Template}.
+ *
+ * <p>This interface is for internal use only.</p>
+ *
+ * @since 1.0
+ */
+interface FormatPart {
+
+    /**
+     * Append the part to the output.
+     * @param out The output
+     * @param locale The locale
+     * @param args All arguments of the template
+     * @throws Exception If fails
+     */
+    void render(Appendable out, Locale locale, Object... args) throws Exception;
+}
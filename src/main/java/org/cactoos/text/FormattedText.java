@@ -15,6 +15,13 @@ import org.cactoos.scalar.Unchecked;
 /**
  * Text in Sprintf format.
  *
+ * <p>The pattern is formatted by a {@link Formatter} every time the
+ * text is printed, just like {@link String#format} does it. A pattern,
+ * which is used over and over again, may be compiled into
+ * a {@link Template} once and given instead, so that it's parsed only
+ * once and its simple specifiers are printed without
+ * a {@link Formatter}.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @since 0.1
@@ -121,6 +128,38 @@ public final class FormattedText extends TextEnvelope {
         this(ptn, (Scalar<Locale>) () -> locale, args);
     }
 
+    /**
+     * New formatted string with default locale.
+     * @param tpl Template
+     * @param arguments Arguments
+     */
+    public FormattedText(final Template tpl, final Object... arguments) {
+        this(
+            tpl,
+            Locale.getDefault(Locale.Category.FORMAT),
+            arguments
+        );
+    }
+
+    /**
+     * New formatted string with specified locale.
+     * @param tpl Template
+     * @param locale Format locale
+     * @param arguments Arguments
+     */
+    public FormattedText(
+        final Template tpl,
+        final Locale locale,
+        final Object... arguments
+    ) {
+        super(
+            new RenderedText(
+                () -> -1L,
+                out -> tpl.render(out, locale, arguments)
+            )
+        );
+    }
+
     /**
      * New formatted string with deferred locale.
      * @param ptn Pattern
@@ -0,0 +1,49 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.text;
+
+import java.io.IOException;
+import java.util.Formatter;
+import java.util.Locale;
+
+/**
+ * Part of a {@link Template}, which is formatted by a {@link Formatter}.
+ *
+ * <p>The {@link Formatter} is not closed, since that would close
+ * the output. Errors of the output, which the {@link Formatter}
+ * keeps to itself, are thrown.</p>
+ *
+ * <p>This class is for internal use only.</p>
+ *
+ * <p>This class is thread-safe.
+ *
+ * @since 1.0
+ */
+final class FormatterPart implements FormatPart {
+
+    /**
+     * The format.
+     */
+    private final String format;
+
+    /**
+     * Ctor.
+     * @param fmt The format
+     */
+    FormatterPart(final String fmt) {
+        this.format = fmt;
+    }
+
+    @Override
+    public void render(final Appendable out, final Locale locale,
+        final Object... args) throws IOException {
+        @SuppressWarnings("PMD.CloseResource")
+        final Formatter fmt = new Formatter(out, locale);
+        fmt.format(this.format, args);
+        if (fmt.ioException() != null) {
+            throw fmt.ioException();
+        }
+    }
+}
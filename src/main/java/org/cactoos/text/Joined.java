@@ -4,10 +4,12 @@
  */
 package org.cactoos.text;
 
-import java.util.StringJoiner;
+import java.util.Collection;
+import java.util.Iterator;
 import org.cactoos.Text;
 import org.cactoos.iterable.IterableOf;
 import org.cactoos.iterable.Mapped;
+import org.cactoos.list.ListOf;
 
 /**
  * Join a Text.
@@ -15,6 +17,11 @@ import org.cactoos.iterable.Mapped;
  * <p>This class joins multiple {@link Text} instances into a single
  * text using a specified delimiter between elements.</p>
  *
+ * <p>The parts are rendered one after another into the same output,
+ * see {@link Renderable}. When the texts are given as a
+ * {@link Collection} and the lengths of all of them are known, the
+ * length of the result is known too.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * <p>Example:</p>
@@ -42,7 +49,10 @@ public final class Joined extends TextEnvelope {
      * @param strs Strings to be joined
      */
     public Joined(final CharSequence delimit, final CharSequence... strs) {
-        this(delimit, new IterableOf<>(strs));
+        this(
+            new TextOf(delimit),
+            new ListOf<Text>(new Mapped<>(TextOf::new, new IterableOf<>(strs)))
+        );
     }
 
     /**
@@ -69,7 +79,7 @@ public final class Joined extends TextEnvelope {
      * @param txts Texts to be joined
      */
     public Joined(final Text delimit, final Text... txts) {
-        this(delimit, new IterableOf<>(txts));
+        this(delimit, new ListOf<>(txts));
     }
 
     /**
@@ -81,7 +91,7 @@ public final class Joined extends TextEnvelope {
      * @param txts Texts to be joined
      */
     public Joined(final CharSequence delimit, final Text... txts) {
-        this(new TextOf(delimit), new IterableOf<>(txts));
+        this(new TextOf(delimit), new ListOf<>(txts));
     }
 
     /**
@@ -94,13 +104,36 @@ public final class Joined extends TextEnvelope {
      */
     public Joined(final Text delimit, final Iterable<? extends Text> txts) {
         super(
-            new TextOf(
+            new RenderedText(
                 () -> {
-                    final StringJoiner joint = new StringJoiner(delimit.asString());
+                    long length = -1L;
+                    if (txts instanceof Collection<?> items) {
+                        final long delim = new RenderableOf(delimit).length();
+                        if (delim >= 0L) {
+                            length = delim * Math.max(items.size() - 1, 0);
+                        }
+                        final Iterator<? extends Text> parts = txts.iterator();
+                        while (length >= 0L && parts.hasNext()) {
+                            final long part = new RenderableOf(parts.next()).length();
+                            if (part < 0L) {
+                                length = -1L;
+                            } else {
+                                length += part;
+                            }
+                        }
+                    }
+                    return length;
+                },
+                out -> {
+                    final String delim = delimit.asString();
+                    boolean first = true;
                     for (final Text text : txts) {
-                        joint.add(text.asString());
+                        if (!first) {
+                            out.append(delim);
+                        }
+                        new RenderableOf(text).render(out);
+                        first = false;
                     }
-                    return joint.toString();
                 }
             )
         );
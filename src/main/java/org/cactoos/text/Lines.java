@@ -0,0 +1,88 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.text;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import org.cactoos.Input;
+import org.cactoos.Text;
+import org.cactoos.iterable.IterableEnvelope;
+import org.cactoos.iterable.Mapped;
+
+/**
+ * Lines of an {@link Input}.
+ *
+ * <p>Lines end with {@code \n} or {@code \r\n}, which are not included.
+ * The input is read while it's being iterated, the same way as
+ * {@link Records} do it, so an iteration, which is stopped early, must
+ * be finished by {@link #close()}.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+public final class Lines extends IterableEnvelope<Text>
+    implements Closeable {
+
+    /**
+     * The records.
+     */
+    private final Records records;
+
+    /**
+     * Ctor.
+     * @param input The input
+     */
+    public Lines(final Input input) {
+        this(input, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Ctor.
+     * @param input The input
+     * @param cset The charset
+     */
+    public Lines(final Input input, final Charset cset) {
+        this(input, cset, 16 << 10);
+    }
+
+    /**
+     * Ctor.
+     * @param input The input
+     * @param cset The charset
+     * @param max Size of the buffers
+     */
+    public Lines(final Input input, final Charset cset, final int max) {
+        this(new Records(input, "\n", cset, max));
+    }
+
+    /**
+     * Ctor.
+     * @param recs Records, which end with a new line
+     */
+    private Lines(final Records recs) {
+        super(
+            new Mapped<>(
+                line -> {
+                    final String str = line.asString();
+                    Text text = line;
+                    if (str.endsWith("\r")) {
+                        text = new TextOf(str.substring(0, str.length() - 1));
+                    }
+                    return text;
+                },
+                recs
+            )
+        );
+        this.records = recs;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.records.close();
+    }
+}
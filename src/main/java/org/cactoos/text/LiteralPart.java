@@ -0,0 +1,39 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.text;
+
+import java.io.IOException;
+import java.util.Locale;
+
+/**
+ * Part of a {@link Template}, which is a plain text.
+ *
+ * <p>This class is for internal use only.</p>
+ *
+ * <p>This class is thread-safe.
+ *
+ * @since 1.0
+ */
+final class LiteralPart implements FormatPart {
+
+    /**
+     * The text.
+     */
+    private final String text;
+
+    /**
+     * Ctor.
+     * @param txt The text
+     */
+    LiteralPart(final String txt) {
+        this.text = txt;
+    }
+
+    @Override
+    public void render(final Appendable out, final Locale locale,
+        final Object... args) throws IOException {
+        out.append(this.text);
+    }
+}
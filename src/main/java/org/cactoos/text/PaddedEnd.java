@@ -23,15 +23,34 @@ public final class PaddedEnd extends TextEnvelope {
      */
     public PaddedEnd(final Text text, final int length, final char symbol) {
         super(
-            new Flattened(
+            new RenderedText(
                 () -> {
-                    final String original = text.asString();
-                    return new Concatenated(
-                        new TextOf(original),
-                        new Repeated(
-                            new TextOf(symbol), length - original.length()
-                        )
-                    );
+                    long size = new RenderableOf(text).length();
+                    if (size >= 0L) {
+                        size = Math.max(size, length);
+                    }
+                    return size;
+                },
+                out -> {
+                    final Renderable origin = new RenderableOf(text);
+                    final long size = origin.length();
+                    if (size >= 0L) {
+                        origin.render(out);
+                        new RenderableOf(
+                            new Repeated(
+                                new TextOf(symbol),
+                                (int) Math.max(length - size, 0L)
+                            )
+                        ).render(out);
+                    } else {
+                        final String original = text.asString();
+                        out.append(original);
+                        new RenderableOf(
+                            new Repeated(
+                                new TextOf(symbol), length - original.length()
+                            )
+                        ).render(out);
+                    }
                 }
             )
         );
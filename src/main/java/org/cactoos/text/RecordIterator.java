@@ -0,0 +1,255 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.text;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.CoderResult;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import org.cactoos.Input;
+import org.cactoos.Text;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Iterator of records of an {@link Input}, separated by a delimiter.
+ *
+ * <p>The input is opened on the first call and decoded chunk by chunk
+ * into the same buffers, while the chars of the current record are
+ * collected in a builder, which is reused for all of them. The input is
+ * closed as soon as it's over, or when the iterator is closed. While
+ * the input is open, the iterator is among the open ones of its
+ * owner, so that the owner may close it.</p>
+ *
+ * <p>This class is for internal use only. Use {@link Records} instead.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+final class RecordIterator implements Iterator<Text>, Closeable {
+
+    /**
+     * The input.
+     */
+    private final Input input;
+
+    /**
+     * The delimiter.
+     */
+    private final String delimiter;
+
+    /**
+     * The decoder.
+     */
+    private final CharsetDecoder decoder;
+
+    /**
+     * Bytes read, but not decoded yet.
+     */
+    private final ByteBuffer bytes;
+
+    /**
+     * Chars decoded, but not scanned yet.
+     */
+    private final CharBuffer chars;
+
+    /**
+     * Chars of the current record.
+     */
+    private final StringBuilder record;
+
+    /**
+     * Open iterators of the owner.
+     */
+    private final Collection<Closeable> open;
+
+    /**
+     * The stream, or NULL if it's not opened yet.
+     */
+    private InputStream stream;
+
+    /**
+     * The next record, or NULL if it's not fetched yet.
+     */
+    private String ahead;
+
+    /**
+     * The stream is over.
+     */
+    private boolean eof;
+
+    /**
+     * All the chars are decoded.
+     */
+    private boolean over;
+
+    /**
+     * Ctor.
+     * @param src The input
+     * @param delim The delimiter
+     * @param cset The charset
+     * @param max Size of the buffers
+     * @param opn Open iterators of the owner
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    RecordIterator(final Input src, final String delim, final Charset cset,
+        final int max, final Collection<Closeable> opn) {
+        this.input = src;
+        this.delimiter = delim;
+        this.decoder = cset.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.bytes = ByteBuffer.allocate(max);
+        this.chars = CharBuffer.allocate(max).limit(0);
+        this.record = new StringBuilder();
+        this.open = opn;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (this.ahead == null) {
+            this.ahead = new Unchecked<>(this::fetch).value();
+        }
+        return this.ahead != null;
+    }
+
+    @Override
+    public Text next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException(
+                "There are no more records in the input"
+            );
+        }
+        final Text text = new TextOf(this.ahead);
+        this.ahead = null;
+        return text;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.open.remove(this);
+        if (!this.eof) {
+            this.eof = true;
+            this.over = true;
+            this.ahead = null;
+            this.chars.limit(0);
+            this.record.setLength(0);
+            if (this.stream != null) {
+                this.stream.close();
+            }
+        }
+    }
+
+    /**
+     * Fetch the next record.
+     * @return The record, or NULL if there are no more of them
+     * @throws Exception If fails
+     */
+    private String fetch() throws Exception {
+        if (this.delimiter.isEmpty()) {
+            throw new IllegalArgumentException(
+                "The delimiter of records must not be empty"
+            );
+        }
+        if (this.stream == null && !this.eof) {
+            this.stream = this.input.stream();
+            this.open.add(this);
+        }
+        String found = this.scan();
+        while (found == null && !this.over) {
+            this.fill();
+            found = this.scan();
+        }
+        if (found == null && this.record.length() > 0) {
+            found = this.record.toString();
+            this.record.setLength(0);
+        }
+        return found;
+    }
+
+    /**
+     * Move the decoded chars into the record, up to the end of the
+     * delimiter, if there is one.
+     * @return The record, or NULL if it's not over yet
+     */
+    private String scan() {
+        final char[] array = this.chars.array();
+        final int limit = this.chars.limit();
+        final char last = this.delimiter.charAt(this.delimiter.length() - 1);
+        String found = null;
+        for (int pos = this.chars.position(); found == null && pos < limit;
+            ++pos) {
+            if (array[pos] == last) {
+                final int start = this.chars.position();
+                this.record.append(array, start, pos + 1 - start);
+                this.chars.position(pos + 1);
+                found = this.cut();
+            }
+        }
+        if (found == null) {
+            final int start = this.chars.position();
+            this.record.append(array, start, limit - start);
+            this.chars.position(limit);
+        }
+        return found;
+    }
+
+    /**
+     * Take the record out of the builder, if it ends with the delimiter.
+     * @return The record without the delimiter, or NULL
+     */
+    private String cut() {
+        final int end = this.record.length() - this.delimiter.length();
+        boolean ends = end >= 0;
+        if (ends && this.delimiter.length() > 1) {
+            ends = this.delimiter.contentEquals(
+                this.record.subSequence(end, this.record.length())
+            );
+        }
+        String found = null;
+        if (ends) {
+            found = this.record.substring(0, end);
+            this.record.setLength(0);
+        }
+        return found;
+    }
+
+    /**
+     * Decode the next chunk of chars, reading more bytes if needed.
+     * @throws IOException If fails
+     */
+    private void fill() throws IOException {
+        if (!this.eof) {
+            final int read = this.stream.read(
+                this.bytes.array(), this.bytes.position(), this.bytes.remaining()
+            );
+            if (read < 0) {
+                this.eof = true;
+                this.open.remove(this);
+                this.stream.close();
+            } else {
+                this.bytes.position(this.bytes.position() + read);
+            }
+        }
+        this.chars.clear();
+        this.bytes.flip();
+        final CoderResult result = this.decoder.decode(
+            this.bytes, this.chars, this.eof
+        );
+        this.bytes.compact();
+        if (this.eof && result.isUnderflow()) {
+            this.over = this.decoder.flush(this.chars).isUnderflow();
+        }
+        this.chars.flip();
+    }
+}
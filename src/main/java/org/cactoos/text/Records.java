@@ -0,0 +1,121 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.text;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import org.cactoos.Input;
+import org.cactoos.Text;
+import org.cactoos.iterable.IterableEnvelope;
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.list.ListOf;
+
+/**
+ * Records of an {@link Input}, separated by a delimiter.
+ *
+ * <p>Unlike {@link Split}, this iterable never reads the entire input
+ * into memory. The input is decoded chunk by chunk, while it's being
+ * iterated, so the memory it takes is bounded by the longest record,
+ * not by the size of the input. That's why it fits huge files, which
+ * may be filtered and mapped as any other iterable:</p>
+ *
+ * <pre>{@code
+ * final Iterable<Text> errors = new Filtered<>(
+ *     rec -> new StartsWith(rec, "ERROR").value(),
+ *     new Records(new InputOf(path), "\n")
+ * );
+ * }</pre>
+ *
+ * <p>Every iteration reads the input again. The input is closed when
+ * the last record is read, so an iteration, which is stopped early,
+ * must be finished by {@link #close()}, which closes the inputs of all
+ * the iterations, which are not over yet:</p>
+ *
+ * <pre>{@code
+ * try (Records records = new Records(new InputOf(path), "\n")) {
+ *     first = records.iterator().next();
+ * }
+ * }</pre>
+ *
+ * <p>A delimiter at the very end of the input doesn't
+ * make an empty record. Bytes, which can't be decoded, are replaced.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @see Lines
+ * @since 1.0
+ */
+public final class Records extends IterableEnvelope<Text>
+    implements Closeable {
+
+    /**
+     * Iterators, which are open.
+     */
+    private final Collection<Closeable> open;
+
+    /**
+     * Ctor.
+     * @param input The input
+     * @param delimiter The delimiter
+     */
+    public Records(final Input input, final CharSequence delimiter) {
+        this(input, delimiter, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Ctor.
+     * @param input The input
+     * @param delimiter The delimiter
+     * @param cset The charset
+     */
+    public Records(final Input input, final CharSequence delimiter,
+        final Charset cset) {
+        this(input, delimiter, cset, 16 << 10);
+    }
+
+    /**
+     * Ctor.
+     * @param input The input
+     * @param delimiter The delimiter
+     * @param cset The charset
+     * @param max Size of the buffers
+     */
+    public Records(final Input input, final CharSequence delimiter,
+        final Charset cset, final int max) {
+        this(input, delimiter, cset, max, ConcurrentHashMap.newKeySet());
+    }
+
+    /**
+     * Ctor.
+     * @param input The input
+     * @param delimiter The delimiter
+     * @param cset The charset
+     * @param max Size of the buffers
+     * @param opn Iterators, which are open
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private Records(final Input input, final CharSequence delimiter,
+        final Charset cset, final int max, final Collection<Closeable> opn) {
+        super(
+            new IterableOf<>(
+                () -> new RecordIterator(
+                    input, delimiter.toString(), cset, max, opn
+                )
+            )
+        );
+        this.open = opn;
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (final Closeable iter : new ListOf<>(this.open)) {
+            iter.close();
+        }
+    }
+}
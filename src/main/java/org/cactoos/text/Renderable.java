@@ -0,0 +1,47 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.text;
+
+import org.cactoos.Text;
+
+/**
+ * Text, which can write itself into an {@link Appendable}.
+ *
+ * <p>Composite texts, like {@link Joined} or {@link Repeated}, render
+ * their parts one after another into the same output, instead of making
+ * a string of every part and copying it into a string of their own.
+ * So a tree of texts is rendered in a single pass, no matter how deep
+ * it is. When the length of all the parts is known in advance, the
+ * output is sized only once:</p>
+ *
+ * <pre>{@code
+ * try (Writer writer = Files.newBufferedWriter(path)) {
+ *     new Joined("\n", lines).render(writer);
+ * }
+ * }</pre>
+ *
+ * <p>All text decorators of this package are renderable. Any other
+ * {@link Text} can be rendered through {@link RenderableOf}.</p>
+ *
+ * @see RenderableOf
+ * @since 1.0
+ */
+public interface Renderable extends Text {
+
+    /**
+     * Number of chars, if it's known without rendering the text and
+     * without consuming anything.
+     * @return Number of chars, or -1 if it's not known
+     * @throws Exception If fails
+     */
+    long length() throws Exception;
+
+    /**
+     * Append the chars of the text to the output.
+     * @param out The output
+     * @throws Exception If fails
+     */
+    void render(Appendable out) throws Exception;
+}
@@ -0,0 +1,74 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.text;
+
+import org.cactoos.Text;
+
+/**
+ * {@link Renderable} of any {@link Text}.
+ *
+ * <p>A renderable text is rendered as it is, while any other text is
+ * turned into a string first, and its length is not known. The text
+ * inside a {@link TextEnvelope} is rendered instead of the envelope.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+public final class RenderableOf implements Renderable {
+
+    /**
+     * The text.
+     */
+    private final Text origin;
+
+    /**
+     * Ctor.
+     * @param text The text
+     */
+    public RenderableOf(final Text text) {
+        this.origin = text;
+    }
+
+    @Override
+    public long length() throws Exception {
+        long length = -1L;
+        if (this.unwrapped() instanceof Renderable renderable) {
+            length = renderable.length();
+        }
+        return length;
+    }
+
+    @Override
+    public void render(final Appendable out) throws Exception {
+        if (this.unwrapped() instanceof Renderable renderable) {
+            renderable.render(out);
+        } else {
+            out.append(this.origin.asString());
+        }
+    }
+
+    @Override
+    public String asString() throws Exception {
+        return this.origin.asString();
+    }
+
+    @Override
+    public String toString() {
+        return this.origin.toString();
+    }
+
+    /**
+     * The text, taken out of its envelopes.
+     * @return The text
+     */
+    private Text unwrapped() {
+        Text text = this.origin;
+        while (text instanceof TextEnvelope envelope) {
+            text = envelope.origin();
+        }
+        return text;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.text;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import org.cactoos.Proc;
+import org.cactoos.Scalar;
+import org.cactoos.Text;
+import org.cactoos.scalar.And;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Text, which is rendered into a buffer, sized by its length, when it's
+ * known, and turned into a string once.
+ *
+ * <p>This class is for internal use only.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+final class RenderedText implements Renderable {
+
+    /**
+     * The largest buffer, which may be allocated.
+     */
+    private static final long LARGEST = Integer.MAX_VALUE - 8;
+
+    /**
+     * Number of chars, or -1.
+     */
+    private final Scalar<Long> size;
+
+    /**
+     * Rendering into an output.
+     */
+    private final Proc<? super Appendable> print;
+
+    /**
+     * Ctor.
+     * @param len Number of chars, or -1 if it's not known
+     * @param prnt Rendering into an output
+     */
+    RenderedText(final Scalar<Long> len, final Proc<? super Appendable> prnt) {
+        this.size = len;
+        this.print = prnt;
+    }
+
+    @Override
+    public long length() throws Exception {
+        return this.size.value();
+    }
+
+    @Override
+    public void render(final Appendable out) throws Exception {
+        this.print.exec(out);
+    }
+
+    @Override
+    public String asString() throws Exception {
+        final long length = this.length();
+        final StringBuilder out;
+        if (length >= 0L && length <= RenderedText.LARGEST) {
+            out = new StringBuilder((int) length);
+        } else {
+            out = new StringBuilder();
+        }
+        this.render(out);
+        return out.toString();
+    }
+
+    @Override
+    public String toString() {
+        return new UncheckedText(this).asString();
+    }
+
+    @Override
+    public int hashCode() {
+        return this.toString().hashCode();
+    }
+
+    @Override
+    @SuppressFBWarnings("EQ_UNUSUAL")
+    public boolean equals(final Object obj) {
+        return this == obj || new Unchecked<>(
+            new And(
+                () -> obj instanceof Text,
+                () -> new UncheckedText(this)
+                    .asString()
+                    .equals(new UncheckedText((Text) obj).asString())
+            )
+        ).value();
+    }
+}
@@ -31,13 +31,21 @@ public final class Repeated extends TextEnvelope {
      */
     public Repeated(final Text text, final int count) {
         super(
-            new TextOf(
+            new RenderedText(
                 () -> {
-                    final StringBuilder out = new StringBuilder();
-                    for (int cnt = 0; cnt < count; ++cnt) {
-                        out.append(text.asString());
+                    long length = new RenderableOf(text).length();
+                    if (length >= 0L) {
+                        length *= Math.max(count, 0);
+                    }
+                    return length;
+                },
+                out -> {
+                    if (count > 0) {
+                        final String once = text.asString();
+                        for (int cnt = 0; cnt < count; ++cnt) {
+                            out.append(once);
+                        }
                     }
-                    return out.toString();
                 }
             )
         );
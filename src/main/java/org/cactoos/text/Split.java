@@ -14,6 +14,7 @@ import org.cactoos.iterator.IteratorOf;
  * Split the Text.
  * @see String#split(String)
  * @see String#split(String, int)
+ * @see Records
  * @since 0.9
  */
 public final class Split extends IterableEnvelope<Text> {
@@ -0,0 +1,164 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.text;
+
+import java.text.DecimalFormatSymbols;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.cactoos.Scalar;
+import org.cactoos.list.ListOf;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.set.SetOf;
+
+/**
+ * Format pattern of {@link java.util.Formatter}, which is parsed once
+ * and rendered many times.
+ *
+ * <p>The pattern is parsed on the first rendering. When the only
+ * specifiers it has are {@code %s}, {@code %d} and {@code %x} without
+ * flags, width and precision, plain text is appended as it is, while
+ * the specifiers are printed without a {@link java.util.Formatter}.
+ * A pattern with any other specifier, or with errors, is formatted by
+ * a single {@link java.util.Formatter} entirely. In any case the result
+ * and the errors are the same as those of {@link String#format}:</p>
+ *
+ * <pre>{@code
+ * final Template tpl = new Template("%s: %d bytes read");
+ * new FormattedText(tpl, "file.txt", 42).asString();
+ * }</pre>
+ *
+ * <p>This class is thread-safe.
+ *
+ * @see FormattedText
+ * @since 1.0
+ */
+public final class Template {
+
+    /**
+     * Format specifier, as {@link java.util.Formatter} sees it.
+     */
+    private static final Pattern SPEC = Pattern.compile(
+        "%(\\d+\\$)?([-#+ 0,(<]*)(\\d+)?(\\.\\d+)?([tT])?([a-zA-Z%])"
+    );
+
+    /**
+     * Specifiers, which are printed without a {@link java.util.Formatter}.
+     */
+    private static final Set<String> FAST = new SetOf<>(
+        "%s", "%d", "%x", "%%", "%n"
+    );
+
+    /**
+     * The pattern.
+     */
+    private final String pattern;
+
+    /**
+     * Parts of the pattern.
+     */
+    private final Scalar<List<FormatPart>> parts;
+
+    /**
+     * Locales, which print digits as {@code 0-9}, or not.
+     */
+    private final Map<Locale, Boolean> latins;
+
+    /**
+     * Ctor.
+     * @param ptn The pattern
+     */
+    public Template(final String ptn) {
+        this.pattern = ptn;
+        this.parts = new Sticky<>(this::parsed);
+        this.latins = new ConcurrentHashMap<>(0);
+    }
+
+    /**
+     * Format the arguments into the output.
+     * @param out The output
+     * @param locale The locale
+     * @param args The arguments
+     * @throws Exception If fails
+     */
+    public void render(final Appendable out, final Locale locale,
+        final Object... args) throws Exception {
+        for (final FormatPart part : this.parts.value()) {
+            part.render(out, locale, args);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return this.pattern;
+    }
+
+    /**
+     * Parse the pattern.
+     * @return Parts of it
+     */
+    private List<FormatPart> parsed() {
+        final List<FormatPart> list = new ArrayList<>(0);
+        final Matcher matcher = Template.SPEC.matcher(this.pattern);
+        boolean plain = true;
+        int last = 0;
+        int index = 0;
+        while (plain && matcher.find()) {
+            final String spec = matcher.group();
+            plain = this.literal(list, last, matcher.start())
+                && Template.FAST.contains(spec);
+            if ("%%".equals(spec)) {
+                list.add(new LiteralPart("%"));
+            } else if ("%n".equals(spec)) {
+                list.add(new LiteralPart(System.lineSeparator()));
+            } else {
+                list.add(new ArgumentPart(spec, index, this::latin));
+                ++index;
+            }
+            last = matcher.end();
+        }
+        final List<FormatPart> result;
+        if (plain && this.literal(list, last, this.pattern.length())) {
+            result = list;
+        } else {
+            result = new ListOf<>(new FormatterPart(this.pattern));
+        }
+        return result;
+    }
+
+    /**
+     * Add the plain text between specifiers to the parts.
+     * @param list The parts
+     * @param start Start of the text
+     * @param end End of the text
+     * @return FALSE if it's not plain and can't be added
+     */
+    private boolean literal(final List<FormatPart> list, final int start,
+        final int end) {
+        final String text = this.pattern.substring(start, end);
+        final boolean plain = text.indexOf('%') < 0;
+        if (plain && !text.isEmpty()) {
+            list.add(new LiteralPart(text));
+        }
+        return plain;
+    }
+
+    /**
+     * Does the locale print digits as {@code 0-9}?
+     * @param locale The locale
+     * @return TRUE if it does
+     */
+    private boolean latin(final Locale locale) {
+        return locale == null || this.latins.computeIfAbsent(
+            locale,
+            loc -> DecimalFormatSymbols.getInstance(loc).getZeroDigit() == '0'
+        );
+    }
+}
@@ -44,4 +44,13 @@ public abstract class TextEnvelope implements Text {
     public final int hashCode() {
         return this.origin.hashCode();
     }
+
+    /**
+     * The wrapped text, which {@link RenderableOf} renders instead of
+     * the envelope.
+     * @return The text
+     */
+    final Text origin() {
+        return this.origin;
+    }
 }
@@ -26,6 +26,10 @@ import org.cactoos.iterable.Mapped;
 /**
  * TextOf
  *
+ * <p>A {@link CharSequence} or an array of chars is turned into
+ * a string right away, without encoding it into bytes and decoding them
+ * back. A {@link String} is returned as it is, without copying.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @since 0.12
@@ -145,7 +149,7 @@ public final class TextOf extends TextEnvelope {
      * @param str The CharSequence
      */
     public TextOf(final CharSequence str) {
-        this(new BytesOf(str));
+        this(new TextOfSequence(str));
     }
 
     /**
@@ -162,7 +166,7 @@ public final class TextOf extends TextEnvelope {
      * @param chars The chars
      */
     public TextOf(final char... chars) {
-        this(new BytesOf(chars));
+        this(new TextOfScalar(() -> new String(chars)));
     }
 
     /**
@@ -277,7 +281,7 @@ public final class TextOf extends TextEnvelope {
      * @param input The String
      */
     public TextOf(final String input) {
-        this(input, StandardCharsets.UTF_8);
+        this((CharSequence) input);
     }
 
     /**
@@ -17,7 +17,7 @@ import org.cactoos.scalar.Unchecked;
  *
  * @since 1.0.0
  */
-public final class TextOfScalar implements Text {
+public final class TextOfScalar implements Renderable {
 
     /**
      * Value of the envelope.
@@ -37,6 +37,16 @@ public final class TextOfScalar implements Text {
         return this.origin.value().toString();
     }
 
+    @Override
+    public long length() {
+        return -1L;
+    }
+
+    @Override
+    public void render(final Appendable out) throws Exception {
+        out.append(this.origin.value());
+    }
+
     @Override
     public String toString() {
         return new UncheckedText(this).asString();
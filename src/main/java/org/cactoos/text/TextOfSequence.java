@@ -0,0 +1,72 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.text;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import org.cactoos.Text;
+import org.cactoos.scalar.And;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Text of a {@link CharSequence}, which is used as it is.
+ *
+ * <p>This class is for internal use only. Use {@link TextOf} instead.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+final class TextOfSequence implements Renderable {
+
+    /**
+     * The chars.
+     */
+    private final CharSequence chars;
+
+    /**
+     * Ctor.
+     * @param seq The chars
+     */
+    TextOfSequence(final CharSequence seq) {
+        this.chars = seq;
+    }
+
+    @Override
+    public long length() {
+        return this.chars.length();
+    }
+
+    @Override
+    public void render(final Appendable out) throws Exception {
+        out.append(this.chars);
+    }
+
+    @Override
+    public String asString() {
+        return this.chars.toString();
+    }
+
+    @Override
+    public String toString() {
+        return this.asString();
+    }
+
+    @Override
+    public int hashCode() {
+        return this.asString().hashCode();
+    }
+
+    @Override
+    @SuppressFBWarnings("EQ_UNUSUAL")
+    public boolean equals(final Object obj) {
+        return this == obj || new Unchecked<>(
+            new And(
+                () -> obj instanceof Text,
+                () -> this.asString()
+                    .equals(new UncheckedText((Text) obj).asString())
+            )
+        ).value();
+    }
+}
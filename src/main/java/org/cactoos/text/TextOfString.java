@@ -16,7 +16,7 @@ import org.cactoos.scalar.Unchecked;
  *
  * @since 1.0.0
  */
-public final class TextOfString implements Text {
+public final class TextOfString implements Renderable {
 
     /**
      * Input text.
@@ -36,6 +36,16 @@ public final class TextOfString implements Text {
         return this.input;
     }
 
+    @Override
+    public long length() {
+        return this.input.length();
+    }
+
+    @Override
+    public void render(final Appendable out) throws Exception {
+        out.append(this.input);
+    }
+
     @Override
     public String toString() {
         return this.input;
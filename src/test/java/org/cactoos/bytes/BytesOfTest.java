@@ -7,11 +7,18 @@ package org.cactoos.bytes;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.SequenceInputStream;
 import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
 import java.util.concurrent.atomic.AtomicBoolean;
+import org.cactoos.Input;
+import org.cactoos.io.BufferMetrics;
 import org.cactoos.io.InputOf;
 import org.cactoos.io.Sticky;
+import org.cactoos.io.StripedBuffers;
 import org.cactoos.iterable.Endless;
 import org.cactoos.iterable.HeadOf;
 import org.cactoos.iterable.IterableOfBytes;
@@ -23,11 +30,13 @@ import org.hamcrest.MatcherAssert;
 import org.hamcrest.core.AllOf;
 import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.llorllale.cactoos.matchers.EndsWith;
 import org.llorllale.cactoos.matchers.HasString;
 import org.llorllale.cactoos.matchers.IsText;
 import org.llorllale.cactoos.matchers.IsTrue;
 import org.llorllale.cactoos.matchers.StartsWith;
+import org.llorllale.cactoos.matchers.Throws;
 
 /**
  * Test case for {@link BytesOf}.
@@ -88,6 +97,73 @@ final class BytesOfTest {
         );
     }
 
+    @Test
+    void readsInputIntoBytesWithPooledBuffer() throws Exception {
+        final BufferMetrics metrics = new BufferMetrics();
+        final StripedBuffers<byte[]> pool = new StripedBuffers<>(
+            3, byte[]::new, 1, 1, metrics
+        );
+        final Input input = () -> new SequenceInputStream(
+            new InputOf("Hello, ").stream(), new InputOf("товарищ!").stream()
+        );
+        new BytesOf(input, pool).asBytes();
+        MatcherAssert.assertThat(
+            "must read bytes from Input with a buffer of the pool",
+            new TextOf(new BytesOf(input, pool)),
+            new IsText("Hello, товарищ!")
+        );
+        MatcherAssert.assertThat(
+            "must take the buffer given back to the pool",
+            metrics.hits(),
+            new IsEqual<>(1L)
+        );
+    }
+
+    @Test
+    void readsFileIntoBytes(@TempDir final Path dir) throws Exception {
+        final byte[] bytes = new byte[100_000];
+        new Random().nextBytes(bytes);
+        MatcherAssert.assertThat(
+            "must read all bytes of the file",
+            new BytesOf(new InputOf(Files.write(dir.resolve("a.bin"), bytes))).asBytes(),
+            new IsEqual<>(bytes)
+        );
+    }
+
+    @Test
+    void rejectsFileLongerThanCap(@TempDir final Path dir) throws Exception {
+        final Path file = Files.write(dir.resolve("b.bin"), new byte[100]);
+        MatcherAssert.assertThat(
+            "must reject the file longer than the cap",
+            () -> new BytesOf(new InputOf(file), 16, 99L).asBytes(),
+            new Throws<>("The input is longer than 99 bytes", IOException.class)
+        );
+    }
+
+    @Test
+    void rejectsStreamLongerThanCap() {
+        MatcherAssert.assertThat(
+            "must reject the stream longer than the cap",
+            () -> new BytesOf(
+                () -> new SequenceInputStream(
+                    new InputOf("abc").stream(), new InputOf("def").stream()
+                ),
+                2,
+                5L
+            ).asBytes(),
+            new Throws<>("The input is longer than 5 bytes", IOException.class)
+        );
+    }
+
+    @Test
+    void readsStreamAsLongAsCap() throws Exception {
+        MatcherAssert.assertThat(
+            "must read the stream as long as the cap",
+            new BytesOf(new InputOf("abcdef"), 2, 6L).asBytes(),
+            new IsEqual<>("abcdef".getBytes(StandardCharsets.UTF_8))
+        );
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     void readsInputIntoBytesWithSmallBuffer() {
@@ -294,6 +294,24 @@ final class ThreadsTest {
         );
     }
 
+    @Test
+    void containsValuesWithThreadPerTask() {
+        MatcherAssert.assertThat(
+            "Must contain results from the callables when a thread per task is used",
+            new Threads<>(
+                () -> {
+                    this.sleep();
+                    return "one";
+                },
+                () -> {
+                    this.sleep();
+                    return "two";
+                }
+            ),
+            new HasValues<>("one", "two")
+        );
+    }
+
     private void sleep() {
         try {
             TimeUnit.MILLISECONDS.sleep(100L);
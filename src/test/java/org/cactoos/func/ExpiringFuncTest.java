@@ -0,0 +1,52 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.Func;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link ExpiringFunc}.
+ * @since 1.0
+ */
+final class ExpiringFuncTest {
+
+    @Test
+    void cachesUntilExpired() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Func<Integer, Integer> func = new ExpiringFunc<>(
+            input -> input + calls.incrementAndGet(),
+            Duration.ofMillis(100L)
+        );
+        func.apply(10);
+        MatcherAssert.assertThat(
+            "Must return cached value before it expires",
+            func.apply(10),
+            new IsEqual<>(11)
+        );
+        Thread.sleep(150L);
+        MatcherAssert.assertThat(
+            "Must calculate value again after it expires",
+            func.apply(10),
+            new IsEqual<>(12)
+        );
+    }
+
+    @Test
+    void cachesEveryInput() throws Exception {
+        final Func<Integer, Integer> func = new ExpiringFunc<>(
+            input -> input * 2, Duration.ofMinutes(1L)
+        );
+        MatcherAssert.assertThat(
+            "Must cache values per input",
+            func.apply(1) + func.apply(2),
+            new IsEqual<>(6)
+        );
+    }
+}
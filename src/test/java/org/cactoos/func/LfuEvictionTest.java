@@ -0,0 +1,69 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import org.cactoos.list.ListOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link LfuEviction}.
+ * @since 1.0
+ */
+final class LfuEvictionTest {
+
+    @Test
+    void evictsLeastFrequentlyUsedKey() {
+        final Eviction<String> eviction = new LfuEviction<>(2);
+        eviction.add("first");
+        eviction.add("second");
+        eviction.touch("first");
+        eviction.touch("second");
+        eviction.touch("first");
+        MatcherAssert.assertThat(
+            "Must evict the key that was used less often",
+            new ListOf<>(eviction.add("third")),
+            new IsEqual<>(new ListOf<>("second"))
+        );
+    }
+
+    @Test
+    void evictsOldestOfEquallyUsedKeys() {
+        final Eviction<String> eviction = new LfuEviction<>(2);
+        eviction.add("one");
+        eviction.add("two");
+        eviction.add("three");
+        MatcherAssert.assertThat(
+            "Must evict the oldest of equally used keys",
+            new ListOf<>(eviction.add("four")),
+            new IsEqual<>(new ListOf<>("two"))
+        );
+    }
+
+    @Test
+    void forgetsRemovedKey() {
+        final Eviction<Integer> eviction = new LfuEviction<>(2);
+        eviction.add(1);
+        eviction.add(2);
+        eviction.touch(2);
+        eviction.remove(1);
+        eviction.add(3);
+        MatcherAssert.assertThat(
+            "Must find the least used key after removal",
+            new ListOf<>(eviction.add(4)),
+            new IsEqual<>(new ListOf<>(3))
+        );
+    }
+
+    @Test
+    void evictsAddedKeyWithZeroLimit() {
+        MatcherAssert.assertThat(
+            "Must evict the key itself when nothing can be kept",
+            new ListOf<>(new LfuEviction<Integer>(0).add(1)),
+            new IsEqual<>(new ListOf<>(1))
+        );
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import org.cactoos.list.ListOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link LruEviction}.
+ * @since 1.0
+ */
+final class LruEvictionTest {
+
+    @Test
+    void evictsLeastRecentlyUsedKey() {
+        final Eviction<String> eviction = new LruEviction<>(2);
+        eviction.add("first");
+        eviction.add("second");
+        eviction.touch("first");
+        MatcherAssert.assertThat(
+            "Must evict the key that was not used for the longest time",
+            new ListOf<>(eviction.add("third")),
+            new IsEqual<>(new ListOf<>("second"))
+        );
+    }
+
+    @Test
+    void keepsKeysUpToLimit() {
+        final Eviction<Integer> eviction = new LruEviction<>(2);
+        eviction.add(1);
+        MatcherAssert.assertThat(
+            "Must not evict anything below the limit",
+            new ListOf<>(eviction.add(2)),
+            new IsEqual<>(new ListOf<Integer>())
+        );
+    }
+
+    @Test
+    void evictsAddedKeyWithZeroLimit() {
+        MatcherAssert.assertThat(
+            "Must evict the key itself when nothing can be kept",
+            new ListOf<>(new LruEviction<Integer>(0).add(1)),
+            new IsEqual<>(new ListOf<>(1))
+        );
+    }
+
+    @Test
+    void forgetsRemovedKey() {
+        final Eviction<Integer> eviction = new LruEviction<>(2);
+        eviction.add(1);
+        eviction.add(2);
+        eviction.remove(1);
+        MatcherAssert.assertThat(
+            "Must not count removed keys",
+            new ListOf<>(eviction.add(3)),
+            new IsEqual<>(new ListOf<Integer>())
+        );
+    }
+}
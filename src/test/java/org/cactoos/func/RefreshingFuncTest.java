@@ -0,0 +1,49 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.Func;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link RefreshingFunc}.
+ * @since 1.0
+ */
+final class RefreshingFuncTest {
+
+    @Test
+    void refreshesInBackground() throws Exception {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final AtomicInteger calls = new AtomicInteger();
+            final Func<Integer, Integer> func = new RefreshingFunc<>(
+                input -> input + calls.incrementAndGet(),
+                Duration.ofMillis(100L),
+                executor
+            );
+            func.apply(10);
+            Thread.sleep(150L);
+            MatcherAssert.assertThat(
+                "Must return old value while refreshing",
+                func.apply(10),
+                new IsEqual<>(11)
+            );
+            executor.submit(() -> true).get();
+            MatcherAssert.assertThat(
+                "Must return refreshed value",
+                func.apply(10),
+                new IsEqual<>(12)
+            );
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
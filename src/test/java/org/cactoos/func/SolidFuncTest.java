@@ -4,13 +4,16 @@
  */
 package org.cactoos.func;
 
+import java.io.IOException;
 import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.cactoos.Func;
 import org.cactoos.list.ListOf;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.RunsInThreads;
+import org.llorllale.cactoos.matchers.Throws;
 
 /**
  * Test case for {@link SolidFunc}.
@@ -47,4 +50,68 @@ final class SolidFuncTest {
             )
         );
     }
+
+    @Test
+    void calculatesOnceInThreads() {
+        final AtomicInteger calls = new AtomicInteger();
+        final Func<Integer, Integer> func = new SolidFunc<>(
+            input -> {
+                calls.incrementAndGet();
+                Thread.sleep(10L);
+                return input;
+            }
+        );
+        MatcherAssert.assertThat(
+            "Must work well in multiple threads",
+            (AtomicInteger counter) -> {
+                final int key = counter.incrementAndGet() % 4;
+                return func.apply(key) == key;
+            },
+            new RunsInThreads<>(new AtomicInteger(), 64)
+        );
+        MatcherAssert.assertThat(
+            "Must calculate every value only once",
+            calls.get(),
+            new IsEqual<>(4)
+        );
+    }
+
+    @Test
+    void repeatsFailedCalculation() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Func<Boolean, Integer> func = new SolidFunc<>(
+            input -> {
+                if (calls.incrementAndGet() == 1) {
+                    throw new IOException("First call fails");
+                }
+                return calls.get();
+            }
+        );
+        MatcherAssert.assertThat(
+            "Must fail on the first call",
+            () -> func.apply(true),
+            new Throws<>(IOException.class)
+        );
+        MatcherAssert.assertThat(
+            "Must not cache the failure",
+            func.apply(true) + func.apply(true),
+            new IsEqual<>(4)
+        );
+    }
+
+    @Test
+    void evictsWithGivenPolicy() throws Exception {
+        final Func<Integer, Integer> func = new SolidFunc<>(
+            input -> new SecureRandom().nextInt(), 2, LfuEviction::new
+        );
+        final int first = func.apply(1);
+        func.apply(1);
+        func.apply(2);
+        final int third = func.apply(3);
+        MatcherAssert.assertThat(
+            "Must keep the most frequently used values",
+            first + third,
+            new IsEqual<>(func.apply(1) + func.apply(3))
+        );
+    }
 }
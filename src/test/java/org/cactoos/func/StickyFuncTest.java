@@ -76,4 +76,36 @@ final class StickyFuncTest {
             )
         );
     }
+
+    @Test
+    void keepsRecentlyUsedResults() throws Exception {
+        final Func<Integer, Integer> func = new StickyFunc<>(
+            input -> new SecureRandom().nextInt(), 2
+        );
+        final int first = func.apply(0);
+        func.apply(1);
+        func.apply(0);
+        final int third = func.apply(2);
+        MatcherAssert.assertThat(
+            "Must keep recently used results",
+            first + third,
+            new IsEqual<>(func.apply(0) + func.apply(2))
+        );
+    }
+
+    @Test
+    void keepsFrequentlyUsedResults() throws Exception {
+        final Func<Integer, Integer> func = new StickyFunc<>(
+            input -> new SecureRandom().nextInt(), 2, LfuEviction::new
+        );
+        final int first = func.apply(0);
+        func.apply(0);
+        func.apply(1);
+        final int third = func.apply(2);
+        MatcherAssert.assertThat(
+            "Must keep frequently used results",
+            first + third,
+            new IsEqual<>(func.apply(0) + func.apply(2))
+        );
+    }
 }
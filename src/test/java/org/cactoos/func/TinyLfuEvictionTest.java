@@ -0,0 +1,96 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.util.Collections;
+import org.cactoos.list.ListOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link TinyLfuEviction}.
+ * @since 1.0
+ */
+final class TinyLfuEvictionTest {
+
+    @Test
+    void rejectsRarelyUsedNewcomer() {
+        final Eviction<Integer> eviction = new TinyLfuEviction<>(3);
+        for (int key = 1; key <= 3; ++key) {
+            eviction.add(key);
+            eviction.touch(key);
+            eviction.touch(key);
+        }
+        eviction.add(4);
+        MatcherAssert.assertThat(
+            "Must keep popular keys and reject the new one",
+            new ListOf<>(eviction.add(5)),
+            new IsEqual<>(new ListOf<>(4))
+        );
+    }
+
+    @Test
+    void admitsFrequentlyUsedNewcomer() {
+        final Eviction<Integer> eviction = new TinyLfuEviction<>(2);
+        eviction.add(1);
+        eviction.add(2);
+        eviction.add(3);
+        eviction.touch(3);
+        eviction.touch(3);
+        MatcherAssert.assertThat(
+            "Must replace a rarely used key with a popular one",
+            new ListOf<>(eviction.add(4)),
+            new IsEqual<>(new ListOf<>(1))
+        );
+    }
+
+    @Test
+    void keepsKeysUpToLimit() {
+        final Eviction<Integer> eviction = new TinyLfuEviction<>(3);
+        eviction.add(1);
+        eviction.add(2);
+        MatcherAssert.assertThat(
+            "Must not evict anything below the limit",
+            new ListOf<>(eviction.add(3)),
+            new IsEqual<>(new ListOf<Integer>())
+        );
+    }
+
+    @Test
+    void evictsAddedKeyWithZeroLimit() {
+        MatcherAssert.assertThat(
+            "Must evict the key itself when nothing can be kept",
+            new ListOf<>(new TinyLfuEviction<Integer>(0).add(1)),
+            new IsEqual<>(new ListOf<>(1))
+        );
+    }
+
+    @Test
+    void evictsNullKey() {
+        final Eviction<Integer> eviction = new TinyLfuEviction<>(0);
+        eviction.touch(null);
+        MatcherAssert.assertThat(
+            "Must count and evict a null key as any other",
+            new ListOf<>(eviction.add(null)),
+            new IsEqual<>(Collections.singletonList(null))
+        );
+    }
+
+    @Test
+    void keepsKeysWithLargestLimit() {
+        final Eviction<Integer> eviction =
+            new TinyLfuEviction<>(Integer.MAX_VALUE);
+        for (int key = 1; key < 1000; ++key) {
+            eviction.add(key);
+            eviction.touch(key);
+        }
+        MatcherAssert.assertThat(
+            "Must not evict anything far below the largest limit",
+            new ListOf<>(eviction.add(1000)),
+            new IsEqual<>(new ListOf<Integer>())
+        );
+    }
+}
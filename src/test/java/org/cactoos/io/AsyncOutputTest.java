@@ -0,0 +1,180 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.cactoos.Output;
+import org.cactoos.bytes.BytesOf;
+import org.cactoos.scalar.LengthOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link AsyncOutput}.
+ * @since 1.0
+ */
+final class AsyncOutputTest {
+
+    @Test
+    void writesAllBytes() throws Exception {
+        final ByteArrayOutputStream memory = new ByteArrayOutputStream();
+        new LengthOf(
+            new TeeInput(
+                new ResourceOf("org/cactoos/large-text.txt"),
+                new AsyncOutput(new OutputTo(memory), 2)
+            )
+        ).value();
+        MatcherAssert.assertThat(
+            "Must write everything before closing",
+            memory.toByteArray(),
+            new IsEqual<>(
+                new BytesOf(new ResourceOf("org/cactoos/large-text.txt")).asBytes()
+            )
+        );
+    }
+
+    @Test
+    void dropsBytesOfSlowTarget() throws Exception {
+        final CountDownLatch gate = new CountDownLatch(1);
+        final ByteArrayOutputStream memory = new ByteArrayOutputStream();
+        final ExecutorService service = Executors.newSingleThreadExecutor();
+        try (
+            OutputStream stream = new AsyncOutput(
+                this.slow(memory, gate), 1, new Backpressure.Drop(), service
+            ).stream()
+        ) {
+            for (int idx = 0; idx < 10; ++idx) {
+                stream.write('a');
+            }
+            gate.countDown();
+        } finally {
+            service.shutdown();
+        }
+        MatcherAssert.assertThat(
+            "Must drop some bytes",
+            memory.size() < 10,
+            new IsEqual<>(true)
+        );
+    }
+
+    @Test
+    void failsOnSlowTarget() throws Exception {
+        final CountDownLatch gate = new CountDownLatch(1);
+        final OutputStream stream = new AsyncOutput(
+            this.slow(new ByteArrayOutputStream(), gate), 1, new Backpressure.Fail()
+        ).stream();
+        MatcherAssert.assertThat(
+            "Must fail when the buffer is full",
+            () -> {
+                for (int idx = 0; idx < 10; ++idx) {
+                    stream.write('a');
+                }
+                return stream;
+            },
+            new Throws<>(IOException.class)
+        );
+        gate.countDown();
+        stream.close();
+    }
+
+    @Test
+    void reportsFailureOfTarget() throws Exception {
+        final OutputStream stream = new AsyncOutput(
+            () -> new OutputStream() {
+                @Override
+                public void write(final int data) throws IOException {
+                    throw new IOException("broken");
+                }
+            }
+        ).stream();
+        stream.write("data".getBytes(StandardCharsets.UTF_8));
+        MatcherAssert.assertThat(
+            "Must fail on close, when the target fails",
+            () -> {
+                stream.close();
+                return stream;
+            },
+            new Throws<>(IOException.class)
+        );
+    }
+
+    @Test
+    void reportsUncheckedFailureOfTarget() throws Exception {
+        final OutputStream stream = new AsyncOutput(
+            () -> new OutputStream() {
+                @Override
+                public void write(final int data) {
+                    throw new IllegalStateException("broken");
+                }
+            },
+            1
+        ).stream();
+        MatcherAssert.assertThat(
+            "Must fail, when the target fails with an unchecked exception",
+            () -> {
+                for (int idx = 0; idx < 100; ++idx) {
+                    stream.write(idx);
+                }
+                stream.close();
+                return stream;
+            },
+            new Throws<>(IOException.class)
+        );
+    }
+
+    @Test
+    void releasesWriterWhenThreadStops() throws Exception {
+        final OutputStream stream = new AsyncOutput(
+            () -> new OutputStream() {
+                @Override
+                public void write(final int data) {
+                    Thread.currentThread().interrupt();
+                }
+            },
+            1
+        ).stream();
+        MatcherAssert.assertThat(
+            "Must fail, when the thread stops before the end",
+            () -> {
+                for (int idx = 0; idx < 100; ++idx) {
+                    stream.write(idx);
+                }
+                stream.close();
+                return stream;
+            },
+            new Throws<>(IOException.class)
+        );
+    }
+
+    /**
+     * Output, which doesn't write anything until the gate is open.
+     * @param memory Where to write
+     * @param gate The gate
+     * @return Output
+     */
+    private Output slow(final ByteArrayOutputStream memory,
+        final CountDownLatch gate) {
+        return () -> new OutputStream() {
+            @Override
+            public void write(final int data) throws IOException {
+                try {
+                    gate.await();
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(ex);
+                }
+                memory.write(data);
+            }
+        };
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link BufferMetrics}.
+ * @since 1.0
+ */
+final class BufferMetricsTest {
+
+    @Test
+    void calculatesHitRatio() {
+        final BufferMetrics metrics = new BufferMetrics();
+        metrics.hit();
+        metrics.hit();
+        metrics.hit();
+        metrics.miss();
+        MatcherAssert.assertThat(
+            "Must calculate share of hits",
+            metrics.ratio(),
+            new IsEqual<>(0.75)
+        );
+    }
+
+    @Test
+    void calculatesNothingWhenEmpty() {
+        MatcherAssert.assertThat(
+            "Must be zero without requests",
+            new BufferMetrics().ratio(),
+            new IsEqual<>(0.0)
+        );
+    }
+
+    @Test
+    void countsFreshBuffersAsMisses() {
+        final BufferMetrics metrics = new BufferMetrics();
+        final Buffers<byte[]> pool = new FreshBuffers<>(4, byte[]::new, metrics);
+        pool.give(pool.take());
+        MatcherAssert.assertThat(
+            "Must count a miss and a drop",
+            new long[] {metrics.hits(), metrics.misses(), metrics.drops()},
+            new IsEqual<>(new long[] {0L, 1L, 1L})
+        );
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link ByteBufferInputStream}.
+ * @since 1.0
+ */
+final class ByteBufferInputStreamTest {
+
+    @Test
+    void readsDirectBuffer() throws Exception {
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(16);
+        buffer.put("hello, world".getBytes(StandardCharsets.UTF_8)).flip();
+        try (InputStream stream = new ByteBufferInputStream(buffer)) {
+            stream.skip(7L);
+            MatcherAssert.assertThat(
+                "Must read the rest of the buffer",
+                new String(stream.readAllBytes(), StandardCharsets.UTF_8),
+                new IsEqual<>("world")
+            );
+        }
+    }
+
+    @Test
+    void reportsEndOfBuffer() throws Exception {
+        try (InputStream stream = new ByteBufferInputStream(
+            ByteBuffer.wrap(new byte[] {1})
+        )) {
+            stream.read();
+            MatcherAssert.assertThat(
+                "Must report the end of the buffer",
+                new int[] {stream.read(), stream.read(new byte[2], 0, 2)},
+                new IsEqual<>(new int[] {-1, -1})
+            );
+        }
+    }
+}
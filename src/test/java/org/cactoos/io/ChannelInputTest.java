@@ -0,0 +1,107 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.cactoos.bytes.BytesOf;
+import org.cactoos.bytes.Sha256DigestOf;
+import org.cactoos.scalar.LengthOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.llorllale.cactoos.matchers.HasContent;
+import org.llorllale.cactoos.matchers.HasValue;
+
+/**
+ * Test case for {@link ChannelInput}.
+ * @since 1.0
+ */
+final class ChannelInputTest {
+
+    @Test
+    void readsFile(@TempDir final Path dir) throws Exception {
+        final Path file = Files.write(
+            dir.resolve("a.txt"), "Hello, channel!".getBytes(StandardCharsets.UTF_8)
+        );
+        MatcherAssert.assertThat(
+            "Must read the content of the file",
+            new ChannelInput(file),
+            new HasContent("Hello, channel!")
+        );
+    }
+
+    @Test
+    void readsAllBytes(@TempDir final Path dir) throws Exception {
+        final byte[] content = new byte[100_000];
+        for (int idx = 0; idx < content.length; ++idx) {
+            content[idx] = (byte) idx;
+        }
+        MatcherAssert.assertThat(
+            "Must read all bytes of the file",
+            new BytesOf(
+                new ChannelInput(Files.write(dir.resolve("b.bin"), content))
+            ).asBytes(),
+            new IsEqual<>(content)
+        );
+    }
+
+    @Test
+    void takesLengthOfFile(@TempDir final Path dir) throws Exception {
+        MatcherAssert.assertThat(
+            "Must take the length from the file size",
+            new LengthOf(
+                new ChannelInput(
+                    Files.write(dir.resolve("c.bin"), new byte[12_345])
+                )
+            ),
+            new HasValue<>(12_345L)
+        );
+    }
+
+    @Test
+    void digestsMappedFile(@TempDir final Path dir) throws Exception {
+        final Path file = Files.write(
+            dir.resolve("d.txt"), "Hello, world!".getBytes(StandardCharsets.UTF_8)
+        );
+        MatcherAssert.assertThat(
+            "Must digest the file the same way as a stream",
+            new Sha256DigestOf(new ChannelInput(file)).asBytes(),
+            new IsEqual<>(new Sha256DigestOf(new InputOf(file)).asBytes())
+        );
+    }
+
+    @Test
+    void transfersToChannelOutput(@TempDir final Path dir) throws Exception {
+        final Path source = Files.write(
+            dir.resolve("e.txt"), "Copy me".getBytes(StandardCharsets.UTF_8)
+        );
+        final Path target = dir.resolve("sub/f.txt");
+        MatcherAssert.assertThat(
+            "Must read the source while copying it",
+            new TeeInput(new ChannelInput(source), new ChannelOutput(target)),
+            new HasContent("Copy me")
+        );
+        MatcherAssert.assertThat(
+            "Must copy the file",
+            new InputOf(target),
+            new HasContent("Copy me")
+        );
+    }
+
+    @Test
+    void readsSeekableChannel(@TempDir final Path dir) throws Exception {
+        final Path file = Files.write(
+            dir.resolve("b.txt"), "Hello, seekable!".getBytes(StandardCharsets.UTF_8)
+        );
+        MatcherAssert.assertThat(
+            "Must read the content of the channel",
+            new ChannelInput(Files.newByteChannel(file)),
+            new HasContent("Hello, seekable!")
+        );
+    }
+}
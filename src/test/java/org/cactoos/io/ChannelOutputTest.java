@@ -0,0 +1,72 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.hamcrest.MatcherAssert;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.llorllale.cactoos.matchers.HasContent;
+
+/**
+ * Test case for {@link ChannelOutput}.
+ * @since 1.0
+ */
+final class ChannelOutputTest {
+
+    @Test
+    void truncatesFile(@TempDir final Path dir) throws Exception {
+        final Path file = Files.write(
+            dir.resolve("a.txt"), "old content".getBytes(StandardCharsets.UTF_8)
+        );
+        try (OutputStream out = new ChannelOutput(file).stream()) {
+            out.write("new".getBytes(StandardCharsets.UTF_8));
+        }
+        MatcherAssert.assertThat(
+            "Must replace the content of the file",
+            new InputOf(file),
+            new HasContent("new")
+        );
+    }
+
+    @Test
+    void appendsToFile(@TempDir final Path dir) throws Exception {
+        final Path file = Files.write(
+            dir.resolve("b.txt"), "one".getBytes(StandardCharsets.UTF_8)
+        );
+        try (
+            OutputStream out = new ChannelOutput(
+                file, StandardOpenOption.APPEND
+            ).stream()
+        ) {
+            out.write('+');
+            out.write("two".getBytes(StandardCharsets.UTF_8));
+        }
+        MatcherAssert.assertThat(
+            "Must append to the file",
+            new InputOf(file),
+            new HasContent("one+two")
+        );
+    }
+
+    @Test
+    void writesByteByByte(@TempDir final Path dir) throws Exception {
+        final Path file = dir.resolve("c.txt");
+        try (OutputStream out = new ChannelOutput(file).stream()) {
+            for (final byte data : "bytes".getBytes(StandardCharsets.UTF_8)) {
+                out.write(data);
+            }
+        }
+        MatcherAssert.assertThat(
+            "Must write every single byte",
+            new InputOf(file),
+            new HasContent("bytes")
+        );
+    }
+}
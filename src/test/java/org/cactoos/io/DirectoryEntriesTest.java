@@ -0,0 +1,160 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.iterable.Mapped;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link DirectoryEntries}.
+ * @since 1.0
+ */
+final class DirectoryEntriesTest {
+
+    @Test
+    void providesAttributes(@TempDir final Path dir) throws Exception {
+        Files.write(dir.resolve("file.bin"), new byte[42]);
+        final Iterator<Map.Entry<Path, BasicFileAttributes>> entries =
+            new DirectoryEntries(dir).iterator();
+        entries.next();
+        MatcherAssert.assertThat(
+            "must provide the size of the file",
+            entries.next().getValue().size(),
+            new IsEqual<>(42L)
+        );
+    }
+
+    @Test
+    void prunesSubtrees(@TempDir final Path dir) throws Exception {
+        dir.resolve("src/main").toFile().mkdirs();
+        dir.resolve(".git/objects").toFile().mkdirs();
+        Files.write(dir.resolve(".git/objects/x"), new byte[0]);
+        MatcherAssert.assertThat(
+            "must not walk into pruned folders",
+            this.names(
+                dir,
+                new DirectoryEntries(
+                    dir, Integer.MAX_VALUE,
+                    (path, attrs) -> true,
+                    (path, attrs) -> !path.endsWith(".git")
+                )
+            ),
+            new IsEqual<>(new TreeSet<>(Set.of("", ".git", "src", "src/main")))
+        );
+    }
+
+    @Test
+    void walksInParallel(@TempDir final Path dir) throws Exception {
+        for (int idx = 0; idx < 10; ++idx) {
+            dir.resolve(String.format("d%d/e", idx)).toFile().mkdirs();
+            Files.write(dir.resolve(String.format("d%d/e/f", idx)), new byte[0]);
+        }
+        MatcherAssert.assertThat(
+            "must find the same files in parallel",
+            this.names(
+                dir,
+                new DirectoryEntries(
+                    ForkJoinPool.commonPool(), dir, 3,
+                    (path, attrs) -> attrs.isRegularFile(),
+                    (path, attrs) -> true
+                )
+            ),
+            new IsEqual<>(
+                this.names(
+                    dir,
+                    new DirectoryEntries(
+                        dir, 3,
+                        (path, attrs) -> attrs.isRegularFile(),
+                        (path, attrs) -> true
+                    )
+                )
+            )
+        );
+    }
+
+    @Test
+    void walksAllFoldersInParallel(@TempDir final Path dir) {
+        dir.resolve("a/b").toFile().mkdirs();
+        MatcherAssert.assertThat(
+            "must walk the root and its folders in parallel",
+            this.names(
+                dir,
+                new DirectoryEntries(
+                    ForkJoinPool.commonPool(), dir, Integer.MAX_VALUE,
+                    (path, attrs) -> true, (path, attrs) -> true
+                )
+            ),
+            new IsEqual<>(new TreeSet<>(Set.of("", "a", "a/b")))
+        );
+    }
+
+    @Test
+    void walksMoreFilesThanQueueHoldsInParallel(@TempDir final Path dir)
+        throws Exception {
+        for (int idx = 0; idx < 3000; ++idx) {
+            Files.write(dir.resolve(String.format("f%d", idx)), new byte[0]);
+        }
+        MatcherAssert.assertThat(
+            "must walk all the files, while the queue is bounded",
+            this.names(
+                dir,
+                new DirectoryEntries(
+                    new ForkJoinPool(2), dir, 1,
+                    (path, attrs) -> attrs.isRegularFile(),
+                    (path, attrs) -> true
+                )
+            ).size(),
+            new IsEqual<>(3000)
+        );
+    }
+
+    @Test
+    void stopsParallelWalkOnClose(@TempDir final Path dir) throws Exception {
+        for (int idx = 0; idx < 3000; ++idx) {
+            Files.write(dir.resolve(String.format("f%d", idx)), new byte[0]);
+        }
+        final ForkJoinPool pool = new ForkJoinPool(2);
+        try (DirectoryEntries entries = new DirectoryEntries(
+            pool, dir, 1, (path, attrs) -> true, (path, attrs) -> true
+        )) {
+            entries.iterator().next();
+        }
+        MatcherAssert.assertThat(
+            "must stop the walk, when the entries are closed",
+            pool.awaitQuiescence(1L, TimeUnit.MINUTES),
+            new IsEqual<>(true)
+        );
+    }
+
+    /**
+     * Relative names of entries.
+     * @param dir The directory
+     * @param entries Entries
+     * @return Sorted names
+     */
+    private Set<String> names(final Path dir,
+        final Iterable<Map.Entry<Path, BasicFileAttributes>> entries) {
+        final Set<String> names = new TreeSet<>();
+        for (final String name : new Mapped<>(
+            entry -> dir.relativize(entry.getKey()).toString().replace('\\', '/'),
+            entries
+        )) {
+            names.add(name);
+        }
+        return names;
+    }
+}
@@ -8,7 +8,11 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import org.cactoos.list.ListOf;
+import org.hamcrest.Matcher;
 import org.hamcrest.MatcherAssert;
+import org.hamcrest.collection.IsIterableContainingInAnyOrder;
+import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.llorllale.cactoos.matchers.HasSize;
@@ -40,4 +44,32 @@ final class DirectoryTest {
             new HasSize(4)
         );
     }
+
+    @Test
+    void listsFilesUpToDepth(@TempDir final Path dir) throws IOException {
+        dir.resolve("a/b/c").toFile().mkdirs();
+        MatcherAssert.assertThat(
+            "must not walk deeper than the maximum depth",
+            new Directory(dir, 2),
+            new HasSize(3)
+        );
+    }
+
+    @Test
+    void listsFilesByGlob(@TempDir final Path dir) throws IOException {
+        dir.resolve("lib/ext").toFile().mkdirs();
+        Files.write(dir.resolve("lib/a.jar"), new byte[0]);
+        Files.write(dir.resolve("lib/ext/b.jar"), new byte[0]);
+        Files.write(dir.resolve("lib/ext/c.txt"), new byte[0]);
+        MatcherAssert.assertThat(
+            "must list only files matching the glob",
+            new ListOf<>(new Directory(dir, "**.jar")),
+            new IsIterableContainingInAnyOrder<>(
+                new ListOf<Matcher<? super Path>>(
+                    new IsEqual<>(dir.resolve("lib/a.jar")),
+                    new IsEqual<>(dir.resolve("lib/ext/b.jar"))
+                )
+            )
+        );
+    }
 }
@@ -66,6 +66,12 @@ public final class FakeLogger extends Logger {
         return this.threshold;
     }
 
+    @Override
+    public boolean isLoggable(final Level level) {
+        return level.intValue() >= this.threshold.intValue()
+            && this.threshold.intValue() != Level.OFF.intValue();
+    }
+
     @Override
     public boolean getUseParentHandlers() {
         return false;
@@ -0,0 +1,110 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.cactoos.scalar.LengthOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.llorllale.cactoos.matchers.HasContent;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link FanOut}.
+ * @since 1.0
+ */
+final class FanOutTest {
+
+    @Test
+    void writesToAllOutputs() throws Exception {
+        final ByteArrayOutputStream first = new ByteArrayOutputStream();
+        final ByteArrayOutputStream second = new ByteArrayOutputStream();
+        final ByteArrayOutputStream third = new ByteArrayOutputStream();
+        new LengthOf(
+            new TeeInput(
+                new InputOf("Hello, fan-out!"),
+                new FanOut(
+                    new OutputTo(first), new OutputTo(second), new OutputTo(third)
+                )
+            )
+        ).value();
+        MatcherAssert.assertThat(
+            "Must write the same bytes to all the outputs",
+            new String[] {
+                first.toString(StandardCharsets.UTF_8),
+                second.toString(StandardCharsets.UTF_8),
+                third.toString(StandardCharsets.UTF_8),
+            },
+            new IsEqual<>(
+                new String[] {"Hello, fan-out!", "Hello, fan-out!", "Hello, fan-out!"}
+            )
+        );
+    }
+
+    @Test
+    void transfersFilesAndWritesOthers(@TempDir final Path dir) throws Exception {
+        final Path source = Files.write(
+            dir.resolve("source.txt"), "Hello, files!".getBytes(StandardCharsets.UTF_8)
+        );
+        final Path copy = dir.resolve("copy.txt");
+        final ByteArrayOutputStream memory = new ByteArrayOutputStream();
+        new LengthOf(
+            new TeeInput(
+                new ChannelInput(source),
+                new FanOut(new ChannelOutput(copy), new OutputTo(memory))
+            )
+        ).value();
+        MatcherAssert.assertThat(
+            "Must transfer the file",
+            new InputOf(copy),
+            new HasContent("Hello, files!")
+        );
+        MatcherAssert.assertThat(
+            "Must write the other output",
+            memory.toString(StandardCharsets.UTF_8),
+            new IsEqual<>("Hello, files!")
+        );
+    }
+
+    @Test
+    void closesAllOutputsWhenOneFails() throws Exception {
+        final ByteArrayOutputStream memory = new ByteArrayOutputStream();
+        final OutputStream stream = new FanOut(
+            () -> new OutputStream() {
+                @Override
+                public void write(final int data) {
+                    // nothing
+                }
+
+                @Override
+                public void close() throws IOException {
+                    throw new IOException("can't close");
+                }
+            },
+            new OutputTo(new CloseShieldOutputStream(memory))
+        ).stream();
+        stream.write('a');
+        MatcherAssert.assertThat(
+            "Must fail on close",
+            () -> {
+                stream.close();
+                return memory.size();
+            },
+            new Throws<>("can't close", IOException.class)
+        );
+        MatcherAssert.assertThat(
+            "Must write the other output",
+            memory.size(),
+            new IsEqual<>(1)
+        );
+    }
+}
@@ -8,14 +8,27 @@ package org.cactoos.io;
 import java.io.BufferedWriter;
 import java.io.ByteArrayOutputStream;
 import java.io.EOFException;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.zip.GZIPOutputStream;
+import org.cactoos.bytes.BytesOf;
 import org.cactoos.scalar.LengthOf;
 import org.cactoos.text.TextOf;
 import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.llorllale.cactoos.matchers.IsText;
 import org.llorllale.cactoos.matchers.Throws;
 
@@ -58,4 +71,79 @@ final class GzipInputTest {
             new Throws<>(EOFException.class)
         );
     }
+
+    @Test
+    void readsParallelGzipOfChannel(@TempDir final Path dir) throws Exception {
+        final byte[] content = this.content();
+        final Path file = this.gzip(dir, content);
+        MatcherAssert.assertThat(
+            "Must read all the blocks",
+            new BytesOf(new GzipInput(new ChannelInput(file))).asBytes(),
+            new IsEqual<>(content)
+        );
+    }
+
+    @Test
+    void jumpsToBlocks(@TempDir final Path dir) throws Exception {
+        final byte[] content = this.content();
+        final Path file = this.gzip(dir, content);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {1, 2, 3, 4}), 30L);
+        }
+        MatcherAssert.assertThat(
+            "Must not inflate the first block, when reading the tail",
+            new BytesOf(
+                new TailOf(new GzipInput(new ChannelInput(file)), 10)
+            ).asBytes(),
+            new IsEqual<>(
+                Arrays.copyOfRange(content, content.length - 10, content.length)
+            )
+        );
+        MatcherAssert.assertThat(
+            "Must not inflate the first block, when reading the middle",
+            new BytesOf(
+                new HeadOf(new GzipInput(new ChannelInput(file)), 150_000L, 10)
+            ).asBytes(),
+            new IsEqual<>(Arrays.copyOfRange(content, 150_000, 150_010))
+        );
+    }
+
+    @Test
+    void readsStandardGzipOfChannel(@TempDir final Path dir) throws Exception {
+        final byte[] content = this.content();
+        final Path file = dir.resolve("standard.gz");
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(file))) {
+            out.write(content);
+        }
+        MatcherAssert.assertThat(
+            "Must read the tail of a gzip without blocks",
+            new BytesOf(
+                new TailOf(new GzipInput(new ChannelInput(file)), 10)
+            ).asBytes(),
+            new IsEqual<>(
+                Arrays.copyOfRange(content, content.length - 10, content.length)
+            )
+        );
+    }
+
+    private byte[] content() {
+        final byte[] content = new byte[500_000];
+        new Random(0L).nextBytes(content);
+        return content;
+    }
+
+    private Path gzip(final Path dir, final byte[] content) throws Exception {
+        final Path file = dir.resolve("blocks.gz");
+        final ExecutorService pool = Executors.newFixedThreadPool(2);
+        try (
+            OutputStream out = new GzipOutput(
+                new OutputTo(file), pool, 100_000
+            ).stream()
+        ) {
+            out.write(content);
+        } finally {
+            pool.shutdown();
+        }
+        return file;
+    }
 }
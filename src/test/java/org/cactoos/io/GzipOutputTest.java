@@ -6,17 +6,25 @@
 package org.cactoos.io;
 
 import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 import org.cactoos.scalar.LengthOf;
 import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
 import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -84,4 +92,85 @@ final class GzipOutputTest {
             new Throws<>(IOException.class)
         );
     }
+
+    @Test
+    void compressesBlocksInParallel() throws Exception {
+        final byte[] content = new byte[1 << 20];
+        new Random(0L).nextBytes(content);
+        final ExecutorService pool = Executors.newFixedThreadPool(4);
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (
+            OutputStream output = new GzipOutput(
+                new OutputTo(baos), pool, 100_000
+            ).stream()
+        ) {
+            output.write(content, 0, 1);
+            output.write(content, 1, content.length - 1);
+        } finally {
+            pool.shutdown();
+        }
+        try (
+            InputStream input = new GZIPInputStream(
+                new ByteArrayInputStream(baos.toByteArray())
+            )
+        ) {
+            MatcherAssert.assertThat(
+                "Must write a standard multi-member gzip",
+                input.readAllBytes(),
+                new IsEqual<>(content)
+            );
+        }
+    }
+
+    @Test
+    void writesEmptyParallelGzip() throws Exception {
+        final ExecutorService pool = Executors.newSingleThreadExecutor();
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        new GzipOutput(new OutputTo(baos), pool).stream().close();
+        pool.shutdown();
+        try (
+            InputStream input = new GZIPInputStream(
+                new ByteArrayInputStream(baos.toByteArray())
+            )
+        ) {
+            MatcherAssert.assertThat(
+                "Must write a valid empty gzip",
+                input.read(),
+                new IsEqual<>(-1)
+            );
+        }
+    }
+
+    @Test
+    void compressesBlocksWithGivenLevel() throws Exception {
+        final byte[] content = "abc".repeat(100_000)
+            .getBytes(StandardCharsets.UTF_8);
+        final ExecutorService pool = Executors.newFixedThreadPool(2);
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (
+            OutputStream output = new GzipOutput(
+                new OutputTo(baos), pool, 100_000, Deflater.NO_COMPRESSION
+            ).stream()
+        ) {
+            output.write(content);
+        } finally {
+            pool.shutdown();
+        }
+        MatcherAssert.assertThat(
+            "Must store the blocks without compression",
+            baos.size(),
+            Matchers.greaterThan(content.length)
+        );
+        try (
+            InputStream input = new GZIPInputStream(
+                new ByteArrayInputStream(baos.toByteArray())
+            )
+        ) {
+            MatcherAssert.assertThat(
+                "Must write a readable gzip with any level",
+                input.readAllBytes(),
+                new IsEqual<>(content)
+            );
+        }
+    }
 }
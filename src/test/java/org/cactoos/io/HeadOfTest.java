@@ -4,10 +4,19 @@
  */
 package org.cactoos.io;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.cactoos.text.TextOf;
 import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.llorllale.cactoos.matchers.HasString;
+import org.llorllale.cactoos.matchers.Throws;
 
 /**
  * Test cases for {@link HeadOf}.
@@ -56,4 +65,65 @@ final class HeadOfTest {
             new HasString("readsHeadOfShorterInput")
         );
     }
+
+    @Test
+    void readsHeadAfterOffset() {
+        MatcherAssert.assertThat(
+            "must skip the offset before reading",
+            new TextOf(
+                new HeadOf(
+                    new InputOf("readsHeadAfterOffset"),
+                    5L,
+                    4
+                )
+            ),
+            new HasString("Head")
+        );
+    }
+
+    @Test
+    void seeksToOffsetOfChannel(@TempDir final Path dir) throws Exception {
+        final Path file = Files.write(
+            dir.resolve("head.txt"), "0123456789".getBytes(StandardCharsets.UTF_8)
+        );
+        MatcherAssert.assertThat(
+            "must seek to the offset of the channel",
+            new TextOf(new HeadOf(new ChannelInput(file), 6L, 2)),
+            new HasString("67")
+        );
+    }
+
+    @Test
+    void closesOriginWhenSkipFails() {
+        final AtomicBoolean closed = new AtomicBoolean();
+        MatcherAssert.assertThat(
+            "Must fail, when the origin can't skip",
+            () -> new HeadOf(
+                () -> new InputStream() {
+                    @Override
+                    public int read() throws IOException {
+                        throw new IOException("broken");
+                    }
+
+                    @Override
+                    public long skip(final long num) throws IOException {
+                        throw new IOException("can't skip");
+                    }
+
+                    @Override
+                    public void close() {
+                        closed.set(true);
+                    }
+                },
+                5L,
+                1
+            ).stream(),
+            new Throws<>(IOException.class)
+        );
+        MatcherAssert.assertThat(
+            "Must close the origin, when positioning fails",
+            closed.get(),
+            new IsEqual<>(true)
+        );
+    }
 }
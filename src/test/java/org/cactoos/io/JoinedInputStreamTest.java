@@ -0,0 +1,119 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import org.cactoos.iterator.IteratorOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link JoinedInputStream}.
+ * @since 1.0
+ */
+final class JoinedInputStreamTest {
+
+    @Test
+    void readsPartByPart() throws Exception {
+        try (InputStream stream = new JoinedInputStream(
+            new IteratorOf<>(new InputOf("ab"), new InputOf(""), new InputOf("cde"))
+        )) {
+            final byte[] buf = new byte[10];
+            stream.read(buf);
+            MatcherAssert.assertThat(
+                "Must read the next non-empty part, when the first one is over",
+                new String(buf, 0, stream.read(buf), StandardCharsets.UTF_8),
+                new IsEqual<>("cde")
+            );
+        }
+    }
+
+    @Test
+    void returnsAfterShortRead() throws Exception {
+        try (InputStream stream = new JoinedInputStream(
+            new IteratorOf<>(
+                () -> new InputStream() {
+                    @Override
+                    public int read() {
+                        return 'a';
+                    }
+
+                    @Override
+                    public int read(final byte[] buf, final int off,
+                        final int len) {
+                        buf[off] = 'a';
+                        return 1;
+                    }
+                }
+            )
+        )) {
+            MatcherAssert.assertThat(
+                "Must return what the part gives, without reading it again",
+                stream.read(new byte[10]),
+                new IsEqual<>(1)
+            );
+        }
+    }
+
+    @Test
+    void reportsEndOfParts() throws Exception {
+        try (InputStream stream = new JoinedInputStream(
+            new IteratorOf<>(new InputOf("a"))
+        )) {
+            stream.read(new byte[4]);
+            MatcherAssert.assertThat(
+                "Must report the end after the last part",
+                stream.read(new byte[4]),
+                new IsEqual<>(-1)
+            );
+        }
+    }
+
+    @Test
+    void skipsAcrossParts() throws Exception {
+        try (InputStream stream = new JoinedInputStream(
+            new IteratorOf<>(new InputOf("abc"), new InputOf("def"))
+        )) {
+            stream.skip(4L);
+            MatcherAssert.assertThat(
+                "Must skip to the second part",
+                stream.read(),
+                new IsEqual<>((int) 'e')
+            );
+        }
+    }
+
+    @Test
+    void transfersAllParts() throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (InputStream stream = new JoinedInputStream(
+            new IteratorOf<>(new InputOf("hello, "), new InputOf("world"))
+        )) {
+            stream.transferTo(out);
+        }
+        MatcherAssert.assertThat(
+            "Must transfer all the parts",
+            out.toString(StandardCharsets.UTF_8),
+            new IsEqual<>("hello, world")
+        );
+    }
+
+    @Test
+    void countsLengthLeft() throws Exception {
+        try (JoinedInputStream stream = new JoinedInputStream(
+            new IteratorOf<>(new InputOf("abc"), new InputOf("defg"))
+        )) {
+            stream.read();
+            MatcherAssert.assertThat(
+                "Must count bytes left in all the parts",
+                stream.exhaust(new byte[2]),
+                new IsEqual<>(6L)
+            );
+        }
+    }
+}
@@ -4,9 +4,18 @@
  */
 package org.cactoos.io;
 
+import java.io.FilterInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.cactoos.iterable.IterableOf;
+import org.cactoos.iterable.Mapped;
+import org.cactoos.iterable.Repeated;
+import org.cactoos.scalar.LengthOf;
 import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.llorllale.cactoos.matchers.HasContent;
 
 /**
@@ -45,4 +54,65 @@ final class JoinedTest {
             new HasContent("abcdefghi")
         );
     }
+
+    @Test
+    void joinsThousandsOfInputs() throws Exception {
+        MatcherAssert.assertThat(
+            "Must join many inputs without nesting streams",
+            new LengthOf(
+                new Joined(
+                    new Mapped<>(
+                        idx -> new InputOf("x"),
+                        new Repeated<>(100_000, 0)
+                    )
+                )
+            ).value(),
+            new IsEqual<>(100_000L)
+        );
+    }
+
+    @Test
+    void opensInputsOneByOne() throws Exception {
+        final AtomicInteger open = new AtomicInteger();
+        final AtomicInteger most = new AtomicInteger();
+        new LengthOf(
+            new Joined(
+                new Mapped<>(
+                    text -> () -> {
+                        most.accumulateAndGet(open.incrementAndGet(), Math::max);
+                        return new FilterInputStream(new InputOf(text).stream()) {
+                            @Override
+                            public void close() {
+                                open.decrementAndGet();
+                            }
+                        };
+                    },
+                    new IterableOf<>("a", "b", "c")
+                )
+            )
+        ).value();
+        MatcherAssert.assertThat(
+            "Must open an input only when the previous one is closed",
+            new int[] {most.get(), open.get()},
+            new IsEqual<>(new int[] {1, 0})
+        );
+    }
+
+    @Test
+    void countsLengthOfFilesWithoutReading(@TempDir final Path dir)
+        throws Exception {
+        final Path first = Files.write(dir.resolve("a.bin"), new byte[1000]);
+        final Path second = Files.write(dir.resolve("b.bin"), new byte[24]);
+        MatcherAssert.assertThat(
+            "Must count lengths of channels and of other inputs",
+            new LengthOf(
+                new Joined(
+                    new ChannelInput(first),
+                    new InputOf("hello"),
+                    new ChannelInput(second)
+                )
+            ).value(),
+            new IsEqual<>(1029L)
+        );
+    }
 }
@@ -7,8 +7,11 @@ package org.cactoos.io;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.management.ManagementFactory;
 import java.nio.charset.StandardCharsets;
+import java.util.logging.Level;
 import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
 import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Throws;
@@ -111,4 +114,35 @@ final class LoggingInputStreamTest {
             );
         }
     }
+
+    @Test
+    void readsWithoutAllocationWhenLoggerIsDisabled() throws IOException {
+        final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory
+                .getThreadMXBean();
+        final int reads = 100_000;
+        try (
+            LoggingInputStream stream = new LoggingInputStream(
+                new InputStream() {
+                    @Override
+                    public int read() {
+                        return 1;
+                    }
+                },
+                this.getClass().getSimpleName(),
+                new FakeLogger(Level.WARNING)
+            )
+        ) {
+            stream.read();
+            final long before = threads.getCurrentThreadAllocatedBytes();
+            for (int idx = 0; idx < reads; ++idx) {
+                stream.read();
+            }
+            MatcherAssert.assertThat(
+                "Must not allocate on reads, when the logger is disabled",
+                threads.getCurrentThreadAllocatedBytes() - before,
+                Matchers.lessThan((long) reads)
+            );
+        }
+    }
 }
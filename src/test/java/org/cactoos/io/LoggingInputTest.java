@@ -11,6 +11,7 @@ import org.cactoos.scalar.LengthOf;
 import org.cactoos.text.TextOf;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.core.AllOf;
+import org.hamcrest.core.IsEqual;
 import org.hamcrest.core.IsNot;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.HasString;
@@ -100,7 +101,7 @@ final class LoggingInputTest {
     @Test
     @SuppressWarnings("unchecked")
     void logAllFromLargeTextFile() throws Exception {
-        final Logger logger = new FakeLogger(Level.WARNING);
+        final Logger logger = new FakeLogger(Level.FINE);
         new LengthOf(
             new LoggingInput(
                 new ResourceOf("org/cactoos/large-text.txt"),
@@ -122,6 +123,23 @@ final class LoggingInputTest {
         );
     }
 
+    @Test
+    void logNothingBelowLoggerLevel() throws Exception {
+        final Logger logger = new FakeLogger(Level.WARNING);
+        new LengthOf(
+            new LoggingInput(
+                new ResourceOf("org/cactoos/large-text.txt"),
+                "text file",
+                logger
+            )
+        ).value();
+        MatcherAssert.assertThat(
+            "Must not log anything, when the logger is not enabled",
+            logger.toString(),
+            new IsEqual<>("")
+        );
+    }
+
     @Test
     void logSkipFromLargeTextFile() throws Exception {
         final Logger logger = new FakeLogger();
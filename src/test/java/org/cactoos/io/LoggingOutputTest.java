@@ -6,12 +6,14 @@ package org.cactoos.io;
 
 import java.io.ByteArrayOutputStream;
 import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
 import java.nio.file.Path;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import org.cactoos.bytes.BytesOf;
 import org.cactoos.scalar.LengthOf;
 import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
 import org.hamcrest.core.AllOf;
 import org.hamcrest.core.IsNot;
 import org.hamcrest.core.StringContains;
@@ -121,7 +123,7 @@ final class LoggingOutputTest {
     @Test
     @SuppressWarnings("unchecked")
     void logAllWriteToLargeTextFile(@TempDir final Path wdir) throws Exception {
-        final Logger logger = new FakeLogger(Level.WARNING);
+        final Logger logger = new FakeLogger(Level.FINE);
         final Path temp = wdir.resolve("ccts-2");
         final Path path = temp.resolve("a/b/c/file.txt");
         try (
@@ -151,4 +153,30 @@ final class LoggingOutputTest {
             )
         );
     }
+
+    @Test
+    void writesWithoutAllocationWhenLoggerIsDisabled() throws Exception {
+        final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory
+                .getThreadMXBean();
+        final int writes = 100_000;
+        try (
+            OutputStream out = new LoggingOutput(
+                OutputStream::nullOutputStream,
+                "nowhere",
+                new FakeLogger(Level.WARNING)
+            ).stream()
+        ) {
+            out.write(1);
+            final long before = threads.getCurrentThreadAllocatedBytes();
+            for (int idx = 0; idx < writes; ++idx) {
+                out.write(1);
+            }
+            MatcherAssert.assertThat(
+                "Must not allocate on writes, when the logger is disabled",
+                threads.getCurrentThreadAllocatedBytes() - before,
+                Matchers.lessThan((long) writes)
+            );
+        }
+    }
 }
@@ -4,9 +4,11 @@
  */
 package org.cactoos.io;
 
+import java.io.OutputStream;
 import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import org.cactoos.bytes.BytesOf;
 import org.cactoos.scalar.LengthOf;
 import org.hamcrest.MatcherAssert;
 import org.junit.jupiter.api.Test;
@@ -152,4 +154,23 @@ final class OutputToTest {
             new HasContent(txt)
         );
     }
+
+    @Test
+    void writesIntoWriterWithDecoderTwice() throws Exception {
+        final StringWriter output = new StringWriter();
+        final OutputTo out = new OutputTo(
+            output, StandardCharsets.UTF_8.newDecoder(), 16
+        );
+        try (OutputStream stream = out.stream()) {
+            stream.write(new BytesOf("Привет, ").asBytes());
+        }
+        try (OutputStream stream = out.stream()) {
+            stream.write(new BytesOf("мир!").asBytes());
+        }
+        MatcherAssert.assertThat(
+            "Must write into writer with the same decoder twice",
+            new InputOf(output.getBuffer()),
+            new HasContent("Привет, мир!")
+        );
+    }
 }
@@ -4,9 +4,13 @@
  */
 package org.cactoos.io;
 
+import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
 import org.cactoos.bytes.BytesOf;
 import org.cactoos.func.Repeated;
 import org.cactoos.scalar.LengthOf;
@@ -14,8 +18,11 @@ import org.cactoos.text.TextOf;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.llorllale.cactoos.matchers.EndsWith;
+import org.llorllale.cactoos.matchers.IsText;
 import org.llorllale.cactoos.matchers.Satisfies;
+import org.llorllale.cactoos.matchers.Throws;
 
 /**
  * Test case for {@link Sticky}.
@@ -87,4 +94,92 @@ final class StickyTest {
             new IsEqual<>(size)
         );
     }
+
+    @Test
+    void spillsLongInputIntoFile(@TempDir final Path dir) throws Exception {
+        final byte[] bytes = new byte[100_000];
+        new Random().nextBytes(bytes);
+        final TempFile file = new TempFile(() -> dir, "spill", ".bin");
+        try (Sticky sticky = new Sticky(new InputOf(bytes), 1000, file)) {
+            new BytesOf(sticky).asBytes();
+            MatcherAssert.assertThat(
+                "Must read the spilled input again",
+                new BytesOf(sticky).asBytes(),
+                new IsEqual<>(bytes)
+            );
+            MatcherAssert.assertThat(
+                "Must spill the input into the file",
+                Files.size(file.value()),
+                new IsEqual<>((long) bytes.length)
+            );
+        }
+        MatcherAssert.assertThat(
+            "Must delete the file on close",
+            Files.exists(file.value()),
+            new IsEqual<>(false)
+        );
+    }
+
+    @Test
+    void keepsShortInputInMemory(@TempDir final Path dir) throws Exception {
+        try (Sticky sticky = new Sticky(
+            new InputOf("short"), 1000, new TempFile(() -> dir, "spill", ".bin")
+        )) {
+            MatcherAssert.assertThat(
+                "Must read the input from memory",
+                new TextOf(sticky),
+                new IsText("short")
+            );
+        }
+        MatcherAssert.assertThat(
+            "Must not create any files",
+            dir.toFile().list().length,
+            new IsEqual<>(0)
+        );
+    }
+
+    @Test
+    void keepsInputInMemoryWithMaximumThreshold(@TempDir final Path dir)
+        throws Exception {
+        try (Sticky sticky = new Sticky(
+            new InputOf("any"), Integer.MAX_VALUE,
+            new TempFile(() -> dir, "spill", ".bin")
+        )) {
+            MatcherAssert.assertThat(
+                "Must read the input with the maximum threshold",
+                new TextOf(sticky),
+                new IsText("any")
+            );
+        }
+        MatcherAssert.assertThat(
+            "Must not create any files with the maximum threshold",
+            dir.toFile().list().length,
+            new IsEqual<>(0)
+        );
+    }
+
+    @Test
+    void rejectsNegativeThreshold() {
+        MatcherAssert.assertThat(
+            "Must reject a negative threshold",
+            () -> new Sticky(new InputOf("any"), -1).stream(),
+            new Throws<>(IllegalArgumentException.class)
+        );
+    }
+
+    @Test
+    void failsToReadSpilledInputAfterClose(@TempDir final Path dir)
+        throws Exception {
+        final Sticky sticky = new Sticky(
+            new InputOf(new byte[100]), 10,
+            new TempFile(() -> dir, "spill", ".bin")
+        );
+        new BytesOf(sticky).asBytes();
+        sticky.close();
+        MatcherAssert.assertThat(
+            "Must not read the file, which is deleted",
+            sticky::stream,
+            new Throws<>(IOException.class)
+        );
+    }
 }
@@ -0,0 +1,103 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import org.cactoos.scalar.LengthOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link StreamMetrics}.
+ * @since 1.0
+ */
+final class StreamMetricsTest {
+
+    @Test
+    void countsBytesAndOperations() {
+        final StreamMetrics metrics = new StreamMetrics();
+        metrics.record(10L, 100L);
+        metrics.record(20L, 300L);
+        MatcherAssert.assertThat(
+            "Must count bytes, operations and time",
+            new long[] {metrics.bytes(), metrics.operations(), metrics.nanos()},
+            new IsEqual<>(new long[] {30L, 2L, 400L})
+        );
+    }
+
+    @Test
+    void calculatesThroughput() {
+        final StreamMetrics metrics = new StreamMetrics();
+        metrics.record(1000L, 500_000_000L);
+        MatcherAssert.assertThat(
+            "Must calculate bytes per second",
+            metrics.throughput(),
+            new IsEqual<>(2000.0)
+        );
+    }
+
+    @Test
+    void calculatesPercentiles() {
+        final StreamMetrics metrics = new StreamMetrics();
+        for (int idx = 0; idx < 98; ++idx) {
+            metrics.record(1L, 100L);
+        }
+        metrics.record(1L, 5000L);
+        metrics.record(1L, 1_000_000L);
+        MatcherAssert.assertThat(
+            "Must find the bounds of the median and the 99th percentile",
+            new long[] {metrics.latency(0.5), metrics.latency(0.99), metrics.latency(1.0)},
+            new IsEqual<>(new long[] {127L, 8191L, 1_048_575L})
+        );
+    }
+
+    @Test
+    void calculatesNothingWhenEmpty() {
+        MatcherAssert.assertThat(
+            "Must return zero latency when empty",
+            new StreamMetrics().latency(0.99),
+            new IsEqual<>(0L)
+        );
+    }
+
+    @Test
+    void takesSnapshot() {
+        final StreamMetrics metrics = new StreamMetrics();
+        metrics.record(5L, 10L);
+        final StreamMetrics snapshot = metrics.snapshot();
+        metrics.record(5L, 10L);
+        MatcherAssert.assertThat(
+            "Must not change the snapshot",
+            snapshot.bytes(),
+            new IsEqual<>(5L)
+        );
+    }
+
+    @Test
+    void collectsMetricsOfStreams() throws Exception {
+        final StreamMetrics reads = new StreamMetrics();
+        final StreamMetrics writes = new StreamMetrics();
+        final LoggingInput input = new LoggingInput(
+            new InputOf("Hello, metrics!"), "memory", new FakeLogger(), reads
+        );
+        new LengthOf(input).value();
+        new LengthOf(input).value();
+        try (
+            OutputStream output = new LoggingOutput(
+                ByteArrayOutputStream::new, "memory", new FakeLogger(), writes
+            ).stream()
+        ) {
+            output.write('a');
+            output.write(new byte[] {'b', 'c'});
+        }
+        MatcherAssert.assertThat(
+            "Must collect bytes of all the streams",
+            new long[] {reads.bytes(), writes.bytes(), writes.operations()},
+            new IsEqual<>(new long[] {30L, 3L, 2L})
+        );
+    }
+}
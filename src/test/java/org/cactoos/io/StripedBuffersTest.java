@@ -0,0 +1,89 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsSame;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link StripedBuffers}.
+ * @since 1.0
+ */
+final class StripedBuffersTest {
+
+    @Test
+    void reusesDirectBuffer() {
+        final Buffers<ByteBuffer> pool = new StripedBuffers<>(
+            16, ByteBuffer::allocateDirect
+        );
+        final ByteBuffer first = pool.take();
+        pool.give(first);
+        MatcherAssert.assertThat(
+            "Must take the same direct buffer again",
+            pool.take(),
+            new IsSame<>(first)
+        );
+    }
+
+    @Test
+    void keepsBoundedNumberOfBuffers() {
+        final BufferMetrics metrics = new BufferMetrics();
+        final Buffers<byte[]> pool = new StripedBuffers<>(
+            8, byte[]::new, 1, 2, metrics
+        );
+        final byte[][] taken = {pool.take(), pool.take(), pool.take()};
+        for (final byte[] buffer : taken) {
+            pool.give(buffer);
+        }
+        pool.take();
+        pool.take();
+        pool.take();
+        MatcherAssert.assertThat(
+            "Must keep only two buffers",
+            new long[] {metrics.hits(), metrics.misses(), metrics.drops()},
+            new IsEqual<>(new long[] {2L, 4L, 1L})
+        );
+    }
+
+    @Test
+    void sharesBuffersAmongThreads() throws Exception {
+        final BufferMetrics metrics = new BufferMetrics();
+        final Buffers<byte[]> pool = new StripedBuffers<>(
+            64, byte[]::new, 4, 2, metrics
+        );
+        final ExecutorService service = Executors.newFixedThreadPool(8);
+        try {
+            final Future<?>[] futures = new Future<?>[8];
+            for (int idx = 0; idx < futures.length; ++idx) {
+                futures[idx] = service.submit(
+                    () -> {
+                        for (int step = 0; step < 1000; ++step) {
+                            final byte[] buffer = pool.take();
+                            buffer[0] = (byte) step;
+                            pool.give(buffer);
+                        }
+                    }
+                );
+            }
+            for (final Future<?> future : futures) {
+                future.get(1L, TimeUnit.MINUTES);
+            }
+        } finally {
+            service.shutdown();
+        }
+        MatcherAssert.assertThat(
+            "Must count every buffer taken",
+            metrics.hits() + metrics.misses(),
+            new IsEqual<>(8000L)
+        );
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.cactoos.text.TextOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.llorllale.cactoos.matchers.HasString;
+
+/**
+ * Test case for {@link TailOfLines}.
+ * @since 1.0
+ */
+final class TailOfLinesTest {
+
+    @Test
+    void tailsLinesOfStream() {
+        MatcherAssert.assertThat(
+            "Must show the last lines of the stream",
+            new TextOf(new TailOfLines(new InputOf("a\nbb\nccc\ndddd\n"), 2, 3)),
+            new HasString("ccc\ndddd\n")
+        );
+    }
+
+    @Test
+    void tailsLinesOfChannel(@TempDir final Path dir) throws Exception {
+        final Path file = Files.write(
+            dir.resolve("app.log"),
+            "a\nbb\nccc\ndddd\n".getBytes(StandardCharsets.UTF_8)
+        );
+        MatcherAssert.assertThat(
+            "Must show the last lines of the channel",
+            new TextOf(new TailOfLines(new ChannelInput(file), 2, 3)),
+            new HasString("ccc\ndddd\n")
+        );
+    }
+
+    @Test
+    void tailsLastLineWithoutSeparator(@TempDir final Path dir) throws Exception {
+        final Path file = Files.write(
+            dir.resolve("last.log"),
+            "one\ntwo\nthree".getBytes(StandardCharsets.UTF_8)
+        );
+        MatcherAssert.assertThat(
+            "Must count the last line without separator",
+            new TextOf(new TailOfLines(new ChannelInput(file), 2)).asString(),
+            new IsEqual<>(
+                new TextOf(
+                    new TailOfLines(new InputOf("one\ntwo\nthree"), 2)
+                ).asString()
+            )
+        );
+    }
+
+    @Test
+    void showsAllLinesOfShortChannel(@TempDir final Path dir) throws Exception {
+        final Path file = Files.write(
+            dir.resolve("short.log"),
+            "one\ntwo\n".getBytes(StandardCharsets.UTF_8)
+        );
+        MatcherAssert.assertThat(
+            "Must show all the lines, when there are not enough of them",
+            new TextOf(new TailOfLines(new ChannelInput(file), 5, 2)),
+            new HasString("one\ntwo\n")
+        );
+    }
+
+    @Test
+    void showsNoLines() {
+        MatcherAssert.assertThat(
+            "Must show nothing for zero lines",
+            new TextOf(new TailOfLines(new InputOf("one\ntwo\n"), 0)),
+            new HasString("")
+        );
+    }
+
+    @Test
+    void seeksToLinesOfChannel(@TempDir final Path dir) throws Exception {
+        final StringBuilder log = new StringBuilder();
+        for (int idx = 0; idx < 10_000; ++idx) {
+            log.append("line ").append(idx).append('\n');
+        }
+        final Path file = Files.write(
+            dir.resolve("big.log"),
+            log.toString().getBytes(StandardCharsets.UTF_8)
+        );
+        MatcherAssert.assertThat(
+            "Must show the last lines of a big channel",
+            new TextOf(new TailOfLines(new ChannelInput(file), 3)).asString(),
+            new IsEqual<>("line 9997\nline 9998\nline 9999\n")
+        );
+    }
+}
@@ -4,12 +4,15 @@
  */
 package org.cactoos.io;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Random;
 import org.cactoos.bytes.BytesOf;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.llorllale.cactoos.matchers.Throws;
 
 /**
@@ -118,6 +121,53 @@ final class TailOfTest {
         );
     }
 
+    @Test
+    void seeksToTailOfChannel(@TempDir final Path dir) throws Exception {
+        final byte[] bytes = this.generate(100_000);
+        final Path file = Files.write(dir.resolve("tail.bin"), bytes);
+        try (
+            ChannelInputStream stream = (ChannelInputStream) new TailOf(
+                new ChannelInput(file), 10
+            ).stream()
+        ) {
+            MatcherAssert.assertThat(
+                "Must position the channel at the tail",
+                stream.channel().position(),
+                new IsEqual<>((long) bytes.length - 10L)
+            );
+        }
+        MatcherAssert.assertThat(
+            "Must read the tail of the channel",
+            new BytesOf(new TailOf(new ChannelInput(file), 10)).asBytes(),
+            new IsEqual<>(Arrays.copyOfRange(bytes, bytes.length - 10, bytes.length))
+        );
+    }
+
+    @Test
+    void tailsShorterChannel(@TempDir final Path dir) throws Exception {
+        final byte[] bytes = this.generate(4);
+        final Path file = Files.write(dir.resolve("short.bin"), bytes);
+        MatcherAssert.assertThat(
+            "Must read the whole short channel",
+            new BytesOf(new TailOf(new ChannelInput(file), 10)).asBytes(),
+            new IsEqual<>(bytes)
+        );
+    }
+
+    @Test
+    void tailsWithPooledBuffers() throws Exception {
+        final byte[] bytes = this.generate(100);
+        final Buffers<byte[]> pool = new ThreadLocalBuffers<>(16, byte[]::new);
+        new BytesOf(new TailOf(new InputOf(new BytesOf(bytes)), 5, pool)).asBytes();
+        MatcherAssert.assertThat(
+            "Must tail a stream with a buffer taken from the pool",
+            new BytesOf(
+                new TailOf(new InputOf(new BytesOf(bytes)), 10, pool)
+            ).asBytes(),
+            new IsEqual<>(Arrays.copyOfRange(bytes, 90, 100))
+        );
+    }
+
     private byte[] generate(final int size) {
         final byte[] bytes = new byte[size];
         new Random().nextBytes(bytes);
@@ -4,14 +4,22 @@
  */
 package org.cactoos.io;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.nio.channels.FileChannel;
+import java.nio.channels.NonReadableChannelException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.cactoos.bytes.BytesOf;
 import org.cactoos.scalar.LengthOf;
 import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.llorllale.cactoos.matchers.HasContent;
+import org.llorllale.cactoos.matchers.Throws;
 
 /**
  * Test case for {@link TeeInput}. Cases for ctors which use
@@ -163,4 +171,85 @@ final class TeeInputFromInputTest {
             new HasContent(input)
         );
     }
+
+    @Test
+    void copiesWholeFileWhenPartIsRead(@TempDir final Path wdir)
+        throws Exception {
+        final Path input = Files.write(
+            wdir.resolve("whole.txt"),
+            "Hello, whole file!".getBytes(StandardCharsets.UTF_8)
+        );
+        final Path output = wdir.resolve("copy-whole.txt");
+        MatcherAssert.assertThat(
+            "Must read only the head",
+            new BytesOf(
+                new HeadOf(
+                    new TeeInput(
+                        new ChannelInput(input),
+                        new ChannelOutput(output)
+                    ),
+                    5
+                )
+            ).asBytes(),
+            new IsEqual<>("Hello".getBytes(StandardCharsets.UTF_8))
+        );
+        MatcherAssert.assertThat(
+            "Must copy the whole file, while only the head is read",
+            new InputOf(output),
+            new HasContent("Hello, whole file!")
+        );
+    }
+
+    @Test
+    void closesChannelWhenTransferFails(@TempDir final Path wdir)
+        throws Exception {
+        final FileChannel channel = FileChannel.open(
+            Files.write(
+                wdir.resolve("unreadable.txt"),
+                "Hello, nobody!".getBytes(StandardCharsets.UTF_8)
+            ),
+            StandardOpenOption.WRITE
+        );
+        MatcherAssert.assertThat(
+            "Must fail to transfer an unreadable channel",
+            () -> new TeeInput(
+                new ChannelInput(channel),
+                new ChannelOutput(wdir.resolve("copy-unreadable.txt"))
+            ).stream(),
+            new Throws<>(NonReadableChannelException.class)
+        );
+        MatcherAssert.assertThat(
+            "Must close the channel after the failure",
+            channel.isOpen(),
+            new IsEqual<>(false)
+        );
+    }
+
+    @Test
+    void closesChannelWhenFanOutTransferFails(@TempDir final Path wdir)
+        throws Exception {
+        final FileChannel channel = FileChannel.open(
+            Files.write(
+                wdir.resolve("unreadable-fan.txt"),
+                "Hello, nobody!".getBytes(StandardCharsets.UTF_8)
+            ),
+            StandardOpenOption.WRITE
+        );
+        MatcherAssert.assertThat(
+            "Must fail to transfer an unreadable channel to many outputs",
+            () -> new TeeInput(
+                new ChannelInput(channel),
+                new FanOut(
+                    new ChannelOutput(wdir.resolve("copy-fan.txt")),
+                    new OutputTo(new ByteArrayOutputStream())
+                )
+            ).stream(),
+            new Throws<>(NonReadableChannelException.class)
+        );
+        MatcherAssert.assertThat(
+            "Must close the channel after the failure of the fan out",
+            channel.isOpen(),
+            new IsEqual<>(false)
+        );
+    }
 }
@@ -0,0 +1,64 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+import java.nio.ByteBuffer;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsNot;
+import org.hamcrest.core.IsSame;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link ThreadLocalBuffers}.
+ * @since 1.0
+ */
+final class ThreadLocalBuffersTest {
+
+    @Test
+    void reusesBufferOfThread() {
+        final Buffers<byte[]> pool = new ThreadLocalBuffers<>(16, byte[]::new);
+        final byte[] first = pool.take();
+        pool.give(first);
+        MatcherAssert.assertThat(
+            "Must take the same buffer again",
+            pool.take(),
+            new IsSame<>(first)
+        );
+    }
+
+    @Test
+    void allocatesSecondBufferOfThread() {
+        final Buffers<ByteBuffer> pool = new ThreadLocalBuffers<>(
+            16, ByteBuffer::allocateDirect
+        );
+        MatcherAssert.assertThat(
+            "Must allocate a buffer, while the first is taken",
+            pool.take(),
+            new IsNot<>(new IsSame<>(pool.take()))
+        );
+    }
+
+    @Test
+    void countsHitsMissesAndDrops() throws Exception {
+        final BufferMetrics metrics = new BufferMetrics();
+        final Buffers<byte[]> pool = new ThreadLocalBuffers<>(
+            8, byte[]::new, metrics
+        );
+        final byte[] first = pool.take();
+        final byte[] second = pool.take();
+        pool.give(first);
+        pool.give(second);
+        pool.take();
+        final Thread thread = new Thread(pool::take);
+        thread.start();
+        thread.join();
+        MatcherAssert.assertThat(
+            "Must count buffers of every thread",
+            new long[] {metrics.hits(), metrics.misses(), metrics.drops()},
+            new IsEqual<>(new long[] {1L, 3L, 1L})
+        );
+    }
+}
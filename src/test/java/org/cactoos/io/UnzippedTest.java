@@ -0,0 +1,114 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.cactoos.Input;
+import org.cactoos.iterable.Mapped;
+import org.cactoos.list.ListOf;
+import org.cactoos.text.TextOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link Unzipped}.
+ * @since 1.0
+ */
+final class UnzippedTest {
+
+    @Test
+    void unzipsFilesInOrder(@TempDir final Path dir) throws Exception {
+        Files.createDirectories(dir.resolve("sub"));
+        Files.write(dir.resolve("sub/one.txt"), "first".getBytes(StandardCharsets.UTF_8));
+        Files.write(dir.resolve("two.txt"), "second".getBytes(StandardCharsets.UTF_8));
+        MatcherAssert.assertThat(
+            "Must unzip files, skipping directories",
+            new ListOf<>(
+                new Mapped<>(
+                    (Map.Entry<String, Input> file) ->
+                        new TextOf(file.getValue()).asString(),
+                    new Unzipped(
+                        new Zip(
+                            new ListOf<>(
+                                dir.resolve("sub"),
+                                dir.resolve("sub/one.txt"),
+                                dir.resolve("two.txt")
+                            )
+                        )
+                    )
+                )
+            ),
+            new IsEqual<>(new ListOf<>("first", "second"))
+        );
+    }
+
+    @Test
+    void failsAfterLastFile(@TempDir final Path dir) throws Exception {
+        final Iterator<Map.Entry<String, Input>> files = new Unzipped(
+            new Zip(Collections.singletonList(dir))
+        ).iterator();
+        MatcherAssert.assertThat(
+            "Must fail when there are no more files",
+            files::next,
+            new Throws<>(NoSuchElementException.class)
+        );
+    }
+
+    @Test
+    void unzipsNamesOfFiles(@TempDir final Path dir) throws Exception {
+        final Path file = Files.write(
+            dir.resolve("three.txt"), "third".getBytes(StandardCharsets.UTF_8)
+        );
+        MatcherAssert.assertThat(
+            "Must give names of files, as they are in the archive",
+            new ListOf<>(
+                new Mapped<>(
+                    Map.Entry::getKey,
+                    new Unzipped(new Zip(Collections.singletonList(file)))
+                )
+            ),
+            new IsEqual<>(new ListOf<>(file.toString()))
+        );
+    }
+
+    @Test
+    void closesArchiveOfStoppedIteration(@TempDir final Path dir)
+        throws Exception {
+        Files.write(dir.resolve("a.txt"), "a".getBytes(StandardCharsets.UTF_8));
+        Files.write(dir.resolve("b.txt"), "b".getBytes(StandardCharsets.UTF_8));
+        final Zip zip = new Zip(
+            new ListOf<>(dir.resolve("a.txt"), dir.resolve("b.txt"))
+        );
+        final AtomicBoolean closed = new AtomicBoolean();
+        try (Unzipped files = new Unzipped(
+            () -> new FilterInputStream(zip.stream()) {
+                @Override
+                public void close() throws IOException {
+                    closed.set(true);
+                    super.close();
+                }
+            }
+        )) {
+            files.iterator().next();
+        }
+        MatcherAssert.assertThat(
+            "Must close the archive of an iteration, which is stopped early",
+            closed.get(),
+            new IsEqual<>(true)
+        );
+    }
+}
@@ -6,18 +6,27 @@ package org.cactoos.io;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.MalformedInputException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.cactoos.scalar.LengthOf;
 import org.cactoos.text.TextOf;
 import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
 import org.hamcrest.core.IsNot;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.llorllale.cactoos.matchers.HasContent;
+import org.llorllale.cactoos.matchers.IsText;
 import org.llorllale.cactoos.matchers.IsTrue;
+import org.llorllale.cactoos.matchers.Throws;
 
 /**
  * Test case for {@link WriterAsOutputStream}.
@@ -48,6 +57,43 @@ final class WriterAsOutputStreamTest {
         );
     }
 
+    @Test
+    void givesBuffersBackOnClose() throws Exception {
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        final BufferMetrics metrics = new BufferMetrics();
+        final Buffers<ByteBuffer> bytes = new StripedBuffers<>(
+            7, ByteBuffer::allocateDirect, 1, 1, metrics
+        );
+        final Buffers<CharBuffer> chars = new StripedBuffers<>(
+            7, CharBuffer::allocate, 1, 1, metrics
+        );
+        for (final String text : new String[] {"Привет", "Hello, world!"}) {
+            baos.reset();
+            new LengthOf(
+                new TeeInput(
+                    new InputOf(text),
+                    new OutputTo(
+                        new WriterAsOutputStream(
+                            new OutputStreamWriter(baos, StandardCharsets.UTF_8),
+                            StandardCharsets.UTF_8.newDecoder(),
+                            bytes, chars
+                        )
+                    )
+                )
+            ).value();
+        }
+        MatcherAssert.assertThat(
+            "Must write with buffers",
+            new TextOf(baos::toByteArray, StandardCharsets.UTF_8),
+            new IsText("Hello, world!")
+        );
+        MatcherAssert.assertThat(
+            "Must take the buffers given back by the first stream",
+            metrics.hits(),
+            new IsEqual<>(2L)
+        );
+    }
+
     @Test
     void writesLargeContentToFile(@TempDir final Path wdir) throws IOException {
         final Path temp = wdir.resolve("writestream1.txt");
@@ -105,4 +151,95 @@ final class WriterAsOutputStreamTest {
             new IsNot<>(new IsTrue())
         );
     }
+
+    @Test
+    void flushesWriterOnlyOnFlush() throws Exception {
+        final AtomicInteger flushes = new AtomicInteger();
+        final StringWriter target = new StringWriter() {
+            @Override
+            public void flush() {
+                flushes.incrementAndGet();
+            }
+        };
+        try (OutputStream stream = new WriterAsOutputStream(
+            target, StandardCharsets.UTF_8, 4
+        )) {
+            for (int idx = 0; idx < 100; ++idx) {
+                stream.write("abcdé".getBytes(StandardCharsets.UTF_8));
+            }
+            stream.flush();
+            MatcherAssert.assertThat(
+                "Must write everything and flush the writer once",
+                new Object[] {target.toString().length(), flushes.get()},
+                new IsEqual<>(new Object[] {500, 1})
+            );
+        }
+    }
+
+    @Test
+    void decodesBytesWrittenOneByOne() throws Exception {
+        final StringWriter target = new StringWriter();
+        final String text = "Hi, товарищ! 你好 ascii again";
+        try (OutputStream stream = new WriterAsOutputStream(
+            target, StandardCharsets.UTF_8, 3
+        )) {
+            for (final byte data : text.getBytes(StandardCharsets.UTF_8)) {
+                stream.write(data);
+            }
+        }
+        MatcherAssert.assertThat(
+            "Must decode multibyte chars between ASCII ones",
+            target.toString(),
+            new IsEqual<>(text)
+        );
+    }
+
+    @Test
+    void decodesLatinWithoutDecoder() throws Exception {
+        final StringWriter target = new StringWriter();
+        try (OutputStream stream = new WriterAsOutputStream(
+            target, StandardCharsets.ISO_8859_1, 8
+        )) {
+            stream.write(new byte[] {'c', 'a', 'f', (byte) 0xE9, '!'});
+        }
+        MatcherAssert.assertThat(
+            "Must decode bytes above ASCII with the decoder",
+            target.toString(),
+            new IsEqual<>("café!")
+        );
+    }
+
+    @Test
+    void failsOnIncompleteSequenceAtClose() {
+        final OutputStream stream = new WriterAsOutputStream(
+            new StringWriter(), StandardCharsets.UTF_8, 8
+        );
+        MatcherAssert.assertThat(
+            "Must report a trailing incomplete sequence as malformed",
+            () -> {
+                stream.write(new byte[] {'a', (byte) 0xE4, (byte) 0xBD});
+                stream.close();
+                return stream;
+            },
+            new Throws<>(MalformedInputException.class)
+        );
+    }
+
+    @Test
+    void keepsIncompleteSequenceOnFlush() throws Exception {
+        final StringWriter target = new StringWriter();
+        final byte[] bytes = "你".getBytes(StandardCharsets.UTF_8);
+        try (OutputStream stream = new WriterAsOutputStream(
+            target, StandardCharsets.UTF_8, 8
+        )) {
+            stream.write(bytes, 0, 1);
+            stream.flush();
+            stream.write(bytes, 1, 2);
+        }
+        MatcherAssert.assertThat(
+            "Must complete a sequence after a flush",
+            target.toString(),
+            new IsEqual<>("你")
+        );
+    }
 }
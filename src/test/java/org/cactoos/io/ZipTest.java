@@ -9,9 +9,13 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Random;
+import java.util.zip.Deflater;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
+import org.cactoos.bytes.BytesOf;
 import org.cactoos.list.ListOf;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.collection.IsIterableContainingInAnyOrder;
@@ -73,4 +77,45 @@ final class ZipTest {
             );
         }
     }
+
+    @Test
+    void storesChosenFiles(@TempDir final Path dir) throws Exception {
+        Files.write(dir.resolve("a.txt"), "stored".getBytes(StandardCharsets.UTF_8));
+        Files.write(dir.resolve("b.txt"), "deflated".getBytes(StandardCharsets.UTF_8));
+        try (
+            ZipInputStream input = new ZipInputStream(
+                new Zip(
+                    new ListOf<>(dir.resolve("a.txt"), dir.resolve("b.txt")),
+                    Deflater.BEST_COMPRESSION,
+                    path -> path.endsWith("a.txt")
+                ).stream()
+            )
+        ) {
+            final List<Integer> methods = new ArrayList<>(2);
+            for (ZipEntry entry = input.getNextEntry(); entry != null;
+                entry = input.getNextEntry()) {
+                methods.add(entry.getMethod());
+            }
+            MatcherAssert.assertThat(
+                "Must store only chosen files",
+                methods,
+                new IsEqual<>(new ListOf<>(ZipEntry.STORED, ZipEntry.DEFLATED))
+            );
+        }
+    }
+
+    @Test
+    void zipsBigFileInChunks(@TempDir final Path dir) throws Exception {
+        final byte[] content = new byte[1 << 20];
+        new Random(0L).nextBytes(content);
+        final Path file = Files.write(dir.resolve("big.bin"), content);
+        MatcherAssert.assertThat(
+            "Must unzip the same content",
+            new BytesOf(
+                new Unzipped(new Zip(Collections.singletonList(file)))
+                    .iterator().next().getValue()
+            ).asBytes(),
+            new IsEqual<>(content)
+        );
+    }
 }
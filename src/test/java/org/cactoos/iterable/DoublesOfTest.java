@@ -0,0 +1,48 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+import java.util.NoSuchElementException;
+import org.cactoos.list.ListOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link DoublesOf}.
+ * @since 1.0
+ */
+final class DoublesOfTest {
+
+    @Test
+    void iteratesValues() {
+        MatcherAssert.assertThat(
+            "Must iterate all values",
+            new ListOf<>(new DoublesOf(1.0d, 2.0d, 3.0d)),
+            new IsEqual<>(new ListOf<>(1.0d, 2.0d, 3.0d))
+        );
+    }
+
+    @Test
+    void iteratesAgain() {
+        final Doubles items = new DoublesOf(1.0d, 2.0d);
+        items.iterator().nextDouble();
+        MatcherAssert.assertThat(
+            "Must iterate from the start every time",
+            items.iterator().nextDouble(),
+            new IsEqual<>(1.0d)
+        );
+    }
+
+    @Test
+    void failsWhenEmpty() {
+        MatcherAssert.assertThat(
+            "Must fail when there are no more values",
+            () -> new DoublesOf().iterator().nextDouble(),
+            new Throws<>(NoSuchElementException.class)
+        );
+    }
+}
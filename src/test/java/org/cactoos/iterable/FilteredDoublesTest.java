@@ -0,0 +1,40 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+import java.util.NoSuchElementException;
+import org.cactoos.list.ListOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link FilteredDoubles}.
+ * @since 1.0
+ */
+final class FilteredDoublesTest {
+
+    @Test
+    void filtersValues() {
+        MatcherAssert.assertThat(
+            "Must keep only matching values",
+            new ListOf<>(
+                new FilteredDoubles(item -> item != 2.0d, new DoublesOf(1.0d, 2.0d, 3.0d, 2.0d))
+            ),
+            new IsEqual<>(new ListOf<>(1.0d, 3.0d))
+        );
+    }
+
+    @Test
+    void failsWhenNothingMatches() {
+        MatcherAssert.assertThat(
+            "Must fail when no more values match",
+            () -> new FilteredDoubles(item -> false, new DoublesOf(1.0d))
+                .iterator().nextDouble(),
+            new Throws<>(NoSuchElementException.class)
+        );
+    }
+}
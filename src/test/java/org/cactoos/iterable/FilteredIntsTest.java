@@ -0,0 +1,40 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+import java.util.NoSuchElementException;
+import org.cactoos.list.ListOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link FilteredInts}.
+ * @since 1.0
+ */
+final class FilteredIntsTest {
+
+    @Test
+    void filtersValues() {
+        MatcherAssert.assertThat(
+            "Must keep only matching values",
+            new ListOf<>(
+                new FilteredInts(item -> item != 2, new IntsOf(1, 2, 3, 2))
+            ),
+            new IsEqual<>(new ListOf<>(1, 3))
+        );
+    }
+
+    @Test
+    void failsWhenNothingMatches() {
+        MatcherAssert.assertThat(
+            "Must fail when no more values match",
+            () -> new FilteredInts(item -> false, new IntsOf(1))
+                .iterator().nextInt(),
+            new Throws<>(NoSuchElementException.class)
+        );
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+import java.util.NoSuchElementException;
+import org.cactoos.list.ListOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link FilteredLongs}.
+ * @since 1.0
+ */
+final class FilteredLongsTest {
+
+    @Test
+    void filtersValues() {
+        MatcherAssert.assertThat(
+            "Must keep only matching values",
+            new ListOf<>(
+                new FilteredLongs(item -> item != 2L, new LongsOf(1L, 2L, 3L, 2L))
+            ),
+            new IsEqual<>(new ListOf<>(1L, 3L))
+        );
+    }
+
+    @Test
+    void failsWhenNothingMatches() {
+        MatcherAssert.assertThat(
+            "Must fail when no more values match",
+            () -> new FilteredLongs(item -> false, new LongsOf(1L))
+                .iterator().nextLong(),
+            new Throws<>(NoSuchElementException.class)
+        );
+    }
+}
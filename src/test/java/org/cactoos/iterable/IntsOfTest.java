@@ -0,0 +1,48 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+import java.util.NoSuchElementException;
+import org.cactoos.list.ListOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link IntsOf}.
+ * @since 1.0
+ */
+final class IntsOfTest {
+
+    @Test
+    void iteratesValues() {
+        MatcherAssert.assertThat(
+            "Must iterate all values",
+            new ListOf<>(new IntsOf(1, 2, 3)),
+            new IsEqual<>(new ListOf<>(1, 2, 3))
+        );
+    }
+
+    @Test
+    void iteratesAgain() {
+        final Ints items = new IntsOf(1, 2);
+        items.iterator().nextInt();
+        MatcherAssert.assertThat(
+            "Must iterate from the start every time",
+            items.iterator().nextInt(),
+            new IsEqual<>(1)
+        );
+    }
+
+    @Test
+    void failsWhenEmpty() {
+        MatcherAssert.assertThat(
+            "Must fail when there are no more values",
+            () -> new IntsOf().iterator().nextInt(),
+            new Throws<>(NoSuchElementException.class)
+        );
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+import java.util.NoSuchElementException;
+import org.cactoos.list.ListOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link LongsOf}.
+ * @since 1.0
+ */
+final class LongsOfTest {
+
+    @Test
+    void iteratesValues() {
+        MatcherAssert.assertThat(
+            "Must iterate all values",
+            new ListOf<>(new LongsOf(1L, 2L, 3L)),
+            new IsEqual<>(new ListOf<>(1L, 2L, 3L))
+        );
+    }
+
+    @Test
+    void iteratesAgain() {
+        final Longs items = new LongsOf(1L, 2L);
+        items.iterator().nextLong();
+        MatcherAssert.assertThat(
+            "Must iterate from the start every time",
+            items.iterator().nextLong(),
+            new IsEqual<>(1L)
+        );
+    }
+
+    @Test
+    void failsWhenEmpty() {
+        MatcherAssert.assertThat(
+            "Must fail when there are no more values",
+            () -> new LongsOf().iterator().nextLong(),
+            new Throws<>(NoSuchElementException.class)
+        );
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+import org.cactoos.list.ListOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link MappedDoubles}.
+ * @since 1.0
+ */
+final class MappedDoublesTest {
+
+    @Test
+    void mapsValues() {
+        MatcherAssert.assertThat(
+            "Must map all values",
+            new ListOf<>(
+                new MappedDoubles(item -> item * 2.0d, new DoublesOf(1.0d, 2.0d, 3.0d))
+            ),
+            new IsEqual<>(new ListOf<>(2.0d, 2.0d * 2.0d, 3.0d * 2.0d))
+        );
+    }
+
+    @Test
+    void mapsEmpty() {
+        MatcherAssert.assertThat(
+            "Must map nothing",
+            new MappedDoubles(item -> item, new DoublesOf()).iterator().hasNext(),
+            new IsEqual<>(false)
+        );
+    }
+}
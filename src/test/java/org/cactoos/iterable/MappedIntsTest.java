@@ -0,0 +1,37 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+import org.cactoos.list.ListOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link MappedInts}.
+ * @since 1.0
+ */
+final class MappedIntsTest {
+
+    @Test
+    void mapsValues() {
+        MatcherAssert.assertThat(
+            "Must map all values",
+            new ListOf<>(
+                new MappedInts(item -> item * 2, new IntsOf(1, 2, 3))
+            ),
+            new IsEqual<>(new ListOf<>(2, 2 * 2, 3 * 2))
+        );
+    }
+
+    @Test
+    void mapsEmpty() {
+        MatcherAssert.assertThat(
+            "Must map nothing",
+            new MappedInts(item -> item, new IntsOf()).iterator().hasNext(),
+            new IsEqual<>(false)
+        );
+    }
+}
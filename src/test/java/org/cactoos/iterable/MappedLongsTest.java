@@ -0,0 +1,37 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+import org.cactoos.list.ListOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link MappedLongs}.
+ * @since 1.0
+ */
+final class MappedLongsTest {
+
+    @Test
+    void mapsValues() {
+        MatcherAssert.assertThat(
+            "Must map all values",
+            new ListOf<>(
+                new MappedLongs(item -> item * 2L, new LongsOf(1L, 2L, 3L))
+            ),
+            new IsEqual<>(new ListOf<>(2L, 2L * 2L, 3L * 2L))
+        );
+    }
+
+    @Test
+    void mapsEmpty() {
+        MatcherAssert.assertThat(
+            "Must map nothing",
+            new MappedLongs(item -> item, new LongsOf()).iterator().hasNext(),
+            new IsEqual<>(false)
+        );
+    }
+}
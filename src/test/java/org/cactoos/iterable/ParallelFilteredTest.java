@@ -0,0 +1,57 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+import java.util.concurrent.ForkJoinPool;
+import org.cactoos.list.ListOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link ParallelFiltered}.
+ * @since 1.0
+ */
+final class ParallelFilteredTest {
+
+    @Test
+    void filtersInOrder() {
+        MatcherAssert.assertThat(
+            "Must keep matching items in their order",
+            new ListOf<>(
+                new ParallelFiltered<>(
+                    (Integer item) -> item % 3 == 0,
+                    new RangeOf<>(1, 10_000, x -> x + 1)
+                )
+            ),
+            new IsEqual<>(
+                new ListOf<>(
+                    new Filtered<>(
+                        (Integer item) -> item % 3 == 0,
+                        new RangeOf<>(1, 10_000, x -> x + 1)
+                    )
+                )
+            )
+        );
+    }
+
+    @Test
+    void filtersInGivenPool() {
+        final ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            MatcherAssert.assertThat(
+                "Must filter items in the given pool",
+                new ParallelFiltered<>(
+                    pool,
+                    (String item) -> item.length() > 1,
+                    new IterableOf<>("hey", "a", "hello", "b")
+                ),
+                new IsEqual<>(new ListOf<>("hey", "hello"))
+            );
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
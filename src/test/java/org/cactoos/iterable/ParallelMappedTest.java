@@ -0,0 +1,82 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import org.cactoos.list.ListOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link ParallelMapped}.
+ * @since 1.0
+ */
+final class ParallelMappedTest {
+
+    @Test
+    void mapsInOrder() {
+        MatcherAssert.assertThat(
+            "Must map all items, keeping their order",
+            new ListOf<>(
+                new ParallelMapped<>(
+                    (Integer item) -> item * 2,
+                    new RangeOf<>(1, 10_000, x -> x + 1)
+                )
+            ),
+            new IsEqual<>(
+                new ListOf<>(
+                    new Mapped<>(
+                        (Integer item) -> item * 2,
+                        new RangeOf<>(1, 10_000, x -> x + 1)
+                    )
+                )
+            )
+        );
+    }
+
+    @Test
+    void mapsInGivenPool() {
+        final ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            MatcherAssert.assertThat(
+                "Must map items in the given pool",
+                new ParallelMapped<>(
+                    pool,
+                    (String item) -> ForkJoinTask.getPool() == pool,
+                    new IterableOf<>("a", "b", "c", "d")
+                ),
+                new IsEqual<>(new ListOf<>(true, true, true, true))
+            );
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void mapsEmpty() {
+        MatcherAssert.assertThat(
+            "Must map nothing",
+            new ParallelMapped<>(
+                (String item) -> item, new IterableOf<String>()
+            ).iterator().hasNext(),
+            new IsEqual<>(false)
+        );
+    }
+
+    @Test
+    void mapsAgain() {
+        final Iterable<String> mapped = new ParallelMapped<>(
+            String::trim, new IterableOf<>(" x ", " y ")
+        );
+        mapped.iterator().next();
+        MatcherAssert.assertThat(
+            "Must map items on every iteration",
+            new ListOf<>(mapped),
+            new IsEqual<>(new ListOf<>("x", "y"))
+        );
+    }
+}
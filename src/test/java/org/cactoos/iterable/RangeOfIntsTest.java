@@ -0,0 +1,72 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+import org.cactoos.list.ListOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link RangeOfInts}.
+ * @since 1.0
+ */
+final class RangeOfIntsTest {
+
+    @Test
+    void iteratesRange() {
+        MatcherAssert.assertThat(
+            "Must iterate the range inclusively",
+            new ListOf<>(new RangeOfInts(-1, 2)),
+            new IsEqual<>(new ListOf<>(-1, 0, 1, 2))
+        );
+    }
+
+    @Test
+    void iteratesWithStep() {
+        MatcherAssert.assertThat(
+            "Must iterate the range with a step",
+            new ListOf<>(new RangeOfInts(0, 7, 3)),
+            new IsEqual<>(new ListOf<>(0, 3, 6))
+        );
+    }
+
+    @Test
+    void stopsAtMaximumValue() {
+        MatcherAssert.assertThat(
+            "Must not overflow at the maximum value",
+            new ListOf<>(new RangeOfInts(Integer.MAX_VALUE - 1, Integer.MAX_VALUE, 2)),
+            new IsEqual<>(new ListOf<>(Integer.MAX_VALUE - 1))
+        );
+    }
+
+    @Test
+    void iteratesNothingForReversedRange() {
+        MatcherAssert.assertThat(
+            "Must be empty if minimum is greater than maximum",
+            new RangeOfInts(3, 1).iterator().hasNext(),
+            new IsEqual<>(false)
+        );
+    }
+
+    @Test
+    void rejectsZeroStep() {
+        MatcherAssert.assertThat(
+            "Must reject a step, which is zero",
+            () -> new RangeOfInts(0, 3, 0).iterator().hasNext(),
+            new Throws<>(IllegalArgumentException.class)
+        );
+    }
+
+    @Test
+    void rejectsNegativeStep() {
+        MatcherAssert.assertThat(
+            "Must reject a step, which is negative",
+            () -> new ListOf<>(new RangeOfInts(1, 3, -1)),
+            new Throws<>(IllegalArgumentException.class)
+        );
+    }
+}
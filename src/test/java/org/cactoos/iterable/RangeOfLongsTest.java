@@ -0,0 +1,72 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+import org.cactoos.list.ListOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link RangeOfLongs}.
+ * @since 1.0
+ */
+final class RangeOfLongsTest {
+
+    @Test
+    void iteratesRange() {
+        MatcherAssert.assertThat(
+            "Must iterate the range inclusively",
+            new ListOf<>(new RangeOfLongs(-1, 2)),
+            new IsEqual<>(new ListOf<>(-1L, 0L, 1L, 2L))
+        );
+    }
+
+    @Test
+    void iteratesWithStep() {
+        MatcherAssert.assertThat(
+            "Must iterate the range with a step",
+            new ListOf<>(new RangeOfLongs(0, 7, 3)),
+            new IsEqual<>(new ListOf<>(0L, 3L, 6L))
+        );
+    }
+
+    @Test
+    void stopsAtMaximumValue() {
+        MatcherAssert.assertThat(
+            "Must not overflow at the maximum value",
+            new ListOf<>(new RangeOfLongs(Long.MAX_VALUE - 1L, Long.MAX_VALUE, 2)),
+            new IsEqual<>(new ListOf<>(Long.MAX_VALUE - 1L))
+        );
+    }
+
+    @Test
+    void iteratesNothingForReversedRange() {
+        MatcherAssert.assertThat(
+            "Must be empty if minimum is greater than maximum",
+            new RangeOfLongs(3, 1).iterator().hasNext(),
+            new IsEqual<>(false)
+        );
+    }
+
+    @Test
+    void rejectsZeroStep() {
+        MatcherAssert.assertThat(
+            "Must reject a step, which is zero",
+            () -> new RangeOfLongs(0L, 3L, 0L).iterator().hasNext(),
+            new Throws<>(IllegalArgumentException.class)
+        );
+    }
+
+    @Test
+    void rejectsNegativeStep() {
+        MatcherAssert.assertThat(
+            "Must reject a step, which is negative",
+            () -> new ListOf<>(new RangeOfLongs(1L, 3L, -1L)),
+            new Throws<>(IllegalArgumentException.class)
+        );
+    }
+}
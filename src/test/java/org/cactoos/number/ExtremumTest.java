@@ -0,0 +1,54 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.number;
+
+import java.util.NoSuchElementException;
+import org.cactoos.iterable.IterableOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link Extremum}.
+ * @since 1.0
+ */
+final class ExtremumTest {
+
+    @Test
+    void selectsEveryValueSeparately() {
+        MatcherAssert.assertThat(
+            "Must select the greatest int among ints, not among longs",
+            new Extremum(
+                new IterableOf<Number>(1L << 32, 5L),
+                Math::max, Math::max, Math::max
+            ).intValue(),
+            new IsEqual<>(5)
+        );
+    }
+
+    @Test
+    void selectsDoubles() {
+        MatcherAssert.assertThat(
+            "Must select the least double",
+            new Extremum(
+                new IterableOf<Number>(1.5d, -2.5f, 3),
+                Math::min, Math::min, Math::min
+            ).doubleValue(),
+            new IsEqual<>(-2.5d)
+        );
+    }
+
+    @Test
+    void rejectsEmpty() {
+        MatcherAssert.assertThat(
+            "Must fail on empty iterable",
+            () -> new Extremum(
+                new IterableOf<Number>(), Math::max, Math::max, Math::max
+            ).longValue(),
+            new Throws<>(NoSuchElementException.class)
+        );
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.number;
+
+import java.math.BigDecimal;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsInstanceOf;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Product}.
+ * @since 1.0
+ */
+final class ProductTest {
+
+    @Test
+    void multipliesIntegralAsLong() {
+        MatcherAssert.assertThat(
+            "Must multiply integral numbers as long",
+            new Product().multiply(2).multiply(-3L).value(),
+            new IsEqual<>(-6L)
+        );
+    }
+
+    @Test
+    void fallsBackToDecimalOnOverflow() {
+        MatcherAssert.assertThat(
+            "Must multiply beyond long range as BigDecimal",
+            new Product().multiply(Long.MAX_VALUE).multiply(4L).value(),
+            new IsEqual<>(
+                BigDecimal.valueOf(Long.MAX_VALUE).multiply(BigDecimal.valueOf(4L))
+            )
+        );
+    }
+
+    @Test
+    void multipliesFloatingAsDouble() {
+        MatcherAssert.assertThat(
+            "Must multiply floating numbers as double",
+            new Product().multiply(3L).multiply(0.5d).value(),
+            new IsEqual<>(1.5d)
+        );
+    }
+
+    @Test
+    void fallsBackToDecimalOutOfDoubleRange() {
+        MatcherAssert.assertThat(
+            "Must multiply beyond double range as BigDecimal",
+            new Product().multiply(Double.MAX_VALUE).multiply(2.0d).value(),
+            new IsInstanceOf(BigDecimal.class)
+        );
+    }
+}
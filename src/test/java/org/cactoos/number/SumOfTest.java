@@ -4,7 +4,10 @@
  */
 package org.cactoos.number;
 
+import org.cactoos.iterable.DoublesOf;
+import org.cactoos.iterable.IntsOf;
 import org.cactoos.iterable.IterableOf;
+import org.cactoos.iterable.LongsOf;
 import org.cactoos.list.ListOf;
 import org.cactoos.text.Joined;
 import org.hamcrest.MatcherAssert;
@@ -145,4 +148,31 @@ final class SumOfTest {
             new IsEqual<>(4_294_967_300.0f)
         );
     }
+
+    @Test
+    void sumsIntsWithoutOverflow() {
+        MatcherAssert.assertThat(
+            "must sum ints in a long accumulator",
+            new SumOf(new IntsOf(Integer.MAX_VALUE, Integer.MAX_VALUE)).longValue(),
+            new IsEqual<>(4_294_967_294L)
+        );
+    }
+
+    @Test
+    void sumsLongsBeyondMaximum() {
+        MatcherAssert.assertThat(
+            "must sum longs exactly after an overflow",
+            new SumOf(new LongsOf(Long.MAX_VALUE, 2L, -3L)).longValue(),
+            new IsEqual<>(Long.MAX_VALUE - 1L)
+        );
+    }
+
+    @Test
+    void sumsDoublesWithCompensation() {
+        MatcherAssert.assertThat(
+            "must not lose small doubles next to big ones",
+            new SumOf(new DoublesOf(1.0d, 1.0e100, 1.0d, -1.0e100)).doubleValue(),
+            new IsEqual<>(2.0d)
+        );
+    }
 }
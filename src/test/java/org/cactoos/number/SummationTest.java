@@ -0,0 +1,84 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.number;
+
+import java.math.BigDecimal;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsInstanceOf;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link Summation}.
+ * @since 1.0
+ */
+final class SummationTest {
+
+    @Test
+    void sumsIntegralAsLong() {
+        MatcherAssert.assertThat(
+            "Must sum integral numbers as long",
+            new Summation().add(1).add(2L).add((short) 3).sum(),
+            new IsEqual<>(6L)
+        );
+    }
+
+    @Test
+    void fallsBackToDecimalOnOverflow() {
+        MatcherAssert.assertThat(
+            "Must sum beyond long range as BigDecimal",
+            new Summation().add(Long.MAX_VALUE).add(Long.MAX_VALUE).sum(),
+            new IsEqual<>(
+                BigDecimal.valueOf(Long.MAX_VALUE).multiply(BigDecimal.valueOf(2L))
+            )
+        );
+    }
+
+    @Test
+    void sumsFloatingWithCompensation() {
+        MatcherAssert.assertThat(
+            "Must compensate lost low-order bits",
+            new Summation().add(1.0d).add(1.0e100).add(1.0d).add(-1.0e100).sum(),
+            new IsEqual<>(2.0d)
+        );
+    }
+
+    @Test
+    void sumsMixedAsDouble() {
+        MatcherAssert.assertThat(
+            "Must sum integral and floating numbers as double",
+            new Summation().add(Integer.valueOf(1)).add(Double.valueOf(0.5d)).sum(),
+            new IsEqual<>(1.5d)
+        );
+    }
+
+    @Test
+    void sumsOtherNumbersAsDecimal() {
+        MatcherAssert.assertThat(
+            "Must sum other numbers as BigDecimal",
+            new Summation().add(1L).add(new BigDecimal("0.1")).sum(),
+            new IsInstanceOf(BigDecimal.class)
+        );
+    }
+
+    @Test
+    void averagesIntegral() {
+        MatcherAssert.assertThat(
+            "Must calculate the mean of integral numbers as double",
+            new Summation().add(1L).add(2L).mean().doubleValue(),
+            new IsEqual<>(1.5d)
+        );
+    }
+
+    @Test
+    void rejectsInfinity() {
+        MatcherAssert.assertThat(
+            "Must not sum infinite numbers",
+            () -> new Summation().add(Double.POSITIVE_INFINITY).sum(),
+            new Throws<>(NumberFormatException.class)
+        );
+    }
+}
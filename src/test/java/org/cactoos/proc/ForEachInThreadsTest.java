@@ -5,6 +5,8 @@
 package org.cactoos.proc;
 
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.cactoos.list.ListOf;
 import org.cactoos.list.Synced;
 import org.hamcrest.MatcherAssert;
@@ -44,4 +46,31 @@ final class ForEachInThreadsTest {
             )
         );
     }
+
+    @Test
+    @SuppressWarnings({"unchecked", "PMD.CloseResource"})
+    void iteratesInSharedService() throws Exception {
+        final List<Integer> list = new Synced<>(new ListOf<>());
+        final ExecutorService service = Executors.newFixedThreadPool(2);
+        new ForEachInThreads<Integer>(service, 1, list::add).exec(
+            new ListOf<>(1, 2, 3)
+        );
+        MatcherAssert.assertThat(
+            "Shared service must stay alive",
+            service.isShutdown(),
+            new IsEqual<>(false)
+        );
+        service.shutdown();
+        MatcherAssert.assertThat(
+            "List does not contain all elements",
+            list,
+            new IsIterableContainingInAnyOrder<>(
+                new ListOf<>(
+                    new IsEqual<>(1),
+                    new IsEqual<>(2),
+                    new IsEqual<>(3)
+                )
+            )
+        );
+    }
 }
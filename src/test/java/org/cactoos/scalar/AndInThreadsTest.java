@@ -6,7 +6,10 @@ package org.cactoos.scalar;
 
 import java.util.List;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.cactoos.Scalar;
 import org.cactoos.func.FuncOf;
 import org.cactoos.iterable.IterableOf;
@@ -20,6 +23,7 @@ import org.hamcrest.collection.IsIterableContainingInAnyOrder;
 import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.HasValue;
+import org.llorllale.cactoos.matchers.Throws;
 
 /**
  * Test case for {@link AndInThreads}.
@@ -227,4 +231,94 @@ final class AndInThreadsTest {
             Matchers.equalTo(true)
         );
     }
+
+    @Test
+    void respectsConcurrencyLimit() throws Exception {
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger peak = new AtomicInteger();
+        new AndInThreads(
+            2,
+            new Mapped<Scalar<Boolean>>(
+                item -> () -> {
+                    peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    TimeUnit.MILLISECONDS.sleep(10L);
+                    running.decrementAndGet();
+                    return true;
+                },
+                new IterableOf<>(1, 2, 3, 4, 5, 6)
+            )
+        ).value();
+        MatcherAssert.assertThat(
+            "Must not run more tasks at the same time than the limit",
+            peak.get() <= 2,
+            new IsEqual<>(true)
+        );
+    }
+
+    @Test
+    void rejectsNonPositiveLimit() {
+        MatcherAssert.assertThat(
+            "Must reject zero limit",
+            () -> new AndInThreads(0, new IterableOf<Scalar<Boolean>>(new True())).value(),
+            new Throws<>(IllegalArgumentException.class)
+        );
+    }
+
+    @Test
+    void cancelsRemainingTasksOnFalse() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        MatcherAssert.assertThat(
+            "Must return false before the slow task is done",
+            new AndInThreads(
+                new IterableOf<Scalar<Boolean>>(
+                    () -> {
+                        started.countDown();
+                        try {
+                            TimeUnit.MINUTES.sleep(1L);
+                        } catch (final InterruptedException ex) {
+                            interrupted.countDown();
+                            throw ex;
+                        }
+                        return true;
+                    },
+                    () -> !started.await(1L, TimeUnit.MINUTES)
+                )
+            ).value(),
+            new IsEqual<>(false)
+        );
+        MatcherAssert.assertThat(
+            "Must interrupt the slow task",
+            interrupted.await(1L, TimeUnit.MINUTES),
+            new IsEqual<>(true)
+        );
+    }
+
+    @Test
+    void doesNotSubmitTasksAfterFalse() throws Exception {
+        final AtomicInteger started = new AtomicInteger();
+        new AndInThreads(
+            1,
+            new Mapped<Scalar<Boolean>>(
+                item -> () -> started.incrementAndGet() < 2,
+                new IterableOf<>(1, 2, 3, 4, 5)
+            )
+        ).value();
+        MatcherAssert.assertThat(
+            "Must not start tasks after the result is known",
+            started.get(),
+            new IsEqual<>(2)
+        );
+    }
+
+    @Test
+    void canBeCalledTwice() throws Exception {
+        final AndInThreads and = new AndInThreads(new True(), new True());
+        and.value();
+        MatcherAssert.assertThat(
+            "Must use a new service on every call",
+            and.value(),
+            new IsEqual<>(true)
+        );
+    }
 }
@@ -0,0 +1,53 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.scalar;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.Scalar;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.RunsInThreads;
+
+/**
+ * Test case for {@link Expiring}.
+ * @since 1.0
+ */
+final class ExpiringTest {
+
+    @Test
+    void cachesUntilExpired() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Scalar<Integer> scalar = new Expiring<>(
+            calls::incrementAndGet, Duration.ofMillis(100L)
+        );
+        scalar.value();
+        MatcherAssert.assertThat(
+            "Must return cached value before it expires",
+            scalar.value(),
+            new IsEqual<>(1)
+        );
+        Thread.sleep(150L);
+        MatcherAssert.assertThat(
+            "Must calculate value again after it expires",
+            scalar.value(),
+            new IsEqual<>(2)
+        );
+    }
+
+    @Test
+    void worksInThreads() {
+        final AtomicInteger calls = new AtomicInteger();
+        final Scalar<Integer> scalar = new Expiring<>(
+            calls::incrementAndGet, Duration.ofMinutes(1L)
+        );
+        MatcherAssert.assertThat(
+            "Must calculate value only once in multiple threads",
+            (Scalar<Integer> input) -> input.value() == 1,
+            new RunsInThreads<>(scalar)
+        );
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.scalar;
+
+import org.cactoos.iterable.DoublesOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link FoldedDoubles}.
+ * @since 1.0
+ */
+final class FoldedDoublesTest {
+
+    @Test
+    void foldsValues() {
+        MatcherAssert.assertThat(
+            "Must fold all values",
+            new FoldedDoubles(
+                1.0d, (acc, item) -> acc * (item + 1.0d), new DoublesOf(1.0d, 2.0d, 3.0d)
+            ).value(),
+            new IsEqual<>(2.0d * 3.0d * (3.0d + 1.0d))
+        );
+    }
+
+    @Test
+    void returnsInitialValueOfEmpty() {
+        MatcherAssert.assertThat(
+            "Must return initial value",
+            new FoldedDoubles(3.0d, (acc, item) -> acc + item, new DoublesOf()).value(),
+            new IsEqual<>(3.0d)
+        );
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.scalar;
+
+import org.cactoos.iterable.IntsOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link FoldedInts}.
+ * @since 1.0
+ */
+final class FoldedIntsTest {
+
+    @Test
+    void foldsValues() {
+        MatcherAssert.assertThat(
+            "Must fold all values",
+            new FoldedInts(
+                1, (acc, item) -> acc * (item + 1), new IntsOf(1, 2, 3)
+            ).value(),
+            new IsEqual<>(2 * 3 * (3 + 1))
+        );
+    }
+
+    @Test
+    void returnsInitialValueOfEmpty() {
+        MatcherAssert.assertThat(
+            "Must return initial value",
+            new FoldedInts(3, (acc, item) -> acc + item, new IntsOf()).value(),
+            new IsEqual<>(3)
+        );
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.scalar;
+
+import org.cactoos.iterable.LongsOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link FoldedLongs}.
+ * @since 1.0
+ */
+final class FoldedLongsTest {
+
+    @Test
+    void foldsValues() {
+        MatcherAssert.assertThat(
+            "Must fold all values",
+            new FoldedLongs(
+                1L, (acc, item) -> acc * (item + 1L), new LongsOf(1L, 2L, 3L)
+            ).value(),
+            new IsEqual<>(2L * 3L * (3L + 1L))
+        );
+    }
+
+    @Test
+    void returnsInitialValueOfEmpty() {
+        MatcherAssert.assertThat(
+            "Must return initial value",
+            new FoldedLongs(3L, (acc, item) -> acc + item, new LongsOf()).value(),
+            new IsEqual<>(3L)
+        );
+    }
+}
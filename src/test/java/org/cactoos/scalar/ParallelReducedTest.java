@@ -0,0 +1,72 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.scalar;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.iterable.RangeOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.HasValue;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link ParallelReduced}.
+ * @since 1.0
+ */
+final class ParallelReducedTest {
+
+    @Test
+    void reducesAll() {
+        MatcherAssert.assertThat(
+            "Must reduce all items",
+            new ParallelReduced<>(
+                Long::sum,
+                new RangeOf<>(1L, 100_000L, x -> x + 1L)
+            ),
+            new HasValue<>(5_000_050_000L)
+        );
+    }
+
+    @Test
+    void reducesInOrder() {
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            MatcherAssert.assertThat(
+                "Must keep the order of items",
+                new ParallelReduced<>(
+                    pool,
+                    (String first, String second) -> first.concat(second),
+                    new IterableOf<>("a", "b", "c", "d", "e", "f", "g", "h")
+                ).value(),
+                new IsEqual<>("abcdefgh")
+            );
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void reducesSingleItem() {
+        MatcherAssert.assertThat(
+            "Must return the only item",
+            new ParallelReduced<>(Math::max, 42),
+            new HasValue<>(42)
+        );
+    }
+
+    @Test
+    void rejectsEmpty() {
+        MatcherAssert.assertThat(
+            "Must fail on empty iterable",
+            () -> new ParallelReduced<>(
+                Math::max, new IterableOf<Integer>()
+            ).value(),
+            new Throws<>(NoSuchElementException.class)
+        );
+    }
+}
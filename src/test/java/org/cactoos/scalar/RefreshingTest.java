@@ -0,0 +1,137 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.scalar;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.Scalar;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Refreshing}.
+ * @since 1.0
+ */
+final class RefreshingTest {
+
+    @Test
+    void servesOldValueWhileRefreshing() throws Exception {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final AtomicInteger calls = new AtomicInteger();
+            final Scalar<Integer> scalar = new Refreshing<>(
+                calls::incrementAndGet, Duration.ofMillis(100L), executor
+            );
+            scalar.value();
+            Thread.sleep(150L);
+            MatcherAssert.assertThat(
+                "Must return old value while refreshing",
+                scalar.value(),
+                new IsEqual<>(1)
+            );
+            executor.submit(() -> true).get();
+            MatcherAssert.assertThat(
+                "Must return refreshed value",
+                scalar.value(),
+                new IsEqual<>(2)
+            );
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void keepsOldValueIfRefreshFails() throws Exception {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final AtomicInteger calls = new AtomicInteger();
+            final Scalar<Integer> scalar = new Refreshing<>(
+                () -> {
+                    if (calls.incrementAndGet() > 1) {
+                        throw new IllegalStateException("Refresh fails");
+                    }
+                    return calls.get();
+                },
+                Duration.ZERO,
+                executor
+            );
+            scalar.value();
+            scalar.value();
+            executor.submit(() -> true).get();
+            MatcherAssert.assertThat(
+                "Must keep old value if refresh fails",
+                scalar.value(),
+                new IsEqual<>(1)
+            );
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void calculatesExpiredValueInPlace() throws Exception {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final AtomicInteger calls = new AtomicInteger();
+            final Scalar<Integer> scalar = new Refreshing<>(
+                calls::incrementAndGet,
+                Duration.ofMinutes(1L),
+                Duration.ZERO,
+                executor
+            );
+            scalar.value();
+            MatcherAssert.assertThat(
+                "Must calculate expired value right away",
+                scalar.value(),
+                new IsEqual<>(2)
+            );
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void refreshesAfterRejectedSubmission() throws Exception {
+        final ExecutorService executor = new ThreadPoolExecutor(
+            1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1)
+        );
+        try {
+            final CountDownLatch gate = new CountDownLatch(1);
+            executor.submit(
+                () -> {
+                    gate.await();
+                    return true;
+                }
+            );
+            final Future<Boolean> filler = executor.submit(() -> true);
+            final AtomicInteger calls = new AtomicInteger();
+            final Scalar<Integer> scalar = new Refreshing<>(
+                calls::incrementAndGet, Duration.ZERO, executor
+            );
+            scalar.value();
+            scalar.value();
+            gate.countDown();
+            filler.get();
+            scalar.value();
+            executor.shutdown();
+            executor.awaitTermination(1L, TimeUnit.MINUTES);
+            MatcherAssert.assertThat(
+                "Must refresh again, after the executor rejected a refresh",
+                scalar.value(),
+                new IsEqual<>(2)
+            );
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -5,10 +5,18 @@
 package org.cactoos.scalar;
 
 import java.security.SecureRandom;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.cactoos.Scalar;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsSame;
 import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Throws;
 
 /**
  * Test case for {@link Sticky}.
@@ -27,4 +35,66 @@ final class StickyTest {
             new IsEqual<>(scalar.value() + scalar.value())
         );
     }
+
+    @Test
+    void cachesNull() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Scalar<String> scalar = new Sticky<>(
+            () -> {
+                calls.incrementAndGet();
+                return null;
+            }
+        );
+        scalar.value();
+        scalar.value();
+        MatcherAssert.assertThat(
+            "Must calculate null only once",
+            calls.get(),
+            new IsEqual<>(1)
+        );
+    }
+
+    @Test
+    void retriesAfterFailure() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Scalar<Integer> scalar = new Sticky<>(
+            () -> {
+                if (calls.incrementAndGet() == 1) {
+                    throw new IllegalStateException("The first call fails");
+                }
+                return calls.get();
+            }
+        );
+        MatcherAssert.assertThat(
+            "Must fail at the first call",
+            scalar::value,
+            new Throws<>(IllegalStateException.class)
+        );
+        MatcherAssert.assertThat(
+            "Must not cache the failure",
+            new int[] {scalar.value(), scalar.value()},
+            new IsEqual<>(new int[] {2, 2})
+        );
+    }
+
+    @Test
+    void publishesValueToOtherThreads() throws Exception {
+        final Scalar<int[]> scalar = new Sticky<>(() -> new int[] {42});
+        final int[] first = scalar.value();
+        final ExecutorService service = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<int[]>> futures = service.invokeAll(
+                Collections.nCopies(16, scalar::value)
+            );
+            for (final Future<int[]> future : futures) {
+                MatcherAssert.assertThat(
+                    "Must return the same value in all threads",
+                    future.get(),
+                    new IsSame<>(first)
+                );
+            }
+        } finally {
+            service.shutdown();
+        }
+    }
 }
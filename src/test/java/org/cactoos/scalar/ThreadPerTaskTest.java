@@ -0,0 +1,50 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.scalar;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link ThreadPerTask}.
+ * @since 1.0
+ */
+@SuppressWarnings("PMD.CloseResource")
+final class ThreadPerTaskTest {
+
+    @Test
+    void runsTasks() throws Exception {
+        final ExecutorService service = new ThreadPerTask().value();
+        try {
+            MatcherAssert.assertThat(
+                "Must run the task",
+                service.submit(() -> "done").get(1L, TimeUnit.MINUTES),
+                new IsEqual<>("done")
+            );
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void startsVirtualThreadsWhenSupported() throws Exception {
+        final ExecutorService service = new ThreadPerTask().value();
+        try {
+            MatcherAssert.assertThat(
+                "Must start virtual threads only when the JVM has them",
+                service.submit(
+                    () -> Thread.currentThread().getClass().getSimpleName()
+                        .contains("Virtual")
+                ).get(1L, TimeUnit.MINUTES),
+                new IsEqual<>(new ThreadPerTask().virtual())
+            );
+        } finally {
+            service.shutdown();
+        }
+    }
+}
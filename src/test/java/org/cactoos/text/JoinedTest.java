@@ -4,7 +4,12 @@
  */
 package org.cactoos.text;
 
+import java.io.StringWriter;
+import java.util.Iterator;
+import org.cactoos.Text;
+import org.cactoos.iterable.IterableOf;
 import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.HasString;
 
@@ -48,4 +53,52 @@ final class JoinedTest {
             new HasString("one two")
         );
     }
+
+    @Test
+    void knowsLengthWithoutRendering() throws Exception {
+        MatcherAssert.assertThat(
+            "Must know the length of joined texts",
+            new RenderableOf(
+                new Joined(
+                    new TextOf(", "),
+                    new TextOf("apple"),
+                    new Repeated("ab", 3),
+                    new Concatenated("x", "yz")
+                )
+            ).length(),
+            new IsEqual<>(18L)
+        );
+    }
+
+    @Test
+    void doesNotKnowLengthOfOneShotIterable() throws Exception {
+        final Iterator<Text> texts = new IterableOf<Text>(
+            new TextOf("a"), new TextOf("b")
+        ).iterator();
+        MatcherAssert.assertThat(
+            "Must not consume a one-shot iterable to find the length",
+            new RenderableOf(
+                new Joined(new TextOf("-"), new IterableOf<>(texts))
+            ).length(),
+            new IsEqual<>(-1L)
+        );
+    }
+
+    @Test
+    void rendersIntoWriter() throws Exception {
+        final StringWriter writer = new StringWriter();
+        new RenderableOf(
+            new Joined(
+                new TextOf("; "),
+                new Joined(" ", "hello", "world"),
+                new PaddedStart(new TextOf("7"), 3, '0'),
+                new FormattedText("%d%%", 42)
+            )
+        ).render(writer);
+        MatcherAssert.assertThat(
+            "Must render all parts into the writer",
+            writer.toString(),
+            new IsEqual<>("hello world; 007; 42%")
+        );
+    }
 }
@@ -0,0 +1,86 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.text;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.cactoos.io.InputOf;
+import org.cactoos.iterable.HeadOf;
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.scalar.LengthOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.llorllale.cactoos.matchers.HasValue;
+
+/**
+ * Test case for {@link Lines}.
+ * @since 1.0
+ */
+final class LinesTest {
+
+    @Test
+    void readsLines() {
+        MatcherAssert.assertThat(
+            "Must read lines ending with LF and CRLF",
+            new Lines(new InputOf("first\r\nsecond\n\nfourth\r\n")),
+            new IsEqual<>(
+                new IterableOf<>(
+                    new TextOf("first"),
+                    new TextOf("second"),
+                    new TextOf(""),
+                    new TextOf("fourth")
+                )
+            )
+        );
+    }
+
+    @Test
+    void readsLinesOfFile(@TempDir final Path dir) throws Exception {
+        final Path file = dir.resolve("log.txt");
+        Files.writeString(
+            file, "line\n".repeat(10_000), StandardCharsets.UTF_8
+        );
+        MatcherAssert.assertThat(
+            "Must read all lines of a file, chunk by chunk",
+            new LengthOf(new Lines(new InputOf(file), StandardCharsets.UTF_8, 64)),
+            new HasValue<>(10_000L)
+        );
+    }
+
+    @Test
+    void closesInputOfStoppedIteration() throws Exception {
+        final AtomicBoolean closed = new AtomicBoolean();
+        try (Lines lines = new Lines(
+            () -> new FilterInputStream(
+                new InputOf("one\ntwo\nthree\n").stream()
+            ) {
+                @Override
+                public void close() throws IOException {
+                    closed.set(true);
+                    super.close();
+                }
+            }
+        )) {
+            MatcherAssert.assertThat(
+                "Must read the first lines only",
+                new HeadOf<>(2, lines),
+                new IsEqual<>(
+                    new IterableOf<>(new TextOf("one"), new TextOf("two"))
+                )
+            );
+        }
+        MatcherAssert.assertThat(
+            "Must close the input of an iteration, which is stopped early",
+            closed.get(),
+            new IsEqual<>(true)
+        );
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.text;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.cactoos.io.InputOf;
+import org.cactoos.iterable.Filtered;
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.scalar.LengthOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.HasValue;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link Records}.
+ * @since 1.0
+ */
+final class RecordsTest {
+
+    @Test
+    void splitsInputByDelimiter() {
+        MatcherAssert.assertThat(
+            "Must split the input into records",
+            new Records(new InputOf("one;two;;three"), ";"),
+            new IsEqual<>(
+                new IterableOf<>(
+                    new TextOf("one"),
+                    new TextOf("two"),
+                    new TextOf(""),
+                    new TextOf("three")
+                )
+            )
+        );
+    }
+
+    @Test
+    void ignoresDelimiterAtTheEnd() {
+        MatcherAssert.assertThat(
+            "Must not make an empty record of the trailing delimiter",
+            new Records(new InputOf("a,b,"), ","),
+            new IsEqual<>(new IterableOf<>(new TextOf("a"), new TextOf("b")))
+        );
+    }
+
+    @Test
+    void readsEmptyInput() {
+        MatcherAssert.assertThat(
+            "Must not find any records in an empty input",
+            new LengthOf(new Records(new InputOf(""), "\n")),
+            new HasValue<>(0L)
+        );
+    }
+
+    @Test
+    void findsDelimiterAcrossChunks() {
+        MatcherAssert.assertThat(
+            "Must find a long delimiter split between chunks",
+            new Records(
+                new InputOf("alpha<=>beta<=>gamma"),
+                "<=>",
+                StandardCharsets.UTF_8,
+                4
+            ),
+            new IsEqual<>(
+                new IterableOf<>(
+                    new TextOf("alpha"),
+                    new TextOf("beta"),
+                    new TextOf("gamma")
+                )
+            )
+        );
+    }
+
+    @Test
+    void decodesCharsAcrossChunks() {
+        MatcherAssert.assertThat(
+            "Must decode multibyte chars split between chunks",
+            new Records(
+                new InputOf("привет|€uro|日本語"),
+                "|",
+                StandardCharsets.UTF_8,
+                5
+            ),
+            new IsEqual<>(
+                new IterableOf<>(
+                    new TextOf("привет"),
+                    new TextOf("€uro"),
+                    new TextOf("日本語")
+                )
+            )
+        );
+    }
+
+    @Test
+    void readsInputAgain() throws Exception {
+        final Records records = new Records(new InputOf("x y z"), " ");
+        new LengthOf(records).value();
+        MatcherAssert.assertThat(
+            "Must read the input again on every iteration",
+            new LengthOf(records),
+            new HasValue<>(3L)
+        );
+    }
+
+    @Test
+    void composesWithFiltered() {
+        MatcherAssert.assertThat(
+            "Must be filtered as any other iterable",
+            new Filtered<>(
+                rec -> new StartsWith(rec, "ERROR").value(),
+                new Records(new InputOf("ERROR a\nINFO b\nERROR c\n"), "\n")
+            ),
+            new IsEqual<>(
+                new IterableOf<>(new TextOf("ERROR a"), new TextOf("ERROR c"))
+            )
+        );
+    }
+
+    @Test
+    void closesInputWhenOver() throws Exception {
+        final AtomicBoolean closed = new AtomicBoolean();
+        new LengthOf(
+            new Records(
+                () -> new FilterInputStream(
+                    new ByteArrayInputStream(new byte[] {'a', ',', 'b'})
+                ) {
+                    @Override
+                    public void close() throws IOException {
+                        closed.set(true);
+                        super.close();
+                    }
+                },
+                ","
+            )
+        ).value();
+        MatcherAssert.assertThat(
+            "Must close the input after the last record",
+            closed.get(),
+            new IsEqual<>(true)
+        );
+    }
+
+    @Test
+    void rejectsEmptyDelimiter() {
+        MatcherAssert.assertThat(
+            "Must reject an empty delimiter",
+            () -> new Records(new InputOf("abc"), "").iterator().next(),
+            new Throws<>(IllegalArgumentException.class)
+        );
+    }
+
+    @Test
+    void closesInputOfStoppedIteration() throws Exception {
+        final AtomicBoolean closed = new AtomicBoolean();
+        try (Records records = new Records(
+            () -> new FilterInputStream(
+                new ByteArrayInputStream(new byte[] {'a', ',', 'b'})
+            ) {
+                @Override
+                public void close() throws IOException {
+                    closed.set(true);
+                    super.close();
+                }
+            },
+            ",",
+            StandardCharsets.UTF_8,
+            1
+        )) {
+            records.iterator().next();
+        }
+        MatcherAssert.assertThat(
+            "Must close the input of an iteration, which is stopped early",
+            closed.get(),
+            new IsEqual<>(true)
+        );
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.text;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.HasString;
+
+/**
+ * Test case for {@link RenderableOf}.
+ * @since 1.0
+ */
+final class RenderableOfTest {
+
+    @Test
+    void knowsLengthOfRenderableText() throws Exception {
+        MatcherAssert.assertThat(
+            "Must take the length of a renderable text",
+            new RenderableOf(new Repeated("abc", 4)).length(),
+            new IsEqual<>(12L)
+        );
+    }
+
+    @Test
+    void doesNotKnowLengthOfOtherText() throws Exception {
+        MatcherAssert.assertThat(
+            "Must not know the length of a plain text",
+            new RenderableOf(() -> "hello").length(),
+            new IsEqual<>(-1L)
+        );
+    }
+
+    @Test
+    void rendersOtherText() throws Exception {
+        final StringBuilder out = new StringBuilder("> ");
+        new RenderableOf(() -> "hello").render(out);
+        MatcherAssert.assertThat(
+            "Must append a plain text to the output",
+            out.toString(),
+            new IsEqual<>("> hello")
+        );
+    }
+
+    @Test
+    void rendersRenderableText() throws Exception {
+        final StringBuilder out = new StringBuilder();
+        new RenderableOf(new PaddedEnd(new Upper(new TextOf("x")), 3, '.'))
+            .render(out);
+        MatcherAssert.assertThat(
+            "Must render a renderable text into the output",
+            out.toString(),
+            new IsEqual<>("X..")
+        );
+    }
+
+    @Test
+    void keepsTheString() {
+        MatcherAssert.assertThat(
+            "Must return the string of the text",
+            new RenderableOf(new Joined("-", "a", "b")),
+            new HasString("a-b")
+        );
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.text;
+
+import java.io.StringWriter;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.util.IllegalFormatConversionException;
+import java.util.Locale;
+import java.util.MissingFormatArgumentException;
+import java.util.UnknownFormatConversionException;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.HasString;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link Template}.
+ * @since 1.0
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class TemplateTest {
+
+    @Test
+    void printsSimpleSpecifiers() throws Exception {
+        final StringBuilder out = new StringBuilder();
+        new Template("%s has %d items, id %x%%%n").render(
+            out, Locale.ENGLISH, "cart", 42, 255
+        );
+        MatcherAssert.assertThat(
+            "Must print simple specifiers as Formatter does",
+            out.toString(),
+            new IsEqual<>(
+                String.format(
+                    Locale.ENGLISH, "%s has %d items, id %x%%%n", "cart", 42, 255
+                )
+            )
+        );
+    }
+
+    @Test
+    void printsNegativeNumbersInHex() throws Exception {
+        final String pattern = "%x %x %x %x %x";
+        final Object[] args = {
+            (byte) -1, (short) -2, -3, -4L, BigInteger.valueOf(-255),
+        };
+        final StringBuilder out = new StringBuilder();
+        new Template(pattern).render(out, Locale.ROOT, args);
+        MatcherAssert.assertThat(
+            "Must print negative numbers in hex as Formatter does",
+            out.toString(),
+            new IsEqual<>(String.format(Locale.ROOT, pattern, args))
+        );
+    }
+
+    @Test
+    void printsNulls() throws Exception {
+        final String pattern = "%s %d %x %S %b";
+        final Object[] args = {null, null, null, null, null};
+        final StringBuilder out = new StringBuilder();
+        new Template(pattern).render(out, Locale.ROOT, args);
+        MatcherAssert.assertThat(
+            "Must print nulls as Formatter does",
+            out.toString(),
+            new IsEqual<>(String.format(Locale.ROOT, pattern, args))
+        );
+    }
+
+    @Test
+    void localizesDigits() throws Exception {
+        final Locale thai = Locale.forLanguageTag("th-TH-u-nu-thai");
+        final StringBuilder out = new StringBuilder();
+        new Template("%d and %d").render(out, thai, -1234, 56L);
+        MatcherAssert.assertThat(
+            "Must print digits of the locale",
+            out.toString(),
+            new IsEqual<>(String.format(thai, "%d and %d", -1234, 56L))
+        );
+    }
+
+    @Test
+    void formatsOtherSpecifiers() throws Exception {
+        final String pattern = "[%-6s|%05d|%.2f|%,d|%S|%c|%X|%tY]";
+        final Object[] args = {
+            "ab", 42, 3.14159, 1_234_567, "up", 'z', 171,
+            LocalDate.of(2024, 3, 1),
+        };
+        final StringBuilder out = new StringBuilder();
+        new Template(pattern).render(out, Locale.US, args);
+        MatcherAssert.assertThat(
+            "Must format other specifiers by Formatter",
+            out.toString(),
+            new IsEqual<>(String.format(Locale.US, pattern, args))
+        );
+    }
+
+    @Test
+    void failsOnArgumentsOfOtherTypes() {
+        MatcherAssert.assertThat(
+            "Must fail the same way as Formatter does",
+            () -> {
+                new Template("%d").render(new StringBuilder(), Locale.US, 1.5);
+                return true;
+            },
+            new Throws<>(IllegalFormatConversionException.class)
+        );
+    }
+
+    @Test
+    void formatsExplicitIndexes() throws Exception {
+        final String pattern = "%2$s-%1$s-%<s-%s";
+        final StringBuilder out = new StringBuilder();
+        new Template(pattern).render(out, Locale.ROOT, "a", "b");
+        MatcherAssert.assertThat(
+            "Must format explicit indexes by Formatter",
+            out.toString(),
+            new IsEqual<>(String.format(Locale.ROOT, pattern, "a", "b"))
+        );
+    }
+
+    @Test
+    void failsOnMissingArgument() {
+        MatcherAssert.assertThat(
+            "Must fail when an argument is missing",
+            () -> {
+                new Template("%s and %s").render(
+                    new StringBuilder(), Locale.ROOT, "one"
+                );
+                return true;
+            },
+            new Throws<>(MissingFormatArgumentException.class)
+        );
+    }
+
+    @Test
+    void failsOnUnknownConversion() {
+        MatcherAssert.assertThat(
+            "Must fail on a broken pattern",
+            () -> {
+                new Template("up to 50%").render(new StringBuilder(), Locale.ROOT);
+                return true;
+            },
+            new Throws<>(UnknownFormatConversionException.class)
+        );
+    }
+
+    @Test
+    void rendersIntoWriter() throws Exception {
+        final StringWriter writer = new StringWriter();
+        final Template tpl = new Template("%s=%d;");
+        tpl.render(writer, Locale.ROOT, "a", 1);
+        tpl.render(writer, Locale.ROOT, "b", 2);
+        MatcherAssert.assertThat(
+            "Must render the same template many times",
+            writer.toString(),
+            new IsEqual<>("a=1;b=2;")
+        );
+    }
+
+    @Test
+    void formatsText() {
+        MatcherAssert.assertThat(
+            "Must be used by FormattedText",
+            new FormattedText(new Template("%s: %d bytes"), "file", 42),
+            new HasString("file: 42 bytes")
+        );
+    }
+}
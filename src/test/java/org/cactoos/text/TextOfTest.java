@@ -17,6 +17,7 @@ import org.hamcrest.core.AllOf;
 import org.hamcrest.core.IsEqual;
 import org.hamcrest.core.IsNot;
 import org.hamcrest.core.IsNull;
+import org.hamcrest.core.IsSame;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.EndsWith;
 import org.llorllale.cactoos.matchers.HasString;
@@ -381,4 +382,23 @@ final class TextOfTest {
             new IsEqual<>(hash.hashCode())
         );
     }
+
+    @Test
+    void returnsStringWithoutCopying() throws Exception {
+        final String str = "Hello, \uD83D\uDE00 world";
+        MatcherAssert.assertThat(
+            "Must return the string as it is",
+            new TextOf(str).asString(),
+            new IsSame<>(str)
+        );
+    }
+
+    @Test
+    void readsCharSequenceAsItIs() throws Exception {
+        MatcherAssert.assertThat(
+            "Must read the chars of the builder, even an unpaired surrogate",
+            new TextOf(new StringBuilder("abc").append('\uD800')).asString(),
+            new IsEqual<>("abc\uD800")
+        );
+    }
 }